@@ -10,8 +10,11 @@ import org.nextgate.nextgatebackend.authentication_service.service.AccountServic
 import org.nextgate.nextgatebackend.authentication_service.service.TempTokenService;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.*;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.nextgate.nextgatebackend.globesecurity.JWTProvider;
+import org.nextgate.nextgatebackend.user_profile_service.utils.SecurityInfoUtils;
 import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -40,6 +43,8 @@ public class GlobeAuthMngController {
     private final JWTProvider tokenProvider;
     private final AccountRepo accountRepo;
     private final PasswordEncoder passwordEncoder;
+    private final SecurityInfoUtils securityInfoUtils;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @PostMapping("/register")
     public ResponseEntity<GlobeSuccessResponseBuilder> accountRegistration(
@@ -77,7 +82,7 @@ public class GlobeAuthMngController {
                 mapRolesToAuthorities(account.getRoles())
         );
 
-        String accessToken = tokenProvider.generateAccessToken(authentication);
+        String accessToken = tokenProvider.generateAccessToken(authentication, account.getId());
         String refreshToken = tokenProvider.generateRefreshToken(authentication);
 
         // Create a login response with tokens and user data
@@ -182,6 +187,7 @@ public class GlobeAuthMngController {
         account.setPassword(passwordEncoder.encode(request.getNewPassword()));
         account.setEditedAt(LocalDateTime.now());
         accountRepo.save(account);
+        currentAccountProvider.evict(account.getUserName());
 
         return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
                 "Password reset successfully",
@@ -192,9 +198,12 @@ public class GlobeAuthMngController {
 
 
     @PostMapping("/login")
-    public ResponseEntity<GlobeSuccessResponseBuilder> accountLogin(@Valid @RequestBody AccountLoginRequest accountLoginRequest) throws Exception {
+    public ResponseEntity<GlobeSuccessResponseBuilder> accountLogin(@Valid @RequestBody AccountLoginRequest accountLoginRequest,
+                                                                    HttpServletRequest request) throws Exception {
 
-        String tempToken = accountService.loginAccount(accountLoginRequest);
+        // Peer address, not the client-supplied X-Forwarded-For: forwarded headers are only applied
+        // for trusted proxies (server.forward-headers-strategy), so the rate limit key can't be rotated
+        String tempToken = accountService.loginAccount(accountLoginRequest, request.getRemoteAddr());
 
         RegistrationResponse registrationResponse = new RegistrationResponse(
                 tempToken,
@@ -3,7 +3,11 @@ package org.nextgate.nextgatebackend.authentication_service.repo;
 
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +23,7 @@ public interface AccountRepo extends JpaRepository<AccountEntity, UUID> {
 
     Boolean existsByPhoneNumberAndIdNot(String phoneNumber, UUID id);
 
+    // Bulk load with roles fetched in the same statement (roles are EAGER and would otherwise cost one select per account)
+    @Query("SELECT DISTINCT a FROM AccountEntity a LEFT JOIN FETCH a.roles WHERE a.id IN :ids")
+    List<AccountEntity> findAllWithRolesByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -59,6 +59,13 @@ public interface TempTokenRepository extends JpaRepository<TempTokenEntity, UUID
     );
 
 
+    Optional<TempTokenEntity> findFirstByUserIdentifierAndPurposeAndCreatedAtAfterOrderByCreatedAtDesc(
+            String userIdentifier,
+            TempTokenPurpose purpose,
+            LocalDateTime createdAt
+    );
+
+
     List<TempTokenEntity> findByExpiresAtBefore(LocalDateTime expiresAt);
 
 
@@ -14,7 +14,7 @@ public interface AccountService {
 
     String registerAccount(CreateAccountRequest createAccountRequest) throws Exception;
 
-    String loginAccount(AccountLoginRequest accountLoginRequest) throws Exception;
+    String loginAccount(AccountLoginRequest accountLoginRequest, String clientIp) throws Exception;
 
     RefreshTokenResponse refreshToken(String refreshToken) throws TokenInvalidException;
 
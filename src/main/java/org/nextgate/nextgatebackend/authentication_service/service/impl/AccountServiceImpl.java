@@ -20,7 +20,9 @@ import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistExcepti
 import org.nextgate.nextgatebackend.globeadvice.exceptions.TokenExpiredException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.TokenInvalidException;
 import org.nextgate.nextgatebackend.globesecurity.JWTProvider;
+import org.nextgate.nextgatebackend.globesecurity.ratelimit.RateLimiter;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -46,6 +48,7 @@ public class AccountServiceImpl implements AccountService {
     private final UsernameGenerationUtils usernameGenerationUtils;
     private final TempTokenService tempTokenService;
     private final GlobeMailService globeMailService;
+    private final RateLimiter rateLimiter;
 
     @Override
     public String registerAccount(CreateAccountRequest createAccountRequest) throws Exception {
@@ -97,11 +100,15 @@ public class AccountServiceImpl implements AccountService {
 
 
     @Override
-    public String loginAccount(AccountLoginRequest accountLoginRequest) throws Exception {
+    public String loginAccount(AccountLoginRequest accountLoginRequest, String clientIp) throws Exception {
 
         String identifier = accountLoginRequest.getIdentifier();
         String password = accountLoginRequest.getPassword();
 
+        // Turn bursts away before any account lookup or password hashing; unknown identifiers
+        // are limited by IP only
+        rateLimiter.checkLoginAttempt(identifier, clientIp);
+
         AccountEntity userAccount = accountRepo.findByEmailOrPhoneNumberOrUserName(identifier, identifier, identifier).orElseThrow(() -> new ItemNotFoundException("User not found"));
 
         String otpCode = generateOtpCode();
@@ -113,10 +120,15 @@ public class AccountServiceImpl implements AccountService {
                 otpCode
         );
 
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        userAccount.getUserName(),
-                        password));
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            userAccount.getUserName(),
+                            password));
+        } catch (BadCredentialsException e) {
+            rateLimiter.recordFailedLogin(identifier);
+            throw e;
+        }
 
         if (!userAccount.getIsVerified()) {
             userAccount.setIsVerified(true);
@@ -149,7 +161,7 @@ public class AccountServiceImpl implements AccountService {
             );
 
             // Generate only a new access token, not a new refresh token
-            String newAccessToken = tokenProvider.generateAccessToken(authentication);
+            String newAccessToken = tokenProvider.generateAccessToken(authentication, user.getId());
 
             // Build response
             RefreshTokenResponse refreshTokenResponse = new RefreshTokenResponse();
@@ -11,7 +11,9 @@ import  org.nextgate.nextgatebackend.emails_service.GlobeMailService;
 import  org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import  org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
 import  org.nextgate.nextgatebackend.globeadvice.exceptions.VerificationException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import  org.nextgate.nextgatebackend.globesecurity.JWTProvider;
+import org.nextgate.nextgatebackend.globesecurity.ratelimit.RateLimiter;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.minio_service.service.MinioService;
@@ -38,20 +40,13 @@ public class TempTokenServiceImpl implements TempTokenService {
     private final JWTProvider jwtProvider;
     private final PasswordEncoder passwordEncoder;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final GlobeMailService globeMailService;
+    private final RateLimiter rateLimiter;
 
     @Value("${temp.token.expiry.minutes:10}")
     private int tempTokenExpiryMinutes;
 
-    @Value("${temp.token.rate.limit.count:5}")
-    private int rateLimitCount;
-
-    @Value("${temp.token.rate.limit.window.minutes:10}")
-    private int rateLimitWindowMinutes;
-
-    @Value("${temp.token.resend.limit.count:5}")
-    private int resendLimitCount;
-
     @Value("${temp.token.resend.cooldown.minutes:2}")
     private int resendCooldownMinutes;
 
@@ -66,8 +61,8 @@ public class TempTokenServiceImpl implements TempTokenService {
         // For login/password reset, account will be provided
         String userIdentifier = (account != null) ? account.getEmail() : identifier;
 
-        // Check rate limiting
-        if (!isWithinRateLimit(account, userIdentifier, purpose)) {
+        // Check rate limiting (counts this OTP when allowed)
+        if (!rateLimiter.tryIssueOtp(userIdentifier, purpose)) {
             throw new RandomExceptions("Too many OTP requests. Please wait before requesting again.");
         }
 
@@ -333,24 +328,7 @@ public class TempTokenServiceImpl implements TempTokenService {
     @Override
     public boolean isWithinRateLimit(AccountEntity account, TempTokenPurpose purpose) {
         String userIdentifier = (account != null) ? account.getEmail() : null;
-        return isWithinRateLimit(account, userIdentifier, purpose);
-    }
-
-    // Overloaded method to handle both scenarios
-    public boolean isWithinRateLimit(AccountEntity account, String userIdentifier, TempTokenPurpose purpose) {
-        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(rateLimitWindowMinutes);
-
-        List<TempTokenEntity> recentTokens;
-
-        if (account != null) {
-            // For login/password reset - check by account
-            recentTokens = tempTokenRepository.findByAccountAndPurposeAndCreatedAtAfter(account, purpose, windowStart);
-        } else {
-            // For registration - check by userIdentifier
-            recentTokens = tempTokenRepository.findByUserIdentifierAndPurposeAndCreatedAtAfter(userIdentifier, purpose, windowStart);
-        }
-
-        return recentTokens.size() < rateLimitCount;
+        return rateLimiter.otpRequestsLeft(userIdentifier, purpose) > 0;
     }
 
     /**
@@ -378,6 +356,7 @@ public class TempTokenServiceImpl implements TempTokenService {
 
         // Save the updated account
         accountRepo.save(account);
+        currentAccountProvider.evict(account.getUserName());
     }
 
     private void actAfterLoginOtpValid(AccountEntity account) {
@@ -389,29 +368,20 @@ public class TempTokenServiceImpl implements TempTokenService {
         if(!account.isBucketCreated()){
             createUserBucket(account);
             accountRepo.save(account);
+            currentAccountProvider.evict(account.getUserName());
         }
     }
 
 
     @Override
     public boolean canResendOTP(String userIdentifier, TempTokenPurpose purpose) {
-        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(rateLimitWindowMinutes);
-
-        List<TempTokenEntity> recentTokens = tempTokenRepository
-                .findByUserIdentifierAndPurposeAndCreatedAtAfter(userIdentifier, purpose, windowStart);
-
-        return recentTokens.size() < resendLimitCount;
+        return rateLimiter.otpResendsLeft(userIdentifier, purpose) > 0;
     }
 
 
     @Override
     public int getRemainingResendAttempts(String userIdentifier, TempTokenPurpose purpose) {
-        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(rateLimitWindowMinutes);
-
-        List<TempTokenEntity> recentTokens = tempTokenRepository
-                .findByUserIdentifierAndPurposeAndCreatedAtAfter(userIdentifier, purpose, windowStart);
-
-        return Math.max(0, resendLimitCount - recentTokens.size());
+        return rateLimiter.otpResendsLeft(userIdentifier, purpose);
     }
 
     @Override
@@ -429,16 +399,13 @@ public class TempTokenServiceImpl implements TempTokenService {
 
 
     private LocalDateTime getLastResendTime(String userIdentifier, TempTokenPurpose purpose) {
-        List<TempTokenEntity> recentTokens = tempTokenRepository
-                .findByUserIdentifierAndPurposeAndCreatedAtAfter(
+        return tempTokenRepository
+                .findFirstByUserIdentifierAndPurposeAndCreatedAtAfterOrderByCreatedAtDesc(
                         userIdentifier,
                         purpose,
                         LocalDateTime.now().minusHours(1)
-                );
-
-        return recentTokens.stream()
+                )
                 .map(TempTokenEntity::getCreatedAt)
-                .max(LocalDateTime::compareTo)
                 .orElse(null);
     }
 
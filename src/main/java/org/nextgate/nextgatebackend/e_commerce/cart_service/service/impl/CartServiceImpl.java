@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.cart_service.service.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.cart_service.entity.CartEntity;
 import org.nextgate.nextgatebackend.e_commerce.cart_service.entity.CartItemEntity;
 import org.nextgate.nextgatebackend.e_commerce.cart_service.payload.AddToCartRequest;
@@ -18,9 +17,7 @@ import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilde
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.enums.ProductStatus;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,14 +36,14 @@ public class CartServiceImpl implements CartService {
     private final CartRepo cartRepo;
     private final CartItemRepo cartItemRepo;
     private final ProductRepo productRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     @Transactional
     public GlobeSuccessResponseBuilder addToCart(AddToCartRequest request)
             throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         CartEntity cart = ensureCartExists(user);
 
         ProductEntity product = productRepo.findByProductIdAndIsDeletedFalseAndStatus(request.getProductId(), ProductStatus.ACTIVE)
@@ -94,7 +91,7 @@ public class CartServiceImpl implements CartService {
     @Transactional(readOnly = true)
     public GlobeSuccessResponseBuilder getCart() throws ItemNotFoundException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         CartEntity cart = ensureCartExists(user);
         List<CartItemEntity> cartItems = cartItemRepo.findByCart_UserOrderByCreatedAtDesc(user);
 
@@ -108,7 +105,7 @@ public class CartServiceImpl implements CartService {
     public GlobeSuccessResponseBuilder updateCartItem(UUID itemId, UpdateCartItemRequest request)
             throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         CartItemEntity cartItem = cartItemRepo.findByItemIdAndCart_User(itemId, user)
                 .orElseThrow(() -> new ItemNotFoundException("Cart item not found"));
@@ -130,7 +127,7 @@ public class CartServiceImpl implements CartService {
     @Transactional
     public GlobeSuccessResponseBuilder removeCartItem(UUID itemId) throws ItemNotFoundException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         CartItemEntity cartItem = cartItemRepo.findByItemIdAndCart_User(itemId, user)
                 .orElseThrow(() -> new ItemNotFoundException("Cart item not found"));
@@ -144,7 +141,7 @@ public class CartServiceImpl implements CartService {
     @Transactional
     public GlobeSuccessResponseBuilder clearCart() throws ItemNotFoundException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         cartItemRepo.deleteByCart_User(user);
 
         return GlobeSuccessResponseBuilder.success("Shopping cart cleared successfully");
@@ -154,7 +151,7 @@ public class CartServiceImpl implements CartService {
     @Transactional
     public CartEntity initializeCart() throws ItemNotFoundException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         CartEntity cart = ensureCartExists(user);
 
         return cart;
@@ -255,15 +252,4 @@ public class CartServiceImpl implements CartService {
                 .totalAmount(totalAmount)
                 .build();
     }
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
 }
\ No newline at end of file
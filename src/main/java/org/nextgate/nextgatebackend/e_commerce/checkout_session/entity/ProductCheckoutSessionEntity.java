@@ -48,6 +48,7 @@ import java.util.*;
                 @Index(name = "idx_product_checkout_status", columnList = "status"),
                 @Index(name = "idx_product_checkout_session_type", columnList = "session_type"),
                 @Index(name = "idx_product_checkout_expires", columnList = "expires_at"),
+                @Index(name = "idx_product_checkout_status_expires", columnList = "status, expires_at"),
                 @Index(name = "idx_product_checkout_created", columnList = "created_at"),
                 @Index(name = "idx_product_checkout_escrow", columnList = "escrow_id"),
                 @Index(name = "idx_product_checkout_order", columnList = "order_id")
@@ -4,8 +4,14 @@ package org.nextgate.nextgatebackend.e_commerce.checkout_session.repo;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.entity.ProductCheckoutSessionEntity;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.enums.CheckoutSessionStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,4 +28,15 @@ public interface ProductCheckoutSessionRepo extends JpaRepository<ProductCheckou
     List<ProductCheckoutSessionEntity> findByCustomerAndStatus(AccountEntity customer, CheckoutSessionStatus status);
 
     Optional<ProductCheckoutSessionEntity> findBySessionId(UUID sessionId);
-}
\ No newline at end of file
+
+    // Oldest expired sessions first (expiry sweeper), served by idx_product_checkout_status_expires
+    @Query("SELECT s.sessionId FROM ProductCheckoutSessionEntity s " +
+            "WHERE s.status IN :statuses AND s.expiresAt < :before ORDER BY s.expiresAt")
+    List<UUID> findExpiredSessionIds(@Param("statuses") List<CheckoutSessionStatus> statuses,
+                                     @Param("before") LocalDateTime before,
+                                     Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductCheckoutSessionEntity s WHERE s.sessionId = :sessionId")
+    Optional<ProductCheckoutSessionEntity> findByIdForUpdate(@Param("sessionId") UUID sessionId);
+}
@@ -10,6 +10,7 @@ import org.nextgate.nextgatebackend.e_commerce.checkout_session.payload.CreateCh
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
 
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -51,4 +52,8 @@ public interface ProductsCheckoutSessionService {
     List<CheckoutSessionSummaryResponse> getMyActiveCheckoutSessions()
             throws ItemNotFoundException;
 
+    // Expire up to batchSize abandoned sessions that expired before the given time and release their holds
+    // One transaction per call; returns the number of sessions expired
+    int expireAbandonedSessions(LocalDateTime before, int batchSize);
+
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.cart_service.entity.CartEntity;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.entity.ProductCheckoutSessionEntity;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.enums.CheckoutSessionStatus;
@@ -34,9 +33,8 @@ import org.nextgate.nextgatebackend.payment_methods.entity.PaymentMethodsEntity;
 import org.nextgate.nextgatebackend.payment_methods.enums.PaymentMethodsType;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,7 +47,7 @@ import java.util.*;
 @Slf4j
 public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheckoutSessionService {
 
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final ProductCheckoutSessionRepo checkoutSessionRepo;
     private final CheckoutSessionValidator validator;
     private final CheckoutSessionHelper helper;
@@ -69,7 +67,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         // ========================================
         // 1. GET AUTHENTICATED USER
         // ========================================
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         log.info("Creating checkout session for user: {}", authenticatedUser.getUserName());
 
         // ========================================
@@ -96,7 +94,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         // ========================================
         // 1. GET AUTHENTICATED USER
         // ========================================
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // ========================================
         // 2. FETCH CHECKOUT SESSION
@@ -132,7 +130,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         // ========================================
         // 1. GET AUTHENTICATED USER
         // ========================================
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // ========================================
         // 2. FETCH ALL SESSIONS FOR USER
@@ -164,7 +162,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         // ========================================
         // 1. GET AUTHENTICATED USER
         // ========================================
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // ========================================
         // 2. FETCH CHECKOUT SESSION
@@ -195,11 +193,8 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         // 4. RELEASE HELD INVENTORY
         // ========================================
         if (session.getInventoryHeld() != null && session.getInventoryHeld()) {
-            for (ProductCheckoutSessionEntity.CheckoutItem item : session.getItems()) {
-                helper.releaseInventory(item.getProductId(), item.getQuantity());
-                log.info("Released inventory for product: {} quantity: {}",
-                        item.getProductId(), item.getQuantity());
-            }
+            helper.releaseInventory(session);
+            log.info("Released inventory for {} items", session.getItems().size());
         }
 
         // ========================================
@@ -234,7 +229,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         // ========================================
         // 1. GET AUTHENTICATED USER
         // ========================================
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // ========================================
         // 2. FETCH CHECKOUT SESSION
@@ -382,7 +377,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         log.info("Retrying payment for checkout session: {}", sessionId);
 
         // Get authenticated user
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // Fetch checkout session
         ProductCheckoutSessionEntity session = checkoutSessionRepo.findBySessionIdAndCustomer(sessionId, authenticatedUser)
@@ -470,9 +465,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         LocalDateTime newInventoryHoldExpiration = helper.calculateInventoryHoldExpiration();
         session.setInventoryHoldExpiresAt(newInventoryHoldExpiration);
 
-        for (ProductCheckoutSessionEntity.CheckoutItem item : session.getItems()) {
-            helper.holdInventory(item.getProductId(), item.getQuantity(), newInventoryHoldExpiration);
-        }
+        helper.holdInventory(session);
         session.setInventoryHeld(true);
 
         log.info("Inventory re-held until: {}", newInventoryHoldExpiration);
@@ -512,7 +505,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         // ========================================
         // 1. GET AUTHENTICATED USER
         // ========================================
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // ========================================
         // 2. FETCH PENDING_PAYMENT SESSIONS
@@ -561,7 +554,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         log.info("Processing payment for checkout session: {}", sessionId);
 
         // Get authenticated user
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // Fetch checkout session and verify ownership
         ProductCheckoutSessionEntity session = checkoutSessionRepo.findBySessionIdAndCustomer(sessionId, authenticatedUser)
@@ -587,17 +580,6 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
     // HELPER METHODS
     // ========================================
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
 
     // ========================================
     // REGULAR_DIRECTLY CHECKOUT HANDLER
@@ -694,15 +676,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         LocalDateTime inventoryHoldExpiration = helper.calculateInventoryHoldExpiration();
 
         // ========================================
-        // 11. HOLD INVENTORY
-        // ========================================
-        for (ProductCheckoutSessionEntity.CheckoutItem item : items) {
-            helper.holdInventory(item.getProductId(), item.getQuantity(), inventoryHoldExpiration);
-        }
-        log.info("Inventory held for {} items until {}", items.size(), inventoryHoldExpiration);
-
-        // ========================================
-        // 12. BUILD & SAVE CHECKOUT SESSION ENTITY
+        // 11. BUILD & SAVE CHECKOUT SESSION ENTITY
         // ========================================
         ProductCheckoutSessionEntity checkoutSession = ProductCheckoutSessionEntity.builder()
                 .sessionType(request.getSessionType())
@@ -727,6 +701,13 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         ProductCheckoutSessionEntity savedSession = checkoutSessionRepo.save(checkoutSession);
         log.info("Checkout session created successfully: {}", savedSession.getSessionId());
 
+        // ========================================
+        // 12. HOLD INVENTORY
+        // ========================================
+        // Last step: the product rows stay locked only until this transaction commits
+        helper.holdInventory(savedSession);
+        log.info("Inventory held for {} items until {}", items.size(), inventoryHoldExpiration);
+
         // ========================================
         // 13. BUILD & RETURN RESPONSE
         // ========================================
@@ -825,15 +806,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         LocalDateTime inventoryHoldExpiration = helper.calculateInventoryHoldExpiration();
 
         // ========================================
-        // 12. HOLD INVENTORY
-        // ========================================
-        for (ProductCheckoutSessionEntity.CheckoutItem item : items) {
-            helper.holdInventory(item.getProductId(), item.getQuantity(), inventoryHoldExpiration);
-        }
-        log.info("Inventory held for {} items until {}", items.size(), inventoryHoldExpiration);
-
-        // ========================================
-        // 13. BUILD & SAVE CHECKOUT SESSION ENTITY
+        // 12. BUILD & SAVE CHECKOUT SESSION ENTITY
         // ========================================
         ProductCheckoutSessionEntity checkoutSession = ProductCheckoutSessionEntity.builder()
                 .sessionType(request.getSessionType())
@@ -858,6 +831,13 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         ProductCheckoutSessionEntity savedSession = checkoutSessionRepo.save(checkoutSession);
         log.info("Checkout session created successfully: {}", savedSession.getSessionId());
 
+        // ========================================
+        // 13. HOLD INVENTORY
+        // ========================================
+        // Last step: the product rows stay locked only until this transaction commits
+        helper.holdInventory(savedSession);
+        log.info("Inventory held for {} items until {}", items.size(), inventoryHoldExpiration);
+
         // ========================================
         // 14. BUILD & RETURN RESPONSE
         // ========================================
@@ -955,10 +935,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         LocalDateTime sessionExpiration = helper.calculateSessionExpiration();
         LocalDateTime inventoryHoldExpiration = helper.calculateInventoryHoldExpiration();
 
-        // 15. Hold inventory
-        helper.holdInventory(productId, quantity, inventoryHoldExpiration);
-
-        // 16. Build and save checkout session
+        // 15. Build and save checkout session
         ProductCheckoutSessionEntity checkoutSession = ProductCheckoutSessionEntity.builder()
                 .sessionType(CheckoutSessionType.GROUP_PURCHASE)
                 .customer(authenticatedUser)
@@ -981,6 +958,9 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
 
         log.info("GROUP_PURCHASE checkout session created: {}", savedSession.getSessionId());
 
+        // 16. Hold inventory (after save - holds are keyed by session id)
+        helper.holdInventory(savedSession);
+
         // 17. Return response
         return mapper.toResponse(savedSession);
     }
@@ -988,6 +968,43 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
 
 
 
+    // ========================================
+    // EXPIRY SWEEP
+    // ========================================
+
+    // Sessions still waiting for a payment; PAYMENT_PROCESSING is left to the payment provider
+    private static final List<CheckoutSessionStatus> EXPIRABLE_STATUSES =
+            List.of(CheckoutSessionStatus.PENDING_PAYMENT, CheckoutSessionStatus.PAYMENT_FAILED);
+
+    @Override
+    @Transactional
+    public int expireAbandonedSessions(LocalDateTime before, int batchSize) {
+        List<UUID> sessionIds = checkoutSessionRepo.findExpiredSessionIds(
+                EXPIRABLE_STATUSES, before, PageRequest.of(0, batchSize));
+
+        int expired = 0;
+        for (UUID sessionId : sessionIds) {
+            ProductCheckoutSessionEntity session = checkoutSessionRepo.findByIdForUpdate(sessionId).orElse(null);
+
+            // Re-checked under the row lock: a payment may have moved it on since the id was read
+            if (session == null
+                    || !EXPIRABLE_STATUSES.contains(session.getStatus())
+                    || !session.getExpiresAt().isBefore(before)) {
+                continue;
+            }
+
+            if (Boolean.TRUE.equals(session.getInventoryHeld())) {
+                helper.releaseInventory(session);
+                session.setInventoryHeld(false);
+            }
+            session.markAsExpired();
+            checkoutSessionRepo.save(session);
+            expired++;
+        }
+        return expired;
+    }
+
+
        // ========================================
       // INSTALLMENT CHECKOUT HANDLER
      // ========================================
@@ -1140,14 +1157,7 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
         LocalDateTime inventoryHoldExpiration = helper.calculateInventoryHoldExpiration();
 
         // ========================================
-        // 15. HOLD INVENTORY
-        // ========================================
-        helper.holdInventory(productId, quantity, inventoryHoldExpiration);
-
-        log.info("Inventory held for {} items until {}", quantity, inventoryHoldExpiration);
-
-        // ========================================
-        // 16. BUILD AND SAVE CHECKOUT SESSION ENTITY
+        // 15. BUILD AND SAVE CHECKOUT SESSION ENTITY
         // ========================================
         ProductCheckoutSessionEntity checkoutSession = ProductCheckoutSessionEntity.builder()
                 .sessionType(CheckoutSessionType.INSTALLMENT)
@@ -1173,13 +1183,20 @@ public class ProductsProductsCheckoutSessionServiceImpl implements ProductsCheck
                 .build();
 
         // ========================================
-        // 17. SAVE TO DATABASE
+        // 16. SAVE TO DATABASE
         // ========================================
         ProductCheckoutSessionEntity savedSession = checkoutSessionRepo.save(checkoutSession);
 
         log.info("INSTALLMENT checkout session created: {} - Down payment: {} TZS",
                 savedSession.getSessionId(), downPaymentAmount);
 
+        // ========================================
+        // 17. HOLD INVENTORY
+        // ========================================
+        helper.holdInventory(savedSession);
+
+        log.info("Inventory held for {} items until {}", quantity, inventoryHoldExpiration);
+
         // ========================================
         // 18. BUILD AND RETURN RESPONSE
         // ========================================
@@ -10,6 +10,7 @@ import org.nextgate.nextgatebackend.e_commerce.cart_service.repo.CartRepo;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.entity.ProductCheckoutSessionEntity;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.payload.CreateCheckoutSessionRequest;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.payload.UpdateCheckoutSessionRequest;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.service.InventoryReservationService;
 import org.nextgate.nextgatebackend.financial_system.wallet.entity.WalletEntity;
 import org.nextgate.nextgatebackend.financial_system.wallet.service.WalletService;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
@@ -35,6 +36,7 @@ public class CheckoutSessionHelper {
     private final ProductRepo productRepo;
     private final CartRepo cartRepo;
     private final ShopRepo shopRepo;
+    private final InventoryReservationService inventoryReservationService;
 
     // ========================================
     // BILLING ADDRESS DETERMINATION
@@ -395,17 +397,23 @@ public class CheckoutSessionHelper {
     }
 
     // ========================================
-    // INVENTORY HOLD (PLACEHOLDER)
+    // INVENTORY HOLD
     // ========================================
 
-    public void holdInventory(UUID productId, Integer quantity, LocalDateTime expiresAt) {
-        // Todo: Implement inventory hold logic
-        // This should decrement available stock temporarily
-        log.warn("---- Inventory hold not implemented yet ---");
+    /**
+     * Hold the session's items until its inventory hold expiry
+     * The session must be saved first - holds are keyed by its id
+     */
+    public void holdInventory(ProductCheckoutSessionEntity session) {
+        Map<UUID, Integer> quantities = new HashMap<>();
+        for (ProductCheckoutSessionEntity.CheckoutItem item : session.getItems()) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        inventoryReservationService.hold(session.getSessionId(), quantities, session.getInventoryHoldExpiresAt());
     }
 
-    public void releaseInventory(UUID productId, Integer quantity) {
-        // Todo: Release held inventory
+    public void releaseInventory(ProductCheckoutSessionEntity session) {
+        inventoryReservationService.release(session.getSessionId());
     }
 
     // ========================================
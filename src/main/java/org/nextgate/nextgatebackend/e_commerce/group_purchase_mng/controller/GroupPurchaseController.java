@@ -5,7 +5,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
 import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.entity.GroupParticipantEntity;
@@ -19,10 +18,8 @@ import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.service.GroupP
 import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.utils.mappers.GroupPurchaseMapper;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -37,7 +34,7 @@ public class GroupPurchaseController {
     private final GroupPurchaseService groupPurchaseService;
     private final GroupPurchaseMapper groupPurchaseMapper;
     private final ProductRepo productRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @GetMapping("/product/{productId}/available")
     public ResponseEntity<GlobeSuccessResponseBuilder> getAvailableGroupsForProduct(
@@ -46,7 +43,7 @@ public class GroupPurchaseController {
 
         log.info("Getting available groups for product: {}", productId);
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         ProductEntity product = productRepo.findByProductIdAndIsDeletedFalse(productId)
                 .orElseThrow(() -> new ItemNotFoundException("Product not found"));
@@ -72,7 +69,7 @@ public class GroupPurchaseController {
 
         log.info("Getting group by ID: {}", groupId);
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         GroupPurchaseInstanceEntity group =
                 groupPurchaseService.getGroupById(groupId);
@@ -95,7 +92,7 @@ public class GroupPurchaseController {
 
         log.info("Getting group by code: {}", groupCode);
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         GroupPurchaseInstanceEntity group =
                 groupPurchaseService.getGroupByCode(groupCode);
@@ -118,7 +115,7 @@ public class GroupPurchaseController {
 
         log.info("Getting my groups with status: {}", status);
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         List<GroupPurchaseInstanceEntity> groups =
                 groupPurchaseService.getGroupsUserBelongsTo(authenticatedUser, status);
@@ -140,7 +137,7 @@ public class GroupPurchaseController {
 
         log.info("Getting my participations");
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         List<GroupParticipantEntity> participations =
                 groupPurchaseService.getMyActiveParticipations(authenticatedUser);
@@ -183,15 +180,4 @@ public class GroupPurchaseController {
                 )
         );
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.enums.GroupSta
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -55,4 +56,47 @@ public interface GroupPurchaseInstanceRepo extends JpaRepository<GroupPurchaseIn
     """)
     Optional<GroupPurchaseInstanceEntity> findByIdWithRelations(@Param("groupId") UUID groupId);
 
-}
\ No newline at end of file
+    /**
+     * Atomically claim seats in an open group.
+     * Returns 0 when the group is no longer open or the seats would overfill it.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GroupPurchaseInstanceEntity g " +
+            "SET g.seatsOccupied = g.seatsOccupied + :quantity, " +
+            "    g.totalParticipants = g.totalParticipants + :newParticipants, " +
+            "    g.updatedAt = :now " +
+            "WHERE g.groupInstanceId = :groupId " +
+            "AND g.status = org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.enums.GroupStatus.OPEN " +
+            "AND g.isDeleted = false " +
+            "AND g.expiresAt > :now " +
+            "AND g.seatsOccupied + :quantity <= g.totalSeats")
+    int claimSeats(@Param("groupId") UUID groupId,
+                   @Param("quantity") int quantity,
+                   @Param("newParticipants") int newParticipants,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GroupPurchaseInstanceEntity g " +
+            "SET g.seatsOccupied = g.seatsOccupied - :quantity, " +
+            "    g.totalParticipants = CASE WHEN g.totalParticipants >= :leavingParticipants " +
+            "        THEN g.totalParticipants - :leavingParticipants ELSE 0 END, " +
+            "    g.updatedAt = :now " +
+            "WHERE g.groupInstanceId = :groupId AND g.seatsOccupied >= :quantity")
+    int releaseSeats(@Param("groupId") UUID groupId,
+                     @Param("quantity") int quantity,
+                     @Param("leavingParticipants") int leavingParticipants,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * OPEN -> COMPLETED once the group is full. Exactly one caller gets 1 back.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GroupPurchaseInstanceEntity g " +
+            "SET g.status = org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.enums.GroupStatus.COMPLETED, " +
+            "    g.completedAt = :now, g.updatedAt = :now " +
+            "WHERE g.groupInstanceId = :groupId " +
+            "AND g.status = org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.enums.GroupStatus.OPEN " +
+            "AND g.seatsOccupied >= g.totalSeats")
+    int markCompletedIfFull(@Param("groupId") UUID groupId, @Param("now") LocalDateTime now);
+
+}
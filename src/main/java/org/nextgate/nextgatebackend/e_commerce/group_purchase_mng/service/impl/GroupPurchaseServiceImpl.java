@@ -1,5 +1,7 @@
 package org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.service.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
@@ -7,7 +9,6 @@ import org.jobrunr.jobs.JobId;
 import org.jobrunr.scheduling.BackgroundJobRequest;
 import org.jobrunr.scheduling.JobScheduler;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.entity.ProductCheckoutSessionEntity;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.repo.ProductCheckoutSessionRepo;
 import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.events.GroupCreatedNotificationEvent;
@@ -33,10 +34,8 @@ import org.nextgate.nextgatebackend.notification_system.publisher.enums.Notifica
 import org.nextgate.nextgatebackend.notification_system.publisher.mapper.GroupNotificationMapper;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -55,13 +54,16 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
     private final GroupPurchaseInstanceRepo groupPurchaseInstanceRepo;
     private final GroupParticipantRepo groupParticipantRepo;
     private final ProductRepo productRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final GroupPurchaseValidator validator;
     private final ApplicationEventPublisher eventPublisher;
     private final ProductCheckoutSessionRepo checkoutSessionRepo;
     private final NotificationPublisher notificationPublisher;
     private final JobScheduler jobScheduler;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     @Transactional
     public void createGroupInstance(
@@ -74,7 +76,7 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
         log.info("Checkout Session: {}", checkoutSession.getSessionId());
 
         // 1. Get authenticated user
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // 2. Validate checkout session
         validator.validateCheckoutSessionForGroupCreation(checkoutSession, authenticatedUser);
@@ -202,7 +204,7 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
         log.info("Target Group: {}", checkoutSession.getGroupIdToBeJoined());
 
         // 1. Get authenticated user
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // 2. Validate checkout session
         validator.validateCheckoutSessionForGroupCreation(checkoutSession, authenticatedUser);
@@ -239,16 +241,21 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
         Optional<GroupParticipantEntity> existingParticipant =
                 groupParticipantRepo.findByUserAndGroupInstance(customer, group);
 
+        if (existingParticipant.isPresent()
+                && existingParticipant.get().getStatus() != ParticipantStatus.ACTIVE) {
+            throw new BadRequestException("Your participation status is: " + existingParticipant.get().getStatus());
+        }
+
         LocalDateTime now = LocalDateTime.now();
 
+        // 9. Claim the seats - the checks above can be stale by now when others are joining
+        claimSeats(group, quantity, existingParticipant.isPresent() ? 0 : 1, now);
+        log.info("Group seats updated: {}/{}", group.getSeatsOccupied(), group.getTotalSeats());
+
         if (existingParticipant.isPresent()) {
             // User already in group - add more seats
             GroupParticipantEntity participant = existingParticipant.get();
 
-            if (participant.getStatus() != ParticipantStatus.ACTIVE) {
-                throw new BadRequestException("Your participation status is: " + participant.getStatus());
-            }
-
             log.info("User already in group. Adding {} more seats.", quantity);
 
             // Add purchase record
@@ -287,34 +294,22 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
             );
 
             groupParticipantRepo.save(participant);
-
-            // Increment participant count
-            group.setTotalParticipants(group.getTotalParticipants() + 1);
             log.info("✓ New participant created");
         }
 
-        // 9. Update group seats
-        group.setSeatsOccupied(group.getSeatsOccupied() + quantity);
-        group.setUpdatedAt(now);
-
-        log.info("Group seats updated: {}/{}", group.getSeatsOccupied(), group.getTotalSeats());
-
-        // 10. Save group
-        GroupPurchaseInstanceEntity savedGroup = groupPurchaseInstanceRepo.save(group);
-
-        // 11. ✅ CHECK COMPLETION BEFORE TRANSACTION ENDS
-        boolean isGroupFull = checkAndCompleteGroupInSameTransaction(savedGroup);
+        // 10. ✅ CHECK COMPLETION BEFORE TRANSACTION ENDS
+        boolean isGroupFull = checkAndCompleteGroupInSameTransaction(group);
 
-        log.info("Group Status: {}", savedGroup.getStatus());
-        log.info("  Seats: {}/{}", savedGroup.getSeatsOccupied(), savedGroup.getTotalSeats());
+        log.info("Group Status: {}", group.getStatus());
+        log.info("  Seats: {}/{}", group.getSeatsOccupied(), group.getTotalSeats());
         log.info("  Full: {}", isGroupFull);
 
-        // 12. ✅ Publish notification event (only if NOT completed)
+        // 11. ✅ Publish notification event (only if NOT completed)
         if (!isGroupFull) {
             try {
                 MemberJoinedNotificationEvent notificationEvent = new MemberJoinedNotificationEvent(
                         this,
-                        savedGroup,
+                        group,
                         customer,
                         quantity
                 );
@@ -342,7 +337,7 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
                 quantity, sourceGroupId, targetGroupId);
 
         // 1. Get authenticated user
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         log.debug("Authenticated user: {}", authenticatedUser.getAccountId());
 
         // 2. Validate quantity
@@ -399,36 +394,43 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
         Optional<GroupParticipantEntity> existingTargetParticipant =
                 groupParticipantRepo.findByUserAndGroupInstance(authenticatedUser, targetGroup);
 
-        GroupParticipantEntity targetParticipant;
-
         if (existingTargetParticipant.isPresent()) {
-            // User already in target - merge seats
-            targetParticipant = existingTargetParticipant.get();
+            GroupParticipantEntity existing = existingTargetParticipant.get();
 
-            if (targetParticipant.getStatus() != ParticipantStatus.ACTIVE) {
+            if (existing.getStatus() != ParticipantStatus.ACTIVE) {
                 throw new BadRequestException(
                         "Cannot transfer. Your target participation status is: " +
-                                targetParticipant.getStatus()
+                                existing.getStatus()
                 );
             }
 
-            log.info("User already in target group. Merging {} seats.",
-                    quantity);
-
             // Validate maxPerCustomer after merge
             if (targetGroup.getMaxPerCustomer() != null && targetGroup.getMaxPerCustomer() > 0) {
-                int totalAfterMerge = targetParticipant.getQuantity() + quantity;
+                int totalAfterMerge = existing.getQuantity() + quantity;
                 if (totalAfterMerge > targetGroup.getMaxPerCustomer()) {
                     throw new BadRequestException(
                             String.format("Transfer would exceed max per customer (%d). " +
                                             "Current: %d, Transfer: %d, Total: %d",
                                     targetGroup.getMaxPerCustomer(),
-                                    targetParticipant.getQuantity(),
+                                    existing.getQuantity(),
                                     quantity,
                                     totalAfterMerge)
                     );
                 }
             }
+        }
+
+        // 12. Claim the seats in the target before changing anything else
+        claimSeats(targetGroup, quantity, existingTargetParticipant.isPresent() ? 0 : 1, now);
+
+        GroupParticipantEntity targetParticipant;
+
+        if (existingTargetParticipant.isPresent()) {
+            // User already in target - merge seats
+            targetParticipant = existingTargetParticipant.get();
+
+            log.info("User already in target group. Merging {} seats.",
+                    quantity);
 
             // Update existing target participant
             targetParticipant.setQuantity(targetParticipant.getQuantity() + quantity);
@@ -465,12 +467,9 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
                     String.format("Transferred %d seats from group %s",
                             quantity, sourceGroup.getGroupCode())
             );
-
-            // Increment target group participants count
-            targetGroup.setTotalParticipants(targetGroup.getTotalParticipants() + 1);
         }
 
-        // 12. Update source participant
+        // 13. Update source participant
         int remainingSeats = sourceParticipant.getQuantity() - quantity;
 
         if (remainingSeats == 0) {
@@ -481,11 +480,6 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
             sourceParticipant.setStatus(ParticipantStatus.TRANSFERRED_OUT);
             sourceParticipant.setQuantity(0);
 
-            // Decrement source group participants count
-            sourceGroup.setTotalParticipants(
-                    Math.max(0, sourceGroup.getTotalParticipants() - 1)
-            );
-
         } else {
             // Partial transfer - reduce quantity
             log.info("User transferring {} seats, keeping {} seats in source.",
@@ -504,11 +498,15 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
 
         sourceParticipant.setTransferredAt(now);
 
-        // 13. Update source group seats
-        sourceGroup.setSeatsOccupied(sourceGroup.getSeatsOccupied() - quantity);
-        sourceGroup.setUpdatedAt(now);
+        // 14. Update source group seats (and participant count when leaving it entirely)
+        int released = groupPurchaseInstanceRepo.releaseSeats(
+                sourceGroupId, quantity, remainingSeats == 0 ? 1 : 0, now);
+        if (released == 0) {
+            throw new IllegalStateException("Source group seat count is lower than the seats being transferred");
+        }
+        entityManager.refresh(sourceGroup);
 
-        // 14. Check if source group is now empty - soft delete
+        // 15. Check if source group is now empty - soft delete
         if (sourceGroup.getSeatsOccupied() == 0) {
             log.info("Source group {} is now empty. Soft deleting.",
                     sourceGroupId);
@@ -520,12 +518,7 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
             sourceGroup.setDeleteReason("All participants transferred out");
         }
 
-        // 15. Update target group seats
-        targetGroup.setSeatsOccupied(targetGroup.getSeatsOccupied() + quantity);
-        targetGroup.setUpdatedAt(now);
-
-
-        // 17. Save everything
+        // 16. Save everything
         groupParticipantRepo.save(sourceParticipant);
         groupParticipantRepo.save(targetParticipant);
         groupPurchaseInstanceRepo.save(sourceGroup);
@@ -778,17 +771,6 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
 
 
     // Helper method
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
 
     /**
      * Check if group is complete and publish event if needed.
@@ -879,9 +861,33 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
     }
 
 
+    /**
+     * Claim seats with a conditional update and refresh the group to the claimed state.
+     * The seat check and the increment are one statement, so concurrent joins cannot overfill.
+     */
+    private void claimSeats(GroupPurchaseInstanceEntity group, int quantity, int newParticipants,
+                            LocalDateTime now) throws BadRequestException {
+
+        int claimed = groupPurchaseInstanceRepo.claimSeats(
+                group.getGroupInstanceId(), quantity, newParticipants, now);
+
+        entityManager.refresh(group);
+
+        if (claimed == 0) {
+            // Runs before any other write, so nothing needs rolling back
+            validator.validateGroupIsJoinable(group);
+            throw new BadRequestException(
+                    String.format("Not enough seats available. Requested: %d, Available: %d",
+                            quantity, Math.max(0, group.getSeatsRemaining()))
+            );
+        }
+    }
+
+
     /**
      * Check and complete group within the SAME transaction.
-     * This prevents race conditions.
+     * The OPEN -> COMPLETED transition is a conditional update, so however many
+     * joins or safety checks race here, exactly one publishes GroupCompletedEvent.
      *
      * @return true if group is full and completed, false otherwise
      */
@@ -893,32 +899,23 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
             return false;
         }
 
-        // Check if already processed (idempotency)
-        if (group.getStatus() == GroupStatus.COMPLETED && group.getCompletedAt() != null) {
-            log.debug("Group already completed at {}", group.getCompletedAt());
-            return true;
-        }
+        LocalDateTime now = LocalDateTime.now();
+        int transitioned = groupPurchaseInstanceRepo.markCompletedIfFull(group.getGroupInstanceId(), now);
+        entityManager.refresh(group);
 
-        if (group.getStatus() != GroupStatus.OPEN && group.getStatus() != GroupStatus.COMPLETED) {
-            log.debug("Group status is {}, cannot complete", group.getStatus());
-            return false;
+        if (transitioned == 0) {
+            // Already completed by another transaction (idempotency), or no longer open
+            log.debug("Group not completed here, status is {}", group.getStatus());
+            return group.getStatus() == GroupStatus.COMPLETED;
         }
 
-        // Mark as completed
+        // Marked as completed
         log.info("╔════════════════════════════════════════════════════════╗");
         log.info("║   GROUP COMPLETED!                                    ║");
         log.info("╚════════════════════════════════════════════════════════╝");
         log.info("Group: {} ({})", group.getGroupCode(), group.getGroupInstanceId());
         log.info("Participants: {}", group.getTotalParticipants());
         log.info("Seats: {}/{}", group.getSeatsOccupied(), group.getTotalSeats());
-
-        LocalDateTime now = LocalDateTime.now();
-        group.setStatus(GroupStatus.COMPLETED);
-        group.setCompletedAt(now);
-        group.setUpdatedAt(now);
-
-        // Save immediately
-        groupPurchaseInstanceRepo.save(group);
         log.info("✓ Group marked as COMPLETED");
 
         // Publish event (will be processed AFTER transaction commits)
@@ -927,7 +924,7 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
                     this,
                     group.getGroupInstanceId(),
                     group,
-                    now
+                    group.getCompletedAt()
             );
 
             eventPublisher.publishEvent(event);
@@ -939,4 +936,4 @@ public class GroupPurchaseServiceImpl implements GroupPurchaseService {
 
         return true;
     }
-}
\ No newline at end of file
+}
@@ -5,17 +5,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.installment_purchase.payloads.*;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
 import org.nextgate.nextgatebackend.e_commerce.installment_purchase.enums.AgreementStatus;
 import org.nextgate.nextgatebackend.e_commerce.installment_purchase.service.CustomerInstallmentService;
 import org.nextgate.nextgatebackend.e_commerce.installment_purchase.service.PublicInstallmentService;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,7 +25,7 @@ import java.util.UUID;
 public class InstallmentController {
 
     private final CustomerInstallmentService customerInstallmentService;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final PublicInstallmentService publicInstallmentService;
 
     @GetMapping("/products/{productId}/plans")
@@ -67,7 +64,7 @@ public class InstallmentController {
             @RequestParam(required = false) AgreementStatus status
     ) throws ItemNotFoundException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         List<InstallmentAgreementSummaryResponse> agreements =
                 customerInstallmentService.getMyAgreements(customer, status);
@@ -84,7 +81,7 @@ public class InstallmentController {
     public ResponseEntity<GlobeSuccessResponseBuilder> getMyActiveAgreements()
             throws ItemNotFoundException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         List<InstallmentAgreementSummaryResponse> agreements =
                 customerInstallmentService.getMyActiveAgreements(customer);
@@ -102,7 +99,7 @@ public class InstallmentController {
             @PathVariable UUID agreementId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         InstallmentAgreementResponse agreement =
                 customerInstallmentService.getAgreementById(agreementId, customer);
@@ -120,7 +117,7 @@ public class InstallmentController {
             @PathVariable String agreementNumber
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         InstallmentAgreementResponse agreement =
                 customerInstallmentService.getAgreementByNumber(agreementNumber, customer);
@@ -138,7 +135,7 @@ public class InstallmentController {
             @PathVariable UUID agreementId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         List<InstallmentPaymentDetailResponse> payments =
                 customerInstallmentService.getAgreementPayments(agreementId, customer);
@@ -155,7 +152,7 @@ public class InstallmentController {
     public ResponseEntity<GlobeSuccessResponseBuilder> getUpcomingPayments()
             throws ItemNotFoundException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         List<InstallmentPaymentDetailResponse> payments =
                 customerInstallmentService.getUpcomingPayments(customer);
@@ -174,7 +171,7 @@ public class InstallmentController {
             @PathVariable UUID paymentId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         ProcessPaymentResponse payment = customerInstallmentService.makeManualPayment(
                 agreementId, paymentId, customer);
@@ -192,7 +189,7 @@ public class InstallmentController {
             @PathVariable UUID paymentId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         ProcessPaymentResponse payment = customerInstallmentService.retryPayment(
                 paymentId, customer);
@@ -210,7 +207,7 @@ public class InstallmentController {
             @PathVariable UUID agreementId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         EarlyPayoffCalculation calculation = customerInstallmentService.calculateEarlyPayoff(
                 agreementId, customer);
@@ -228,7 +225,7 @@ public class InstallmentController {
             @PathVariable UUID agreementId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         ProcessPaymentResponse payment = customerInstallmentService.processEarlyPayoff(
                 agreementId, customer);
@@ -247,7 +244,7 @@ public class InstallmentController {
             @Valid @RequestBody CancelAgreementRequest request
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         customerInstallmentService.cancelAgreement(agreementId, request, customer);
 
@@ -264,7 +261,7 @@ public class InstallmentController {
             @Valid @RequestBody FlexiblePaymentPreviewRequest request
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         FlexiblePaymentPreviewResponse preview =
                 customerInstallmentService.previewFlexiblePayment(
@@ -285,7 +282,7 @@ public class InstallmentController {
             @Valid @RequestBody FlexiblePaymentRequest request
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         FlexiblePaymentResponse payment =
                 customerInstallmentService.makeFlexiblePayment(
@@ -299,15 +296,4 @@ public class InstallmentController {
 
         return ResponseEntity.ok(response);
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
@@ -4,8 +4,11 @@ import org.nextgate.nextgatebackend.e_commerce.installment_purchase.entity.Insta
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,4 +29,13 @@ public interface InstallmentPlanRepo extends JpaRepository<InstallmentPlanEntity
 
     // Count active plans for product
     long countByProductAndIsActiveTrue(ProductEntity product);
-}
\ No newline at end of file
+
+    // Bulk load plans with product and shop in one statement
+    @Query("""
+        SELECT p FROM InstallmentPlanEntity p
+        JOIN FETCH p.product
+        JOIN FETCH p.shop
+        WHERE p.planId IN :planIds
+    """)
+    List<InstallmentPlanEntity> findAllWithProductAndShopByPlanIdIn(@Param("planIds") Collection<UUID> planIds);
+}
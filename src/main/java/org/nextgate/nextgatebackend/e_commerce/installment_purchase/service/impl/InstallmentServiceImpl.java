@@ -34,10 +34,8 @@ import org.nextgate.nextgatebackend.e_commerce.installment_purchase.utils.Instal
 import org.nextgate.nextgatebackend.e_commerce.order_mng_service.service.ProductOrderService;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -59,6 +57,7 @@ public class InstallmentServiceImpl implements InstallmentService {
     private final InstallmentPlanRepo planRepo;
     private final ProductRepo productRepo;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final InstallmentValidator validator;
     private final WalletService walletService;
     private final LedgerService ledgerService;
@@ -87,7 +86,7 @@ public class InstallmentServiceImpl implements InstallmentService {
         // ========================================
         // 1. GET AUTHENTICATED USER
         // ========================================
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         log.debug("Authenticated user: {}", authenticatedUser.getUserName());
 
         // ========================================
@@ -1465,17 +1464,6 @@ public class InstallmentServiceImpl implements InstallmentService {
         return address != null ? address.toString() : null;
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     private void handlePaymentFailure(InstallmentPaymentEntity payment, String reason) {
         log.warn("╔════════════════════════════════════════════════════════════╗");
         log.warn("║         HANDLING PAYMENT FAILURE                           ║");
@@ -0,0 +1,61 @@
+package org.nextgate.nextgatebackend.e_commerce.inventory_reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Stock held by one checkout session for one product.
+ *
+ * While HELD, the quantity is already taken out of products.stock_quantity, so the
+ * product's stock is what is still available to other buyers. A release puts it back;
+ * a commit keeps it out for good.
+ */
+@Entity
+@Table(name = "stock_reservations",
+        indexes = {
+                @Index(name = "idx_stock_reservation_session", columnList = "session_id, status"),
+                @Index(name = "idx_stock_reservation_expiry", columnList = "status, expires_at")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_stock_reservation_session_product", columnNames = {"session_id", "product_id"})
+        }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID reservationId;
+
+    @Column(name = "session_id", nullable = false)
+    private UUID sessionId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,7 @@
+package org.nextgate.nextgatebackend.e_commerce.inventory_reservation.enums;
+
+public enum ReservationStatus {
+    HELD,       // Stock taken from the product, waiting for payment
+    RELEASED,   // Returned to the product (cancel, payment failure, expiry)
+    COMMITTED   // Paid - the stock is sold
+}
@@ -0,0 +1,51 @@
+package org.nextgate.nextgatebackend.e_commerce.inventory_reservation.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.service.InventoryReservationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Returns stock held by abandoned checkout sessions to the products.
+ * Holds are released a grace period after they expire, in batches of one transaction each.
+ * Runs every minute.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationExpiryJob {
+
+    private final InventoryReservationService inventoryReservationService;
+
+    @Value("${app.inventory.reservation-expiry.batch-size:200}")
+    private int batchSize;
+
+    // Leaves payments that started just before expiry time to commit
+    @Value("${app.inventory.reservation-expiry.grace-minutes:2}")
+    private long graceMinutes;
+
+    /**
+     * Cron: "0 * * * * *" = At second 0 of every minute
+     */
+    @Recurring(id = "release-expired-stock-holds", cron = "0 * * * * *")
+    @Job(name = "Release Expired Stock Holds", retries = 2)
+    public void releaseExpiredHolds() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(graceMinutes);
+
+        int total = 0;
+        int released;
+        do {
+            released = inventoryReservationService.releaseExpired(before, batchSize);
+            total += released;
+        } while (released == batchSize);
+
+        if (total > 0) {
+            log.info("Released {} expired stock hold(s) that expired before {}", total, before);
+        }
+    }
+}
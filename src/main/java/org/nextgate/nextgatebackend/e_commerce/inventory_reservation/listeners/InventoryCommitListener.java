@@ -0,0 +1,32 @@
+package org.nextgate.nextgatebackend.e_commerce.inventory_reservation.listeners;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.service.InventoryReservationService;
+import org.nextgate.nextgatebackend.financial_system.payment_processing.events.PaymentCompletedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Commits the session's stock holds when a product payment completes.
+ * Synchronous on purpose: it runs in the payment's transaction, so a paid session
+ * can't lose its stock to the expiry job between payment and order creation.
+ * A failure fails the payment with it: payment and stock commit together or not at all.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryCommitListener {
+
+    private final InventoryReservationService inventoryReservationService;
+
+    @EventListener
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        if (!event.isProductDomain()) {
+            return;
+        }
+
+        int committed = inventoryReservationService.commit(event.getCheckoutSessionId());
+        log.debug("Committed {} stock hold(s) for session {}", committed, event.getCheckoutSessionId());
+    }
+}
@@ -0,0 +1,60 @@
+package org.nextgate.nextgatebackend.e_commerce.inventory_reservation.repo;
+
+import jakarta.persistence.LockModeType;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.entity.StockReservationEntity;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.enums.ReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StockReservationRepo extends JpaRepository<StockReservationEntity, UUID> {
+
+    // Locked so a retry extending the hold and a release of the same row run one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StockReservationEntity> findBySessionIdAndProductId(UUID sessionId, UUID productId);
+
+    List<StockReservationEntity> findBySessionIdAndStatus(UUID sessionId, ReservationStatus status);
+
+    List<StockReservationEntity> findBySessionId(UUID sessionId);
+
+    /**
+     * Move a reservation from one status to another.
+     * Returns 0 when another node already moved it, so stock is returned at most once.
+     */
+    @Modifying
+    @Query("UPDATE StockReservationEntity r SET r.status = :to, r.updatedAt = :now " +
+            "WHERE r.reservationId = :reservationId AND r.status = :from")
+    int transition(@Param("reservationId") UUID reservationId,
+                   @Param("from") ReservationStatus from,
+                   @Param("to") ReservationStatus to,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * Release a hold whose expiry has passed.
+     * The expiry is checked again on the locked row, so a hold extended meanwhile is kept.
+     */
+    @Modifying
+    @Query("UPDATE StockReservationEntity r " +
+            "SET r.status = org.nextgate.nextgatebackend.e_commerce.inventory_reservation.enums.ReservationStatus.RELEASED, r.updatedAt = :now " +
+            "WHERE r.reservationId = :reservationId " +
+            "AND r.status = org.nextgate.nextgatebackend.e_commerce.inventory_reservation.enums.ReservationStatus.HELD " +
+            "AND r.expiresAt < :before")
+    int releaseIfExpired(@Param("reservationId") UUID reservationId,
+                         @Param("before") LocalDateTime before,
+                         @Param("now") LocalDateTime now);
+
+    @Query("SELECT r.reservationId FROM StockReservationEntity r " +
+            "WHERE r.status = :status AND r.expiresAt < :before " +
+            "ORDER BY r.expiresAt")
+    List<UUID> findIdsByStatusAndExpiresAtBefore(@Param("status") ReservationStatus status,
+                                                @Param("before") LocalDateTime before,
+                                                Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package org.nextgate.nextgatebackend.e_commerce.inventory_reservation.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stock holds for product checkout sessions
+ * A hold takes the quantity out of the product's stock with a conditional update,
+ * so concurrent buyers on any node can never hold more than the stock there is.
+ */
+public interface InventoryReservationService {
+
+    // Holds each product's quantity until expiresAt; holding again for the same session extends the hold
+    // Throws InsufficientStockException when a product does not have enough stock left
+    void hold(UUID sessionId, Map<UUID, Integer> quantities, LocalDateTime expiresAt);
+
+    // Returns the session's held stock to the products (cancel, payment failure)
+    int release(UUID sessionId);
+
+    // Marks the session's holds as sold once payment has completed
+    int commit(UUID sessionId);
+
+    // Returns up to batchSize holds that expired before the given time, in one transaction
+    int releaseExpired(LocalDateTime before, int batchSize);
+}
@@ -0,0 +1,182 @@
+package org.nextgate.nextgatebackend.e_commerce.inventory_reservation.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.entity.StockReservationEntity;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.enums.ReservationStatus;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.repo.StockReservationRepo;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.service.InventoryReservationService;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.InsufficientStockException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryReservationServiceImpl implements InventoryReservationService {
+
+    private final StockReservationRepo reservationRepo;
+    private final ProductRepo productRepo;
+
+    @Override
+    @Transactional
+    public void hold(UUID sessionId, Map<UUID, Integer> quantities, LocalDateTime expiresAt) {
+        // Same product order for every session, so two carts sharing products never deadlock
+        new TreeMap<>(quantities).forEach((productId, quantity) ->
+                holdProduct(sessionId, productId, quantity, expiresAt));
+    }
+
+    @Override
+    @Transactional
+    public int release(UUID sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+
+        for (StockReservationEntity reservation : heldBySession(sessionId)) {
+            // Only the caller that moves the row out of HELD returns its stock
+            if (reservationRepo.transition(reservation.getReservationId(),
+                    ReservationStatus.HELD, ReservationStatus.RELEASED, now) == 1) {
+                productRepo.returnStock(reservation.getProductId(), reservation.getQuantity());
+                released++;
+            }
+        }
+
+        if (released > 0) {
+            log.info("Released {} stock hold(s) for session {}", released, sessionId);
+        }
+        return released;
+    }
+
+    @Override
+    @Transactional
+    public int commit(UUID sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        int committed = 0;
+
+        List<StockReservationEntity> reservations = reservationRepo.findBySessionId(sessionId).stream()
+                .sorted(Comparator.comparing(StockReservationEntity::getProductId))
+                .toList();
+
+        for (StockReservationEntity reservation : reservations) {
+            switch (reservation.getStatus()) {
+                case HELD -> {
+                    if (reservationRepo.transition(reservation.getReservationId(),
+                            ReservationStatus.HELD, ReservationStatus.COMMITTED, now) == 1) {
+                        committed++;
+                    }
+                }
+                case RELEASED -> {
+                    // Paid after the hold expired: take the stock again, or fail the payment with it
+                    if (reservationRepo.transition(reservation.getReservationId(),
+                            ReservationStatus.RELEASED, ReservationStatus.COMMITTED, now) == 1) {
+                        if (productRepo.takeStock(reservation.getProductId(), reservation.getQuantity()) == 0) {
+                            log.warn("Session {} paid for {} x product {} after its hold expired - stock no longer available",
+                                    sessionId, reservation.getQuantity(), reservation.getProductId());
+                            throw new InsufficientStockException(reservation.getProductId(), reservation.getQuantity());
+                        }
+                        committed++;
+                    }
+                }
+                case COMMITTED -> {
+                    // Already committed (event delivered twice)
+                }
+            }
+        }
+
+        log.info("Committed {} stock hold(s) for session {}", committed, sessionId);
+        return committed;
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpired(LocalDateTime before, int batchSize) {
+        List<UUID> expired = reservationRepo.findIdsByStatusAndExpiresAtBefore(
+                ReservationStatus.HELD, before, PageRequest.of(0, batchSize));
+
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+
+        for (UUID reservationId : expired) {
+            if (reservationRepo.releaseIfExpired(reservationId, before, now) == 1) {
+                StockReservationEntity reservation = reservationRepo.findById(reservationId).orElseThrow();
+                productRepo.returnStock(reservation.getProductId(), reservation.getQuantity());
+                released++;
+            }
+        }
+        return released;
+    }
+
+    // ========================================
+    // HOLD
+    // ========================================
+
+    private void holdProduct(UUID sessionId, UUID productId, int quantity, LocalDateTime expiresAt) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Hold quantity must be positive: " + quantity);
+        }
+
+        // Products that don't track inventory are never short
+        if (Boolean.FALSE.equals(productRepo.findTrackInventory(productId).orElse(null))) {
+            return;
+        }
+
+        StockReservationEntity reservation = reservationRepo.findBySessionIdAndProductId(sessionId, productId)
+                .orElse(null);
+
+        if (reservation == null) {
+            takeStock(productId, quantity);
+            reservationRepo.save(StockReservationEntity.builder()
+                    .sessionId(sessionId)
+                    .productId(productId)
+                    .quantity(quantity)
+                    .status(ReservationStatus.HELD)
+                    .expiresAt(expiresAt)
+                    .build());
+            return;
+        }
+
+        switch (reservation.getStatus()) {
+            case COMMITTED -> {
+                log.debug("Stock for session {} product {} already committed", sessionId, productId);
+                return;
+            }
+            case RELEASED -> takeStock(productId, quantity);
+            case HELD -> {
+                // Retry of a session that still holds stock: only the difference moves
+                int difference = quantity - reservation.getQuantity();
+                if (difference > 0) {
+                    takeStock(productId, difference);
+                } else if (difference < 0) {
+                    productRepo.returnStock(productId, -difference);
+                }
+            }
+        }
+
+        reservation.setQuantity(quantity);
+        reservation.setStatus(ReservationStatus.HELD);
+        reservation.setExpiresAt(expiresAt);
+        reservation.setUpdatedAt(LocalDateTime.now());
+        reservationRepo.save(reservation);
+    }
+
+    private void takeStock(UUID productId, int quantity) {
+        if (productRepo.takeStock(productId, quantity) == 0) {
+            throw new InsufficientStockException(productId, quantity);
+        }
+    }
+
+    private List<StockReservationEntity> heldBySession(UUID sessionId) {
+        return reservationRepo.findBySessionIdAndStatus(sessionId, ReservationStatus.HELD).stream()
+                .sorted(Comparator.comparing(StockReservationEntity::getProductId))
+                .toList();
+    }
+}
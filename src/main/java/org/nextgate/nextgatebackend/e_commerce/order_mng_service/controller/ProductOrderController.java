@@ -6,7 +6,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.authentication_service.service.AccountService;
 import org.nextgate.nextgatebackend.e_commerce.order_mng_service.payloads.ConfirmDeliveryRequest;
 import org.nextgate.nextgatebackend.e_commerce.order_mng_service.payloads.ConfirmationCodeRegeneratedResponse;
@@ -23,11 +22,10 @@ import org.nextgate.nextgatebackend.e_commerce.order_mng_service.service.Product
 import org.nextgate.nextgatebackend.e_commerce.order_mng_service.utils.ProductOrderMapper;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -43,7 +41,7 @@ public class ProductOrderController {
     private final DeliveryConfirmationService deliveryConfirmationService;
     private final AccountService accountService;
     private final ProductOrderMapper productOrderMapper;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final ShopRepo shopRepo;
 
 
@@ -54,7 +52,7 @@ public class ProductOrderController {
     ) throws ItemNotFoundException, BadRequestException {
 
 
-        AccountEntity requester = getAuthenticatedAccount();
+        AccountEntity requester = currentAccountProvider.getCurrentAccount();
 
         ProductOrderEntity order = productOrderService.getOrderById(orderId, requester);
 
@@ -70,7 +68,7 @@ public class ProductOrderController {
     ) throws ItemNotFoundException, BadRequestException {
 
 
-        AccountEntity requester = getAuthenticatedAccount();
+        AccountEntity requester = currentAccountProvider.getCurrentAccount();
 
         ProductOrderEntity order = productOrderService.getOrderByNumber(orderNumber, requester);
 
@@ -83,7 +81,7 @@ public class ProductOrderController {
     public ResponseEntity<GlobeSuccessResponseBuilder> getMyOrders()
             throws ItemNotFoundException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         List<ProductOrderEntity> orders = productOrderService.getMyOrders(customer);
 
@@ -99,7 +97,7 @@ public class ProductOrderController {
             @PathVariable ProductOrderStatus status
     ) throws ItemNotFoundException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         List<ProductOrderEntity> orders = productOrderService.getMyOrdersByStatus(customer, status);
 
@@ -116,7 +114,7 @@ public class ProductOrderController {
             @PathVariable UUID orderId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity seller = getAuthenticatedAccount();
+        AccountEntity seller = currentAccountProvider.getCurrentAccount();
 
         productOrderService.markOrderAsShipped(orderId, seller);
 
@@ -158,7 +156,7 @@ public class ProductOrderController {
     ) throws ItemNotFoundException, BadRequestException, RandomExceptions {
 
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         // Get IP address
         String ipAddress = getClientIpAddress(httpRequest);
@@ -200,7 +198,7 @@ public class ProductOrderController {
             @PathVariable UUID orderId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         // Service handles everything
         productOrderService.regenerateDeliveryConfirmationCode(orderId, customer);
@@ -239,7 +237,7 @@ public class ProductOrderController {
             @RequestParam(defaultValue = "10") int size
     ) throws ItemNotFoundException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         Page<ProductOrderEntity> orderPage = productOrderService.getMyOrdersPaged(customer, page, size);
 
@@ -257,7 +255,7 @@ public class ProductOrderController {
             @RequestParam(defaultValue = "10") int size
     ) throws ItemNotFoundException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         Page<ProductOrderEntity> orderPage = productOrderService.getMyOrdersByStatusPaged(
                 customer, status, page, size);
@@ -276,7 +274,7 @@ public class ProductOrderController {
             @RequestParam(defaultValue = "10") int size
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // Get shop and verify ownership
         ShopEntity shop = validateShopOwnership(shopId, authenticatedUser);
@@ -298,7 +296,7 @@ public class ProductOrderController {
             @RequestParam(defaultValue = "10") int size
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // Get shop and verify ownership
         ShopEntity shop = validateShopOwnership(shopId, authenticatedUser);
@@ -318,7 +316,7 @@ public class ProductOrderController {
             @PathVariable UUID shopId
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // Get shop and verify ownership
         ShopEntity shop = validateShopOwnership(shopId, authenticatedUser);
@@ -338,7 +336,7 @@ public class ProductOrderController {
             @PathVariable ProductOrderStatus status
     ) throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         // Get shop and verify ownership
         ShopEntity shop = validateShopOwnership(shopId, authenticatedUser);
@@ -370,17 +368,6 @@ public class ProductOrderController {
     }
 
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     private ShopEntity validateShopOwnership(UUID shopId, AccountEntity user)
             throws ItemNotFoundException, BadRequestException {
 
@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
@@ -12,13 +11,11 @@ import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.p
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.payload.ProductCategoryResponse;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.repo.ProductCategoryRepo;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.service.ProductCategoryService;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,7 +29,7 @@ import java.util.UUID;
 public class ProductCategoryServiceImpl implements ProductCategoryService {
 
     private final ProductCategoryRepo productCategoryRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     @Transactional
@@ -45,7 +42,7 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
         }
 
         // Get authenticated user
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         // Create new category
         ProductCategoryEntity category = new ProductCategoryEntity();
@@ -93,7 +90,7 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
         }
 
         // Get authenticated user
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         // Update category fields
         category.setCategoryName(request.getCategoryName());
@@ -227,7 +224,7 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
         }
 
         // Get authenticated user
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         // Soft delete - mark as inactive
         category.setIsActive(false);
@@ -255,7 +252,7 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
         }
 
         // Get authenticated user
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         // Activate category
         category.setIsActive(true);
@@ -292,15 +289,4 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
 
         return builder.build();
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.nextgate.nextgatebackend.authentication_service.utils.StringListJsonConverter;
 import org.nextgate.nextgatebackend.e_commerce.installment_purchase.entity.InstallmentPlanEntity;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.entity.ProductCategoryEntity;
@@ -37,6 +38,9 @@ import java.util.UUID;
         @Index(name = "idx_product_specifications", columnList = "specifications")
 })
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+// Only changed columns are written, so saving an edited product never overwrites stockQuantity
+// with the value it was loaded with (stock holds move it with conditional updates in ProductRepo)
+@DynamicUpdate
 public class ProductEntity {
 
     @Id
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -171,6 +172,20 @@ public interface ProductRepo extends JpaRepository<ProductEntity, UUID>, JpaSpec
     // In stock products
     List<ProductEntity> findByStockQuantityGreaterThanAndStatusAndIsDeletedFalseOrderByCreatedAtDesc(Integer stockQuantity, ProductStatus status);
 
+    @Query("SELECT p.trackInventory FROM ProductEntity p WHERE p.productId = :productId")
+    Optional<Boolean> findTrackInventory(@Param("productId") UUID productId);
+
+    // Take stock only if enough is left - a single row update, safe across nodes
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductEntity p SET p.stockQuantity = p.stockQuantity - :quantity " +
+            "WHERE p.productId = :productId AND p.stockQuantity >= :quantity")
+    int takeStock(@Param("productId") UUID productId, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductEntity p SET p.stockQuantity = p.stockQuantity + :quantity " +
+            "WHERE p.productId = :productId")
+    int returnStock(@Param("productId") UUID productId, @Param("quantity") int quantity);
+
     // ========================
     // ADMIN QUERIES - FIXED: Renamed to avoid duplicates
     // ========================
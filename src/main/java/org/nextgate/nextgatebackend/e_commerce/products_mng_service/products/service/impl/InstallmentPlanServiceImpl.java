@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.se
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
@@ -19,9 +18,7 @@ import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.rep
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.service.InstallmentPlanService;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,7 +36,7 @@ public class InstallmentPlanServiceImpl implements InstallmentPlanService {
     private final InstallmentPlanRepo installmentPlanRepo;
     private final ProductRepo productRepo;
     private final ShopRepo shopRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final InstallmentPlanResponseHelper installmentPlanResponseHelper;
 
     @Override
@@ -51,7 +48,7 @@ public class InstallmentPlanServiceImpl implements InstallmentPlanService {
         log.info("Creating installment plan for product: {}", productId);
 
         // Get authenticated user
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         // Validate shop
         ShopEntity shop = shopRepo.findById(shopId)
@@ -168,7 +165,7 @@ public class InstallmentPlanServiceImpl implements InstallmentPlanService {
 
         log.info("Updating installment plan: {}", planId);
 
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         ShopEntity shop = shopRepo.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -218,7 +215,7 @@ public class InstallmentPlanServiceImpl implements InstallmentPlanService {
 
         log.info("Deleting installment plan: {}", planId);
 
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         ShopEntity shop = shopRepo.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -252,7 +249,7 @@ public class InstallmentPlanServiceImpl implements InstallmentPlanService {
 
         log.info("Toggling plan status: {} to {}", planId, isActive);
 
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         ShopEntity shop = shopRepo.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -290,7 +287,7 @@ public class InstallmentPlanServiceImpl implements InstallmentPlanService {
 
         log.info("Setting featured plan: {}", planId);
 
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         ShopEntity shop = shopRepo.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -320,7 +317,7 @@ public class InstallmentPlanServiceImpl implements InstallmentPlanService {
 
         log.info("Toggling installments for product: {} to {}", productId, enabled);
 
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         ShopEntity shop = shopRepo.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -436,17 +433,6 @@ public class InstallmentPlanServiceImpl implements InstallmentPlanService {
                 .build();
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     private boolean validateSystemRolesOrOwner(List<String> customRoles, AccountEntity account, ShopEntity shop) {
         boolean hasCustomRole = account.getRoles().stream()
                 .anyMatch(role -> customRoles.contains(role.getRoleName()));
@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.se
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.payload.*;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
@@ -23,13 +22,11 @@ import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.uti
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.enums.ShopStatus;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,7 +45,7 @@ public class ProductServiceImpl implements ProductService {
     private final ProductRepo productRepo;
     private final ShopRepo shopRepo;
     private final ProductCategoryRepo productCategoryRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final ProductHelperMethods productHelperMethods;
     private final ProductBuildResponseHelper productBuildResponseHelper;
     private final ProductSearchHelper productSearchHelper;
@@ -59,7 +56,7 @@ public class ProductServiceImpl implements ProductService {
     public GlobeSuccessResponseBuilder createProduct(UUID shopId, CreateProductRequest request, ReqAction action) throws ItemNotFoundException, RandomExceptions, ItemReadyExistException {
 
         //1. Get the authenticated user
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         //2. Shop existence check
         ShopEntity shop = shopRepo.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -174,7 +171,7 @@ public class ProductServiceImpl implements ProductService {
             throws ItemNotFoundException, RandomExceptions {
 
         // 1. Get authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         //2. Validate shop existence
         ShopEntity shop = shopRepo.findById(shopId)
@@ -211,7 +208,7 @@ public class ProductServiceImpl implements ProductService {
             throws ItemNotFoundException, RandomExceptions {
 
         //1. Get the authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         //2. Validate shop existence
         ShopEntity shop = shopRepo.findByShopIdAndOwnerAndIsDeletedFalse(shopId, authenticatedAccount)
@@ -258,7 +255,7 @@ public class ProductServiceImpl implements ProductService {
     public GlobeSuccessResponseBuilder getAllProductsPaged(UUID shopId, int page, int size) throws ItemNotFoundException, RandomExceptions {
 
         // Get authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         // Validate shop existence
         ShopEntity shop = shopRepo.findById(shopId)
@@ -323,7 +320,7 @@ public class ProductServiceImpl implements ProductService {
             throws ItemNotFoundException, RandomExceptions, ItemReadyExistException {
 
         // 1. Get authenticated user
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         // 2. Validate shop existence
         ShopEntity shop = shopRepo.findById(shopId)
@@ -395,7 +392,7 @@ public class ProductServiceImpl implements ProductService {
             throws ItemNotFoundException, RandomExceptions {
 
         // 1. Get authenticated user
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         // 2. Validate shop existence
         ShopEntity shop = shopRepo.findById(shopId)
@@ -447,7 +444,7 @@ public class ProductServiceImpl implements ProductService {
             throws ItemNotFoundException, RandomExceptions {
 
         // 1. Get authenticated user
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         // 2. Validate shop existence
         ShopEntity shop = shopRepo.findById(shopId)
@@ -516,7 +513,7 @@ public class ProductServiceImpl implements ProductService {
             throws ItemNotFoundException, RandomExceptions {
 
         // 1. Get authenticated user
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
 
         // 2. Validate shop existence
         ShopEntity shop = shopRepo.findById(shopId)
@@ -754,17 +751,6 @@ public class ProductServiceImpl implements ProductService {
 
 
     // HELPER METHODS
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     private String generateUniqueSlugForShop(String productName, UUID shopId) {
         String baseSlug = createBaseSlug(productName);
         String slug = baseSlug;
@@ -5,7 +5,6 @@ package org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.ut
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
@@ -17,12 +16,10 @@ import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.rep
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.enums.ShopStatus;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -37,7 +34,7 @@ import java.util.stream.Collectors;
 public class ProductSearchHelper {
 
     private final ShopRepo shopRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final ProductRepo productRepo;
     private final ProductBuildResponseHelper productBuildResponseHelper;
 
@@ -116,7 +113,7 @@ public class ProductSearchHelper {
 
         try {
             // Try to get authenticated user
-            AccountEntity user = getAuthenticatedAccount();
+            AccountEntity user = currentAccountProvider.getCurrentAccount();
             contextBuilder.user(user)
                     .isPublicUser(false);
 
@@ -266,27 +263,6 @@ public class ProductSearchHelper {
 
     // PRIVATE HELPER METHODS
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            String userName;
-
-            // Handle different types of principals
-            Object principal = authentication.getPrincipal();
-            if (principal instanceof UserDetails) {
-                userName = ((UserDetails) principal).getUsername();
-            } else if (principal instanceof String) {
-                userName = (String) principal;
-            } else {
-                throw new ItemNotFoundException("Invalid authentication principal type");
-            }
-
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     private boolean validateSystemRoles(List<String> requiredRoles, AccountEntity account) {
         if (account == null || account.getRoles() == null) {
             return false;
@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.shops_mng_service.categories.ser
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
@@ -11,13 +10,11 @@ import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.categories.enti
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.categories.paylaod.CreateShopCategoryRequest;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.categories.repo.ShopCategoryRepo;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.categories.service.ShopCategoryService;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,7 +29,7 @@ import java.util.UUID;
 public class ShopCategoryServiceImpl implements ShopCategoryService {
 
     private final ShopCategoryRepo shopCategoryRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     public GlobeSuccessResponseBuilder createShopCategory(CreateShopCategoryRequest request)
@@ -53,7 +50,7 @@ public class ShopCategoryServiceImpl implements ShopCategoryService {
         newCategory.setIsActive(true);
 
 
-        UUID accountId = getAuthenticatedAccount().getAccountId();
+        UUID accountId = currentAccountProvider.getCurrentAccount().getAccountId();
         newCategory.setCreatedBy(accountId);
         newCategory.setEditedBy(accountId);
 
@@ -85,7 +82,7 @@ public class ShopCategoryServiceImpl implements ShopCategoryService {
         category.setCategoryName(request.getCategoryName());
         category.setCategoryDescription(request.getCategoryDescription());
         category.setEditedTime(LocalDateTime.now());
-        category.setEditedBy(getAuthenticatedAccount().getAccountId());
+        category.setEditedBy(currentAccountProvider.getCurrentAccount().getAccountId());
 
         ShopCategoryEntity updatedCategory = shopCategoryRepo.save(category);
 
@@ -161,7 +158,7 @@ public class ShopCategoryServiceImpl implements ShopCategoryService {
 
         category.setIsActive(false);
         category.setEditedTime(LocalDateTime.now());
-        category.setEditedBy(getAuthenticatedAccount().getAccountId());
+        category.setEditedBy(currentAccountProvider.getCurrentAccount().getAccountId());
         shopCategoryRepo.save(category);
 
         return GlobeSuccessResponseBuilder.builder()
@@ -185,7 +182,7 @@ public class ShopCategoryServiceImpl implements ShopCategoryService {
 
         category.setIsActive(true);
         category.setEditedTime(LocalDateTime.now());
-        category.setEditedBy(getAuthenticatedAccount().getAccountId());
+        category.setEditedBy(currentAccountProvider.getCurrentAccount().getAccountId());
         shopCategoryRepo.save(category);
 
         return GlobeSuccessResponseBuilder.builder()
@@ -196,15 +193,4 @@ public class ShopCategoryServiceImpl implements ShopCategoryService {
     }
 
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
 }
\ No newline at end of file
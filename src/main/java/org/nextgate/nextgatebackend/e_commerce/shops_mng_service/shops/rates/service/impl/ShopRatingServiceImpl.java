@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.rates.se
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
@@ -15,9 +14,7 @@ import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.rates.rep
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.rates.service.ShopRatingService;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,13 +31,13 @@ public class ShopRatingServiceImpl implements ShopRatingService {
 
     private final ShopRatingRepo shopRatingRepo;
     private final ShopRepo shopRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     @Transactional
     public ShopRatingEntity createRating(UUID shopId, CreateRatingRequest request) throws ItemNotFoundException, ItemReadyExistException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         ShopEntity shop = shopRepo.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -70,7 +67,7 @@ public class ShopRatingServiceImpl implements ShopRatingService {
     @Transactional
     public ShopRatingEntity updateRating(UUID shopId, UpdateRatingRequest request) throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         ShopRatingEntity existingRating = shopRatingRepo.findByShopShopIdAndUserIdAndIsDeletedFalse(shopId, user.getId())
                 .orElseThrow(() -> new ItemNotFoundException("Rating not found. Create a rating first."));
@@ -85,7 +82,7 @@ public class ShopRatingServiceImpl implements ShopRatingService {
     @Transactional
     public void deleteRating(UUID shopId) throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         ShopRatingEntity existingRating = shopRatingRepo.findByShopShopIdAndUserIdAndIsDeletedFalse(shopId, user.getId())
                 .orElseThrow(() -> new ItemNotFoundException("Rating not found"));
@@ -111,7 +108,7 @@ public class ShopRatingServiceImpl implements ShopRatingService {
     @Transactional(readOnly = true)
     public ShopRatingEntity getUserRatingForShop(UUID shopId) throws ItemNotFoundException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         return shopRatingRepo.findByShopShopIdAndUserIdAndIsDeletedFalse(shopId, user.getId())
                 .orElseThrow(() -> new ItemNotFoundException("You have not rated this shop yet"));
@@ -175,15 +172,4 @@ public class ShopRatingServiceImpl implements ShopRatingService {
     public Long getShopTotalRatings(UUID shopId) {
         return shopRatingRepo.countByShopShopIdAndIsDeletedFalse(shopId);
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
@@ -14,11 +13,9 @@ import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.p
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.paylaod.ShopReviewSummaryResponse;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.paylaod.UpdateReviewRequest;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.service.ShopReviewService;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -30,7 +27,7 @@ import java.util.UUID;
 public class ShopReviewController {
 
     private final ShopReviewService shopReviewService;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @PostMapping
     public ResponseEntity<GlobeSuccessResponseBuilder> createReview(
@@ -75,7 +72,7 @@ public class ShopReviewController {
     public ResponseEntity<GlobeSuccessResponseBuilder> getActiveReviewsByShop(
             @PathVariable UUID shopId) throws ItemNotFoundException {
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
         List<ShopReviewEntity> reviews = shopReviewService.getActiveReviewsByShop(shopId);
 
         List<ReviewResponse> responses = reviews.stream()
@@ -176,15 +173,4 @@ public class ShopReviewController {
                 .isMyReview(review.getUser().getId().equals(currentUserId))
                 .build();
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
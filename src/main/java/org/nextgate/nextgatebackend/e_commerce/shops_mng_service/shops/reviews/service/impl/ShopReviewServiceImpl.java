@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
@@ -16,12 +15,10 @@ import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.r
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.service.ShopReviewService;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,13 +33,13 @@ public class ShopReviewServiceImpl implements ShopReviewService {
 
     private final ShopReviewRepo shopReviewRepo;
     private final ShopRepo shopRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     @Transactional
     public ShopReviewEntity createReview(UUID shopId, CreateReviewRequest request) throws ItemNotFoundException, ItemReadyExistException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         ShopEntity shop = shopRepo.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -73,7 +70,7 @@ public class ShopReviewServiceImpl implements ShopReviewService {
     @Transactional
     public ShopReviewEntity updateReview(UUID shopId, UpdateReviewRequest request) throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         ShopReviewEntity existingReview = shopReviewRepo.findByShopShopIdAndUserIdAndIsDeletedFalse(shopId, user.getId())
                 .orElseThrow(() -> new ItemNotFoundException("Review not found. Create a review first."));
@@ -88,7 +85,7 @@ public class ShopReviewServiceImpl implements ShopReviewService {
     @Transactional
     public void deleteReview(UUID shopId) throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         ShopReviewEntity existingReview = shopReviewRepo.findByShopShopIdAndUserIdAndIsDeletedFalse(shopId, user.getId())
                 .orElseThrow(() -> new ItemNotFoundException("Review not found"));
@@ -129,7 +126,7 @@ public class ShopReviewServiceImpl implements ShopReviewService {
     @Override
     @Transactional(readOnly = true)
     public ShopReviewEntity getUserReviewForShop(UUID shopId) throws ItemNotFoundException {
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         return shopReviewRepo.findByShopShopIdAndUserIdAndIsDeletedFalse(shopId, user.getId()).orElse(null);
     }
 
@@ -160,15 +157,4 @@ public class ShopReviewServiceImpl implements ShopReviewService {
     public Long getShopActiveReviewCount(UUID shopId) {
         return shopReviewRepo.countByShopShopIdAndIsDeletedFalseAndStatus(shopId, ReviewStatus.ACTIVE);
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
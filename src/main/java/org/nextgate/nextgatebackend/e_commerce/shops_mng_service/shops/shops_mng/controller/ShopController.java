@@ -4,7 +4,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.authentication_service.entity.Roles;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.payload.*;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
@@ -20,11 +19,9 @@ import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.p
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.reviews.service.ShopReviewService;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.service.ShopService;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -37,7 +34,7 @@ import java.util.stream.Collectors;
 public class ShopController {
 
     private final ShopService shopService;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final ShopRatingService shopRatingService;
     private final ShopReviewService shopReviewService;
 
@@ -139,7 +136,7 @@ public class ShopController {
     @PatchMapping("/{shopId}/approve-shop")
     public ResponseEntity<GlobeSuccessResponseBuilder> approveShop(@PathVariable UUID shopId, @RequestParam boolean approve) throws ItemNotFoundException, AccessDeniedException {
 
-        validateRole(getAuthenticatedAccount(), "ROLE_SUPER_ADMIN","ROLE_STAFF_ADMIN");
+        validateRole(currentAccountProvider.getCurrentAccount(), "ROLE_SUPER_ADMIN","ROLE_STAFF_ADMIN");
         ShopEntity approved = shopService.approveShop(shopId, approve);
         ShopResponse shopResponse = buildShopResponse(approved);
 
@@ -420,18 +417,6 @@ public class ShopController {
         return GlobeSuccessResponseBuilder.success(message, responseData);
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     public void validateRole(AccountEntity account, String... requiredRoles) throws AccessDeniedException {
         if (account == null) {
             throw new AccessDeniedException("Account not found");
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,4 +38,5 @@ public interface ShopRepo extends JpaRepository<ShopEntity, UUID> {
 
     Optional<ShopEntity> findByShopSlugAndIsDeletedFalse(String shopSlug);
 
-}
\ No newline at end of file
+    List<ShopEntity> findByShopIdInAndIsDeletedFalseAndStatus(Collection<UUID> shopIds, ShopStatus status);
+}
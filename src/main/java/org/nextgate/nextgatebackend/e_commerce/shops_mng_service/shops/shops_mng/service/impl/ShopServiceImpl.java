@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mn
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
@@ -15,13 +14,11 @@ import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.payload.UpdateShopRequest;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.service.ShopService;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,7 +32,7 @@ import java.util.UUID;
 @Slf4j
 public class ShopServiceImpl implements ShopService {
 
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final ShopRepo shopRepository;
     private final ShopCategoryRepo shopCategoryRepo;
 
@@ -43,7 +40,7 @@ public class ShopServiceImpl implements ShopService {
     @Transactional
     public ShopEntity createShop(CreateShopRequest request) throws ItemReadyExistException, ItemNotFoundException {
 
-        AccountEntity owner = getAuthenticatedAccount();
+        AccountEntity owner = currentAccountProvider.getCurrentAccount();
 
         if (shopRepository.existsByShopNameAndIsDeletedFalse(request.getShopName())) {
             throw new ItemReadyExistException("Shop with this name already exists");
@@ -108,7 +105,7 @@ public class ShopServiceImpl implements ShopService {
     @Transactional
     public ShopEntity updateShop(UUID shopId, UpdateShopRequest request) throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         ShopEntity shop = shopRepository.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
@@ -182,7 +179,7 @@ public class ShopServiceImpl implements ShopService {
         ShopEntity shop = shopRepository.findById(shopId)
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         if (!shop.getOwner().getId().equals(user.getId()) && !(user.getRoles().contains("ROLE_SUPER_ADMIN") || user.getRoles().contains("ROLE_STAFF_ADMIN"))) {
             throw new RandomExceptions("Only shop owners and administrators can access detailed shop information");
         }
@@ -223,14 +220,14 @@ public class ShopServiceImpl implements ShopService {
                 .orElseThrow(() -> new ItemNotFoundException("Shop not found"));
 
         shop.setApproved(approve);
-        shop.setApprovedByUser(getAuthenticatedAccount());
+        shop.setApprovedByUser(currentAccountProvider.getCurrentAccount());
 
         return shopRepository.save(shop);
     }
 
     @Override
     public List<ShopEntity> getMyShops() throws ItemNotFoundException {
-        return shopRepository.findByOwner(getAuthenticatedAccount());
+        return shopRepository.findByOwner(currentAccountProvider.getCurrentAccount());
     }
 
     @Override
@@ -239,7 +236,7 @@ public class ShopServiceImpl implements ShopService {
         if (size <= 0) size = 10;
 
         Pageable pageable = PageRequest.of(page - 1, size); // Subtract 1 here
-        return shopRepository.findByOwner(getAuthenticatedAccount(), pageable);
+        return shopRepository.findByOwner(currentAccountProvider.getCurrentAccount(), pageable);
 
     }
 
@@ -281,17 +278,6 @@ public class ShopServiceImpl implements ShopService {
         return new PageImpl<>(pageContent, PageRequest.of(page - 1, size), shuffledShops.size());
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     // Add these helper methods at the bottom of ShopServiceImpl class:
 
     private String generateUniqueShopSlug(String shopName) {
@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_commerce.wishlist_service.service.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.cart_service.payload.AddToCartRequest;
 import org.nextgate.nextgatebackend.e_commerce.cart_service.service.CartService;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
@@ -16,9 +15,7 @@ import org.nextgate.nextgatebackend.e_commerce.wishlist_service.payload.AddToWis
 import org.nextgate.nextgatebackend.e_commerce.wishlist_service.payload.WishlistResponse;
 import org.nextgate.nextgatebackend.e_commerce.wishlist_service.repo.WishlistItemRepo;
 import org.nextgate.nextgatebackend.e_commerce.wishlist_service.service.WishlistService;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,7 +32,7 @@ public class WishlistServiceImpl implements WishlistService {
 
     private final WishlistItemRepo wishlistItemRepo;
     private final ProductRepo productRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final CartService cartService;
 
     @Override
@@ -43,7 +40,7 @@ public class WishlistServiceImpl implements WishlistService {
     public GlobeSuccessResponseBuilder addToWishlist(AddToWishlistRequest request)
             throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         ProductEntity product = productRepo.findByProductIdAndIsDeletedFalse(request.getProductId())
                 .orElseThrow(() -> new ItemNotFoundException("Product not found"));
@@ -68,7 +65,7 @@ public class WishlistServiceImpl implements WishlistService {
     @Transactional(readOnly = true)
     public GlobeSuccessResponseBuilder getWishlist() throws ItemNotFoundException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         List<WishlistItemEntity> wishlistItems = wishlistItemRepo.findByUserOrderByCreatedAtDesc(user);
 
         WishlistResponse wishlistResponse = buildWishlistResponse(user, wishlistItems);
@@ -80,7 +77,7 @@ public class WishlistServiceImpl implements WishlistService {
     @Transactional
     public GlobeSuccessResponseBuilder removeFromWishlist(UUID itemId) throws ItemNotFoundException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         //Check if this item belong to this user
         wishlistItemRepo.findByWishlistIdAndUser(itemId, user)
@@ -95,7 +92,7 @@ public class WishlistServiceImpl implements WishlistService {
     @Transactional
     public GlobeSuccessResponseBuilder clearWishlist() throws ItemNotFoundException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         wishlistItemRepo.deleteByUser(user);
 
         return GlobeSuccessResponseBuilder.success("Wishlist cleared successfully");
@@ -106,7 +103,7 @@ public class WishlistServiceImpl implements WishlistService {
     public GlobeSuccessResponseBuilder moveToCart(UUID itemId, Integer quantity)
             throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         // Get wishlist item
         WishlistItemEntity wishlistItem = wishlistItemRepo.findByWishlistIdAndUser(itemId, user)
@@ -217,15 +214,4 @@ public class WishlistServiceImpl implements WishlistService {
                 .outOfStockItems(outOfStockItems)
                 .build();
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.authentication_service.entity.Roles;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_events.category.entity.EventsCategoryEntity;
 import org.nextgate.nextgatebackend.e_events.category.payloads.CreateEventCategoryRequest;
 import org.nextgate.nextgatebackend.e_events.category.payloads.UpdateEventCategoryRequest;
@@ -14,12 +13,10 @@ import org.nextgate.nextgatebackend.e_events.category.utils.CategorySeeder;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,14 +29,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class EventCategoryServiceImpl implements EventsCategoryService {
 
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final EventsCategoryRepository categoryRepository;
 
     @Override
     @Transactional
     public EventsCategoryEntity createCategory(CreateEventCategoryRequest createEventCategoryRequest) throws AccessDeniedException, ItemNotFoundException, ItemReadyExistException {
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // Step 2: Validate user has permission
         validateRole(currentUser, "ROLE_STAFF_ADMIN", "ROLE_SUPER_ADMIN");
@@ -93,7 +90,7 @@ public class EventCategoryServiceImpl implements EventsCategoryService {
     public EventsCategoryEntity updateCategory(UUID categoryId, UpdateEventCategoryRequest updateRequest) throws ItemNotFoundException, AccessDeniedException, ItemReadyExistException {
 
         // Step 1: Get an authenticated user
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // Step 2: Validate user has permission
         validateRole(currentUser, "ROLE_STAFF_ADMIN", "ROLE_SUPER_ADMIN");
@@ -195,7 +192,7 @@ public class EventCategoryServiceImpl implements EventsCategoryService {
     @Override
     @Transactional
     public List<EventsCategoryEntity> seedCategories() throws ItemNotFoundException, AccessDeniedException {
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
         validateRole(currentUser, "ROLE_STAFF_ADMIN", "ROLE_SUPER_ADMIN");
 
         List<EventsCategoryEntity> defaultCategories = CategorySeeder.getDefaultCategories();
@@ -230,17 +227,6 @@ public class EventCategoryServiceImpl implements EventsCategoryService {
                 .replaceAll("^-|-$", ""); // Remove leading/trailing hyphens
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     public void validateRole(AccountEntity account, String... requiredRoles) throws AccessDeniedException {
         if (account == null) {
             throw new AccessDeniedException("Account not found");
@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_events.events_mng.analytics.service.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.analytics.payload.*;
 import org.nextgate.nextgatebackend.e_events.events_mng.analytics.service.OrganizerAnalyticsService;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.EventBookingOrderEntity;
@@ -15,12 +14,10 @@ import org.nextgate.nextgatebackend.e_events.events_mng.events_core.repo.EventsR
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.utils.EventCapacityHelper;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,13 +36,13 @@ public class OrganizerAnalyticsServiceImpl implements OrganizerAnalyticsService
 
     private final EventsRepo eventsRepo;
     private final EventBookingOrderRepo bookingOrderRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     @Transactional(readOnly = true)
     public CollectionSummaryResponse getCollectionSummary() throws ItemNotFoundException {
 
-        AccountEntity organizer = getAuthenticatedAccount();
+        AccountEntity organizer = currentAccountProvider.getCurrentAccount();
         List<EventEntity> allEvents = eventsRepo.findByOrganizerAndIsDeletedFalse(organizer);
 
         Map<EventStatus, Long> eventsByStatus = allEvents.stream()
@@ -98,7 +95,7 @@ public class OrganizerAnalyticsServiceImpl implements OrganizerAnalyticsService
     public EventRevenueResponse getEventRevenue(String status, LocalDate startDate, LocalDate endDate, Pageable pageable)
             throws ItemNotFoundException {
 
-        AccountEntity organizer = getAuthenticatedAccount();
+        AccountEntity organizer = currentAccountProvider.getCurrentAccount();
         List<EventEntity> allEvents = eventsRepo.findByOrganizerAndIsDeletedFalse(organizer);
 
         List<EventEntity> filteredEvents = allEvents.stream()
@@ -137,7 +134,7 @@ public class OrganizerAnalyticsServiceImpl implements OrganizerAnalyticsService
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                 .orElseThrow(() -> new ItemNotFoundException("Event not found"));
 
-        AccountEntity organizer = getAuthenticatedAccount();
+        AccountEntity organizer = currentAccountProvider.getCurrentAccount();
         if (!event.getOrganizer().getId().equals(organizer.getId())) {
             throw new AccessDeniedException("Only event organizer can view analytics");
         }
@@ -218,7 +215,7 @@ public class OrganizerAnalyticsServiceImpl implements OrganizerAnalyticsService
     @Transactional(readOnly = true)
     public RevenueTrendResponse getRevenueTrends(String period, Integer year) throws ItemNotFoundException {
 
-        AccountEntity organizer = getAuthenticatedAccount();
+        AccountEntity organizer = currentAccountProvider.getCurrentAccount();
         List<EventEntity> allEvents = eventsRepo.findByOrganizerAndIsDeletedFalse(organizer);
 
         int targetYear = year != null ? year : LocalDate.now().getYear();
@@ -467,14 +464,4 @@ public class OrganizerAnalyticsServiceImpl implements OrganizerAnalyticsService
         if (start > list.size()) return new PageImpl<>(Collections.emptyList(), pageable, list.size());
         return new PageImpl<>(list.subList(start, end), pageable, list.size());
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            return accountRepo.findByUserName(userDetails.getUsername())
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_events.events_mng.attendee_mng.service.im
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.attendee_mng.enums.AbsenteeCategory;
 import org.nextgate.nextgatebackend.e_events.events_mng.attendee_mng.enums.AttendanceStatus;
 import org.nextgate.nextgatebackend.e_events.events_mng.attendee_mng.enums.DayStatus;
@@ -12,6 +11,7 @@ import org.nextgate.nextgatebackend.e_events.events_mng.attendee_mng.service.Att
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.EventBookingOrderEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.BookingStatus;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.EventBookingOrderRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.TicketInstanceRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventDayEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.repo.EventsRepo;
@@ -19,12 +19,10 @@ import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.entity.Ticket
 import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.repo.TicketRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,8 +37,9 @@ public class AttendanceAnalyticsServiceImpl implements AttendanceAnalyticsServic
 
     private final EventsRepo eventsRepo;
     private final EventBookingOrderRepo bookingOrderRepo;
+    private final TicketInstanceRepo ticketInstanceRepo;
     private final TicketRepo ticketRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     @Transactional(readOnly = true)
@@ -229,10 +228,11 @@ public class AttendanceAnalyticsServiceImpl implements AttendanceAnalyticsServic
 
         EventEntity event = fetchAndValidateEvent(eventId);
 
-        EventBookingOrderEntity booking = bookingOrderRepo.findAll().stream()
-                .filter(b -> b.getEvent().getId().equals(eventId))
-                .filter(b -> b.getBookedTickets().stream().anyMatch(t -> t.getTicketInstanceId().equals(ticketInstanceId)))
-                .findFirst()
+        // Index lookup; bookings not indexed yet by the backfill job fall back to the JSON search
+        EventBookingOrderEntity booking = ticketInstanceRepo.findByTicketInstanceIdAndEventId(ticketInstanceId, eventId)
+                .flatMap(instance -> bookingOrderRepo.findById(instance.getBookingId()))
+                .or(() -> bookingOrderRepo.findByTicketInstanceId(ticketInstanceId.toString())
+                        .filter(b -> b.getEvent().getId().equals(eventId)))
                 .orElseThrow(() -> new ItemNotFoundException("Ticket not found"));
 
         EventBookingOrderEntity.BookedTicket ticket = booking.getBookedTickets().stream()
@@ -264,7 +264,7 @@ public class AttendanceAnalyticsServiceImpl implements AttendanceAnalyticsServic
     private EventEntity fetchAndValidateEvent(UUID eventId) throws ItemNotFoundException, AccessDeniedException {
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                 .orElseThrow(() -> new ItemNotFoundException("Event not found"));
-        validateEventOwnership(event, getAuthenticatedAccount());
+        validateEventOwnership(event, currentAccountProvider.getCurrentAccount());
         return event;
     }
 
@@ -532,16 +532,6 @@ public class AttendanceAnalyticsServiceImpl implements AttendanceAnalyticsServic
                 .hasNext(page.hasNext()).hasPrevious(page.hasPrevious()).build();
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            return accountRepo.findByUserName(userDetails.getUsername())
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     private void validateEventOwnership(EventEntity event, AccountEntity user) throws AccessDeniedException {
         if (!event.getOrganizer().getId().equals(user.getId())) {
             throw new AccessDeniedException("Only event organizer can view attendance");
@@ -0,0 +1,95 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.contoller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineManifest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineManifestRequest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineSyncRequest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineSyncResponse;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service.OfflineSyncService;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.utils.OfflineManifestWriter;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/e-events/check-in/offline")
+@RequiredArgsConstructor
+public class OfflineSyncController {
+
+    private final OfflineSyncService offlineSyncService;
+
+    /**
+     * Download the ticket manifest for offline validation
+     *
+     * POST /api/v1/e-events/check-in/offline/manifest
+     *
+     * Request Body:
+     * {
+     *   "scannerId": "scanner-uuid-123",
+     *   "deviceFingerprint": "abc123def456",
+     *   "since": "2025-06-01T10:00:00Z",   (optional, generatedAt of the previous manifest)
+     *   "full": false                       (optional)
+     * }
+     *
+     * Response: gzipped binary manifest (see OfflineManifestWriter)
+     * Header X-Manifest-Generated-At carries the value to send as "since" next time
+     */
+    @PostMapping("/manifest")
+    public ResponseEntity<StreamingResponseBody> downloadManifest(
+            @Valid @RequestBody OfflineManifestRequest request)
+            throws ItemNotFoundException {
+
+        log.info("Offline manifest request from scanner: {}", request.getScannerId());
+
+        OfflineManifest manifest = offlineSyncService.getManifest(request);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(OfflineManifestWriter.CONTENT_TYPE))
+                .header("X-Manifest-Generated-At", manifest.getGeneratedAt().toString())
+                .header("X-Manifest-Full", String.valueOf(manifest.isFull()))
+                .body(outputStream -> OfflineManifestWriter.write(manifest, outputStream));
+    }
+
+    /**
+     * Upload check-ins admitted while offline
+     *
+     * POST /api/v1/e-events/check-in/offline/sync
+     *
+     * Request Body:
+     * {
+     *   "scannerId": "scanner-uuid-123",
+     *   "deviceFingerprint": "abc123def456",
+     *   "scans": [
+     *     { "ticketInstanceId": "...", "dayName": "Day 1", "checkInTime": "...", "checkInLocation": "Gate A" }
+     *   ]
+     * }
+     *
+     * Response data: counts plus the scans flagged as DUPLICATE / NOT_FOUND / REVOKED
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<GlobeSuccessResponseBuilder> syncCheckIns(
+            @Valid @RequestBody OfflineSyncRequest request)
+            throws ItemNotFoundException {
+
+        log.info("Offline sync request from scanner: {}", request.getScannerId());
+
+        OfflineSyncResponse response = offlineSyncService.syncCheckIns(request);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(GlobeSuccessResponseBuilder.builder()
+                        .success(true)
+                        .httpStatus(HttpStatus.OK)
+                        .message(String.format("Synced %d scans: %d accepted, %d duplicates",
+                                response.getReceived(), response.getAccepted(), response.getDuplicates()))
+                        .data(response)
+                        .build());
+    }
+}
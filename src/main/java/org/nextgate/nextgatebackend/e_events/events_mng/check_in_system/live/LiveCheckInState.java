@@ -0,0 +1,320 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.live;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.EventBookingOrderEntity;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.BookingStatus;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.EventBookingOrderRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.utils.BookedTicketsJsonConverter;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventDayEntity;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live event mode for gate scanning
+ *
+ * On the first scan of an event, every ticket of its confirmed bookings is loaded into memory
+ * with one check-in slot per event day. Duplicate detection is a compare-and-set on that slot,
+ * so concurrent scans of the same ticket can never both be admitted.
+ *
+ * Accepted check-ins go to a write-behind log that is appended to the bookings' booked_tickets
+ * in batches every second. Each append is a conditional update of the one ticket's check-ins,
+ * so concurrent changes to the same booking are never overwritten.
+ *
+ * State is per instance: scanners of one event must reach the same instance
+ * (sticky routing) for duplicate detection to hold across gates. Off by default;
+ * enable app.check-in.live-mode.enabled only on a single node or behind sticky routing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveCheckInState {
+
+    private final EventBookingOrderRepo bookingOrderRepo;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ConcurrentHashMap<UUID, EventState> events = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PendingCheckIn> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    @Value("${app.check-in.live-mode.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.check-in.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    // Events without scans for this long are dropped from memory
+    @Value("${app.check-in.live-idle-minutes:120}")
+    private long idleMinutes;
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-check-in-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Persist remaining check-ins before the datasource goes away
+        flushQuietly();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Check in a ticket for one event day against the in-memory state
+     * Loads the event's tickets on first use (must run inside a transaction)
+     *
+     * @return result of the check-in, or empty when the ticket or day is not in the live state
+     */
+    public Optional<LiveCheckInResult> tryCheckIn(
+            EventEntity event,
+            UUID ticketInstanceId,
+            EventBookingOrderEntity.BookedTicket.CheckInRecord checkIn) {
+
+        EventState state = events.computeIfAbsent(event.getId(), eventId -> load(event));
+        state.touch();
+
+        TicketSlot slot = state.tickets.get(ticketInstanceId);
+        Integer dayIndex = state.dayIndexes.get(checkIn.getDayName());
+
+        if (slot == null || dayIndex == null) {
+            return Optional.empty();
+        }
+
+        if (slot.checkIns.compareAndSet(dayIndex, null, checkIn)) {
+            pending.add(new PendingCheckIn(slot.bookingId, ticketInstanceId, checkIn));
+            return Optional.of(new LiveCheckInResult(slot.ticket, true, null));
+        }
+
+        return Optional.of(new LiveCheckInResult(slot.ticket, false, slot.checkIns.get(dayIndex)));
+    }
+
+    /**
+     * Add the tickets of a confirmed booking created after the event was loaded
+     * Tickets already in the live state keep their slots
+     */
+    public void register(EventBookingOrderEntity booking) {
+        if (booking.getStatus() != BookingStatus.CONFIRMED) {
+            return;
+        }
+        EventState state = events.get(booking.getEvent().getId());
+        if (state != null) {
+            state.addBooking(booking);
+        }
+    }
+
+    // ========================================
+    // LOADING
+    // ========================================
+
+    private EventState load(EventEntity event) {
+        long startedAt = System.currentTimeMillis();
+
+        EventState state = new EventState(dayNames(event));
+        bookingOrderRepo.findByEventAndStatus(event, BookingStatus.CONFIRMED)
+                .forEach(state::addBooking);
+
+        // Check-ins accepted before an idle eviction may not be persisted yet
+        for (PendingCheckIn checkIn : pending) {
+            state.markCheckedIn(checkIn.ticketInstanceId(), checkIn.checkIn());
+        }
+
+        log.info("Live check-in state loaded for event {}: {} tickets in {} ms",
+                event.getId(), state.tickets.size(), System.currentTimeMillis() - startedAt);
+        return state;
+    }
+
+    /**
+     * Day names in the same form as the eventSchedules claim of the ticket JWT
+     */
+    private List<String> dayNames(EventEntity event) {
+        if (event.getDays() != null && !event.getDays().isEmpty()) {
+            return event.getDays().stream()
+                    .map(EventDayEntity::getDescription)
+                    .toList();
+        }
+        return List.of("Day 1");
+    }
+
+    // ========================================
+    // WRITE-BEHIND
+    // ========================================
+
+    private void flushQuietly() {
+        try {
+            flush();
+            evictIdleEvents();
+        } catch (Exception e) {
+            log.error("Live check-in flush failed", e);
+        }
+    }
+
+    private void flush() {
+        flushLock.lock();
+        try {
+            List<PendingCheckIn> batch = new ArrayList<>();
+            PendingCheckIn next;
+            while ((next = pending.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> persist(batch));
+                log.debug("Persisted {} live check-ins", batch.size());
+            } catch (RuntimeException e) {
+                // Back in the log for the next flush; persist() skips days already recorded
+                pending.addAll(batch);
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void persist(List<PendingCheckIn> batch) {
+        for (PendingCheckIn checkIn : batch) {
+            int appended = bookingOrderRepo.appendCheckIn(
+                    checkIn.bookingId(),
+                    checkIn.ticketInstanceId().toString(),
+                    checkIn.checkIn().getDayName(),
+                    BookedTicketsJsonConverter.checkInToJson(checkIn.checkIn()));
+
+            if (appended == 0) {
+                log.warn("Ticket {} already checked in for {} or not in its booking - dropping live check-in",
+                        checkIn.ticketInstanceId(), checkIn.checkIn().getDayName());
+            }
+        }
+    }
+
+    private void evictIdleEvents() {
+        long idleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(idleMinutes);
+        events.entrySet().removeIf(entry -> entry.getValue().lastScanAt < idleBefore);
+    }
+
+    // ========================================
+    // STATE
+    // ========================================
+
+    private static final class EventState {
+
+        private final Map<String, Integer> dayIndexes;
+        private final int dayCount;
+        private final ConcurrentHashMap<UUID, TicketSlot> tickets = new ConcurrentHashMap<>();
+        private volatile long lastScanAt = System.currentTimeMillis();
+
+        EventState(List<String> dayNames) {
+            Map<String, Integer> indexes = new HashMap<>();
+            for (int i = 0; i < dayNames.size(); i++) {
+                indexes.putIfAbsent(dayNames.get(i), i);
+            }
+            this.dayIndexes = Map.copyOf(indexes);
+            this.dayCount = dayNames.size();
+        }
+
+        void touch() {
+            lastScanAt = System.currentTimeMillis();
+        }
+
+        void addBooking(EventBookingOrderEntity booking) {
+            for (EventBookingOrderEntity.BookedTicket ticket : booking.getBookedTickets()) {
+                TicketSlot slot = new TicketSlot(booking.getBookingId(), displayCopy(ticket), dayCount);
+                if (tickets.putIfAbsent(ticket.getTicketInstanceId(), slot) != null) {
+                    continue;
+                }
+                if (ticket.getCheckIns() != null) {
+                    ticket.getCheckIns().forEach(checkIn -> markCheckedIn(ticket.getTicketInstanceId(), checkIn));
+                }
+            }
+        }
+
+        void markCheckedIn(UUID ticketInstanceId, EventBookingOrderEntity.BookedTicket.CheckInRecord checkIn) {
+            TicketSlot slot = tickets.get(ticketInstanceId);
+            Integer dayIndex = dayIndexes.get(checkIn.getDayName());
+            if (slot != null && dayIndex != null) {
+                // Keep the first check-in of the day, as the database path does
+                slot.checkIns.compareAndSet(dayIndex, null, checkIn);
+            }
+        }
+
+        /**
+         * Fields needed for scan responses only; the JWT and QR strings stay in the database
+         */
+        private static EventBookingOrderEntity.BookedTicket displayCopy(EventBookingOrderEntity.BookedTicket ticket) {
+            return EventBookingOrderEntity.BookedTicket.builder()
+                    .ticketInstanceId(ticket.getTicketInstanceId())
+                    .ticketTypeId(ticket.getTicketTypeId())
+                    .ticketTypeName(ticket.getTicketTypeName())
+                    .ticketSeries(ticket.getTicketSeries())
+                    .attendeeName(ticket.getAttendeeName())
+                    .attendeeEmail(ticket.getAttendeeEmail())
+                    .status(ticket.getStatus())
+                    .build();
+        }
+    }
+
+    /**
+     * One ticket: the first check-in per event day, null until the ticket is admitted that day
+     */
+    private static final class TicketSlot {
+
+        private final UUID bookingId;
+        private final EventBookingOrderEntity.BookedTicket ticket;
+        private final AtomicReferenceArray<EventBookingOrderEntity.BookedTicket.CheckInRecord> checkIns;
+
+        TicketSlot(UUID bookingId, EventBookingOrderEntity.BookedTicket ticket, int dayCount) {
+            this.bookingId = bookingId;
+            this.ticket = ticket;
+            this.checkIns = new AtomicReferenceArray<>(dayCount);
+        }
+    }
+
+    private record PendingCheckIn(
+            UUID bookingId,
+            UUID ticketInstanceId,
+            EventBookingOrderEntity.BookedTicket.CheckInRecord checkIn) {
+    }
+
+    /**
+     * Outcome of a live check-in
+     *
+     * @param ticket           display fields of the scanned ticket
+     * @param admitted         true when this scan is the first for the day
+     * @param previousCheckIn  the check-in that admitted the ticket earlier, when not admitted
+     */
+    public record LiveCheckInResult(
+            EventBookingOrderEntity.BookedTicket ticket,
+            boolean admitted,
+            EventBookingOrderEntity.BookedTicket.CheckInRecord previousCheckIn) {
+    }
+}
@@ -0,0 +1,41 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ticket manifest for scanners working offline
+ * Written to the scanner as a gzipped binary stream by OfflineManifestWriter
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineManifest {
+
+    private UUID eventId;
+
+    /**
+     * Pass back as "since" on the next manifest request to get a delta
+     */
+    private Instant generatedAt;
+
+    /**
+     * true = replaces the scanner's list, false = delta on top of it
+     */
+    private boolean full;
+
+    /**
+     * Event public key (Base64 X.509) for offline JWT verification
+     */
+    private String publicKey;
+
+    private List<UUID> validTicketIds;
+    private List<UUID> revokedTicketIds;
+}
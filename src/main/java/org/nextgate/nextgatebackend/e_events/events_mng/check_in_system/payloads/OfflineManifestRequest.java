@@ -0,0 +1,42 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Request DTO for downloading the offline ticket manifest
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineManifestRequest {
+
+    /**
+     * Scanner ID requesting the manifest
+     */
+    @NotBlank(message = "Scanner ID is required")
+    private String scannerId;
+
+    /**
+     * Device fingerprint (for security validation)
+     */
+    @NotBlank(message = "Device fingerprint is required")
+    private String deviceFingerprint;
+
+    /**
+     * Optional: generatedAt of the manifest the scanner already holds
+     * Defaults to the scanner's lastSyncedAt; ignored when full = true
+     */
+    private Instant since;
+
+    /**
+     * Optional: request the complete manifest instead of a delta
+     */
+    private Boolean full;
+}
@@ -0,0 +1,72 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for uploading check-ins a scanner admitted while offline
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineSyncRequest {
+
+    /**
+     * Scanner ID uploading the scans
+     */
+    @NotBlank(message = "Scanner ID is required")
+    private String scannerId;
+
+    /**
+     * Device fingerprint (for security validation)
+     */
+    @NotBlank(message = "Device fingerprint is required")
+    private String deviceFingerprint;
+
+    /**
+     * Queued scans, in any order
+     */
+    @NotEmpty(message = "At least one scan is required")
+    private List<@Valid OfflineScan> scans;
+
+    /**
+     * A single check-in admitted offline
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OfflineScan {
+
+        @NotNull(message = "Ticket instance ID is required")
+        private UUID ticketInstanceId;
+
+        /**
+         * Event day from the ticket's eventSchedules claim
+         */
+        @NotBlank(message = "Day name is required")
+        private String dayName;
+
+        /**
+         * When the scanner admitted the ticket
+         */
+        @NotNull(message = "Check-in time is required")
+        private ZonedDateTime checkInTime;
+
+        /**
+         * Optional: Gate/location name where scan happened
+         */
+        private String checkInLocation;
+    }
+}
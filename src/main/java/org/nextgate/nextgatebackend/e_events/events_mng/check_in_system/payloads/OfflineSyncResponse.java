@@ -0,0 +1,48 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.enums.TicketValidationStatus;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for an offline sync upload
+ * Only scans that were not recorded are listed individually
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineSyncResponse {
+
+    private Integer received;
+    private Integer accepted;
+    private Integer duplicates;
+    private Integer notFound;
+
+    /**
+     * Scans flagged during sync (DUPLICATE, NOT_FOUND, REVOKED)
+     */
+    private List<FlaggedScan> flagged;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FlaggedScan {
+        private UUID ticketInstanceId;
+        private String dayName;
+        private TicketValidationStatus status;
+        private ZonedDateTime checkInTime;
+
+        // The check-in that was recorded first (for DUPLICATE)
+        private ZonedDateTime previousCheckInTime;
+        private String previousCheckInLocation;
+        private String previousScannerId;
+    }
+}
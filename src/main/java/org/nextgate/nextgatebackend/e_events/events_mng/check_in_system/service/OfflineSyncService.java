@@ -0,0 +1,38 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service;
+
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineManifest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineManifestRequest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineSyncRequest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineSyncResponse;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+
+/**
+ * Service for scanners working offline
+ */
+public interface OfflineSyncService {
+
+    /**
+     * Build the ticket manifest for the scanner's event
+     * Full on first download (or when requested), otherwise a delta since the last one
+     *
+     * @param request Scanner credentials and delta point
+     * @return Manifest of valid and revoked ticket ids with the event public key
+     * @throws ItemNotFoundException if scanner not found
+     */
+    OfflineManifest getManifest(OfflineManifestRequest request) throws ItemNotFoundException;
+
+    /**
+     * Record check-ins a scanner admitted offline
+     *
+     * Flow:
+     * 1. Validate scanner (active, device fingerprint match)
+     * 2. De-duplicate the batch (earliest scan per ticket and day wins)
+     * 3. Record each scan unless the ticket was already checked in for that day
+     * 4. Flag duplicates (two gates admitted the same ticket), unknown and revoked tickets
+     *
+     * @param request Scanner credentials and queued scans
+     * @return Sync summary with flagged scans
+     * @throws ItemNotFoundException if scanner not found
+     */
+    OfflineSyncResponse syncCheckIns(OfflineSyncRequest request) throws ItemNotFoundException;
+}
@@ -0,0 +1,348 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.entity.ScannerEntity;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.enums.TicketValidationStatus;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.live.LiveCheckInState;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineManifest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineManifestRequest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineSyncRequest;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineSyncResponse;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service.OfflineSyncService;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service.ScannerService;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.utils.ScannerValidator;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.EventBookingOrderEntity;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.TicketInstanceEntity;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.BookingStatus;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.TicketInstanceStatus;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.EventBookingOrderRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.TicketInstanceRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.utils.BookedTicketsJsonConverter;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
+import org.nextgate.nextgatebackend.globe_crypto.RSAKeyService;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for offline scanners: ticket manifest download and bulk check-in sync
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OfflineSyncServiceImpl implements OfflineSyncService {
+
+    private static final String OFFLINE_CHECK_IN_METHOD = "QR_SCAN_OFFLINE";
+
+    // Delta windows overlap a little so bookings committing during the last download are not missed
+    private static final long DELTA_OVERLAP_SECONDS = 60;
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ScannerService scannerService;
+    private final ScannerValidator scannerValidator;
+    private final TicketInstanceRepo ticketInstanceRepo;
+    private final EventBookingOrderRepo bookingOrderRepo;
+    private final LiveCheckInState liveCheckInState;
+    private final RSAKeyService rsaKeyService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.check-in.sync.max-scans:10000}")
+    private int maxScansPerSync;
+
+    @Override
+    @Transactional
+    public OfflineManifest getManifest(OfflineManifestRequest request) throws ItemNotFoundException {
+
+        ScannerEntity scanner = validateScanner(request.getScannerId(), request.getDeviceFingerprint());
+        EventEntity event = scanner.getEvent();
+
+        Instant generatedAt = Instant.now();
+        Instant since = Boolean.TRUE.equals(request.getFull())
+                ? null
+                : request.getSince() != null ? request.getSince() : scanner.getLastSyncedAt();
+        boolean full = since == null;
+
+        LocalDateTime sinceTime = full
+                ? BEGINNING
+                : LocalDateTime.ofInstant(since.minus(DELTA_OVERLAP_SECONDS, ChronoUnit.SECONDS), ZoneId.systemDefault());
+
+        List<UUID> validTicketIds = ticketInstanceRepo.findValidTicketIdsSince(
+                event.getId(), TicketInstanceStatus.ACTIVE, BookingStatus.CONFIRMED, sinceTime);
+        List<UUID> revokedTicketIds = ticketInstanceRepo.findRevokedTicketIdsSince(
+                event.getId(), TicketInstanceStatus.CANCELLED, BookingStatus.CANCELLED, sinceTime);
+
+        scanner.updateSyncTime();
+
+        log.info("Offline manifest for scanner {}: {} valid, {} revoked ({})",
+                scanner.getScannerId(), validTicketIds.size(), revokedTicketIds.size(), full ? "full" : "delta");
+
+        return OfflineManifest.builder()
+                .eventId(event.getId())
+                .generatedAt(generatedAt)
+                .full(full)
+                .publicKey(rsaKeyService.getPublicKeyBase64(event.getRsaKeys()))
+                .validTicketIds(validTicketIds)
+                .revokedTicketIds(revokedTicketIds)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public OfflineSyncResponse syncCheckIns(OfflineSyncRequest request) throws ItemNotFoundException {
+
+        if (request.getScans().size() > maxScansPerSync) {
+            throw new IllegalArgumentException("Too many scans in one sync. Maximum: " + maxScansPerSync);
+        }
+
+        ScannerEntity scanner = validateScanner(request.getScannerId(), request.getDeviceFingerprint());
+        EventEntity event = scanner.getEvent();
+
+        log.info("Offline sync from scanner {}: {} scans", scanner.getScannerId(), request.getScans().size());
+
+        // Earliest scan per ticket and day; repeats from the same queue are not conflicts
+        Map<ScanKey, OfflineSyncRequest.OfflineScan> earliest = new HashMap<>();
+        for (OfflineSyncRequest.OfflineScan scan : request.getScans()) {
+            earliest.merge(new ScanKey(scan.getTicketInstanceId(), scan.getDayName()), scan,
+                    (a, b) -> a.getCheckInTime().isAfter(b.getCheckInTime()) ? b : a);
+        }
+
+        List<OfflineSyncRequest.OfflineScan> scans = earliest.values().stream()
+                .sorted(Comparator.comparing(OfflineSyncRequest.OfflineScan::getCheckInTime))
+                .toList();
+
+        Map<UUID, TicketInstanceEntity> instances = ticketInstanceRepo.findAllById(
+                        scans.stream().map(OfflineSyncRequest.OfflineScan::getTicketInstanceId).collect(Collectors.toSet()))
+                .stream()
+                .filter(instance -> instance.getEventId().equals(event.getId()))
+                .collect(Collectors.toMap(TicketInstanceEntity::getTicketInstanceId, Function.identity()));
+
+        SyncTally tally = new SyncTally();
+
+        List<OfflineSyncRequest.OfflineScan> known = new ArrayList<>();
+        for (OfflineSyncRequest.OfflineScan scan : scans) {
+            TicketInstanceEntity instance = instances.get(scan.getTicketInstanceId());
+            if (instance == null) {
+                tally.flag(scan, TicketValidationStatus.NOT_FOUND, null);
+            } else if (instance.getStatus() == TicketInstanceStatus.CANCELLED) {
+                tally.flag(scan, TicketValidationStatus.REVOKED, null);
+            } else {
+                known.add(scan);
+            }
+        }
+
+        if (liveCheckInState.isEnabled()) {
+            recordThroughLiveState(known, event, scanner, tally);
+        } else {
+            recordInBookings(known, instances, scanner, tally);
+        }
+
+        for (int i = 0; i < scans.size(); i++) {
+            scanner.recordScan(i < tally.accepted);
+        }
+
+        log.info("Offline sync from scanner {} done: {} accepted, {} duplicates, {} not found",
+                scanner.getScannerId(), tally.accepted, tally.duplicates, tally.notFound);
+
+        return OfflineSyncResponse.builder()
+                .received(request.getScans().size())
+                .accepted(tally.accepted)
+                .duplicates(tally.duplicates)
+                .notFound(tally.notFound)
+                .flagged(tally.flagged)
+                .build();
+    }
+
+    // ========================================
+    // PRIVATE HELPER METHODS
+    // ========================================
+
+    private ScannerEntity validateScanner(String scannerId, String deviceFingerprint) throws ItemNotFoundException {
+        ScannerEntity scanner = scannerService.getByScannerId(scannerId);
+        scannerValidator.validateForScanning(scanner);
+        scannerValidator.validateDeviceFingerprint(scanner, deviceFingerprint);
+        return scanner;
+    }
+
+    /**
+     * Same compare-and-set as online scans, so offline and online gates agree on who was first
+     */
+    private void recordThroughLiveState(
+            List<OfflineSyncRequest.OfflineScan> scans,
+            EventEntity event,
+            ScannerEntity scanner,
+            SyncTally tally) {
+
+        for (OfflineSyncRequest.OfflineScan scan : scans) {
+            Optional<LiveCheckInState.LiveCheckInResult> result =
+                    liveCheckInState.tryCheckIn(event, scan.getTicketInstanceId(), buildCheckInRecord(scan, scanner));
+
+            if (result.isEmpty()) {
+                // Booked after the live state was loaded, or not a confirmed booking
+                EventBookingOrderEntity booking = ticketInstanceRepo.findById(scan.getTicketInstanceId())
+                        .flatMap(instance -> bookingOrderRepo.findById(instance.getBookingId()))
+                        .orElse(null);
+                if (booking != null && booking.getStatus() != BookingStatus.CONFIRMED) {
+                    tally.flag(scan, TicketValidationStatus.REVOKED, null);
+                    continue;
+                }
+                if (booking != null) {
+                    liveCheckInState.register(booking);
+                    result = liveCheckInState.tryCheckIn(event, scan.getTicketInstanceId(), buildCheckInRecord(scan, scanner));
+                }
+            }
+
+            if (result.isEmpty()) {
+                tally.flag(scan, TicketValidationStatus.NOT_FOUND, null);
+            } else if (result.get().admitted() || isSameScan(result.get().previousCheckIn(), scan, scanner)) {
+                tally.accepted++;
+            } else {
+                tally.flag(scan, TicketValidationStatus.DUPLICATE, result.get().previousCheckIn());
+            }
+        }
+    }
+
+    /**
+     * Direct write when live mode is off: the bookings are loaded once for the checks, and each
+     * check-in is a conditional append, so a gate scanning the same ticket meanwhile is not overwritten
+     */
+    private void recordInBookings(
+            List<OfflineSyncRequest.OfflineScan> scans,
+            Map<UUID, TicketInstanceEntity> instances,
+            ScannerEntity scanner,
+            SyncTally tally) {
+
+        Set<UUID> bookingIds = scans.stream()
+                .map(scan -> instances.get(scan.getTicketInstanceId()).getBookingId())
+                .collect(Collectors.toSet());
+
+        Map<UUID, EventBookingOrderEntity> bookings = bookingOrderRepo.findAllById(bookingIds).stream()
+                .collect(Collectors.toMap(EventBookingOrderEntity::getBookingId, Function.identity()));
+
+        for (OfflineSyncRequest.OfflineScan scan : scans) {
+            EventBookingOrderEntity booking = bookings.get(instances.get(scan.getTicketInstanceId()).getBookingId());
+
+            EventBookingOrderEntity.BookedTicket ticket = findTicket(booking, scan.getTicketInstanceId());
+
+            if (ticket == null) {
+                tally.flag(scan, TicketValidationStatus.NOT_FOUND, null);
+                continue;
+            }
+
+            if (booking.getStatus() == BookingStatus.CANCELLED) {
+                tally.flag(scan, TicketValidationStatus.REVOKED, null);
+                continue;
+            }
+
+            if (!ticket.isCheckedInForDay(scan.getDayName())) {
+                int appended = bookingOrderRepo.appendCheckIn(
+                        booking.getBookingId(),
+                        scan.getTicketInstanceId().toString(),
+                        scan.getDayName(),
+                        BookedTicketsJsonConverter.checkInToJson(buildCheckInRecord(scan, scanner)));
+                if (appended == 1) {
+                    tally.accepted++;
+                    continue;
+                }
+
+                // Checked in by someone else since the booking was loaded: compare with what they stored
+                entityManager.refresh(booking);
+                ticket = findTicket(booking, scan.getTicketInstanceId());
+            }
+
+            EventBookingOrderEntity.BookedTicket.CheckInRecord previous = ticket == null ? null
+                    : ticket.getCheckInsForDay(scan.getDayName()).stream().findFirst().orElse(null);
+            if (isSameScan(previous, scan, scanner)) {
+                tally.accepted++;
+            } else {
+                tally.flag(scan, TicketValidationStatus.DUPLICATE, previous);
+            }
+        }
+    }
+
+    private EventBookingOrderEntity.BookedTicket findTicket(EventBookingOrderEntity booking, UUID ticketInstanceId) {
+        return booking == null ? null : booking.getBookedTickets().stream()
+                .filter(t -> t.getTicketInstanceId().equals(ticketInstanceId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * A retried upload finds its own earlier record; that is not a conflict
+     */
+    private boolean isSameScan(
+            EventBookingOrderEntity.BookedTicket.CheckInRecord previous,
+            OfflineSyncRequest.OfflineScan scan,
+            ScannerEntity scanner) {
+
+        return previous != null
+                && scanner.getScannerId().equals(previous.getScannerId())
+                && previous.getCheckInTime() != null
+                && previous.getCheckInTime().isEqual(scan.getCheckInTime());
+    }
+
+    private EventBookingOrderEntity.BookedTicket.CheckInRecord buildCheckInRecord(
+            OfflineSyncRequest.OfflineScan scan,
+            ScannerEntity scanner) {
+
+        return EventBookingOrderEntity.BookedTicket.CheckInRecord.builder()
+                .checkInTime(scan.getCheckInTime())
+                .checkInLocation(scan.getCheckInLocation() != null
+                        ? scan.getCheckInLocation()
+                        : scanner.getName())
+                .checkedInBy(scanner.getName())
+                .dayName(scan.getDayName())
+                .scannerId(scanner.getScannerId())
+                .checkInMethod(OFFLINE_CHECK_IN_METHOD)
+                .build();
+    }
+
+    // ========================================
+    // HELPER CLASSES
+    // ========================================
+
+    private record ScanKey(UUID ticketInstanceId, String dayName) {
+    }
+
+    private static class SyncTally {
+        private int accepted;
+        private int duplicates;
+        private int notFound;
+        private final List<OfflineSyncResponse.FlaggedScan> flagged = new ArrayList<>();
+
+        void flag(OfflineSyncRequest.OfflineScan scan,
+                  TicketValidationStatus status,
+                  EventBookingOrderEntity.BookedTicket.CheckInRecord previous) {
+
+            if (status == TicketValidationStatus.DUPLICATE) {
+                duplicates++;
+            } else if (status == TicketValidationStatus.NOT_FOUND) {
+                notFound++;
+            }
+
+            flagged.add(OfflineSyncResponse.FlaggedScan.builder()
+                    .ticketInstanceId(scan.getTicketInstanceId())
+                    .dayName(scan.getDayName())
+                    .status(status)
+                    .checkInTime(scan.getCheckInTime())
+                    .previousCheckInTime(previous != null ? previous.getCheckInTime() : null)
+                    .previousCheckInLocation(previous != null ? previous.getCheckInLocation() : null)
+                    .previousScannerId(previous != null ? previous.getScannerId() : null)
+                    .build());
+        }
+    }
+}
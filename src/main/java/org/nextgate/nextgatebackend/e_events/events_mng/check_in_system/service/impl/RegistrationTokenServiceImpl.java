@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.entity.RegistrationTokenEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.GenerateRegistrationTokenRequest;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.repo.RegistrationTokenRepository;
@@ -13,10 +12,8 @@ import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.Event
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.repo.EventsRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,7 +29,7 @@ public class RegistrationTokenServiceImpl implements RegistrationTokenService {
 
     private final RegistrationTokenRepository registrationTokenRepo;
     private final EventsRepo eventsRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final RegistrationTokenValidator tokenValidator;
 
     @Value("${scanner.token.registration.expiry.minutes}")
@@ -45,7 +42,7 @@ public class RegistrationTokenServiceImpl implements RegistrationTokenService {
         log.info("Generating registration token for event: {}", request.getEventId());
 
         // Get an authenticated user
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // Fetch event
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(request.getEventId())
@@ -98,7 +95,7 @@ public class RegistrationTokenServiceImpl implements RegistrationTokenService {
     public List<RegistrationTokenEntity> getTokensForEvent(UUID eventId) throws ItemNotFoundException, AccessDeniedException {
         log.debug("Fetching all registration tokens for event: {}", eventId);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                 .orElseThrow(() -> new ItemNotFoundException("Event not found: " + eventId));
@@ -112,7 +109,7 @@ public class RegistrationTokenServiceImpl implements RegistrationTokenService {
     public List<RegistrationTokenEntity> getActiveTokensForEvent(UUID eventId) throws AccessDeniedException, ItemNotFoundException {
         log.debug("Fetching active registration tokens for event: {}", eventId);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                 .orElseThrow(() -> new ItemNotFoundException("Event not found: " + eventId));
@@ -151,20 +148,6 @@ public class RegistrationTokenServiceImpl implements RegistrationTokenService {
     // PRIVATE HELPER METHODS
     // ========================================
 
-    /**
-     * Get authenticated account
-     */
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     /**
      * Validate that current user is the event organizer
      */
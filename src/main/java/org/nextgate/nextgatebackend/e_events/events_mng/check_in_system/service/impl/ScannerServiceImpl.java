@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.entity.RegistrationTokenEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.entity.ScannerEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.enums.ScannerStatus;
@@ -20,9 +19,7 @@ import org.nextgate.nextgatebackend.globe_crypto.RSAKeyService;
 import org.nextgate.nextgatebackend.globe_crypto.TicketJWTService;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +37,7 @@ public class ScannerServiceImpl implements ScannerService {
 
     private final ScannerRepository scannerRepo;
     private final EventsRepo eventsRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final RegistrationTokenService registrationTokenService;
     private final RSAKeyService rsaKeyService;
     private final TicketJWTService ticketJWTService;
@@ -113,7 +110,7 @@ public class ScannerServiceImpl implements ScannerService {
     public List<ScannerEntity> getScannersForEvent(UUID eventId) throws ItemNotFoundException, AccessDeniedException {
         log.debug("Fetching all scanners for event: {}", eventId);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                 .orElseThrow(() -> new ItemNotFoundException("Event not found: " + eventId));
@@ -129,7 +126,7 @@ public class ScannerServiceImpl implements ScannerService {
     public void revokeScanner(String scannerId, String reason) throws ItemNotFoundException, AccessDeniedException {
         log.warn("Revoking scanner: {} for reason: {}", scannerId, reason);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         ScannerEntity scanner = getByScannerId(scannerId);
 
@@ -147,7 +144,7 @@ public class ScannerServiceImpl implements ScannerService {
     public List<ScannerEntity> getActiveScannersForEvent(UUID eventId) throws ItemNotFoundException, AccessDeniedException {
         log.debug("Fetching active scanners for event: {}", eventId);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                 .orElseThrow(() -> new ItemNotFoundException("Event not found: " + eventId));
@@ -237,20 +234,6 @@ public class ScannerServiceImpl implements ScannerService {
                 .build();
     }
 
-    /**
-     * Get authenticated account
-     */
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     /**
      * Validate that current user is the event organizer
      */
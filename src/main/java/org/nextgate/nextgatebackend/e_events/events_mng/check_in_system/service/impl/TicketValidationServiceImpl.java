@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.entity.ScannerEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.enums.TicketValidationStatus;
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.live.LiveCheckInState;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.ValidateTicketRequest;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.ValidateTicketResponse;
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service.ScannerService;
@@ -11,6 +12,7 @@ import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.service.
 import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.utils.ScannerValidator;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.EventBookingOrderEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.EventBookingOrderRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.TicketInstanceRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.enums.CheckInWindowStrategy;
 import org.nextgate.nextgatebackend.globe_crypto.TicketJWTService;
@@ -23,6 +25,7 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -36,8 +39,10 @@ public class TicketValidationServiceImpl implements TicketValidationService {
 
     private final ScannerService scannerService;
     private final EventBookingOrderRepo bookingOrderRepo;
+    private final TicketInstanceRepo ticketInstanceRepo;
     private final TicketJWTService ticketJWTService;
     private final ScannerValidator scannerValidator;
+    private final LiveCheckInState liveCheckInState;
 
     @Override
     @Transactional
@@ -89,17 +94,46 @@ public class TicketValidationServiceImpl implements TicketValidationService {
 
         log.debug("Current event day: {}", currentDay.getDayName());
 
-        // ========================================
-        // STEP 5: FIND BOOKING & TICKET IN DATABASE
-        // ========================================
-
         UUID ticketInstanceId = jwtResult.getTicketInstanceId();
         UUID eventId = jwtResult.getEventId();
 
         log.debug("JWT valid. Ticket: {}, Event: {}", ticketInstanceId, eventId);
 
+        // ========================================
+        // STEP 5: LIVE EVENT MODE (IN-MEMORY CHECK-IN)
+        // ========================================
+
+        EventBookingOrderEntity booking = null;
+
+        if (liveCheckInState.isEnabled()) {
+            EventBookingOrderEntity.BookedTicket.CheckInRecord checkIn =
+                    buildCheckInRecord(request, scanner, currentDay.getDayName());
+
+            Optional<LiveCheckInState.LiveCheckInResult> live =
+                    liveCheckInState.tryCheckIn(scanner.getEvent(), ticketInstanceId, checkIn);
+
+            if (live.isEmpty()) {
+                // Booked after the event was loaded: add its tickets and try once more
+                booking = findBookingWithTicket(ticketInstanceId);
+                if (booking != null) {
+                    liveCheckInState.register(booking);
+                    live = liveCheckInState.tryCheckIn(scanner.getEvent(), ticketInstanceId, checkIn);
+                }
+            }
+
+            if (live.isPresent()) {
+                return buildLiveResponse(live.get(), scanner, currentDay, jwtResult);
+            }
+        }
+
+        // ========================================
+        // STEP 6: FIND BOOKING & TICKET IN DATABASE
+        // ========================================
+
         // Find booking order with this ticket
-        EventBookingOrderEntity booking = findBookingWithTicket(ticketInstanceId);
+        if (booking == null) {
+            booking = findBookingWithTicket(ticketInstanceId);
+        }
 
         if (booking == null) {
             log.error("Ticket not found in database: {}", ticketInstanceId);
@@ -115,7 +149,7 @@ public class TicketValidationServiceImpl implements TicketValidationService {
         }
 
         // ========================================
-        // STEP 6: CHECK IF ALREADY CHECKED IN FOR THIS DAY
+        // STEP 7: CHECK IF ALREADY CHECKED IN FOR THIS DAY
         // ========================================
 
         if (ticket.isCheckedInForDay(currentDay.getDayName())) {
@@ -134,7 +168,7 @@ public class TicketValidationServiceImpl implements TicketValidationService {
         }
 
         // ========================================
-        // STEP 7: MARK TICKET AS CHECKED IN FOR THIS DAY
+        // STEP 8: MARK TICKET AS CHECKED IN FOR THIS DAY
         // ========================================
 
         addCheckInRecord(ticket, request, scanner, currentDay.getDayName());
@@ -243,10 +277,26 @@ public class TicketValidationServiceImpl implements TicketValidationService {
 
     /**
      * Find booking order containing this ticket
+     * Primary-key lookup through the ticket instance index; tickets from bookings
+     * that are not indexed yet fall back to the JSON search once and get indexed
      */
     private EventBookingOrderEntity findBookingWithTicket(UUID ticketInstanceId) {
-        return bookingOrderRepo.findByTicketInstanceId(ticketInstanceId.toString())
+        Optional<EventBookingOrderEntity> indexed = ticketInstanceRepo.findById(ticketInstanceId)
+                .flatMap(instance -> bookingOrderRepo.findById(instance.getBookingId()));
+
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        EventBookingOrderEntity booking = bookingOrderRepo.findByTicketInstanceId(ticketInstanceId.toString())
                 .orElse(null);
+
+        if (booking != null) {
+            log.info("Indexing tickets of unindexed booking: {}", booking.getBookingReference());
+            ticketInstanceRepo.indexBooking(booking.getBookingId());
+        }
+
+        return booking;
     }
 
 
@@ -272,17 +322,7 @@ public class TicketValidationServiceImpl implements TicketValidationService {
             ScannerEntity scanner,
             String dayName) {
 
-        EventBookingOrderEntity.BookedTicket.CheckInRecord checkIn =
-                EventBookingOrderEntity.BookedTicket.CheckInRecord.builder()
-                        .checkInTime(ZonedDateTime.now())
-                        .checkInLocation(request.getCheckInLocation() != null
-                                ? request.getCheckInLocation()
-                                : scanner.getName())
-                        .checkedInBy(scanner.getName())
-                        .dayName(dayName)
-                        .scannerId(scanner.getScannerId())
-                        .checkInMethod("QR_SCAN")
-                        .build();
+        EventBookingOrderEntity.BookedTicket.CheckInRecord checkIn = buildCheckInRecord(request, scanner, dayName);
 
         if (ticket.getCheckIns() == null) {
             ticket.setCheckIns(new java.util.ArrayList<>());
@@ -293,6 +333,48 @@ public class TicketValidationServiceImpl implements TicketValidationService {
         log.debug("Added check-in record: {} at {} for {}", dayName, checkIn.getCheckInTime(), ticket.getAttendeeName());
     }
 
+    /**
+     * Build the check-in record for a scan
+     */
+    private EventBookingOrderEntity.BookedTicket.CheckInRecord buildCheckInRecord(
+            ValidateTicketRequest request,
+            ScannerEntity scanner,
+            String dayName) {
+
+        return EventBookingOrderEntity.BookedTicket.CheckInRecord.builder()
+                .checkInTime(ZonedDateTime.now())
+                .checkInLocation(request.getCheckInLocation() != null
+                        ? request.getCheckInLocation()
+                        : scanner.getName())
+                .checkedInBy(scanner.getName())
+                .dayName(dayName)
+                .scannerId(scanner.getScannerId())
+                .checkInMethod("QR_SCAN")
+                .build();
+    }
+
+    /**
+     * Build the response for a scan decided by the live check-in state
+     */
+    private ValidateTicketResponse buildLiveResponse(
+            LiveCheckInState.LiveCheckInResult live,
+            ScannerEntity scanner,
+            EventScheduleInfo currentDay,
+            TicketJWTService.JWTValidationResult jwtResult) {
+
+        scanner.recordScan(live.admitted());
+
+        if (!live.admitted()) {
+            log.warn("DUPLICATE: Ticket already checked in for {}", currentDay.getDayName());
+            return buildDuplicateResponse(live.ticket(), scanner, currentDay.getDayName(), live.previousCheckIn(), jwtResult);
+        }
+
+        log.info("✅ Ticket checked in successfully for {}: {} - {}",
+                currentDay.getDayName(), live.ticket().getTicketInstanceId(), live.ticket().getAttendeeName());
+
+        return buildSuccessResponse(live.ticket(), currentDay, jwtResult, scanner);
+    }
+
     /**
      * TODO: Update attendance system (placeholder)
      */
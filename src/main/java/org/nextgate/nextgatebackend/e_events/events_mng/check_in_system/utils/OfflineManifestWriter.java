@@ -0,0 +1,63 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.utils;
+
+import org.nextgate.nextgatebackend.e_events.events_mng.check_in_system.payloads.OfflineManifest;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes an OfflineManifest as a compact gzipped binary stream
+ *
+ * Format (big-endian, inside gzip):
+ * - int    magic "NGTM"
+ * - byte   format version (1)
+ * - long   eventId most / least significant bits
+ * - long   generatedAt (epoch millis)
+ * - byte   full (1) or delta (0)
+ * - UTF    public key (Base64)
+ * - int    valid ticket count, then 16 bytes per ticket id
+ * - int    revoked ticket count, then 16 bytes per ticket id
+ */
+public final class OfflineManifestWriter {
+
+    public static final String CONTENT_TYPE = "application/gzip";
+
+    private static final int MAGIC = 0x4E47544D;  // "NGTM"
+    private static final byte FORMAT_VERSION = 1;
+
+    private OfflineManifestWriter() {
+    }
+
+    public static void write(OfflineManifest manifest, OutputStream target) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(target, 64 * 1024);
+        DataOutputStream out = new DataOutputStream(gzip);
+
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        writeUuid(out, manifest.getEventId());
+        out.writeLong(manifest.getGeneratedAt().toEpochMilli());
+        out.writeByte(manifest.isFull() ? 1 : 0);
+        out.writeUTF(manifest.getPublicKey());
+        writeUuids(out, manifest.getValidTicketIds());
+        writeUuids(out, manifest.getRevokedTicketIds());
+
+        out.flush();
+        gzip.finish();
+    }
+
+    private static void writeUuids(DataOutputStream out, List<UUID> ids) throws IOException {
+        out.writeInt(ids.size());
+        for (UUID id : ids) {
+            writeUuid(out, id);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+}
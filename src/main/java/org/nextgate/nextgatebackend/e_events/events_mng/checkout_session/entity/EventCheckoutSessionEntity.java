@@ -25,6 +25,7 @@ import java.util.UUID;
         @Index(name = "idx_event_checkout_status", columnList = "status"),
         @Index(name = "idx_event_checkout_event", columnList = "event_id"),
         @Index(name = "idx_event_checkout_expires", columnList = "expires_at"),
+        @Index(name = "idx_event_checkout_status_expires", columnList = "status, expires_at"),
         @Index(name = "idx_event_checkout_escrow", columnList = "escrow_id")
 })
 @Getter
@@ -63,7 +63,8 @@ public class PaymentSuccessNotificationListener {
                     .data(data)
                     .build();
 
-            notificationPublisher.publish(notificationEvent);
+            notificationPublisher.publish(notificationEvent,
+                    NotificationType.PAYMENT_RECEIVED + ":" + event.getSessionId());
 
             log.info("✓ Payment success notification sent | Session: {}", event.getSessionId());
 
@@ -4,7 +4,13 @@ package org.nextgate.nextgatebackend.e_events.events_mng.checkout_session.repo;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.enums.CheckoutSessionStatus;
 import org.nextgate.nextgatebackend.e_events.events_mng.checkout_session.entity.EventCheckoutSessionEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -39,4 +45,21 @@ public interface EventCheckoutSessionRepo extends JpaRepository<EventCheckoutSes
             AccountEntity customer,
             List<CheckoutSessionStatus> statuses
     );
-}
\ No newline at end of file
+
+    // Oldest expired sessions first (expiry sweeper), served by idx_event_checkout_status_expires
+    @Query("SELECT s.sessionId FROM EventCheckoutSessionEntity s " +
+            "WHERE s.status IN :statuses AND s.expiresAt < :before ORDER BY s.expiresAt")
+    List<UUID> findExpiredSessionIds(@Param("statuses") List<CheckoutSessionStatus> statuses,
+                                     @Param("before") LocalDateTime before,
+                                     Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventCheckoutSessionEntity s WHERE s.sessionId = :sessionId")
+    Optional<EventCheckoutSessionEntity> findByIdForUpdate(@Param("sessionId") UUID sessionId);
+
+    // Claims the session's held tickets for release; only one caller gets 1 back
+    @Modifying
+    @Query("UPDATE EventCheckoutSessionEntity s SET s.ticketsHeld = false " +
+            "WHERE s.sessionId = :sessionId AND s.ticketsHeld = true")
+    int clearTicketsHeld(@Param("sessionId") UUID sessionId);
+}
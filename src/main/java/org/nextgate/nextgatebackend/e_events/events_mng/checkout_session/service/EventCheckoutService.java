@@ -8,6 +8,7 @@ import org.nextgate.nextgatebackend.financial_system.payment_processing.payloads
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface EventCheckoutService {
@@ -23,4 +24,8 @@ public interface EventCheckoutService {
 
     void cancelCheckoutSession(UUID sessionId)
             throws ItemNotFoundException, BadRequestException;
+
+    // Expire up to batchSize abandoned sessions that expired before the given time and release their tickets
+    // One transaction per call; returns the number of sessions expired
+    int expireAbandonedSessions(LocalDateTime before, int batchSize);
 }
\ No newline at end of file
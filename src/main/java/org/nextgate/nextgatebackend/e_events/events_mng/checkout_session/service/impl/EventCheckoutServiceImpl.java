@@ -5,7 +5,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.checkout_session.enums.CheckoutSessionStatus;
 import org.nextgate.nextgatebackend.e_events.events_mng.checkout_session.entity.EventCheckoutSessionEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.checkout_session.payload.CreateEventCheckoutRequest;
@@ -17,14 +16,14 @@ import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.Event
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.repo.EventsRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.entity.TicketEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.repo.TicketRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.service.TicketCapacityService;
 import org.nextgate.nextgatebackend.financial_system.payment_processing.payloads.PaymentResponse;
 import org.nextgate.nextgatebackend.financial_system.payment_processing.service.PaymentOrchestrator;
 import org.nextgate.nextgatebackend.globe_enums.CheckoutSessionsDomains;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,16 +41,17 @@ public class EventCheckoutServiceImpl implements EventCheckoutService {
     private final EventCheckoutSessionRepo checkoutSessionRepo;
     private final EventsRepo eventsRepo;
     private final TicketRepo ticketRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final EventCheckoutValidations validations;
     private final PaymentOrchestrator paymentOrchestrator;
+    private final TicketCapacityService ticketCapacityService;
 
     @Override
     @Transactional
     public EventCheckoutResponse createCheckoutSession(CreateEventCheckoutRequest request)
             throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
         log.info("Creating event checkout session for user: {}", customer.getUserName());
 
         validations.validateCheckoutRequest(request, customer);
@@ -107,7 +107,7 @@ public class EventCheckoutServiceImpl implements EventCheckoutService {
     public EventCheckoutResponse getCheckoutSessionById(UUID sessionId)
             throws ItemNotFoundException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         EventCheckoutSessionEntity session = checkoutSessionRepo.findBySessionIdAndCustomer(sessionId, customer)
                 .orElseThrow(() -> new ItemNotFoundException("Checkout session not found"));
@@ -126,7 +126,7 @@ public class EventCheckoutServiceImpl implements EventCheckoutService {
     public PaymentResponse processPayment(UUID sessionId)
             throws ItemNotFoundException, BadRequestException, RandomExceptions {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         EventCheckoutSessionEntity session = checkoutSessionRepo.findBySessionIdAndCustomer(sessionId, customer)
                 .orElseThrow(() -> new ItemNotFoundException("Checkout session not found"));
@@ -147,7 +147,7 @@ public class EventCheckoutServiceImpl implements EventCheckoutService {
     public void cancelCheckoutSession(UUID sessionId)
             throws ItemNotFoundException, BadRequestException {
 
-        AccountEntity customer = getAuthenticatedAccount();
+        AccountEntity customer = currentAccountProvider.getCurrentAccount();
 
         EventCheckoutSessionEntity session = checkoutSessionRepo.findBySessionIdAndCustomer(sessionId, customer)
                 .orElseThrow(() -> new ItemNotFoundException("Checkout session not found"));
@@ -171,6 +171,38 @@ public class EventCheckoutServiceImpl implements EventCheckoutService {
         log.info("Checkout session cancelled: {}", sessionId);
     }
 
+    // Sessions still waiting for a payment; PAYMENT_PROCESSING is left to the payment provider
+    private static final List<CheckoutSessionStatus> EXPIRABLE_STATUSES =
+            List.of(CheckoutSessionStatus.PENDING_PAYMENT, CheckoutSessionStatus.PAYMENT_FAILED);
+
+    @Override
+    @Transactional
+    public int expireAbandonedSessions(LocalDateTime before, int batchSize) {
+        List<UUID> sessionIds = checkoutSessionRepo.findExpiredSessionIds(
+                EXPIRABLE_STATUSES, before, PageRequest.of(0, batchSize));
+
+        int expired = 0;
+        for (UUID sessionId : sessionIds) {
+            EventCheckoutSessionEntity session = checkoutSessionRepo.findByIdForUpdate(sessionId).orElse(null);
+
+            // Re-checked under the row lock: a payment may have moved it on since the id was read
+            if (session == null
+                    || !EXPIRABLE_STATUSES.contains(session.getStatus())
+                    || !session.getExpiresAt().isBefore(before)) {
+                continue;
+            }
+
+            if (Boolean.TRUE.equals(session.getTicketsHeld())) {
+                releaseTickets(session);
+                session.setTicketsHeld(false);
+            }
+            session.markAsExpired();
+            checkoutSessionRepo.save(session);
+            expired++;
+        }
+        return expired;
+    }
+
     private EventCheckoutSessionEntity.TicketCheckoutDetails buildTicketDetails(
             CreateEventCheckoutRequest request, TicketEntity ticket) {
 
@@ -226,23 +258,25 @@ public class EventCheckoutServiceImpl implements EventCheckoutService {
                 .build();
     }
 
-    private void holdTickets(TicketEntity ticket, Integer quantity, LocalDateTime holdExpiration) {
-        ticket.setQuantitySold(ticket.getQuantitySold() + quantity);
-        ticketRepo.save(ticket);
+    private void holdTickets(TicketEntity ticket, Integer quantity, LocalDateTime holdExpiration)
+            throws BadRequestException {
+        if (!ticketCapacityService.reserve(ticket.getId(), quantity)) {
+            throw new BadRequestException("Not enough tickets left - this ticket may have just sold out");
+        }
         log.debug("Held {} tickets until {}", quantity, holdExpiration);
     }
 
     private void releaseTickets(EventCheckoutSessionEntity session) {
-        TicketEntity ticket = ticketRepo.findById(session.getTicketDetails().getTicketTypeId())
-                .orElse(null);
-
-        if (ticket != null) {
-            Integer quantity = session.getTicketDetails().getTotalQuantity();
-            ticket.setQuantitySold(Math.max(0, ticket.getQuantitySold() - quantity));
-            ticketRepo.save(ticket);
-            log.debug("Released {} tickets", quantity);
+        // Cancel and the expiry sweep can race; only the one that clears the flag gives the seats back
+        if (checkoutSessionRepo.clearTicketsHeld(session.getSessionId()) == 0) {
+            return;
         }
+
+        Integer quantity = session.getTicketDetails().getTotalQuantity();
+        ticketCapacityService.release(session.getTicketDetails().getTicketTypeId(), quantity);
+        log.debug("Released {} tickets", quantity);
     }
+
     private EventCheckoutResponse mapToResponse(
             EventCheckoutSessionEntity session,
             EventEntity event,
@@ -313,15 +347,4 @@ public class EventCheckoutServiceImpl implements EventCheckoutService {
                         .build())
                 .toList();
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
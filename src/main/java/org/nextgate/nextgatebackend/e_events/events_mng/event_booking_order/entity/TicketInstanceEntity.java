@@ -0,0 +1,58 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.TicketInstanceStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lookup index for individual ticket instances
+ * One row per BookedTicket, keyed by ticketInstanceId, pointing at the owning booking
+ *
+ * Gate scans resolve a ticket to its booking with a primary-key lookup here
+ * instead of searching the booked_tickets JSON of every booking
+ */
+@Entity
+@Table(name = "ticket_instances", indexes = {
+        @Index(name = "idx_ticket_instance_booking", columnList = "booking_id"),
+        @Index(name = "idx_ticket_instance_event", columnList = "event_id")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketInstanceEntity {
+
+    @Id
+    @Column(name = "ticket_instance_id")
+    private UUID ticketInstanceId;
+
+    @Column(name = "booking_id", nullable = false)
+    private UUID bookingId;
+
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Column(name = "ticket_type_id", nullable = false)
+    private UUID ticketTypeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TicketInstanceStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (status == null) {
+            status = TicketInstanceStatus.ACTIVE;
+        }
+    }
+}
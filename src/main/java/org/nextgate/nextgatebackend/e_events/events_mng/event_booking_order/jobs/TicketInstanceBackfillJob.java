@@ -0,0 +1,46 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.TicketInstanceRepo;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the ticket_instances lookup index complete.
+ * New bookings are indexed when they are created; this job indexes bookings that
+ * predate the index (first run) and any booking whose index write was missed,
+ * and marks the tickets of cancelled bookings CANCELLED.
+ * Runs every night at 03:15.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketInstanceBackfillJob {
+
+    private final TicketInstanceRepo ticketInstanceRepo;
+
+    /**
+     * Cron: "0 15 3 * * *" = At 03:15:00 every day
+     */
+    @Recurring(id = "backfill-ticket-instances", cron = "0 15 3 * * *")
+    @Job(name = "Backfill Ticket Instance Index - Nightly", retries = 2)
+    @Transactional
+    public void backfillTicketInstances() {
+        int indexed = ticketInstanceRepo.backfillMissing();
+
+        int cancelled = ticketInstanceRepo.cancelTicketsOfCancelledBookings();
+        if (cancelled > 0) {
+            log.info("Ticket instances of cancelled bookings marked cancelled: {}", cancelled);
+        }
+
+        if (indexed == 0) {
+            log.info("Ticket instance index complete");
+            return;
+        }
+
+        log.warn("Ticket instance index backfilled: {} tickets", indexed);
+    }
+}
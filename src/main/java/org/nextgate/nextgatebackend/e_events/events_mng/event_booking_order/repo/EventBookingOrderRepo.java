@@ -6,6 +6,7 @@ import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enti
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.BookingStatus;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,4 +45,32 @@ public interface EventBookingOrderRepo extends JpaRepository<EventBookingOrderEn
         LIMIT 1
         """, nativeQuery = true)
     Optional<EventBookingOrderEntity> findByTicketInstanceId(@Param("ticketInstanceId") String ticketInstanceId);
-}
\ No newline at end of file
+
+    // Append a check-in to one ticket of a booking, unless the ticket already has one for that day.
+    // Changes only that ticket's checkIns, so concurrent updates to the booking are kept
+    @Modifying
+    @Query(value = """
+        UPDATE event_booking_orders b
+        SET booked_tickets = (
+            SELECT jsonb_agg(
+                       CASE WHEN e.ticket ->> 'ticketInstanceId' = :ticketInstanceId
+                            THEN jsonb_set(e.ticket, ARRAY['checkIns'],
+                                     COALESCE(NULLIF(e.ticket -> 'checkIns', 'null'::jsonb), '[]'::jsonb)
+                                         || jsonb_build_array(CAST(:checkIn AS jsonb)))
+                            ELSE e.ticket END
+                       ORDER BY e.ord)
+            FROM jsonb_array_elements(b.booked_tickets) WITH ORDINALITY AS e(ticket, ord))
+        WHERE b.booking_id = :bookingId
+          AND EXISTS (
+              SELECT 1 FROM jsonb_array_elements(b.booked_tickets) AS t(ticket)
+              WHERE t.ticket ->> 'ticketInstanceId' = :ticketInstanceId
+                AND NOT EXISTS (
+                    SELECT 1
+                    FROM jsonb_array_elements(COALESCE(NULLIF(t.ticket -> 'checkIns', 'null'::jsonb), '[]'::jsonb)) AS c(record)
+                    WHERE c.record ->> 'dayName' = :dayName))
+        """, nativeQuery = true)
+    int appendCheckIn(@Param("bookingId") UUID bookingId,
+                      @Param("ticketInstanceId") String ticketInstanceId,
+                      @Param("dayName") String dayName,
+                      @Param("checkIn") String checkIn);
+}
@@ -0,0 +1,87 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo;
+
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.TicketInstanceEntity;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.BookingStatus;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.TicketInstanceStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TicketInstanceRepo extends JpaRepository<TicketInstanceEntity, UUID> {
+
+    // Ticket lookup scoped to one event (organizer views)
+    Optional<TicketInstanceEntity> findByTicketInstanceIdAndEventId(UUID ticketInstanceId, UUID eventId);
+
+    // Valid tickets of an event indexed after the given time (offline scanner manifest)
+    @Query("""
+        SELECT t.ticketInstanceId FROM TicketInstanceEntity t, EventBookingOrderEntity b
+        WHERE b.bookingId = t.bookingId
+          AND t.eventId = :eventId
+          AND t.status = :ticketStatus
+          AND b.status = :bookingStatus
+          AND t.createdAt > :since
+        """)
+    List<UUID> findValidTicketIdsSince(@Param("eventId") UUID eventId,
+                                       @Param("ticketStatus") TicketInstanceStatus ticketStatus,
+                                       @Param("bookingStatus") BookingStatus bookingStatus,
+                                       @Param("since") LocalDateTime since);
+
+    // Tickets of an event that can no longer be used: cancelled tickets, and tickets of bookings cancelled after the given time
+    @Query("""
+        SELECT t.ticketInstanceId FROM TicketInstanceEntity t, EventBookingOrderEntity b
+        WHERE b.bookingId = t.bookingId
+          AND t.eventId = :eventId
+          AND (t.status = :cancelledTicket
+               OR (b.status = :cancelledBooking AND (b.cancelledAt IS NULL OR b.cancelledAt > :since)))
+        """)
+    List<UUID> findRevokedTicketIdsSince(@Param("eventId") UUID eventId,
+                                         @Param("cancelledTicket") TicketInstanceStatus cancelledTicket,
+                                         @Param("cancelledBooking") BookingStatus cancelledBooking,
+                                         @Param("since") LocalDateTime since);
+
+    // Index every ticket of one booking that is not indexed yet
+    @Modifying
+    @Query(value = """
+        INSERT INTO ticket_instances (ticket_instance_id, booking_id, event_id, ticket_type_id, status, created_at)
+        SELECT (t->>'ticketInstanceId')::uuid, b.booking_id, b.event_id, (t->>'ticketTypeId')::uuid,
+               COALESCE(t->>'status', 'ACTIVE'), b.booked_at
+        FROM event_booking_orders b
+        CROSS JOIN LATERAL jsonb_array_elements(b.booked_tickets) t
+        WHERE b.booking_id = :bookingId
+        ON CONFLICT (ticket_instance_id) DO NOTHING
+        """, nativeQuery = true)
+    int indexBooking(@Param("bookingId") UUID bookingId);
+
+    // Index tickets of bookings created before this table existed, or missed by a failed write
+    @Modifying
+    @Query(value = """
+        INSERT INTO ticket_instances (ticket_instance_id, booking_id, event_id, ticket_type_id, status, created_at)
+        SELECT (t->>'ticketInstanceId')::uuid, b.booking_id, b.event_id, (t->>'ticketTypeId')::uuid,
+               COALESCE(t->>'status', 'ACTIVE'), b.booked_at
+        FROM event_booking_orders b
+        CROSS JOIN LATERAL jsonb_array_elements(b.booked_tickets) t
+        WHERE NOT EXISTS (SELECT 1 FROM ticket_instances ti WHERE ti.booking_id = b.booking_id)
+        ON CONFLICT (ticket_instance_id) DO NOTHING
+        """, nativeQuery = true)
+    int backfillMissing();
+
+    // Cancel the indexed tickets of cancelled bookings, so ticket status agrees with the booking
+    @Modifying
+    @Query(value = """
+        UPDATE ticket_instances t
+        SET status = 'CANCELLED'
+        FROM event_booking_orders b
+        WHERE b.booking_id = t.booking_id
+          AND b.status = 'CANCELLED'
+          AND t.status <> 'CANCELLED'
+        """, nativeQuery = true)
+    int cancelTicketsOfCancelledBookings();
+}
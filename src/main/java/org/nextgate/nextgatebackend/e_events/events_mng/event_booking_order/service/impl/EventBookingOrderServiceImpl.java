@@ -4,16 +4,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.authentication_service.entity.Roles;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.checkout_session.entity.EventCheckoutSessionEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.checkout_session.repo.EventCheckoutSessionRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.EventBookingOrderEntity;
-import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.entity.TicketSeriesCounterEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.enums.TicketInstanceStatus;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.events.BookingCreatedEvent;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.EventBookingOrderRepo;
-import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.TicketSeriesCounterRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.repo.TicketInstanceRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.service.EventBookingOrderService;
+import org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.utils.TicketSeriesAllocator;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventDayEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.repo.EventsRepo;
@@ -22,10 +21,8 @@ import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.repo.TicketRe
 import org.nextgate.nextgatebackend.globe_crypto.TicketJWTService;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,11 +38,12 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
 
     private final EventBookingOrderRepo bookingOrderRepo;
     private final EventCheckoutSessionRepo checkoutSessionRepo;
-    private final TicketSeriesCounterRepo seriesCounterRepo;
+    private final TicketSeriesAllocator ticketSeriesAllocator;
+    private final TicketInstanceRepo ticketInstanceRepo;
     private final ApplicationEventPublisher eventPublisher;
     private final EventsRepo eventsRepo;
     private final TicketRepo ticketRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final TicketJWTService ticketJWTService;
 
 
@@ -100,7 +98,7 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
     public EventBookingOrderEntity getBookingById(UUID bookingId) throws ItemNotFoundException, AccessDeniedException {
         log.debug("Fetching booking: {}", bookingId);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         EventBookingOrderEntity booking = bookingOrderRepo.findById(bookingId)
                 .orElseThrow(() -> new ItemNotFoundException("Booking not found: " + bookingId));
@@ -120,7 +118,7 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
     @Override
     public List<EventBookingOrderEntity> getMyBookings() throws ItemNotFoundException {
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         return bookingOrderRepo.findByCustomerOrderByBookedAtDesc(currentUser);
     }
@@ -191,10 +189,10 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
             String attendeePhone,
             String buyerName,
             String buyerEmail,
-            EventEntity event) {
+            EventEntity event,
+            String ticketSeries) {
 
         UUID ticketInstanceId = UUID.randomUUID();
-        String ticketSeries = generateTicketSeries(ticketType.getId(), ticketType.getName());
 
         log.debug("Created ticket instance: {} with series: {}", ticketInstanceId, ticketSeries);
 
@@ -221,27 +219,17 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
                 .build();
     }
 
-    public String generateTicketSeries(UUID ticketTypeId, String ticketTypeName) {
-        log.debug("Generating ticket series for ticket type: {}", ticketTypeId);
-
-        // Get or create a counter for this ticket type
-        TicketSeriesCounterEntity counter = seriesCounterRepo.findByTicketTypeId(ticketTypeId)
-                .orElseGet(() -> {
-                    log.debug("Creating new series counter for ticket type: {}", ticketTypeId);
-                    TicketSeriesCounterEntity newCounter = TicketSeriesCounterEntity.builder()
-                            .ticketTypeId(ticketTypeId)
-                            .currentCounter(0)
-                            .build();
-                    return seriesCounterRepo.save(newCounter);
-                });
-
-        // Get the next counter-value and save
-        Integer nextCounter = counter.getNextCounter();
-        seriesCounterRepo.save(counter);
-
-        // Format: {TICKET_CODE}-{COUNTER}
+    /**
+     * Series numbers for a whole booking of one ticket type, allocated in one statement
+     * Format: {TICKET_CODE}-{COUNTER}
+     */
+    public List<String> generateTicketSeries(UUID ticketTypeId, String ticketTypeName, int count) {
+        log.debug("Generating {} ticket series for ticket type: {}", count, ticketTypeId);
+
         String ticketCode = extractTicketCode(ticketTypeName);
-        String series = String.format("%s-%04d", ticketCode, nextCounter);
+        List<String> series = ticketSeriesAllocator.allocate(ticketTypeId, count).stream()
+                .map(counter -> String.format("%s-%04d", ticketCode, counter))
+                .toList();
 
         log.debug("Generated ticket series: {}", series);
         return series;
@@ -317,7 +305,13 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
 
     public EventBookingOrderEntity saveBookingOrder(EventBookingOrderEntity bookingOrder) {
         log.debug("Saving booking order to database");
-        return bookingOrderRepo.save(bookingOrder);
+        EventBookingOrderEntity savedBooking = bookingOrderRepo.saveAndFlush(bookingOrder);
+
+        // Index the ticket instances in the same transaction so scanners can find them by ID
+        int indexed = ticketInstanceRepo.indexBooking(savedBooking.getBookingId());
+        log.debug("Indexed {} ticket instances for booking: {}", indexed, savedBooking.getBookingId());
+
+        return savedBooking;
     }
 
     private void publishBookingCreatedEvent(
@@ -440,6 +434,16 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
                 ? details.getTicketsForBuyer()
                 : 0;
 
+        int totalTickets = ticketsForBuyer;
+        if (details.getOtherAttendees() != null) {
+            for (EventCheckoutSessionEntity.OtherAttendee attendee : details.getOtherAttendees()) {
+                totalTickets += attendee.getQuantity() != null ? attendee.getQuantity() : 0;
+            }
+        }
+
+        // One counter update for the whole booking instead of one locked read per ticket
+        Iterator<String> series = generateTicketSeries(ticketType.getId(), ticketType.getName(), totalTickets).iterator();
+
         // Create tickets for buyer
         for (int i = 0; i < ticketsForBuyer; i++) {
             EventBookingOrderEntity.BookedTicket ticket = createSingleTicketInstance(
@@ -449,7 +453,8 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
                     buyer.getPhoneNumber(),
                     buyer.getUserName(),
                     buyer.getEmail(),
-                    event
+                    event,
+                    series.next()
             );
 
             // Generate JWT after a ticket is created
@@ -473,7 +478,8 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
                             attendee.getPhone(),
                             buyer.getUserName(),
                             buyer.getEmail(),
-                            event
+                            event,
+                            series.next()
                     );
 
                     // Generate JWT after ticket is created
@@ -489,17 +495,6 @@ public class EventBookingOrderServiceImpl implements EventBookingOrderService {
         return tickets;
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     public boolean validateRole(AccountEntity account, String... requiredRoles) throws AccessDeniedException {
         if (account == null) {
             throw new AccessDeniedException("Account not found");
@@ -33,6 +33,18 @@ public class BookedTicketsJsonConverter implements AttributeConverter<List<Event
         }
     }
 
+    /**
+     * One check-in record in the same JSON form as inside booked_tickets
+     */
+    public static String checkInToJson(EventBookingOrderEntity.BookedTicket.CheckInRecord checkIn) {
+        try {
+            return objectMapper.writeValueAsString(checkIn);
+        } catch (JsonProcessingException e) {
+            log.error("Error converting CheckInRecord to JSON: {}", e.getMessage());
+            throw new RuntimeException("Failed to convert CheckInRecord to JSON", e);
+        }
+    }
+
     @Override
     public List<EventBookingOrderEntity.BookedTicket> convertToEntityAttribute(String json) {
         if (json == null || json.isBlank() || json.equals("[]")) {
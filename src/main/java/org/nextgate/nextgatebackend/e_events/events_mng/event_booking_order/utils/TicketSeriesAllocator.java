@@ -0,0 +1,94 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.event_booking_order.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Allocates ticket series numbers from one Postgres sequence per ticket type.
+ *
+ * nextval takes no row lock and is not transactional, so it runs on the booking's own
+ * connection and concurrent bookings never wait on each other. A booking that rolls back
+ * leaves a gap in its ticket type's series; numbers stay unique.
+ *
+ * A ticket type's sequence is created on its first booking, continuing after the numbers
+ * already counted in ticket_series_counters.
+ */
+@Component
+@Slf4j
+public class TicketSeriesAllocator {
+
+    private static final String NEXT_NUMBERS =
+            "SELECT nextval(?::regclass) FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Sequences known to exist (created by a committed transaction)
+    private final Set<String> sequences = ConcurrentHashMap.newKeySet();
+
+    public TicketSeriesAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Next count series numbers for the ticket type, in increasing order
+     */
+    public List<Integer> allocate(UUID ticketTypeId, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        String sequence = sequenceName(ticketTypeId);
+        if (!sequences.contains(sequence)) {
+            ensureSequence(ticketTypeId, sequence);
+        }
+
+        return jdbcTemplate.queryForList(NEXT_NUMBERS, Long.class, sequence, count).stream()
+                .map(Math::toIntExact)
+                .toList();
+    }
+
+    // ========================================
+    // SEQUENCES
+    // ========================================
+
+    /**
+     * Create the ticket type's sequence in the caller's transaction.
+     * The advisory lock makes a concurrent first booking wait for this one's commit,
+     * after which IF NOT EXISTS finds the sequence instead of failing on it.
+     */
+    private void ensureSequence(UUID ticketTypeId, String sequence) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext(?))", sequence);
+
+        List<Integer> counted = jdbcTemplate.queryForList(
+                "SELECT current_counter FROM ticket_series_counters WHERE ticket_type_id = ?",
+                Integer.class, ticketTypeId);
+        long start = (counted.isEmpty() || counted.getFirst() == null ? 0 : counted.getFirst()) + 1;
+
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " START WITH " + start + " MINVALUE 1");
+
+        // Only remember it once it is committed: a rolled-back booking takes the sequence with it
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sequences.add(sequence);
+                }
+            });
+        } else {
+            sequences.add(sequence);
+        }
+        log.debug("Ticket series sequence {} ready, starting at {}", sequence, start);
+    }
+
+    private static String sequenceName(UUID ticketTypeId) {
+        return "ticket_series_" + ticketTypeId.toString().replace("-", "");
+    }
+}
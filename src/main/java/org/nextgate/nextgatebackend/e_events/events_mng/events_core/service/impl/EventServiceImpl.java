@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.authentication_service.entity.Roles;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.enums.ProductStatus;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
@@ -28,12 +27,10 @@ import org.nextgate.nextgatebackend.globe_crypto.RSAKeys;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.EventValidationException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,7 +44,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventsService {
 
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final EventsRepo eventsRepo;
     private final EventsCategoryRepository categoryRepository;
     private final EventValidations eventValidations;
@@ -61,7 +58,7 @@ public class EventServiceImpl implements EventsService {
     public EventEntity createEventDraft(CreateEventDraftRequest request)
             throws ItemNotFoundException, EventValidationException {
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // One draft at a time
         if (eventsRepo.existsByOrganizerAndStatusAndIsDeletedFalse(currentUser, EventStatus.DRAFT)) {
@@ -99,7 +96,7 @@ public class EventServiceImpl implements EventsService {
 
     @Override
     public EventEntity getMyCurrentEventDraft() throws ItemNotFoundException {
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
         return eventsRepo.findByOrganizerAndStatusAndIsDeletedFalse(currentUser, EventStatus.DRAFT)
                 .orElse(null);
     }
@@ -131,7 +128,7 @@ public class EventServiceImpl implements EventsService {
             throws ItemNotFoundException, EventValidationException {
 
         EventEntity draft = getMyDraftOrThrow();
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         if (request.getTitle() != null) {
             draft.setTitle(request.getTitle());
@@ -166,7 +163,7 @@ public class EventServiceImpl implements EventsService {
             throws ItemNotFoundException, EventValidationException {
 
         EventEntity draft = getMyDraftOrThrow();
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // Remove existing days properly
         if (!draft.getDays().isEmpty()) {
@@ -202,7 +199,7 @@ public class EventServiceImpl implements EventsService {
             throws ItemNotFoundException, EventValidationException {
 
         EventEntity draft = getMyDraftOrThrow();
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         if (request.getVenue() != null) {
             draft.setVenue(mapVenue(request.getVenue()));
@@ -233,7 +230,7 @@ public class EventServiceImpl implements EventsService {
     @Transactional
     public EventEntity updateDraftMedia(MediaRequest media) throws ItemNotFoundException {
         EventEntity draft = getMyDraftOrThrow();
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         if (media != null) {
             draft.setMedia(mapMedia(media));
@@ -339,7 +336,7 @@ public class EventServiceImpl implements EventsService {
                 throw new IllegalArgumentException("Event ID cannot be null");
             }
 
-            AccountEntity currentUser = getAuthenticatedAccount();
+            AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
             EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                     .orElseThrow(() -> new ItemNotFoundException("Event not found with ID: " + eventId));
@@ -415,7 +412,7 @@ public class EventServiceImpl implements EventsService {
 
         // Only organizer can view DRAFT events
         if (event.getStatus() == EventStatus.DRAFT) {
-            AccountEntity currentUser = getAuthenticatedAccount();
+            AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
             if (!event.getOrganizer().getId().equals(currentUser.getId())) {
                 throw new AccessDeniedException("Only event organizer can view draft events");
@@ -432,7 +429,7 @@ public class EventServiceImpl implements EventsService {
     public Page<EventEntity> getMyEvents(int page, int size) throws ItemNotFoundException {
         log.debug("Fetching events for organizer, page: {}, size: {}", page, size);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
         Pageable pageable = PageRequest.of(page - 1, size);
 
         return eventsRepo.findByOrganizerAndIsDeletedFalseOrderByCreatedAtDesc(currentUser, pageable);
@@ -444,7 +441,7 @@ public class EventServiceImpl implements EventsService {
             throws ItemNotFoundException {
         log.debug("Fetching events with status: {}, page: {}, size: {}", status, page, size);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
         Pageable pageable = PageRequest.of(page - 1, size);
 
         return eventsRepo.findByOrganizerAndStatusAndIsDeletedFalseOrderByCreatedAtDesc(currentUser, status, pageable);
@@ -556,23 +553,6 @@ public class EventServiceImpl implements EventsService {
         return slug;
     }
 
-    /**
-     * Get authenticated account from security context
-     */
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ItemNotFoundException("User not authenticated");
-        }
-
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String userName = userDetails.getUsername();
-
-        return accountRepo.findByUserName(userName)
-                .orElseThrow(() -> new ItemNotFoundException("User not found: " + userName));
-    }
-
     /**
      * Validate user has required roles
      */
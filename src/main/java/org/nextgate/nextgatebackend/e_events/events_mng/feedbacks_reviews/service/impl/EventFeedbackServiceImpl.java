@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_events.events_mng.feedbacks_reviews.servi
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.repo.EventsRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.feedbacks_reviews.entity.EventFeedbackEntity;
@@ -13,11 +12,9 @@ import org.nextgate.nextgatebackend.e_events.events_mng.feedbacks_reviews.servic
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,14 +27,14 @@ public class EventFeedbackServiceImpl implements EventFeedbackService {
 
     private final EventFeedbackRepository feedbackRepo;
     private final EventsRepo eventsRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     @Transactional
     public EventFeedbackEntity createFeedback(UUID eventId, CreateEventFeedbackRequest request)
             throws ItemNotFoundException, ItemReadyExistException, AccessDeniedException {
 
-        AccountEntity user = getAuthenticatedAccount();
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                 .orElseThrow(() -> new ItemNotFoundException("Event not found: " + eventId));
@@ -73,17 +70,4 @@ public class EventFeedbackServiceImpl implements EventFeedbackService {
 
         return feedbackRepo.findByEventId(eventId, pageable);
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            Object principal = authentication.getPrincipal();
-            if (principal instanceof UserDetails) {
-                String userName = ((UserDetails) principal).getUsername();
-                return accountRepo.findByUserName(userName)
-                        .orElseThrow(() -> new ItemNotFoundException("User not found"));
-            }
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
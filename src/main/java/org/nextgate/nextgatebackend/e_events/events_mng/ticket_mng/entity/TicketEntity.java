@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.authentication_service.utils.StringListJsonConverter;
@@ -39,6 +40,9 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+// Only changed columns are written, so saving an edited ticket never overwrites quantitySold
+// with the value it was loaded with (sales move it with conditional updates in TicketRepo)
+@DynamicUpdate
 public class TicketEntity {
 
     @Id
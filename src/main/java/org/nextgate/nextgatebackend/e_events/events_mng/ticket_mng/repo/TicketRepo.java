@@ -5,6 +5,9 @@ import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.entity.Ticket
 import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.enums.AttendanceMode;
 import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.enums.TicketStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -54,4 +57,35 @@ public interface TicketRepo extends JpaRepository<TicketEntity, UUID> {
             AttendanceMode attendanceMode,
             TicketStatus status
     );
-}
\ No newline at end of file
+
+    // ========== CAPACITY ==========
+    // Single-row conditional updates: the row lock orders concurrent buyers, on any node
+
+    // Sell quantity only while the ticket is on sale and the seats are still there
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TicketEntity t SET t.quantitySold = t.quantitySold + :quantity " +
+            "WHERE t.id = :ticketId " +
+            "AND t.status = org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.enums.TicketStatus.ACTIVE " +
+            "AND t.isDeleted = false " +
+            "AND t.quantitySold + :quantity <= t.totalQuantity")
+    int reserveQuantity(@Param("ticketId") UUID ticketId, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TicketEntity t SET t.quantitySold = t.quantitySold - :quantity " +
+            "WHERE t.id = :ticketId AND t.quantitySold >= :quantity")
+    int releaseQuantity(@Param("ticketId") UUID ticketId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE TicketEntity t SET t.status = org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.enums.TicketStatus.SOLD_OUT " +
+            "WHERE t.id = :ticketId " +
+            "AND t.status = org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.enums.TicketStatus.ACTIVE " +
+            "AND t.quantitySold >= t.totalQuantity")
+    int markSoldOutIfFull(@Param("ticketId") UUID ticketId);
+
+    @Modifying
+    @Query("UPDATE TicketEntity t SET t.status = org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.enums.TicketStatus.ACTIVE " +
+            "WHERE t.id = :ticketId " +
+            "AND t.status = org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.enums.TicketStatus.SOLD_OUT " +
+            "AND t.quantitySold < t.totalQuantity")
+    int reopenIfAvailable(@Param("ticketId") UUID ticketId);
+}
@@ -0,0 +1,18 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.service;
+
+import java.util.UUID;
+
+/**
+ * Ticket seats held by checkout sessions
+ * quantitySold counts held and paid seats alike; it only moves through conditional
+ * updates, so concurrent buyers can never take more than totalQuantity.
+ */
+public interface TicketCapacityService {
+
+    // Takes quantity seats, marking the ticket SOLD_OUT when it fills up
+    // Returns false when the ticket is not on sale or fewer seats are left
+    boolean reserve(UUID ticketId, int quantity);
+
+    // Gives quantity seats back, reopening a SOLD_OUT ticket
+    void release(UUID ticketId, int quantity);
+}
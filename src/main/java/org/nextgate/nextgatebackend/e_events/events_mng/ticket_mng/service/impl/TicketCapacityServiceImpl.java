@@ -0,0 +1,49 @@
+package org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.repo.TicketRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.service.TicketCapacityService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketCapacityServiceImpl implements TicketCapacityService {
+
+    private final TicketRepo ticketRepo;
+
+    @Override
+    @Transactional
+    public boolean reserve(UUID ticketId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Ticket quantity must be positive: " + quantity);
+        }
+
+        if (ticketRepo.reserveQuantity(ticketId, quantity) == 0) {
+            return false;
+        }
+
+        // Same transaction and row lock as the reservation, so the last seat always flips the status
+        if (ticketRepo.markSoldOutIfFull(ticketId) == 1) {
+            log.info("Ticket {} sold out", ticketId);
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void release(UUID ticketId, int quantity) {
+        if (ticketRepo.releaseQuantity(ticketId, quantity) == 0) {
+            log.warn("Ticket {} has fewer than {} seats sold - nothing released", ticketId, quantity);
+            return;
+        }
+
+        if (ticketRepo.reopenIfAvailable(ticketId) == 1) {
+            log.info("Ticket {} back on sale after {} seat(s) released", ticketId, quantity);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.service.impl
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.enums.EventCreationStage;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.enums.EventFormat;
@@ -21,9 +20,7 @@ import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.utils.validat
 import org.nextgate.nextgatebackend.globeadvice.exceptions.AccessDeniedException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.EventValidationException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,7 +35,7 @@ public class TicketServiceImpl implements TicketService {
 
     private final TicketRepo ticketTypeRepo;
     private final EventsRepo eventsRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final TicketValidations ticketValidations;
 
     @Override
@@ -48,7 +45,7 @@ public class TicketServiceImpl implements TicketService {
         log.info("Creating ticket for event: {}", eventId);
 
         // 1. Get an authenticated user
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // 2. Get event
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId).orElseThrow(() -> new ItemNotFoundException("Event not found with ID: " + eventId));
@@ -92,7 +89,7 @@ public class TicketServiceImpl implements TicketService {
 
         log.info("Updating ticket: {}", ticketId);
 
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         TicketEntity ticket = ticketTypeRepo.findByIdAndIsDeletedFalse(ticketId)
                 .orElseThrow(() -> new ItemNotFoundException("Ticket not found with ID: " + ticketId));
@@ -199,7 +196,7 @@ public class TicketServiceImpl implements TicketService {
         log.info("Updating capacity for ticket: {}", ticketId);
 
         // 1. Get an authenticated user
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // 2. Get ticket
         TicketEntity ticket = ticketTypeRepo.findByIdAndIsDeletedFalse(ticketId).orElseThrow(() -> new ItemNotFoundException("Ticket not found with ID: " + ticketId));
@@ -235,7 +232,7 @@ public class TicketServiceImpl implements TicketService {
         log.info("Updating status for ticket: {}", ticketId);
 
         // 1. Get an authenticated user
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // 2. Get ticket
         TicketEntity ticket = ticketTypeRepo.findByIdAndIsDeletedFalse(ticketId).orElseThrow(() -> new ItemNotFoundException("Ticket not found with ID: " + ticketId));
@@ -265,7 +262,7 @@ public class TicketServiceImpl implements TicketService {
         log.info("Deleting ticket: {}", ticketId);
 
         // 1. Get an authenticated user
-        AccountEntity currentUser = getAuthenticatedAccount();
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         // 2. Get ticket
         TicketEntity ticket = ticketTypeRepo.findByIdAndIsDeletedFalse(ticketId).orElseThrow(() -> new ItemNotFoundException("Ticket not found with ID: " + ticketId));
@@ -320,22 +317,6 @@ public class TicketServiceImpl implements TicketService {
                 .build();
     }
 
-    /**
-     * Get authenticated account from security context
-     */
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ItemNotFoundException("User not authenticated");
-        }
-
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String userName = userDetails.getUsername();
-
-        return accountRepo.findByUserName(userName).orElseThrow(() -> new ItemNotFoundException("User not found: " + userName));
-    }
-
     /**
      * Validate user can manage tickets for an event
      */
@@ -0,0 +1,188 @@
+package org.nextgate.nextgatebackend.e_social.interactions.buffer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Write-behind buffer for post views.
+// Views are folded per (postId, userId) in memory and drained every few seconds with a single
+// statement: upsert into post_views, then one viewsCount delta per post for first-time viewers.
+// Views of missing, unpublished, deleted or own posts are dropped at flush time.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewBuffer {
+
+    private static final int FLUSH_CHUNK_SIZE = 5000;
+
+    private static final String FLUSH_SQL = """
+        WITH pending AS (
+            SELECT * FROM unnest(?::uuid[], ?::uuid[], ?::int[], ?::timestamp[], ?::timestamp[])
+                AS t(post_id, user_id, views, first_viewed_at, last_viewed_at)
+        ), eligible AS (
+            SELECT pd.* FROM pending pd
+            JOIN posts p ON p.id = pd.post_id
+            WHERE p.status = 'PUBLISHED' AND p.is_deleted = false AND p.author_id <> pd.user_id
+        ), upserted AS (
+            INSERT INTO post_views (id, post_id, user_id, view_count, first_viewed_at, last_viewed_at)
+            SELECT gen_random_uuid(), post_id, user_id, views, first_viewed_at, last_viewed_at FROM eligible
+            ON CONFLICT (post_id, user_id) DO UPDATE
+            SET view_count = post_views.view_count + EXCLUDED.view_count,
+                last_viewed_at = GREATEST(post_views.last_viewed_at, EXCLUDED.last_viewed_at)
+            RETURNING post_id, (xmax = 0) AS inserted
+        )
+        UPDATE posts p
+        SET views_count = p.views_count + d.new_viewers
+        FROM (SELECT post_id, COUNT(*) AS new_viewers FROM upserted WHERE inserted GROUP BY post_id) d
+        WHERE p.id = d.post_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<ViewKey, PendingView> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    @Value("${app.views.flush-interval-ms:5000}")
+    private long flushIntervalMs;
+
+    // Upper bound on distinct (post, viewer) pairs held in memory
+    @Value("${app.views.max-pending:50000}")
+    private int maxPending;
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-view-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Drain whatever is left before the datasource goes away
+        flushQuietly();
+    }
+
+    public void record(UUID postId, UUID userId) {
+        LocalDateTime now = LocalDateTime.now();
+        pending.merge(new ViewKey(postId, userId), new PendingView(1, now, now), PendingView::plus);
+
+        // Back-pressure: when the buffer is full the caller pays for the drain instead of memory growing
+        if (pending.size() >= maxPending) {
+            flushQuietly();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Post view flush failed", e);
+        }
+    }
+
+    private void flush() {
+        flushLock.lock();
+        try {
+            Map<ViewKey, PendingView> chunk = new HashMap<>();
+            for (ViewKey key : pending.keySet()) {
+                // remove() hands the entry over atomically; views arriving later start a new entry
+                PendingView view = pending.remove(key);
+                if (view != null) {
+                    chunk.put(key, view);
+                }
+                if (chunk.size() >= FLUSH_CHUNK_SIZE) {
+                    write(chunk);
+                    chunk = new HashMap<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(chunk);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(Map<ViewKey, PendingView> chunk) {
+        int size = chunk.size();
+        UUID[] postIds = new UUID[size];
+        UUID[] userIds = new UUID[size];
+        Integer[] views = new Integer[size];
+        Timestamp[] firstViewedAt = new Timestamp[size];
+        Timestamp[] lastViewedAt = new Timestamp[size];
+
+        int i = 0;
+        for (Map.Entry<ViewKey, PendingView> entry : chunk.entrySet()) {
+            postIds[i] = entry.getKey().postId();
+            userIds[i] = entry.getKey().userId();
+            views[i] = entry.getValue().views();
+            firstViewedAt[i] = Timestamp.valueOf(entry.getValue().firstViewedAt());
+            lastViewedAt[i] = Timestamp.valueOf(entry.getValue().lastViewedAt());
+            i++;
+        }
+
+        try {
+            jdbcTemplate.update((Connection connection) -> {
+                PreparedStatement statement = connection.prepareStatement(FLUSH_SQL);
+                statement.setArray(1, connection.createArrayOf("uuid", postIds));
+                statement.setArray(2, connection.createArrayOf("uuid", userIds));
+                statement.setArray(3, connection.createArrayOf("int4", views));
+                statement.setArray(4, connection.createArrayOf("timestamp", firstViewedAt));
+                statement.setArray(5, connection.createArrayOf("timestamp", lastViewedAt));
+                return statement;
+            });
+            log.debug("Flushed {} buffered post views", size);
+        } catch (RuntimeException e) {
+            requeue(chunk);
+            throw e;
+        }
+    }
+
+    // Put a failed chunk back for the next flush, unless the buffer is already full
+    private void requeue(Map<ViewKey, PendingView> chunk) {
+        if (pending.size() + chunk.size() > maxPending) {
+            log.warn("Dropping {} buffered post views - buffer full after failed flush", chunk.size());
+            return;
+        }
+        chunk.forEach((key, view) -> pending.merge(key, view, PendingView::plus));
+    }
+
+    private record ViewKey(UUID postId, UUID userId) {
+    }
+
+    private record PendingView(int views, LocalDateTime firstViewedAt, LocalDateTime lastViewedAt) {
+
+        PendingView plus(PendingView other) {
+            return new PendingView(
+                    views + other.views,
+                    firstViewedAt.isBefore(other.firstViewedAt) ? firstViewedAt : other.firstViewedAt,
+                    lastViewedAt.isAfter(other.lastViewedAt) ? lastViewedAt : other.lastViewedAt
+            );
+        }
+    }
+}
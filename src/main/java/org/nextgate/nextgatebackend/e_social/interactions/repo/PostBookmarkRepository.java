@@ -4,8 +4,13 @@ import org.nextgate.nextgatebackend.e_social.interactions.entity.PostBookmarkEnt
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,5 +25,13 @@ public interface PostBookmarkRepository extends JpaRepository<PostBookmarkEntity
 
     void deleteByPostId(UUID postId);
 
+    // Returns the number of rows removed so callers only decrement the counter for a real removal
+    @Modifying
+    @Query("DELETE FROM PostBookmarkEntity b WHERE b.postId = :postId AND b.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") UUID postId, @Param("userId") UUID userId);
+
     Page<PostBookmarkEntity> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT b.postId FROM PostBookmarkEntity b WHERE b.userId = :userId AND b.postId IN :postIds")
+    List<UUID> findPostIdsByUserIdAndPostIdIn(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
+}
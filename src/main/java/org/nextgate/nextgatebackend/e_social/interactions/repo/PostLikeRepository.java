@@ -2,8 +2,13 @@ package org.nextgate.nextgatebackend.e_social.interactions.repo;
 
 import org.nextgate.nextgatebackend.e_social.interactions.entity.PostLikeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +22,12 @@ public interface PostLikeRepository extends JpaRepository<PostLikeEntity, UUID>
     long countByPostId(UUID postId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    // Returns the number of rows removed so callers only decrement the counter for a real unlike
+    @Modifying
+    @Query("DELETE FROM PostLikeEntity l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") UUID postId, @Param("userId") UUID userId);
+
+    @Query("SELECT DISTINCT l.postId FROM PostLikeEntity l WHERE l.userId = :userId AND l.postId IN :postIds")
+    List<UUID> findPostIdsByUserIdAndPostIdIn(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
+}
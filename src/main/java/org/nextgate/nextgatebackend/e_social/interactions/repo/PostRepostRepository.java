@@ -4,8 +4,11 @@ import org.nextgate.nextgatebackend.e_social.interactions.entity.PostRepostEntit
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,4 +29,7 @@ public interface PostRepostRepository extends JpaRepository<PostRepostEntity, UU
     List<PostRepostEntity>findByUserIdIn(List<UUID> userIds);
 
     Page<PostRepostEntity> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT r.postId FROM PostRepostEntity r WHERE r.userId = :userId AND r.postId IN :postIds")
+    List<UUID> findPostIdsByUserIdAndPostIdIn(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
+}
@@ -2,8 +2,12 @@ package org.nextgate.nextgatebackend.e_social.interactions.repo;
 
 import org.nextgate.nextgatebackend.e_social.interactions.entity.PostViewEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +21,7 @@ public interface PostViewRepository extends JpaRepository<PostViewEntity, UUID>
     long countByPostId(UUID postId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT v.postId FROM PostViewEntity v WHERE v.userId = :userId AND v.postId IN :postIds")
+    List<UUID> findPostIdsByUserIdAndPostIdIn(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
+}
@@ -1,6 +1,7 @@
 package org.nextgate.nextgatebackend.e_social.interactions.service;
 
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.PostResponse;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.springframework.data.domain.Page;
 
 import java.util.UUID;
@@ -8,23 +9,23 @@ import java.util.UUID;
 public interface PostInteractionService {
 
     // Likes
-    void likePost(UUID postId);
-    void unlikePost(UUID postId);
+    void likePost(UUID postId) throws ItemNotFoundException;
+    void unlikePost(UUID postId) throws ItemNotFoundException;
 
     // Bookmarks
-    void bookmarkPost(UUID postId);
-    void unbookmarkPost(UUID postId);
+    void bookmarkPost(UUID postId) throws ItemNotFoundException;
+    void unbookmarkPost(UUID postId) throws ItemNotFoundException;
 
     // Reposts
-    void repostPost(UUID postId, String comment);
-    void unrepostPost(UUID postId);
+    void repostPost(UUID postId, String comment) throws ItemNotFoundException;
+    void unrepostPost(UUID postId) throws ItemNotFoundException;
 
     // Views
     void recordView(UUID postId);
 
-    Page<PostResponse> getMyBookmarks(int page, int size);
+    Page<PostResponse> getMyBookmarks(int page, int size) throws ItemNotFoundException;
 
-    Page<PostResponse> getMyReposts(int page, int size);
+    Page<PostResponse> getMyReposts(int page, int size) throws ItemNotFoundException;
 
     Page<PostResponse> getUserReposts(UUID userId, int page, int size);
 }
\ No newline at end of file
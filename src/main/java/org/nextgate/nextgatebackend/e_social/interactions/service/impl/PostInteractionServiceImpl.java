@@ -2,15 +2,13 @@ package org.nextgate.nextgatebackend.e_social.interactions.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
+import org.nextgate.nextgatebackend.e_social.interactions.buffer.PostViewBuffer;
 import org.nextgate.nextgatebackend.e_social.interactions.entity.PostBookmarkEntity;
 import org.nextgate.nextgatebackend.e_social.interactions.entity.PostLikeEntity;
 import org.nextgate.nextgatebackend.e_social.interactions.entity.PostRepostEntity;
-import org.nextgate.nextgatebackend.e_social.interactions.entity.PostViewEntity;
 import org.nextgate.nextgatebackend.e_social.interactions.repo.PostBookmarkRepository;
 import org.nextgate.nextgatebackend.e_social.interactions.repo.PostLikeRepository;
 import org.nextgate.nextgatebackend.e_social.interactions.repo.PostRepostRepository;
-import org.nextgate.nextgatebackend.e_social.interactions.repo.PostViewRepository;
 import org.nextgate.nextgatebackend.e_social.interactions.service.PostInteractionService;
 import org.nextgate.nextgatebackend.e_social.posts_mng.entity.*;
 import org.nextgate.nextgatebackend.e_social.posts_mng.enums.CollaboratorStatus;
@@ -25,18 +23,19 @@ import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.en
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.entity.BlockEntity;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.BlockRepository;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -46,9 +45,9 @@ public class PostInteractionServiceImpl implements PostInteractionService {
     private final PostLikeRepository postLikeRepository;
     private final PostBookmarkRepository postBookmarkRepository;
     private final PostRepostRepository postRepostRepository;
-    private final PostViewRepository postViewRepository;
+    private final PostViewBuffer postViewBuffer;
     private final PostUserMentionRepository postUserMentionRepository;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final FollowRepository followRepository;
     private final PostCollaboratorRepository postCollaboratorRepository;
     private final PostResponseMapper postResponseMapper;
@@ -57,8 +56,8 @@ public class PostInteractionServiceImpl implements PostInteractionService {
 
     @Override
     @Transactional
-    public void likePost(UUID postId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void likePost(UUID postId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -76,31 +75,29 @@ public class PostInteractionServiceImpl implements PostInteractionService {
         like.setUserId(user.getId());
         postLikeRepository.save(like);
 
-        post.setLikesCount(post.getLikesCount() + 1);
-        postRepository.save(post);
+        postRepository.incrementLikesCount(postId);
     }
 
     @Override
     @Transactional
-    public void unlikePost(UUID postId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void unlikePost(UUID postId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
-        PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
-
-        PostLikeEntity like = postLikeRepository.findByPostIdAndUserId(postId, user.getId())
-                .orElseThrow(() -> new IllegalArgumentException("You have not liked this post"));
+        if (!postRepository.existsByIdAndIsDeletedFalse(postId)) {
+            throw new IllegalArgumentException("Post not found");
+        }
 
-        postLikeRepository.delete(like);
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, user.getId()) == 0) {
+            throw new IllegalArgumentException("You have not liked this post");
+        }
 
-        post.setLikesCount(Math.max(0, post.getLikesCount() - 1));
-        postRepository.save(post);
+        postRepository.decrementLikesCount(postId);
     }
 
     @Override
     @Transactional
-    public void bookmarkPost(UUID postId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void bookmarkPost(UUID postId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -118,31 +115,29 @@ public class PostInteractionServiceImpl implements PostInteractionService {
         bookmark.setUserId(user.getId());
         postBookmarkRepository.save(bookmark);
 
-        post.setBookmarksCount(post.getBookmarksCount() + 1);
-        postRepository.save(post);
+        postRepository.incrementBookmarksCount(postId);
     }
 
     @Override
     @Transactional
-    public void unbookmarkPost(UUID postId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void unbookmarkPost(UUID postId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
-        PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
-
-        PostBookmarkEntity bookmark = postBookmarkRepository.findByPostIdAndUserId(postId, user.getId())
-                .orElseThrow(() -> new IllegalArgumentException("You have not bookmarked this post"));
+        if (!postRepository.existsByIdAndIsDeletedFalse(postId)) {
+            throw new IllegalArgumentException("Post not found");
+        }
 
-        postBookmarkRepository.delete(bookmark);
+        if (postBookmarkRepository.deleteByPostIdAndUserId(postId, user.getId()) == 0) {
+            throw new IllegalArgumentException("You have not bookmarked this post");
+        }
 
-        post.setBookmarksCount(Math.max(0, post.getBookmarksCount() - 1));
-        postRepository.save(post);
+        postRepository.decrementBookmarksCount(postId);
     }
 
     @Override
     @Transactional
-    public void repostPost(UUID postId, String comment) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void repostPost(UUID postId, String comment) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -163,17 +158,17 @@ public class PostInteractionServiceImpl implements PostInteractionService {
         repost.setComment(comment);
         postRepostRepository.save(repost);
 
-        post.setRepostsCount(post.getRepostsCount() + 1);
-        postRepository.save(post);
+        postRepository.incrementRepostsCount(postId);
     }
 
     @Override
     @Transactional
-    public void unrepostPost(UUID postId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void unrepostPost(UUID postId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
-        PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
+        if (!postRepository.existsByIdAndIsDeletedFalse(postId)) {
+            throw new IllegalArgumentException("Post not found");
+        }
 
         // Find the most recent repost by this user
         PostRepostEntity repost = postRepostRepository.findByPostIdAndUserId(postId, user.getId())
@@ -181,12 +176,10 @@ public class PostInteractionServiceImpl implements PostInteractionService {
 
         postRepostRepository.delete(repost);
 
-        post.setRepostsCount(Math.max(0, post.getRepostsCount() - 1));
-        postRepository.save(post);
+        postRepository.decrementRepostsCount(postId);
     }
 
     @Override
-    @Transactional
     public void recordView(UUID postId) {
         AccountEntity user = getAuthenticatedAccountOrNull();
 
@@ -194,72 +187,40 @@ public class PostInteractionServiceImpl implements PostInteractionService {
             return;
         }
 
-        PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
-
-        if (post.getStatus() != PostStatus.PUBLISHED) {
-            return;
-        }
-
-        if (post.getAuthorId().equals(user.getId())) {
-            return;
-        }
-
-        PostViewEntity view = postViewRepository.findByPostIdAndUserId(postId, user.getId())
-                .orElse(null);
-
-        if (view == null) {
-            // First view
-            view = new PostViewEntity();
-            view.setPostId(postId);
-            view.setUserId(user.getId());
-            view.setViewCount(1);
-            postViewRepository.save(view);
-
-            post.setViewsCount(post.getViewsCount() + 1);
-            postRepository.save(post);
-        } else {
-            // Subsequent view - update last viewed time and count
-            view.setViewCount(view.getViewCount() + 1);
-            view.setLastViewedAt(LocalDateTime.now());
-            postViewRepository.save(view);
-        }
+        // Write-behind: the buffer drops views of missing, unpublished or own posts when it flushes
+        postViewBuffer.record(postId, user.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PostResponse> getMyBookmarks(int page, int size) {
-        AccountEntity user = getAuthenticatedAccount();
+    public Page<PostResponse> getMyBookmarks(int page, int size) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         UUID viewerId = user.getId();
 
         Page<PostBookmarkEntity> bookmarks = postBookmarkRepository
                 .findByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.of(page, size));
 
-        List<PostResponse> posts = bookmarks.getContent().stream()
-                .map(bookmark -> postRepository.findByIdAndIsDeletedFalse(bookmark.getPostId()).orElse(null))
-                .filter(post -> post != null && post.getStatus() == PostStatus.PUBLISHED)
-                .filter(post -> postVisibilityUtil.canViewPost(post, viewerId))
-                .map(postResponseMapper::toPostResponse)
+        List<UUID> postIds = bookmarks.getContent().stream()
+                .map(PostBookmarkEntity::getPostId)
                 .toList();
+        List<PostResponse> posts = toVisiblePostResponses(postIds, viewerId);
 
         return new PageImpl<>(posts, bookmarks.getPageable(), bookmarks.getTotalElements());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PostResponse> getMyReposts(int page, int size) {
-        AccountEntity user = getAuthenticatedAccount();
+    public Page<PostResponse> getMyReposts(int page, int size) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
         UUID viewerId = user.getId();
 
         Page<PostRepostEntity> reposts = postRepostRepository
                 .findByUserIdOrderByCreatedAtDesc(user.getId(), PageRequest.of(page, size));
 
-        List<PostResponse> posts = reposts.getContent().stream()
-                .map(repost -> postRepository.findByIdAndIsDeletedFalse(repost.getPostId()).orElse(null))
-                .filter(post -> post != null && post.getStatus() == PostStatus.PUBLISHED)
-                .filter(post -> postVisibilityUtil.canViewPost(post, viewerId))
-                .map(postResponseMapper::toPostResponse)
+        List<UUID> postIds = reposts.getContent().stream()
+                .map(PostRepostEntity::getPostId)
                 .toList();
+        List<PostResponse> posts = toVisiblePostResponses(postIds, viewerId);
 
         return new PageImpl<>(posts, reposts.getPageable(), reposts.getTotalElements());
     }
@@ -273,17 +234,34 @@ public class PostInteractionServiceImpl implements PostInteractionService {
         Page<PostRepostEntity> reposts = postRepostRepository
                 .findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, size));
 
-        List<PostResponse> posts = reposts.getContent().stream()
-                .map(repost -> postRepository.findByIdAndIsDeletedFalse(repost.getPostId()).orElse(null))
-                .filter(post -> post != null && post.getStatus() == PostStatus.PUBLISHED)
-                .filter(post -> postVisibilityUtil.canViewPost(post, viewerId))
-                .map(postResponseMapper::toPostResponse)
+        List<UUID> postIds = reposts.getContent().stream()
+                .map(PostRepostEntity::getPostId)
                 .toList();
+        List<PostResponse> posts = toVisiblePostResponses(postIds, viewerId);
 
         return new PageImpl<>(posts, reposts.getPageable(), reposts.getTotalElements());
     }
 
 
+    // Loads the posts in one query, keeps the interaction order and maps the page in a single batch
+    private List<PostResponse> toVisiblePostResponses(List<UUID> postIds, UUID viewerId) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, PostEntity> postsById = postRepository.findByIdInAndIsDeletedFalse(postIds).stream()
+                .collect(Collectors.toMap(PostEntity::getId, Function.identity()));
+
+        List<PostEntity> publishedPosts = postIds.stream()
+                .map(postsById::get)
+                .filter(post -> post != null && post.getStatus() == PostStatus.PUBLISHED)
+                .toList();
+
+        List<PostEntity> visiblePosts = postVisibilityUtil.filterVisible(publishedPosts, viewerId);
+
+        return postResponseMapper.toPostResponses(visiblePosts, viewerId);
+    }
+
     private boolean canRepost(PostEntity post, AccountEntity user) {
         RepostPermission whoCanRepost = post.getWhoCanRepost();
 
@@ -316,21 +294,10 @@ public class PostInteractionServiceImpl implements PostInteractionService {
         };
     }
 
-    private AccountEntity getAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        }
-        throw new IllegalArgumentException("User not authenticated");
-    }
-
     private AccountEntity getAuthenticatedAccountOrNull() {
         try {
-            return getAuthenticatedAccount();
-        } catch (Exception e) {
+            return currentAccountProvider.getCurrentAccount();
+        } catch (ItemNotFoundException e) {
             return null;
         }
     }
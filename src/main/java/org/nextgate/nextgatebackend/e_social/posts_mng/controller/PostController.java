@@ -16,6 +16,7 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.utils.mapper.PostResponse
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.BlockRepository;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -46,7 +47,7 @@ public class PostController {
 
     @PostMapping
     public ResponseEntity<GlobeSuccessResponseBuilder> createPost(
-            @Valid @RequestBody CreatePostRequest request) {
+            @Valid @RequestBody CreatePostRequest request) throws ItemNotFoundException {
 
         PostEntity post = postService.createPost(request);
         PostResponse response = postResponseMapper.toPostResponse(post);
@@ -60,7 +61,7 @@ public class PostController {
     }
 
     @PostMapping("/publish")
-    public ResponseEntity<GlobeSuccessResponseBuilder> publishDraftPost() {
+    public ResponseEntity<GlobeSuccessResponseBuilder> publishDraftPost() throws ItemNotFoundException {
 
         PostEntity post = postService.publishPost();
 
@@ -75,7 +76,7 @@ public class PostController {
     }
 
     @DeleteMapping("/{postId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> deletePost(@PathVariable UUID postId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> deletePost(@PathVariable UUID postId) throws ItemNotFoundException {
 
         postService.deletePost(postId);
 
@@ -139,8 +140,23 @@ public class PostController {
         return ResponseEntity.ok(successResponse);
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<GlobeSuccessResponseBuilder> getHomeFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException {
+
+        FeedPageResponse response = feedService.getHomeFeed(cursor, size);
+
+        GlobeSuccessResponseBuilder successResponse = GlobeSuccessResponseBuilder.success(
+                "Feed retrieved successfully",
+                response
+        );
+
+        return ResponseEntity.ok(successResponse);
+    }
+
     @GetMapping("/scheduled")
-    public ResponseEntity<GlobeSuccessResponseBuilder> getScheduledPosts() {
+    public ResponseEntity<GlobeSuccessResponseBuilder> getScheduledPosts() throws ItemNotFoundException {
 
         List<PostEntity> postsPage = postService.getMyScheduledPosts();
 
@@ -156,7 +172,7 @@ public class PostController {
     }
 
     @GetMapping("/draft")
-    public ResponseEntity<GlobeSuccessResponseBuilder> getMyCurrentDraft() {
+    public ResponseEntity<GlobeSuccessResponseBuilder> getMyCurrentDraft() throws ItemNotFoundException {
 
         PostEntity draft = postService.getMyCurrentDraft();
 
@@ -171,7 +187,7 @@ public class PostController {
     }
 
     @DeleteMapping("/draft")
-    public ResponseEntity<GlobeSuccessResponseBuilder> discardDraft() {
+    public ResponseEntity<GlobeSuccessResponseBuilder> discardDraft() throws ItemNotFoundException {
 
         postService.discardDraft();
 
@@ -184,7 +200,7 @@ public class PostController {
 
     @PostMapping("/draft/attach-product/{productId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> attachProductToDraft(
-            @PathVariable UUID productId) {
+            @PathVariable UUID productId) throws ItemNotFoundException {
 
         PostEntity draft = postService.attachProductToDraft(productId);
 
@@ -200,7 +216,7 @@ public class PostController {
 
     @PostMapping("/draft/attach-shop/{shopId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> attachShopToDraft(
-            @PathVariable UUID shopId) {
+            @PathVariable UUID shopId) throws ItemNotFoundException {
 
         PostEntity draft = postService.attachShopToDraft(shopId);
 
@@ -216,7 +232,7 @@ public class PostController {
 
     @PostMapping("/draft/attach-event/{eventId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> attachEventToDraft(
-            @PathVariable UUID eventId) {
+            @PathVariable UUID eventId) throws ItemNotFoundException {
 
         PostEntity draft = postService.attachEventToDraft(eventId);
 
@@ -232,7 +248,7 @@ public class PostController {
 
     @PostMapping("/draft/attach-group/{groupId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> attachBuyTogetherGroupToDraft(
-            @PathVariable UUID groupId) {
+            @PathVariable UUID groupId) throws ItemNotFoundException {
 
         PostEntity draft = postService.attachBuyTogetherGroupToDraft(groupId);
 
@@ -248,7 +264,7 @@ public class PostController {
 
     @PostMapping("/draft/attach-plan/{planId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> attachInstallmentPlanToDraft(
-            @PathVariable UUID planId) {
+            @PathVariable UUID planId) throws ItemNotFoundException {
 
         PostEntity draft = postService.attachInstallmentPlanToDraft(planId);
         PostResponse response = postResponseMapper.toPostResponse(draft);
@@ -263,7 +279,7 @@ public class PostController {
 
     @DeleteMapping("/draft/remove-product/{productId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> removeProductFromDraft(
-            @PathVariable UUID productId) {
+            @PathVariable UUID productId) throws ItemNotFoundException {
 
         PostEntity draft = postService.removeProductFromDraft(productId);
 
@@ -279,7 +295,7 @@ public class PostController {
 
     @DeleteMapping("/draft/remove-shop/{shopId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> removeShopFromDraft(
-            @PathVariable UUID shopId) {
+            @PathVariable UUID shopId) throws ItemNotFoundException {
 
         PostEntity draft = postService.removeShopFromDraft(shopId);
 
@@ -295,7 +311,7 @@ public class PostController {
 
     @DeleteMapping("/draft/remove-event/{eventId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> removeEventFromDraft(
-            @PathVariable UUID eventId) {
+            @PathVariable UUID eventId) throws ItemNotFoundException {
 
         PostEntity draft = postService.removeEventFromDraft(eventId);
         PostResponse response = postResponseMapper.toPostResponse(draft);
@@ -310,7 +326,7 @@ public class PostController {
 
     @DeleteMapping("/draft/remove-group/{groupId}")
         public ResponseEntity<GlobeSuccessResponseBuilder> removeBuyTogetherGroupFromDraft(
-            @PathVariable UUID groupId) {
+            @PathVariable UUID groupId) throws ItemNotFoundException {
 
         PostEntity draft = postService.removeBuyTogetherGroupFromDraft(groupId);
 
@@ -326,7 +342,7 @@ public class PostController {
 
     @DeleteMapping("/draft/remove-plan/{planId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> removeInstallmentPlanFromDraft(
-            @PathVariable UUID planId) {
+            @PathVariable UUID planId) throws ItemNotFoundException {
 
         PostEntity draft = postService.removeInstallmentPlanFromDraft(planId);
 
@@ -342,7 +358,7 @@ public class PostController {
 
     @PutMapping()
     public ResponseEntity<GlobeSuccessResponseBuilder> updateDraft(
-            @Valid @RequestBody UpdateDraftRequest request) {
+            @Valid @RequestBody UpdateDraftRequest request) throws ItemNotFoundException {
 
         PostEntity draft = postService.updateDraft(request);
 
@@ -358,7 +374,7 @@ public class PostController {
 
     @PutMapping("/content")
     public ResponseEntity<GlobeSuccessResponseBuilder> updateDraftContent(
-            @RequestBody String content) {
+            @RequestBody String content) throws ItemNotFoundException {
 
         PostEntity draft = postService.updateDraftContent(content);
 
@@ -374,7 +390,7 @@ public class PostController {
 
     @PutMapping("/media")
     public ResponseEntity<GlobeSuccessResponseBuilder> addMediaToDraft(
-            @Valid @RequestBody List<MediaRequest> media) {
+            @Valid @RequestBody List<MediaRequest> media) throws ItemNotFoundException {
 
         PostEntity draft = postService.addMediaToDraft( media);
 
@@ -390,7 +406,7 @@ public class PostController {
 
     @PutMapping("/privacy")
     public ResponseEntity<GlobeSuccessResponseBuilder> updateDraftPrivacySettings(
-            @Valid @RequestBody PrivacySettingsRequest settings) {
+            @Valid @RequestBody PrivacySettingsRequest settings) throws ItemNotFoundException {
 
         PostEntity draft = postService.updateDraftPrivacySettings(settings);
 
@@ -406,7 +422,7 @@ public class PostController {
 
     @PutMapping("/collaboration")
     public ResponseEntity<GlobeSuccessResponseBuilder> updateDraftCollaboration(
-            @Valid @RequestBody CollaborationRequest collaboration) {
+            @Valid @RequestBody CollaborationRequest collaboration) throws ItemNotFoundException {
 
         PostEntity draft = postService.updateDraftCollaboration(collaboration);
 
@@ -422,7 +438,7 @@ public class PostController {
 
     @PostMapping("/{postId}/collaboration/accept")
     public ResponseEntity<GlobeSuccessResponseBuilder> acceptCollaboration(
-            @PathVariable UUID postId) {
+            @PathVariable UUID postId) throws ItemNotFoundException {
 
         PostEntity post = postService.acceptCollaboration(postId);
 
@@ -438,7 +454,7 @@ public class PostController {
 
     @PostMapping("/{postId}/collaboration/decline")
     public ResponseEntity<GlobeSuccessResponseBuilder> declineCollaboration(
-            @PathVariable UUID postId) {
+            @PathVariable UUID postId) throws ItemNotFoundException {
 
         PostEntity post = postService.declineCollaboration(postId);
 
@@ -455,7 +471,7 @@ public class PostController {
     @DeleteMapping("/{postId}/collaborators/{collaboratorId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> removeCollaborator(
             @PathVariable UUID postId,
-            @PathVariable UUID collaboratorId) {
+            @PathVariable UUID collaboratorId) throws ItemNotFoundException {
 
         postService.removeCollaborator(postId, collaboratorId);
 
@@ -473,7 +489,7 @@ public class PostController {
     @PostMapping("/{postId}/vote")
     public ResponseEntity<GlobeSuccessResponseBuilder> voteOnPoll(
             @PathVariable UUID postId,
-            @Valid @RequestBody VotePollRequest request) {
+            @Valid @RequestBody VotePollRequest request) throws ItemNotFoundException {
 
             pollService.voteOnPoll(postId, request.getOptionIds());
 
@@ -487,7 +503,7 @@ public class PostController {
     }
 
     @DeleteMapping("/{postId}/vote")
-    public ResponseEntity<GlobeSuccessResponseBuilder> removeVote(@PathVariable UUID postId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> removeVote(@PathVariable UUID postId) throws ItemNotFoundException {
 
         pollService.removeVote(postId);
 
@@ -515,7 +531,7 @@ public class PostController {
     @GetMapping("/{postId}/poll-voters/{optionId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> getOptionVoters(
             @PathVariable UUID postId,
-            @PathVariable UUID optionId) {
+            @PathVariable UUID optionId) throws ItemNotFoundException {
 
         List<VoterInfo> voters = pollService.getOptionVoters(postId, optionId);
 
@@ -532,7 +548,7 @@ public class PostController {
   // ============================================
 
     @PostMapping("/{postId}/like")
-    public ResponseEntity<GlobeSuccessResponseBuilder> likePost(@PathVariable UUID postId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> likePost(@PathVariable UUID postId) throws ItemNotFoundException {
 
         interactionService.likePost(postId);
 
@@ -545,7 +561,7 @@ public class PostController {
     }
 
     @DeleteMapping("/{postId}/like")
-    public ResponseEntity<GlobeSuccessResponseBuilder> unlikePost(@PathVariable UUID postId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> unlikePost(@PathVariable UUID postId) throws ItemNotFoundException {
 
         interactionService.unlikePost(postId);
 
@@ -558,7 +574,7 @@ public class PostController {
     }
 
     @PostMapping("/{postId}/bookmark")
-    public ResponseEntity<GlobeSuccessResponseBuilder> bookmarkPost(@PathVariable UUID postId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> bookmarkPost(@PathVariable UUID postId) throws ItemNotFoundException {
 
         interactionService.bookmarkPost(postId);
 
@@ -571,7 +587,7 @@ public class PostController {
     }
 
     @DeleteMapping("/{postId}/bookmark")
-    public ResponseEntity<GlobeSuccessResponseBuilder> unbookmarkPost(@PathVariable UUID postId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> unbookmarkPost(@PathVariable UUID postId) throws ItemNotFoundException {
 
         interactionService.unbookmarkPost(postId);
 
@@ -586,7 +602,7 @@ public class PostController {
     @GetMapping("/bookmarks")
     public ResponseEntity<GlobeSuccessResponseBuilder> getMyBookmarks(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException {
 
         Page<PostResponse> bookmarks = interactionService.getMyBookmarks(page - 1, size);
 
@@ -601,7 +617,7 @@ public class PostController {
     @PostMapping("/{postId}/repost")
     public ResponseEntity<GlobeSuccessResponseBuilder> repostPost(
             @PathVariable UUID postId,
-            @RequestBody(required = false) RepostRequest request) {
+            @RequestBody(required = false) RepostRequest request) throws ItemNotFoundException {
 
         String comment = request != null ? request.getComment() : null;
         interactionService.repostPost(postId, comment);
@@ -615,7 +631,7 @@ public class PostController {
     }
 
     @DeleteMapping("/{postId}/repost")
-    public ResponseEntity<GlobeSuccessResponseBuilder> unrepostPost(@PathVariable UUID postId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> unrepostPost(@PathVariable UUID postId) throws ItemNotFoundException {
 
         interactionService.unrepostPost(postId);
 
@@ -630,7 +646,7 @@ public class PostController {
     @GetMapping("/my-reposts")
     public ResponseEntity<GlobeSuccessResponseBuilder> getMyReposts(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException {
 
         Page<PostResponse> reposts = interactionService.getMyReposts(page - 1, size);
 
@@ -678,7 +694,7 @@ public class PostController {
     @PostMapping("/{postId}/comments")
     public ResponseEntity<GlobeSuccessResponseBuilder> createComment(
             @PathVariable UUID postId,
-            @Valid @RequestBody CreateCommentRequest request) {
+            @Valid @RequestBody CreateCommentRequest request) throws ItemNotFoundException {
 
         PostCommentEntity comment = commentService.createComment(postId, request);
         CommentResponse response = commentResponseMapper.toCommentResponse(comment);
@@ -746,7 +762,7 @@ public class PostController {
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> updateComment(
             @PathVariable UUID commentId,
-            @Valid @RequestBody UpdateCommentRequest request) {
+            @Valid @RequestBody UpdateCommentRequest request) throws ItemNotFoundException {
 
         PostCommentEntity comment = commentService.updateComment(commentId, request);
         CommentResponse response = commentResponseMapper.toCommentResponse(comment);
@@ -760,7 +776,7 @@ public class PostController {
     }
 
     @DeleteMapping("/comments/{commentId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> deleteComment(@PathVariable UUID commentId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> deleteComment(@PathVariable UUID commentId) throws ItemNotFoundException {
 
         commentService.deleteComment(commentId);
 
@@ -775,7 +791,7 @@ public class PostController {
     @PostMapping("/{postId}/comments/{commentId}/pin")
     public ResponseEntity<GlobeSuccessResponseBuilder> pinComment(
             @PathVariable UUID postId,
-            @PathVariable UUID commentId) {
+            @PathVariable UUID commentId) throws ItemNotFoundException {
 
         PostCommentEntity comment = commentService.pinComment(postId, commentId);
         CommentResponse response = commentResponseMapper.toCommentResponse(comment);
@@ -789,7 +805,7 @@ public class PostController {
     }
 
     @DeleteMapping("/comments/{commentId}/pin")
-    public ResponseEntity<GlobeSuccessResponseBuilder> unpinComment(@PathVariable UUID commentId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> unpinComment(@PathVariable UUID commentId) throws ItemNotFoundException {
 
         PostCommentEntity comment = commentService.unpinComment(commentId);
         CommentResponse response = commentResponseMapper.toCommentResponse(comment);
@@ -803,7 +819,7 @@ public class PostController {
     }
 
     @PostMapping("/comments/{commentId}/like")
-    public ResponseEntity<GlobeSuccessResponseBuilder> likeComment(@PathVariable UUID commentId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> likeComment(@PathVariable UUID commentId) throws ItemNotFoundException {
 
         commentService.likeComment(commentId);
 
@@ -816,7 +832,7 @@ public class PostController {
     }
 
     @DeleteMapping("/comments/{commentId}/like")
-    public ResponseEntity<GlobeSuccessResponseBuilder> unlikeComment(@PathVariable UUID commentId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> unlikeComment(@PathVariable UUID commentId) throws ItemNotFoundException {
 
         commentService.unlikeComment(commentId);
 
@@ -836,7 +852,7 @@ public class PostController {
     @PostMapping("/quote/{quotedPostId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> createQuotePost(
             @PathVariable UUID quotedPostId,
-            @Valid @RequestBody CreateQuotePostRequest request) {
+            @Valid @RequestBody CreateQuotePostRequest request) throws ItemNotFoundException {
 
         PostEntity post = postService.createQuotePost(quotedPostId, request);
         PostResponse response = postResponseMapper.toPostResponse(post);
@@ -0,0 +1,35 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Authors whose follower count crossed the fan-out threshold.
+// Their posts are merged into followers' feeds at read time (fan-out-on-read).
+@Entity
+@Table(name = "feed_high_fanout_authors")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class HighFanoutAuthorEntity {
+
+    @Id
+    private UUID authorId;
+
+    @Column(nullable = false)
+    private long followersCountAtMark;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime markedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        markedAt = LocalDateTime.now();
+    }
+}
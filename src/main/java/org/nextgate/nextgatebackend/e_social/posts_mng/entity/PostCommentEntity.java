@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -21,6 +22,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @Getter
 @Setter
+@DynamicUpdate
 public class PostCommentEntity {
 
     @Id
@@ -39,10 +41,11 @@ public class PostCommentEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @Column(nullable = false)
+    // Counters move only through the repository's SQL deltas; save() must never write back a stale copy
+    @Column(nullable = false, updatable = false)
     private int likesCount = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int repliesCount = 0;
 
     @Column(nullable = false)
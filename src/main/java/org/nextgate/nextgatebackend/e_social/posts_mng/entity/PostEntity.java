@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.nextgate.nextgatebackend.e_social.posts_mng.enums.*;
 
 import java.time.LocalDateTime;
@@ -19,12 +20,14 @@ import java.util.UUID;
         @Index(name = "idx_posts_created_at", columnList = "createdAt"),
         @Index(name = "idx_posts_is_deleted", columnList = "isDeleted"),
         @Index(name = "idx_posts_likes_count", columnList = "likesCount"),
-        @Index(name = "idx_posts_status_published_deleted", columnList = "status, publishedAt, isDeleted")
+        @Index(name = "idx_posts_status_published_deleted", columnList = "status, publishedAt, isDeleted"),
+        @Index(name = "idx_posts_author_published", columnList = "authorId, publishedAt")
 })
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
+@DynamicUpdate
 public class PostEntity {
 
     @Id
@@ -79,23 +82,24 @@ public class PostEntity {
 
     private LocalDateTime deletedAt;
 
-    @Column(nullable = false)
+    // Counters move only through the repository's SQL deltas; save() must never write back a stale copy
+    @Column(nullable = false, updatable = false)
     private long likesCount = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private long commentsCount = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private long repostsCount = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private long bookmarksCount = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private long viewsCount = 0;
 
     //Todo:True for now only
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private long quotesCount = 0;
 
 
@@ -0,0 +1,46 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One row per (feed owner, post) written on publish for normal authors (fan-out-on-write).
+// Posts of high-fanout authors are not written here, they are pulled at read time.
+@Entity
+@Table(name = "timeline_entries",
+        indexes = {
+                @Index(name = "idx_timeline_owner_published", columnList = "ownerId, publishedAt, postId"),
+                @Index(name = "idx_timeline_post_id", columnList = "postId"),
+                @Index(name = "idx_timeline_owner_author", columnList = "ownerId, authorId")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_timeline_owner_post", columnNames = {"ownerId", "postId"})
+        }
+)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class TimelineEntryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    @Column(nullable = false)
+    private UUID postId;
+
+    @Column(nullable = false)
+    private UUID authorId;
+
+    @Column(nullable = false)
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,27 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.events;
+
+import lombok.Getter;
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEntity;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published inside the publishing transaction when a post becomes PUBLISHED.
+ * Handled after commit to fan the post out into followers' timelines.
+ */
+@Getter
+public class PostPublishedEvent extends ApplicationEvent {
+
+    private final UUID postId;
+    private final UUID authorId;
+    private final LocalDateTime publishedAt;
+
+    public PostPublishedEvent(Object source, PostEntity post) {
+        super(source);
+        this.postId = post.getId();
+        this.authorId = post.getAuthorId();
+        this.publishedAt = post.getPublishedAt();
+    }
+}
@@ -0,0 +1,52 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.PostCommentRepository;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Safety net for the engagement counters on posts and comments.
+ * Counters are maintained with in-place deltas; this job rebuilds them from the
+ * like/bookmark/repost/view/comment tables for recent content and fixes any drift.
+ * Runs every hour at minute 15.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EngagementCounterRecountJob {
+
+    private final PostRepository postRepository;
+    private final PostCommentRepository commentRepository;
+
+    @Value("${app.social.counter-recount-days:7}")
+    private int recountDays;
+
+    /**
+     * Cron: "0 15 * * * *" = At minute 15 of every hour
+     */
+    @Recurring(id = "recount-engagement-counters", cron = "0 15 * * * *")
+    @Job(name = "Recount Engagement Counters - Hourly", retries = 2)
+    @Transactional
+    public void recountEngagementCounters() {
+        LocalDateTime since = LocalDateTime.now().minusDays(recountDays);
+
+        int postsFixed = postRepository.recountEngagementSince(since);
+        int commentsFixed = commentRepository.recountEngagementSince(since);
+
+        if (postsFixed == 0 && commentsFixed == 0) {
+            log.info("Engagement counters in sync for content since {}", since);
+            return;
+        }
+
+        log.warn("Engagement counter drift corrected: {} posts, {} comments (since {})",
+                postsFixed, commentsFixed, since);
+    }
+}
@@ -0,0 +1,41 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.TimelineEntryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps timeline_entries bounded.
+ * Fan-out-on-write adds a row per follower for every post, and rows only go away when a post
+ * is removed or an author unfollowed, so each home feed keeps its newest
+ * app.feed.timeline.max-entries-per-owner entries. Older posts of high-fanout authors are
+ * pulled on read and not affected.
+ * Runs every night at 04:30.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineRetentionJob {
+
+    private final TimelineEntryRepository timelineEntryRepository;
+
+    @Value("${app.feed.timeline.max-entries-per-owner:1000}")
+    private int maxEntriesPerOwner;
+
+    /**
+     * Cron: "0 30 4 * * *" = At 04:30 every day
+     */
+    @Recurring(id = "trim-timelines", cron = "0 30 4 * * *")
+    @Job(name = "Trim Home Timelines - Nightly", retries = 2)
+    @Transactional
+    public void trimTimelines() {
+        int removed = timelineEntryRepository.trimOwnersToNewest(maxEntriesPerOwner);
+
+        log.info("Trimmed {} timeline entries beyond the newest {} per owner", removed, maxEntriesPerOwner);
+    }
+}
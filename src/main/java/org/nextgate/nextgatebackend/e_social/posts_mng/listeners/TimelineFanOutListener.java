@@ -0,0 +1,32 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.listeners;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_social.posts_mng.events.PostPublishedEvent;
+import org.nextgate.nextgatebackend.e_social.posts_mng.service.FeedService;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fans published posts out into followers' timelines.
+ * Runs AFTER_COMMIT and async so publishing never waits on the follower graph.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineFanOutListener {
+
+    private final FeedService feedService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void onPostPublished(PostPublishedEvent event) {
+        try {
+            feedService.fanOutPost(event.getPostId(), event.getAuthorId(), event.getPublishedAt());
+        } catch (Exception e) {
+            log.error("Timeline fan-out failed for post {}", event.getPostId(), e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.payloads;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedPageResponse {
+
+    private List<TimelineItemResponse> items = new ArrayList<>();
+    private String nextCursor; // Opaque (publishedAt, postId) cursor, null when there is no more
+    private boolean hasMore;
+}
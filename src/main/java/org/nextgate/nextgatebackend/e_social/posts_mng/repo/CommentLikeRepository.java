@@ -2,6 +2,9 @@ package org.nextgate.nextgatebackend.e_social.posts_mng.repo;
 
 import org.nextgate.nextgatebackend.e_social.posts_mng.entity.CommentLikeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,4 +18,9 @@ public interface CommentLikeRepository extends JpaRepository<CommentLikeEntity,
     Optional<CommentLikeEntity> findByCommentIdAndUserId(UUID commentId, UUID userId);
 
     long countByCommentId(UUID commentId);
+
+    // Returns the number of rows removed so callers only decrement the counter for a real unlike
+    @Modifying
+    @Query("DELETE FROM CommentLikeEntity l WHERE l.commentId = :commentId AND l.userId = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.repo;
+
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.HighFanoutAuthorEntity;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface HighFanoutAuthorRepository extends JpaRepository<HighFanoutAuthorEntity, UUID> {
+
+    // High-fanout authors the given user follows - their posts are pulled at read time
+    @Query("""
+        SELECT f.followingId FROM FollowEntity f
+        WHERE f.followerId = :followerId
+        AND f.status = :status
+        AND f.followingId IN (SELECT h.authorId FROM HighFanoutAuthorEntity h)
+    """)
+    List<UUID> findFollowedHighFanoutAuthorIds(@Param("followerId") UUID followerId,
+                                               @Param("status") FollowStatus status);
+}
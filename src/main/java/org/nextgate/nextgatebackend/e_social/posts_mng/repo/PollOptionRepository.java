@@ -4,6 +4,7 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PollOptionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,4 +13,6 @@ public interface PollOptionRepository extends JpaRepository<PollOptionEntity, UU
     List<PollOptionEntity> findByPollIdOrderByOptionOrder(UUID pollId);
 
     void deleteByPollId(UUID pollId);
-}
\ No newline at end of file
+
+    List<PollOptionEntity> findByPollIdInOrderByOptionOrder(Collection<UUID> pollIds);
+}
@@ -4,6 +4,8 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PollEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +16,6 @@ public interface PollRepository extends JpaRepository<PollEntity, UUID> {
     boolean existsByPostId(UUID postId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PollEntity> findByPostIdIn(Collection<UUID> postIds);
+}
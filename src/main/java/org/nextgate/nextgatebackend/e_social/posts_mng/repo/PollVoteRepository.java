@@ -4,6 +4,7 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PollVoteEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,4 +27,6 @@ public interface PollVoteRepository extends JpaRepository<PollVoteEntity, UUID>
     List<PollVoteEntity> findByOptionId(UUID optionId);
 
     List<PollVoteEntity> findByOptionIdOrderByCreatedAtDesc(UUID optionId);
-}
\ No newline at end of file
+
+    List<PollVoteEntity> findByPollIdInAndVoterId(Collection<UUID> pollIds, UUID voterId);
+}
@@ -4,6 +4,7 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostBuyTogetherGro
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +17,6 @@ public interface PostBuyTogetherGroupRepository extends JpaRepository<PostBuyTog
     boolean existsByPostIdAndGroupId(UUID postId, UUID groupId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PostBuyTogetherGroupEntity> findByPostIdIn(Collection<UUID> postIds);
+}
@@ -5,6 +5,7 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.enums.CollaboratorStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,4 +25,6 @@ public interface PostCollaboratorRepository extends JpaRepository<PostCollaborat
     boolean existsByPostIdAndUserIdAndStatus(UUID postId, UUID userId, CollaboratorStatus status);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PostCollaboratorEntity> findByPostIdIn(Collection<UUID> postIds);
+}
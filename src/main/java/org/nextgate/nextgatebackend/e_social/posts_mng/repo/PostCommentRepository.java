@@ -4,8 +4,13 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostCommentEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,4 +35,46 @@ public interface PostCommentRepository extends JpaRepository<PostCommentEntity,
 
     // Check if user commented on post
     boolean existsByPostIdAndUserIdAndIsDeletedFalse(UUID postId, UUID userId);
-}
\ No newline at end of file
+
+    // Posts (out of the given ones) the user has commented on
+    @Query("SELECT DISTINCT c.postId FROM PostCommentEntity c WHERE c.userId = :userId AND c.postId IN :postIds AND c.isDeleted = false")
+    List<UUID> findCommentedPostIdsByUserIdAndPostIdIn(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
+
+    // Counters: in-place deltas, same as the post counters in PostRepository
+
+    @Modifying
+    @Query("UPDATE PostCommentEntity c SET c.likesCount = c.likesCount + 1 WHERE c.id = :commentId")
+    void incrementLikesCount(@Param("commentId") UUID commentId);
+
+    @Modifying
+    @Query("UPDATE PostCommentEntity c SET c.likesCount = CASE WHEN c.likesCount > 0 THEN c.likesCount - 1 ELSE 0 END WHERE c.id = :commentId")
+    void decrementLikesCount(@Param("commentId") UUID commentId);
+
+    @Modifying
+    @Query("UPDATE PostCommentEntity c SET c.repliesCount = c.repliesCount + 1 WHERE c.id = :commentId")
+    void incrementRepliesCount(@Param("commentId") UUID commentId);
+
+    @Modifying
+    @Query("UPDATE PostCommentEntity c SET c.repliesCount = CASE WHEN c.repliesCount > 0 THEN c.repliesCount - 1 ELSE 0 END WHERE c.id = :commentId")
+    void decrementRepliesCount(@Param("commentId") UUID commentId);
+
+    // Rebuilds like and reply counters of comments created since the given time
+    @Modifying
+    @Query(value = """
+        WITH actual AS (
+            SELECT c.id,
+                   (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = c.id) AS likes,
+                   (SELECT COUNT(*) FROM post_comments r
+                    WHERE r.parent_comment_id = c.id AND r.is_deleted = false) AS replies
+            FROM post_comments c
+            WHERE c.is_deleted = false AND c.created_at >= :since
+        )
+        UPDATE post_comments c
+        SET likes_count = a.likes,
+            replies_count = a.replies
+        FROM actual a
+        WHERE c.id = a.id
+        AND (c.likes_count, c.replies_count) IS DISTINCT FROM (a.likes, a.replies)
+        """, nativeQuery = true)
+    int recountEngagementSince(@Param("since") LocalDateTime since);
+}
@@ -3,6 +3,7 @@ package org.nextgate.nextgatebackend.e_social.posts_mng.repo;
 import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEventEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +16,6 @@ public interface PostEventRepository extends JpaRepository<PostEventEntity, UUID
     boolean existsByPostIdAndEventId(UUID postId, UUID eventId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PostEventEntity> findByPostIdIn(Collection<UUID> postIds);
+}
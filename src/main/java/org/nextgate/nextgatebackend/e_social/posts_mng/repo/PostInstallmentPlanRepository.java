@@ -4,6 +4,7 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostInstallmentPla
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +17,6 @@ public interface PostInstallmentPlanRepository extends JpaRepository<PostInstall
     boolean existsByPostIdAndPlanId(UUID postId, UUID planId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PostInstallmentPlanEntity> findByPostIdIn(Collection<UUID> postIds);
+}
@@ -4,6 +4,8 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostLinkEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +19,6 @@ public interface PostLinkRepository extends JpaRepository<PostLinkEntity, UUID>
     boolean existsByPostId(UUID postId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PostLinkEntity> findByPostIdIn(Collection<UUID> postIds);
+}
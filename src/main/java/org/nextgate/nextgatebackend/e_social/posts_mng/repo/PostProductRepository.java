@@ -4,6 +4,7 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostProductEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,4 +17,6 @@ public interface PostProductRepository extends JpaRepository<PostProductEntity,
     boolean existsByPostIdAndProductId(UUID postId, UUID productId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PostProductEntity> findByPostIdIn(Collection<UUID> postIds);
+}
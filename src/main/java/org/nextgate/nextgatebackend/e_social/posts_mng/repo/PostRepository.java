@@ -12,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +21,8 @@ public interface PostRepository extends JpaRepository<PostEntity, UUID> {
 
     Optional<PostEntity> findByIdAndIsDeletedFalse(UUID id);
 
+    boolean existsByIdAndIsDeletedFalse(UUID id);
+
     Optional<PostEntity> findByAuthorIdAndStatusAndIsDeletedFalse(UUID authorId, PostStatus status);
 
     List<PostEntity> findByAuthorIdAndIsDeletedFalseOrderByCreatedAtDesc(UUID authorId);
@@ -47,4 +50,88 @@ public interface PostRepository extends JpaRepository<PostEntity, UUID> {
     @Modifying
     @Query("UPDATE PostEntity p SET p.quotesCount = p.quotesCount + 1, p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :postId")
     void incrementQuotesCount(@Param("postId") UUID postId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.quotesCount = CASE WHEN p.quotesCount > 0 THEN p.quotesCount - 1 ELSE 0 END WHERE p.id = :postId")
+    void decrementQuotesCount(@Param("postId") UUID postId);
+
+    // Engagement counters: in-place deltas so concurrent taps never overwrite each other.
+    // They leave updatedAt alone - a like is not an edit of the post.
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.likesCount = p.likesCount + 1 WHERE p.id = :postId")
+    void incrementLikesCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.likesCount = CASE WHEN p.likesCount > 0 THEN p.likesCount - 1 ELSE 0 END WHERE p.id = :postId")
+    void decrementLikesCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.bookmarksCount = p.bookmarksCount + 1 WHERE p.id = :postId")
+    void incrementBookmarksCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.bookmarksCount = CASE WHEN p.bookmarksCount > 0 THEN p.bookmarksCount - 1 ELSE 0 END WHERE p.id = :postId")
+    void decrementBookmarksCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.repostsCount = p.repostsCount + 1 WHERE p.id = :postId")
+    void incrementRepostsCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.repostsCount = CASE WHEN p.repostsCount > 0 THEN p.repostsCount - 1 ELSE 0 END WHERE p.id = :postId")
+    void decrementRepostsCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.commentsCount = p.commentsCount + 1 WHERE p.id = :postId")
+    void incrementCommentsCount(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.commentsCount = CASE WHEN p.commentsCount > 0 THEN p.commentsCount - 1 ELSE 0 END WHERE p.id = :postId")
+    void decrementCommentsCount(@Param("postId") UUID postId);
+
+    // Rebuilds the counters of posts published since the given time from the interaction tables.
+    // Only rows that drifted are rewritten.
+    @Modifying
+    @Query(value = """
+        WITH actual AS (
+            SELECT p.id,
+                   (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id) AS likes,
+                   (SELECT COUNT(*) FROM post_bookmarks b WHERE b.post_id = p.id) AS bookmarks,
+                   (SELECT COUNT(*) FROM post_reposts r WHERE r.post_id = p.id) AS reposts,
+                   (SELECT COUNT(*) FROM post_views v WHERE v.post_id = p.id) AS views,
+                   (SELECT COUNT(*) FROM post_comments c
+                    WHERE c.post_id = p.id AND c.parent_comment_id IS NULL AND c.is_deleted = false) AS comments
+            FROM posts p
+            WHERE p.is_deleted = false AND p.status = 'PUBLISHED' AND p.published_at >= :since
+        )
+        UPDATE posts p
+        SET likes_count = a.likes,
+            bookmarks_count = a.bookmarks,
+            reposts_count = a.reposts,
+            views_count = a.views,
+            comments_count = a.comments
+        FROM actual a
+        WHERE p.id = a.id
+        AND (p.likes_count, p.bookmarks_count, p.reposts_count, p.views_count, p.comments_count)
+            IS DISTINCT FROM (a.likes, a.bookmarks, a.reposts, a.views, a.comments)
+        """, nativeQuery = true)
+    int recountEngagementSince(@Param("since") LocalDateTime since);
+
+    List<PostEntity> findByIdInAndIsDeletedFalse(Collection<UUID> ids);
+
+    // Keyset page of published posts by the given authors, older than the (publishedAt, id) cursor
+    @Query("""
+        SELECT p FROM PostEntity p
+        WHERE p.authorId IN :authorIds
+        AND p.status = :status
+        AND p.isDeleted = false
+        AND (p.publishedAt < :cursorAt OR (p.publishedAt = :cursorAt AND p.id < :cursorPostId))
+        ORDER BY p.publishedAt DESC, p.id DESC
+    """)
+    List<PostEntity> findByAuthorsPublishedBefore(@Param("authorIds") Collection<UUID> authorIds,
+                                                  @Param("status") PostStatus status,
+                                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                                  @Param("cursorPostId") UUID cursorPostId,
+                                                  Pageable pageable);
+}
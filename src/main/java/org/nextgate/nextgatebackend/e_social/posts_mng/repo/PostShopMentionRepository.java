@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,4 +21,6 @@ public interface PostShopMentionRepository extends JpaRepository<PostShopMention
     boolean existsByPostIdAndMentionedShopId(UUID postId, UUID mentionedShopId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PostShopMentionEntity> findByPostIdIn(Collection<UUID> postIds);
+}
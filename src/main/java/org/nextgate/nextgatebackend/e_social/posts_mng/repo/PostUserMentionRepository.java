@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,4 +21,6 @@ public interface PostUserMentionRepository extends JpaRepository<PostUserMention
     boolean existsByPostIdAndMentionedUserId(UUID postId, UUID mentionedUserId);
 
     void deleteByPostId(UUID postId);
-}
\ No newline at end of file
+
+    List<PostUserMentionEntity> findByPostIdIn(Collection<UUID> postIds);
+}
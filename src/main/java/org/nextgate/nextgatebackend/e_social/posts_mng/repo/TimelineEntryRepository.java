@@ -0,0 +1,94 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng.repo;
+
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.TimelineEntryEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntryEntity, UUID> {
+
+    // Keyset page: entries strictly older than the (publishedAt, postId) cursor
+    @Query("""
+        SELECT t FROM TimelineEntryEntity t
+        WHERE t.ownerId = :ownerId
+        AND (t.publishedAt < :cursorAt OR (t.publishedAt = :cursorAt AND t.postId < :cursorPostId))
+        ORDER BY t.publishedAt DESC, t.postId DESC
+    """)
+    List<TimelineEntryEntity> findPageBefore(@Param("ownerId") UUID ownerId,
+                                             @Param("cursorAt") LocalDateTime cursorAt,
+                                             @Param("cursorPostId") UUID cursorPostId,
+                                             Pageable pageable);
+
+    // Fan-out-on-write: one INSERT ... SELECT over the author's accepted followers
+    @Modifying
+    @Query(value = """
+        INSERT INTO timeline_entries (id, owner_id, post_id, author_id, published_at)
+        SELECT gen_random_uuid(), f.follower_id, :postId, :authorId, :publishedAt
+        FROM follows f
+        WHERE f.following_id = :authorId AND f.status = 'ACCEPTED'
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int fanOutToFollowers(@Param("postId") UUID postId,
+                          @Param("authorId") UUID authorId,
+                          @Param("publishedAt") LocalDateTime publishedAt);
+
+    // Backfill a new follower's feed with the author's latest published posts
+    @Modifying
+    @Query(value = """
+        INSERT INTO timeline_entries (id, owner_id, post_id, author_id, published_at)
+        SELECT gen_random_uuid(), :ownerId, p.id, p.author_id, p.published_at
+        FROM posts p
+        WHERE p.author_id = :authorId AND p.status = 'PUBLISHED' AND p.is_deleted = false
+        ORDER BY p.published_at DESC
+        LIMIT :limit
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int backfillFromAuthor(@Param("ownerId") UUID ownerId,
+                           @Param("authorId") UUID authorId,
+                           @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO timeline_entries (id, owner_id, post_id, author_id, published_at)
+        VALUES (gen_random_uuid(), :ownerId, :postId, :authorId, :publishedAt)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("ownerId") UUID ownerId,
+                                @Param("postId") UUID postId,
+                                @Param("authorId") UUID authorId,
+                                @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntryEntity t WHERE t.ownerId = :ownerId AND t.authorId = :authorId")
+    int deleteByOwnerIdAndAuthorId(@Param("ownerId") UUID ownerId, @Param("authorId") UUID authorId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntryEntity t WHERE t.postId = :postId")
+    int deleteByPostId(@Param("postId") UUID postId);
+
+    // Keep each owner's newest :keep entries in feed order, drop the rest
+    @Modifying
+    @Query(value = """
+        DELETE FROM timeline_entries t
+        USING (
+            SELECT ranked.id FROM (
+                SELECT e.id, row_number() OVER (PARTITION BY e.owner_id
+                                                ORDER BY e.published_at DESC, e.post_id DESC) AS position
+                FROM timeline_entries e
+                WHERE e.owner_id IN (SELECT owner_id FROM timeline_entries
+                                     GROUP BY owner_id HAVING count(*) > :keep)
+            ) ranked
+            WHERE ranked.position > :keep
+        ) stale
+        WHERE t.id = stale.id
+        """, nativeQuery = true)
+    int trimOwnersToNewest(@Param("keep") int keep);
+}
@@ -3,6 +3,7 @@ package org.nextgate.nextgatebackend.e_social.posts_mng.service;
 import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostCommentEntity;
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.CreateCommentRequest;
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.UpdateCommentRequest;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,9 +12,9 @@ import java.util.UUID;
 public interface CommentService {
 
     // Create and manage comments
-    PostCommentEntity createComment(UUID postId, CreateCommentRequest request);
-    PostCommentEntity updateComment(UUID commentId, UpdateCommentRequest request);
-    void deleteComment(UUID commentId);
+    PostCommentEntity createComment(UUID postId, CreateCommentRequest request) throws ItemNotFoundException;
+    PostCommentEntity updateComment(UUID commentId, UpdateCommentRequest request) throws ItemNotFoundException;
+    void deleteComment(UUID commentId) throws ItemNotFoundException;
 
     // Get comments
     Page<PostCommentEntity> getComments(UUID postId, Pageable pageable);
@@ -21,10 +22,10 @@ public interface CommentService {
     PostCommentEntity getCommentById(UUID commentId);
 
     // Pin/unpin comments (post author only)
-    PostCommentEntity pinComment(UUID postId, UUID commentId);
-    PostCommentEntity unpinComment(UUID commentId);
+    PostCommentEntity pinComment(UUID postId, UUID commentId) throws ItemNotFoundException;
+    PostCommentEntity unpinComment(UUID commentId) throws ItemNotFoundException;
 
     // Like comments
-    void likeComment(UUID commentId);
-    void unlikeComment(UUID commentId);
+    void likeComment(UUID commentId) throws ItemNotFoundException;
+    void unlikeComment(UUID commentId) throws ItemNotFoundException;
 }
\ No newline at end of file
@@ -1,5 +1,20 @@
 package org.nextgate.nextgatebackend.e_social.posts_mng.service;
 
+import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.FeedPageResponse;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 public interface FeedService {
 
-}
\ No newline at end of file
+    FeedPageResponse getHomeFeed(String cursor, int size) throws ItemNotFoundException;
+
+    void fanOutPost(UUID postId, UUID authorId, LocalDateTime publishedAt);
+
+    void onFollowAccepted(UUID followerId, UUID followingId);
+
+    void onUnfollow(UUID followerId, UUID followingId);
+
+    void removePost(UUID postId);
+}
@@ -3,15 +3,16 @@ package org.nextgate.nextgatebackend.e_social.posts_mng.service;
 
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.PollResultsResponse;
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.VoterInfo;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface PollService {
 
-    void voteOnPoll(UUID postId, List<UUID> optionIds);
+    void voteOnPoll(UUID postId, List<UUID> optionIds) throws ItemNotFoundException;
 
-    void removeVote(UUID postId);
+    void removeVote(UUID postId) throws ItemNotFoundException;
 
     PollResultsResponse getPollResults(UUID postId);
 
@@ -19,5 +20,5 @@ public interface PollService {
 
     List<UUID> getUserVotedOptions(UUID postId, UUID userId);
 
-    List<VoterInfo> getOptionVoters(UUID postId, UUID optionId);
+    List<VoterInfo> getOptionVoters(UUID postId, UUID optionId) throws ItemNotFoundException;
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.nextgate.nextgatebackend.e_social.posts_mng.service;
 
 import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEntity;
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.*;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,36 +13,36 @@ import java.util.UUID;
 public interface PostService {
 
     // Create and manage posts
-    PostEntity createPost(CreatePostRequest request);
+    PostEntity createPost(CreatePostRequest request) throws ItemNotFoundException;
 
-    PostEntity createQuotePost(UUID quotedPostId, CreateQuotePostRequest request);
-    PostEntity publishPost();
+    PostEntity createQuotePost(UUID quotedPostId, CreateQuotePostRequest request) throws ItemNotFoundException;
+    PostEntity publishPost() throws ItemNotFoundException;
 
     // Attach to draft (discovery flow)
-    PostEntity attachProductToDraft(UUID productId);
+    PostEntity attachProductToDraft(UUID productId) throws ItemNotFoundException;
 
-    PostEntity attachShopToDraft(UUID shopId);
+    PostEntity attachShopToDraft(UUID shopId) throws ItemNotFoundException;
 
-    PostEntity attachEventToDraft(UUID eventId);
+    PostEntity attachEventToDraft(UUID eventId) throws ItemNotFoundException;
 
-    PostEntity attachBuyTogetherGroupToDraft(UUID groupId);
+    PostEntity attachBuyTogetherGroupToDraft(UUID groupId) throws ItemNotFoundException;
 
-    PostEntity attachInstallmentPlanToDraft(UUID planId);
+    PostEntity attachInstallmentPlanToDraft(UUID planId) throws ItemNotFoundException;
 
-    PostEntity getMyCurrentDraft();
+    PostEntity getMyCurrentDraft() throws ItemNotFoundException;
 
     // Remove from draft
-    PostEntity removeProductFromDraft(UUID productId);
+    PostEntity removeProductFromDraft(UUID productId) throws ItemNotFoundException;
 
-    PostEntity removeShopFromDraft(UUID shopId);
+    PostEntity removeShopFromDraft(UUID shopId) throws ItemNotFoundException;
 
-    PostEntity removeEventFromDraft(UUID eventId);
+    PostEntity removeEventFromDraft(UUID eventId) throws ItemNotFoundException;
 
-    PostEntity removeBuyTogetherGroupFromDraft(UUID groupId);
+    PostEntity removeBuyTogetherGroupFromDraft(UUID groupId) throws ItemNotFoundException;
 
-    PostEntity removeInstallmentPlanFromDraft(UUID planId);
+    PostEntity removeInstallmentPlanFromDraft(UUID planId) throws ItemNotFoundException;
 
-    void discardDraft();
+    void discardDraft() throws ItemNotFoundException;
 
     // Get posts
     PostEntity getPostById(UUID postId);
@@ -51,27 +52,27 @@ public interface PostService {
     Page<PostEntity> getPublishedPosts(Pageable pageable);
 
 
-    List<PostEntity> getMyScheduledPosts();
+    List<PostEntity> getMyScheduledPosts() throws ItemNotFoundException;
 
     // Update draft
-    PostEntity updateDraft(UpdateDraftRequest request);
+    PostEntity updateDraft(UpdateDraftRequest request) throws ItemNotFoundException;
 
-    PostEntity updateDraftContent(String content);
+    PostEntity updateDraftContent(String content) throws ItemNotFoundException;
 
-    PostEntity addMediaToDraft(List<MediaRequest> media);
+    PostEntity addMediaToDraft(List<MediaRequest> media) throws ItemNotFoundException;
 
-    PostEntity updateDraftPrivacySettings(PrivacySettingsRequest settings);
+    PostEntity updateDraftPrivacySettings(PrivacySettingsRequest settings) throws ItemNotFoundException;
 
     // Delete post
-    void deletePost(UUID postId);
+    void deletePost(UUID postId) throws ItemNotFoundException;
 
-    PostEntity updateDraftCollaboration(CollaborationRequest collaboration);
+    PostEntity updateDraftCollaboration(CollaborationRequest collaboration) throws ItemNotFoundException;
 
     // Collaboration
-    PostEntity acceptCollaboration(UUID postId);
+    PostEntity acceptCollaboration(UUID postId) throws ItemNotFoundException;
 
-    PostEntity declineCollaboration(UUID postId);
+    PostEntity declineCollaboration(UUID postId) throws ItemNotFoundException;
 
-    void removeCollaborator(UUID postId, UUID collaboratorId);
+    void removeCollaborator(UUID postId, UUID collaboratorId) throws ItemNotFoundException;
 
 }
\ No newline at end of file
@@ -16,11 +16,10 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.service.CommentService;
 import org.nextgate.nextgatebackend.e_social.posts_mng.utils.ContentParsingUtil;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,13 +37,14 @@ public class CommentServiceImpl implements CommentService {
     private final PostRepository postRepository;
     private final PostUserMentionRepository postUserMentionRepository;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final FollowRepository followRepository;
     private final ContentParsingUtil contentParsingUtil;
 
     @Override
     @Transactional
-    public PostCommentEntity createComment(UUID postId, CreateCommentRequest request) {
-        AccountEntity user = getAuthenticatedAccount();
+    public PostCommentEntity createComment(UUID postId, CreateCommentRequest request) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -81,13 +81,10 @@ public class CommentServiceImpl implements CommentService {
 
         // Update post-comments count (only for top-level comments)
         if (request.getParentCommentId() == null) {
-            post.setCommentsCount(post.getCommentsCount() + 1);
-            postRepository.save(post);
+            postRepository.incrementCommentsCount(postId);
         } else {
             // Update parent comment replies count
-            PostCommentEntity parentComment = commentRepository.findById(request.getParentCommentId()).get();
-            parentComment.setRepliesCount(parentComment.getRepliesCount() + 1);
-            commentRepository.save(parentComment);
+            commentRepository.incrementRepliesCount(request.getParentCommentId());
         }
 
         return savedComment;
@@ -95,8 +92,8 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
-    public PostCommentEntity updateComment(UUID commentId, UpdateCommentRequest request) {
-        AccountEntity user = getAuthenticatedAccount();
+    public PostCommentEntity updateComment(UUID commentId, UpdateCommentRequest request) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostCommentEntity comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
@@ -120,8 +117,8 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
-    public void deleteComment(UUID commentId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void deleteComment(UUID commentId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostCommentEntity comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
@@ -142,15 +139,10 @@ public class CommentServiceImpl implements CommentService {
         // Update counters
         if (comment.getParentCommentId() == null) {
             // Top-level comment
-            post.setCommentsCount(Math.max(0, post.getCommentsCount() - 1));
-            postRepository.save(post);
+            postRepository.decrementCommentsCount(post.getId());
         } else {
             // Reply
-            PostCommentEntity parentComment = commentRepository.findById(comment.getParentCommentId()).orElse(null);
-            if (parentComment != null) {
-                parentComment.setRepliesCount(Math.max(0, parentComment.getRepliesCount() - 1));
-                commentRepository.save(parentComment);
-            }
+            commentRepository.decrementRepliesCount(comment.getParentCommentId());
         }
     }
 
@@ -181,8 +173,8 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
-    public PostCommentEntity pinComment(UUID postId, UUID commentId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public PostCommentEntity pinComment(UUID postId, UUID commentId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -208,8 +200,8 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
-    public PostCommentEntity unpinComment(UUID commentId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public PostCommentEntity unpinComment(UUID commentId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostCommentEntity comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
@@ -227,8 +219,8 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
-    public void likeComment(UUID commentId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void likeComment(UUID commentId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
         PostCommentEntity comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
@@ -242,25 +234,22 @@ public class CommentServiceImpl implements CommentService {
         like.setUserId(user.getId());
         commentLikeRepository.save(like);
 
-        comment.setLikesCount(comment.getLikesCount() + 1);
-        commentRepository.save(comment);
+        commentRepository.incrementLikesCount(commentId);
     }
 
     @Override
     @Transactional
-    public void unlikeComment(UUID commentId) {
-        AccountEntity user = getAuthenticatedAccount();
+    public void unlikeComment(UUID commentId) throws ItemNotFoundException {
+        AccountEntity user = currentAccountProvider.getCurrentAccount();
 
-        PostCommentEntity comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
+        commentRepository.findByIdAndIsDeletedFalse(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
 
-        CommentLikeEntity like = commentLikeRepository.findByCommentIdAndUserId(commentId, user.getId())
-                .orElseThrow(() -> new IllegalArgumentException("You have not liked this comment"));
-
-        commentLikeRepository.delete(like);
+        if (commentLikeRepository.deleteByCommentIdAndUserId(commentId, user.getId()) == 0) {
+            throw new IllegalArgumentException("You have not liked this comment");
+        }
 
-        comment.setLikesCount(Math.max(0, comment.getLikesCount() - 1));
-        commentRepository.save(comment);
+        commentRepository.decrementLikesCount(commentId);
     }
 
     // Privacy check for commenting
@@ -302,15 +291,4 @@ public class CommentServiceImpl implements CommentService {
             });
         }
     }
-
-    private AccountEntity getAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        }
-        throw new IllegalArgumentException("User not authenticated");
-    }
 }
\ No newline at end of file
@@ -2,12 +2,215 @@ package org.nextgate.nextgatebackend.e_social.posts_mng.service.impl;
 
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.HighFanoutAuthorEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostStatus;
+import org.nextgate.nextgatebackend.e_social.posts_mng.enums.TimelineItemType;
+import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.FeedPageResponse;
+import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.PostResponse;
+import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.TimelineItemResponse;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.HighFanoutAuthorRepository;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.PostRepository;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.TimelineEntryRepository;
 import org.nextgate.nextgatebackend.e_social.posts_mng.service.FeedService;
+import org.nextgate.nextgatebackend.e_social.posts_mng.utils.PostVisibilityUtil;
+import org.nextgate.nextgatebackend.e_social.posts_mng.utils.mapper.PostResponseMapper;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.entity.UserFollowStatsEntity;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.UserFollowStatsRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.graph.SocialGraphCache;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class FeedServiceImpl implements FeedService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int FOLLOW_BACKFILL_POSTS = 20;
+
+    // Sorts after every real (publishedAt, postId) pair - used when no cursor is given
+    private static final LocalDateTime FIRST_PAGE_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID FIRST_PAGE_POST_ID = new UUID(-1L, -1L);
+
+    // Newest first, ties broken by postId the same way Postgres orders uuid (unsigned bytes)
+    private static final Comparator<FeedCandidate> NEWEST_FIRST = Comparator
+            .comparing(FeedCandidate::publishedAt)
+            .thenComparing(FeedCandidate::postId, FeedServiceImpl::compareUuidUnsigned)
+            .reversed();
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final HighFanoutAuthorRepository highFanoutAuthorRepository;
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final UserFollowStatsRepository followStatsRepository;
+    private final SocialGraphCache socialGraphCache;
+    private final CurrentAccountProvider currentAccountProvider;
+    private final PostVisibilityUtil postVisibilityUtil;
+    private final PostResponseMapper postResponseMapper;
+
+    // Authors with at least this many followers are not fanned out on write
+    @Value("${app.feed.fan-out-threshold:10000}")
+    private long fanOutThreshold;
+
+    @Override
+    @Transactional(readOnly = true)
+    public FeedPageResponse getHomeFeed(String cursor, int size) throws ItemNotFoundException {
+        AccountEntity viewer = currentAccountProvider.getCurrentAccount();
+        UUID viewerId = viewer.getId();
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        FeedCandidate after = decodeCursor(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<FeedCandidate> candidates = new ArrayList<>();
+
+        // 1. Fan-out-on-write entries
+        timelineEntryRepository.findPageBefore(viewerId, after.publishedAt(), after.postId(), limit)
+                .forEach(entry -> candidates.add(new FeedCandidate(entry.getPostId(), entry.getPublishedAt())));
+
+        // 2. Fan-out-on-read for followed high-fanout authors
+        Map<UUID, PostEntity> postsById = new HashMap<>();
+        List<UUID> pulledAuthorIds = highFanoutAuthorRepository.findFollowedHighFanoutAuthorIds(viewerId, FollowStatus.ACCEPTED);
+        if (!pulledAuthorIds.isEmpty()) {
+            postRepository.findByAuthorsPublishedBefore(pulledAuthorIds, PostStatus.PUBLISHED,
+                            after.publishedAt(), after.postId(), limit)
+                    .forEach(post -> {
+                        postsById.put(post.getId(), post);
+                        candidates.add(new FeedCandidate(post.getId(), post.getPublishedAt()));
+                    });
+        }
+
+        // 3. Merge newest first, a post can come from both sources
+        Set<UUID> seen = new HashSet<>();
+        List<FeedCandidate> merged = candidates.stream()
+                .sorted(NEWEST_FIRST)
+                .filter(candidate -> seen.add(candidate.postId()))
+                .limit(pageSize + 1L)
+                .toList();
+
+        boolean hasMore = merged.size() > pageSize;
+        List<FeedCandidate> page = hasMore ? merged.subList(0, pageSize) : merged;
+
+        // 4. Load the page's posts in one query
+        Set<UUID> missingPostIds = page.stream()
+                .map(FeedCandidate::postId)
+                .filter(postId -> !postsById.containsKey(postId))
+                .collect(Collectors.toSet());
+        if (!missingPostIds.isEmpty()) {
+            postRepository.findByIdInAndIsDeletedFalse(missingPostIds)
+                    .forEach(post -> postsById.put(post.getId(), post));
+        }
+
+        List<PostEntity> posts = page.stream()
+                .map(candidate -> postsById.get(candidate.postId()))
+                .filter(post -> post != null && !post.isDeleted() && post.getStatus() == PostStatus.PUBLISHED)
+                .toList();
+
+        // 5. Mute, block and FOLLOWERS rules from the viewer's cached graph sets
+        Set<UUID> mutedIds = socialGraphCache.getMutedIds(viewerId);
+
+        List<PostEntity> unmuted = posts.stream()
+                .filter(post -> !mutedIds.contains(post.getAuthorId()))
+                .toList();
+        List<PostEntity> visible = postVisibilityUtil.filterVisible(unmuted, viewerId);
+
+        List<TimelineItemResponse> items = new ArrayList<>();
+        for (PostResponse response : postResponseMapper.toPostResponses(visible, viewerId)) {
+            items.add(new TimelineItemResponse(TimelineItemType.POST, response, null));
+        }
+
+        // The cursor follows the unfiltered page so hidden posts never stall paging
+        String nextCursor = hasMore ? encodeCursor(page.getLast()) : null;
+
+        return new FeedPageResponse(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional
+    public void fanOutPost(UUID postId, UUID authorId, LocalDateTime publishedAt) {
+        // Authors always see their own posts
+        timelineEntryRepository.insertIgnoringDuplicate(authorId, postId, authorId, publishedAt);
+
+        long followersCount = followStatsRepository.findById(authorId)
+                .map(UserFollowStatsEntity::getFollowersCount)
+                .orElseGet(() -> followRepository.countByFollowingIdAndStatus(authorId, FollowStatus.ACCEPTED));
+
+        if (followersCount >= fanOutThreshold) {
+            if (!highFanoutAuthorRepository.existsById(authorId)) {
+                HighFanoutAuthorEntity marker = new HighFanoutAuthorEntity();
+                marker.setAuthorId(authorId);
+                marker.setFollowersCountAtMark(followersCount);
+                highFanoutAuthorRepository.save(marker);
+            }
+            log.info("Post {} by high-fanout author {} ({} followers) served on read", postId, authorId, followersCount);
+            return;
+        }
+
+        int written = timelineEntryRepository.fanOutToFollowers(postId, authorId, publishedAt);
+        log.debug("Post {} fanned out to {} timelines", postId, written);
+    }
+
+    @Override
+    @Transactional
+    public void onFollowAccepted(UUID followerId, UUID followingId) {
+        // High-fanout authors are pulled on read, nothing to copy
+        if (highFanoutAuthorRepository.existsById(followingId)) {
+            return;
+        }
+        timelineEntryRepository.backfillFromAuthor(followerId, followingId, FOLLOW_BACKFILL_POSTS);
+    }
+
+    @Override
+    @Transactional
+    public void onUnfollow(UUID followerId, UUID followingId) {
+        timelineEntryRepository.deleteByOwnerIdAndAuthorId(followerId, followingId);
+    }
+
+    @Override
+    @Transactional
+    public void removePost(UUID postId) {
+        timelineEntryRepository.deleteByPostId(postId);
+    }
+
+    private String encodeCursor(FeedCandidate candidate) {
+        String raw = candidate.publishedAt() + "|" + candidate.postId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private FeedCandidate decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new FeedCandidate(FIRST_PAGE_POST_ID, FIRST_PAGE_AT);
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new FeedCandidate(UUID.fromString(parts[1]), LocalDateTime.parse(parts[0]));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid feed cursor");
+        }
+    }
+
+    private static int compareUuidUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
 
-}
\ No newline at end of file
+    private record FeedCandidate(UUID postId, LocalDateTime publishedAt) {
+    }
+}
@@ -13,8 +13,8 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.PollResultsRespo
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.VoterInfo;
 import org.nextgate.nextgatebackend.e_social.posts_mng.repo.*;
 import org.nextgate.nextgatebackend.e_social.posts_mng.service.PollService;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,13 +33,14 @@ public class PollServiceImpl implements PollService {
     private final PollOptionRepository pollOptionRepository;
     private final PollVoteRepository pollVoteRepository;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final PostCollaboratorRepository postCollaboratorRepository;
 
     @Override
     @Transactional
-    public void voteOnPoll(UUID postId, List<UUID> optionIds) {
+    public void voteOnPoll(UUID postId, List<UUID> optionIds) throws ItemNotFoundException {
 
-        AccountEntity voter = getAuthenticatedAccount();
+        AccountEntity voter = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -96,8 +97,8 @@ public class PollServiceImpl implements PollService {
 
     @Override
     @Transactional
-    public void removeVote(UUID postId) {
-        AccountEntity voter = getAuthenticatedAccount();
+    public void removeVote(UUID postId) throws ItemNotFoundException {
+        AccountEntity voter = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -227,8 +228,8 @@ public class PollServiceImpl implements PollService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<VoterInfo> getOptionVoters(UUID postId, UUID optionId) {
-        AccountEntity currentUser = getAuthenticatedAccount();
+    public List<VoterInfo> getOptionVoters(UUID postId, UUID optionId) throws ItemNotFoundException {
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -295,21 +296,10 @@ public class PollServiceImpl implements PollService {
                 .collect(Collectors.toList());
     }
 
-
-    private AccountEntity getAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new IllegalStateException("No authenticated user found");
-        }
-
-        String username = authentication.getName();
-        return accountRepo.findByUserName(username)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found in database"));
-    }
     private AccountEntity getAuthenticatedAccountOrNull() {
         try {
-            return getAuthenticatedAccount();
-        } catch (Exception e) {
+            return currentAccountProvider.getCurrentAccount();
+        } catch (ItemNotFoundException e) {
             return null;
         }
     }
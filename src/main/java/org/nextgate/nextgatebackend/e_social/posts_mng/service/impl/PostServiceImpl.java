@@ -16,17 +16,19 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.entity.*;
 import org.nextgate.nextgatebackend.e_social.posts_mng.enums.CollaboratorStatus;
 import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostStatus;
 import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostType;
+import org.nextgate.nextgatebackend.e_social.posts_mng.events.PostPublishedEvent;
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.*;
 import org.nextgate.nextgatebackend.e_social.posts_mng.repo.*;
+import org.nextgate.nextgatebackend.e_social.posts_mng.service.FeedService;
 import org.nextgate.nextgatebackend.e_social.posts_mng.service.PostService;
 import org.nextgate.nextgatebackend.e_social.posts_mng.utils.ContentParsingUtil;
 import org.nextgate.nextgatebackend.e_social.posts_mng.utils.LinkProcessingUtil;
 import org.nextgate.nextgatebackend.e_social.posts_mng.utils.PostValidationUtil;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,10 +41,13 @@ public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final PostValidationUtil validationUtil;
     private final ContentParsingUtil contentParsingUtil;
     private final LinkProcessingUtil linkProcessingUtil;
     private final ObjectMapper objectMapper;
+    private final FeedService feedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Attachment repositories
     private final ProductRepo productRepo;
@@ -67,10 +72,10 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity createPost(CreatePostRequest request) {
+    public PostEntity createPost(CreatePostRequest request) throws ItemNotFoundException {
 
         //We have to check if any draft exists
-        AccountEntity author = getAuthenticatedAccount();
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
         postRepository.findByAuthorIdAndStatusAndIsDeletedFalse(author.getId(), PostStatus.DRAFT)
                 .ifPresent(existingDraft -> {
                     throw new IllegalStateException("You already have a draft post. " +
@@ -115,8 +120,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity createQuotePost(UUID quotedPostId, CreateQuotePostRequest request) {
-        AccountEntity author = getAuthenticatedAccount();
+    public PostEntity createQuotePost(UUID quotedPostId, CreateQuotePostRequest request) throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
 
         // Validate quoted post exists and is published
         PostEntity quotedPost = postRepository.findByIdAndIsDeletedFalse(quotedPostId)
@@ -165,12 +170,14 @@ public class PostServiceImpl implements PostService {
         // This is atomic and safe inside the same transaction
         postRepository.incrementQuotesCount(quotedPostId);
 
+        eventPublisher.publishEvent(new PostPublishedEvent(this, savedPost));
+
         return savedPost;
     }
 
     @Override
     @Transactional
-    public PostEntity publishPost() {
+    public PostEntity publishPost() throws ItemNotFoundException {
 
         PostEntity post = getMyCurrentDraft();
 
@@ -183,7 +190,11 @@ public class PostServiceImpl implements PostService {
         post.setStatus(PostStatus.PUBLISHED);
         post.setPublishedAt(LocalDateTime.now());
 
-        return postRepository.save(post);
+        PostEntity publishedPost = postRepository.save(post);
+
+        eventPublisher.publishEvent(new PostPublishedEvent(this, publishedPost));
+
+        return publishedPost;
 
         //Todo: we need non blocking event publisher for notification to all collaborators, mentions of (products, shop, users).. etc
 
@@ -191,7 +202,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity attachProductToDraft(UUID productId) {
+    public PostEntity attachProductToDraft(UUID productId) throws ItemNotFoundException {
         if (!productRepo.existsById(productId)) {
             throw new IllegalArgumentException("Product not found: " + productId);
         }
@@ -212,7 +223,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity attachShopToDraft(UUID shopId) {
+    public PostEntity attachShopToDraft(UUID shopId) throws ItemNotFoundException {
         if (!shopRepo.existsById(shopId)) {
             throw new IllegalArgumentException("Shop not found: " + shopId);
         }
@@ -233,7 +244,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity attachEventToDraft(UUID eventId) {
+    public PostEntity attachEventToDraft(UUID eventId) throws ItemNotFoundException {
 
         EventEntity event = eventsRepo.findByIdAndIsDeletedFalse(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found "));
@@ -258,7 +269,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity attachBuyTogetherGroupToDraft(UUID groupId) {
+    public PostEntity attachBuyTogetherGroupToDraft(UUID groupId) throws ItemNotFoundException {
         if (!groupPurchaseRepo.existsById(groupId)) {
             throw new IllegalArgumentException("Buy together group not found: " + groupId);
         }
@@ -279,7 +290,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity attachInstallmentPlanToDraft(UUID planId) {
+    public PostEntity attachInstallmentPlanToDraft(UUID planId) throws ItemNotFoundException {
         if (!installmentPlanRepo.existsById(planId)) {
             throw new IllegalArgumentException("Installment plan not found: " + planId);
         }
@@ -300,16 +311,16 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional(readOnly = true)
-    public PostEntity getMyCurrentDraft() {
-        AccountEntity author = getAuthenticatedAccount();
+    public PostEntity getMyCurrentDraft() throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
 
         return postRepository
                 .findByAuthorIdAndStatusAndIsDeletedFalse(author.getId(), PostStatus.DRAFT)
                 .orElse(null);
     }
 
-    private PostEntity getOrCreateDraft() {
-        AccountEntity author = getAuthenticatedAccount();
+    private PostEntity getOrCreateDraft() throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
 
         return postRepository
                 .findByAuthorIdAndStatusAndIsDeletedFalse(author.getId(), PostStatus.DRAFT)
@@ -326,7 +337,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity removeProductFromDraft(UUID productId) {
+    public PostEntity removeProductFromDraft(UUID productId) throws ItemNotFoundException {
 
         PostEntity draft = getMyCurrentDraft();
 
@@ -347,8 +358,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity removeShopFromDraft(UUID shopId) {
-        AccountEntity author = getAuthenticatedAccount();
+    public PostEntity removeShopFromDraft(UUID shopId) throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
         PostEntity draft = getMyCurrentDraft();
 
         if (draft == null) {
@@ -371,8 +382,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity removeEventFromDraft(UUID eventId) {
-        AccountEntity author = getAuthenticatedAccount();
+    public PostEntity removeEventFromDraft(UUID eventId) throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
         PostEntity draft = getMyCurrentDraft();
 
         if (draft == null) {
@@ -395,8 +406,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity removeBuyTogetherGroupFromDraft(UUID groupId) {
-        AccountEntity author = getAuthenticatedAccount();
+    public PostEntity removeBuyTogetherGroupFromDraft(UUID groupId) throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
         PostEntity draft = getMyCurrentDraft();
 
         if (draft == null) {
@@ -419,8 +430,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity removeInstallmentPlanFromDraft(UUID planId) {
-        AccountEntity author = getAuthenticatedAccount();
+    public PostEntity removeInstallmentPlanFromDraft(UUID planId) throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
         PostEntity draft = getMyCurrentDraft();
 
         if (draft == null) {
@@ -443,8 +454,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public void discardDraft() {
-        AccountEntity author = getAuthenticatedAccount();
+    public void discardDraft() throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
         PostEntity draft = getMyCurrentDraft();
 
         if (draft == null) {
@@ -489,8 +500,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostEntity> getMyScheduledPosts() {
-        AccountEntity author = getAuthenticatedAccount();
+    public List<PostEntity> getMyScheduledPosts() throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
 
         return postRepository.findByAuthorIdAndStatusAndScheduledAtBeforeAndIsDeletedFalse(
                 author.getId(),
@@ -501,8 +512,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity updateDraft(UpdateDraftRequest request) {
-        AccountEntity author = getAuthenticatedAccount();
+    public PostEntity updateDraft(UpdateDraftRequest request) throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
         PostEntity post = getMyCurrentDraft();
 
         if (!post.getAuthorId().equals(author.getId())) {
@@ -546,7 +557,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity updateDraftContent(String content) {
+    public PostEntity updateDraftContent(String content) throws ItemNotFoundException {
 
         PostEntity post = getMyCurrentDraft();
 
@@ -565,7 +576,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity addMediaToDraft(List<MediaRequest> media) {
+    public PostEntity addMediaToDraft(List<MediaRequest> media) throws ItemNotFoundException {
 
         PostEntity post = getMyCurrentDraft();
 
@@ -580,7 +591,7 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity updateDraftPrivacySettings(PrivacySettingsRequest settings) {
+    public PostEntity updateDraftPrivacySettings(PrivacySettingsRequest settings) throws ItemNotFoundException {
 
         PostEntity post = getMyCurrentDraft();
 
@@ -609,8 +620,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public void deletePost(UUID postId) {
-        AccountEntity author = getAuthenticatedAccount();
+    public void deletePost(UUID postId) throws ItemNotFoundException {
+        AccountEntity author = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -624,8 +635,7 @@ public class PostServiceImpl implements PostService {
             PostEntity quotedPost = postRepository.findByIdAndIsDeletedFalse(post.getQuotedPostId())
                     .orElse(null);
             if (quotedPost != null && quotedPost.getStatus() == PostStatus.PUBLISHED) {
-                quotedPost.setQuotesCount(Math.max(0, quotedPost.getQuotesCount() - 1));
-                postRepository.save(quotedPost);
+                postRepository.decrementQuotesCount(quotedPost.getId());
             }
         }
 
@@ -634,11 +644,13 @@ public class PostServiceImpl implements PostService {
         post.setDeletedAt(LocalDateTime.now());
 
         postRepository.save(post);
+
+        feedService.removePost(postId);
     }
 
     @Override
     @Transactional
-    public PostEntity updateDraftCollaboration(CollaborationRequest collaboration) {
+    public PostEntity updateDraftCollaboration(CollaborationRequest collaboration) throws ItemNotFoundException {
 
         PostEntity post = getMyCurrentDraft();
 
@@ -681,8 +693,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity acceptCollaboration(UUID postId) {
-        AccountEntity collaborator = getAuthenticatedAccount();
+    public PostEntity acceptCollaboration(UUID postId) throws ItemNotFoundException {
+        AccountEntity collaborator = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -708,8 +720,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public PostEntity declineCollaboration(UUID postId) {
-        AccountEntity collaborator = getAuthenticatedAccount();
+    public PostEntity declineCollaboration(UUID postId) throws ItemNotFoundException {
+        AccountEntity collaborator = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -735,8 +747,8 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
-    public void removeCollaborator(UUID postId, UUID collaboratorId) {
-        AccountEntity currentUser = getAuthenticatedAccount();
+    public void removeCollaborator(UUID postId, UUID collaboratorId) throws ItemNotFoundException {
+        AccountEntity currentUser = currentAccountProvider.getCurrentAccount();
 
         PostEntity post = postRepository.findByIdAndIsDeletedFalse(postId)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
@@ -1123,15 +1135,4 @@ public class PostServiceImpl implements PostService {
             }
         }
     }
-
-    private AccountEntity getAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        }
-        throw new IllegalArgumentException("User not authenticated");
-    }
 }
\ No newline at end of file
@@ -3,19 +3,17 @@ package org.nextgate.nextgatebackend.e_social.posts_mng.utils;
 import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEntity;
 import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostVisibility;
-import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
-import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
-import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.BlockRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.graph.SocialGraphCache;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class PostVisibilityUtil {
 
-    private final BlockRepository blockRepository;
-    private final FollowRepository followRepository;
+    private final SocialGraphCache socialGraphCache;
 
     public boolean canViewPost(PostEntity post, UUID viewerId) {
         UUID authorId = post.getAuthorId();
@@ -25,10 +23,7 @@ public class PostVisibilityUtil {
         }
 
         if (viewerId != null) {
-            if (blockRepository.existsByBlockerIdAndBlockedId(authorId, viewerId)) {
-                return false;
-            }
-            if (blockRepository.existsByBlockerIdAndBlockedId(viewerId, authorId)) {
+            if (socialGraphCache.isBlockedEitherWay(viewerId, authorId)) {
                 return false;
             }
         }
@@ -37,11 +32,47 @@ public class PostVisibilityUtil {
             if (viewerId == null) {
                 return false;
             }
-            return followRepository.existsByFollowerIdAndFollowingIdAndStatus(
-                    viewerId, authorId, FollowStatus.ACCEPTED
-            );
+            return socialGraphCache.isFollowing(viewerId, authorId);
+        }
+
+        return true;
+    }
+
+    // Same rules as canViewPost for a whole page, answered from the viewer's cached
+    // block and follow sets: at most two queries on a cold cache, none when warm.
+    public List<PostEntity> filterVisible(List<PostEntity> posts, UUID viewerId) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<UUID> blockedIds = viewerId != null ? socialGraphCache.getBlockedIds(viewerId) : Set.of();
+
+        boolean hasFollowersOnly = posts.stream()
+                .anyMatch(post -> post.getVisibility() == PostVisibility.FOLLOWERS);
+        Set<UUID> followingIds = viewerId != null && hasFollowersOnly
+                ? socialGraphCache.getFollowingIds(viewerId)
+                : Set.of();
+
+        return posts.stream()
+                .filter(post -> isVisible(post, viewerId, blockedIds, followingIds))
+                .collect(Collectors.toList());
+    }
+
+    private boolean isVisible(PostEntity post, UUID viewerId, Set<UUID> blockedIds, Set<UUID> followingIds) {
+        UUID authorId = post.getAuthorId();
+
+        if (viewerId != null && authorId.equals(viewerId)) {
+            return true;
+        }
+
+        if (blockedIds.contains(authorId)) {
+            return false;
+        }
+
+        if (post.getVisibility() == PostVisibility.FOLLOWERS) {
+            return viewerId != null && followingIds.contains(authorId);
         }
 
         return true;
     }
-}
\ No newline at end of file
+}
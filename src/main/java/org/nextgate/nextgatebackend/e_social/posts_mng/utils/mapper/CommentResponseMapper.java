@@ -10,9 +10,8 @@ import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.CommentResponse;
 import org.nextgate.nextgatebackend.e_social.posts_mng.repo.CommentLikeRepository;
 import org.nextgate.nextgatebackend.e_social.posts_mng.repo.CommentMentionRepository;
 import org.nextgate.nextgatebackend.e_social.posts_mng.repo.PostRepository;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -24,6 +23,7 @@ import java.util.UUID;
 public class CommentResponseMapper {
 
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final PostRepository postRepository;
     private final CommentMentionRepository commentMentionRepository;
     private final CommentLikeRepository commentLikeRepository;
@@ -154,15 +154,10 @@ public class CommentResponseMapper {
 
     private AccountEntity getAuthenticatedAccountOrNull() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.isAuthenticated()) {
-                UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-                String userName = userDetails.getUsername();
-                return accountRepo.findByUserName(userName).orElse(null);
-            }
-        } catch (Exception e) {
+            return currentAccountProvider.getCurrentAccount();
+        } catch (ItemNotFoundException e) {
             // Anonymous user
+            return null;
         }
-        return null;
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
+import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.entity.GroupPurchaseInstanceEntity;
 import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.repo.GroupPurchaseInstanceRepo;
 import org.nextgate.nextgatebackend.e_commerce.installment_purchase.entity.InstallmentPlanEntity;
 import org.nextgate.nextgatebackend.e_commerce.installment_purchase.enums.FulfillmentTiming;
@@ -13,24 +14,22 @@ import org.nextgate.nextgatebackend.e_commerce.installment_purchase.enums.Paymen
 import org.nextgate.nextgatebackend.e_commerce.installment_purchase.repo.InstallmentPlanRepo;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
 import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
+import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.enums.ShopStatus;
 import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.repo.EventsRepo;
 import org.nextgate.nextgatebackend.e_social.interactions.repo.PostBookmarkRepository;
 import org.nextgate.nextgatebackend.e_social.interactions.repo.PostLikeRepository;
 import org.nextgate.nextgatebackend.e_social.interactions.repo.PostRepostRepository;
 import org.nextgate.nextgatebackend.e_social.interactions.repo.PostViewRepository;
-import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PollEntity;
-import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PollOptionEntity;
-import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PollVoteEntity;
-import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.*;
 import org.nextgate.nextgatebackend.e_social.posts_mng.enums.*;
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.MediaData;
 import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.PostResponse;
 import org.nextgate.nextgatebackend.e_social.posts_mng.repo.*;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -38,10 +37,8 @@ import java.math.RoundingMode;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -50,6 +47,7 @@ public class PostResponseMapper {
 
     private final ObjectMapper objectMapper;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     private final PostUserMentionRepository postUserMentionRepository;
     private final PostShopMentionRepository postShopMentionRepository;
@@ -85,35 +83,228 @@ public class PostResponseMapper {
             return null;
         }
 
+        return toPostResponses(List.of(post), getCurrentUserIdOrNull()).getFirst();
+    }
+
+    public List<PostResponse> toPostResponseList(List<PostEntity> posts) {
+        return toPostResponses(posts, getCurrentUserIdOrNull());
+    }
+
+    // Maps a whole page of posts with a fixed number of queries: every child table and
+    // referenced entity is loaded once with an IN (...) query, then responses are assembled in memory.
+    public List<PostResponse> toPostResponses(List<PostEntity> posts, UUID viewerId) {
+        if (posts == null || posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<PostEntity> nonNullPosts = posts.stream().filter(Objects::nonNull).toList();
+        PostBatch batch = loadBatch(nonNullPosts, viewerId);
+
+        List<PostResponse> responses = new ArrayList<>(nonNullPosts.size());
+        for (PostEntity post : nonNullPosts) {
+            responses.add(mapPost(post, batch));
+        }
+        return responses;
+    }
+
+    private PostResponse mapPost(PostEntity post, PostBatch batch) {
         PostResponse response = new PostResponse();
         response.setId(post.getId());
-        response.setQuotedPost(mapQuotedPost(post));
-        response.setAuthor(mapAuthor(post));
+        response.setQuotedPost(mapQuotedPost(post, batch));
+        response.setAuthor(mapAuthor(post, batch));
         response.setContent(post.getContent());
-        response.setContentParsed(mapContentParsed(post));
+        response.setContentParsed(mapContentParsed(post, batch));
         response.setPostType(post.getPostType());
         response.setStatus(post.getStatus());
         response.setMedia(mapMedia(post));
-        response.setPoll(mapPoll(post));
-        response.setAttachments(mapAttachments(post));
-        response.setCollaboration(mapCollaboration(post));
+        response.setPoll(mapPoll(post, batch));
+        response.setAttachments(mapAttachments(post, batch));
+        response.setCollaboration(mapCollaboration(post, batch));
         response.setPrivacySettings(mapPrivacySettings(post));
         response.setEngagement(mapEngagement(post));
-
-        AccountEntity currentUser = getAuthenticatedAccountOrNull();
-        response.setUserInteraction(mapUserInteraction(post, currentUser != null ? currentUser.getId() : null));
-
+        response.setUserInteraction(mapUserInteraction(post, batch));
         response.setCreatedAt(post.getCreatedAt());
         response.setPublishedAt(post.getPublishedAt());
         response.setScheduledAt(post.getScheduledAt());
         return response;
     }
 
-    private PostResponse.Author mapAuthor(PostEntity post) {
+    // ========================================
+    // BATCH LOADING
+    // ========================================
+
+    private PostBatch loadBatch(List<PostEntity> posts, UUID viewerId) {
+        PostBatch batch = new PostBatch(viewerId);
+
+        Set<UUID> postIds = posts.stream().map(PostEntity::getId).collect(Collectors.toSet());
+
+        // Quoted posts - anything not published is rendered as a tombstone
+        Set<UUID> quotedPostIds = posts.stream()
+                .map(PostEntity::getQuotedPostId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (!quotedPostIds.isEmpty()) {
+            postRepository.findByIdInAndIsDeletedFalse(quotedPostIds).stream()
+                    .filter(quoted -> quoted.getStatus() == PostStatus.PUBLISHED)
+                    .forEach(quoted -> batch.quotedPosts.put(quoted.getId(), quoted));
+        }
+
+        // Parsed content is rendered for both the page and its quoted posts
+        Set<UUID> contentPostIds = new HashSet<>(postIds);
+        contentPostIds.addAll(batch.quotedPosts.keySet());
+
+        batch.userMentions = loadByPostIds(contentPostIds, postUserMentionRepository::findByPostIdIn, PostUserMentionEntity::getPostId);
+        batch.hashtags = loadByPostIds(contentPostIds, postHashtagRepository::findByPostIdIn, PostHashtagEntity::getPostId);
+        batch.shopMentions = loadByPostIds(contentPostIds, postShopMentionRepository::findByPostIdIn, PostShopMentionEntity::getPostId);
+
+        // Attachments are only rendered for the page itself
+        batch.postProducts = loadByPostIds(postIds, postProductRepository::findByPostIdIn, PostProductEntity::getPostId);
+        batch.postShops = loadByPostIds(postIds, postShopRepository::findByPostIdIn, PostShopEntity::getPostId);
+        batch.postEvents = loadByPostIds(postIds, postEventRepository::findByPostIdIn, PostEventEntity::getPostId);
+        batch.postGroups = loadByPostIds(postIds, postBuyTogetherGroupRepository::findByPostIdIn, PostBuyTogetherGroupEntity::getPostId);
+        batch.postPlans = loadByPostIds(postIds, postInstallmentPlanRepository::findByPostIdIn, PostInstallmentPlanEntity::getPostId);
+        postLinkRepository.findByPostIdIn(postIds)
+                .forEach(link -> batch.links.putIfAbsent(link.getPostId(), link));
+
+        Set<UUID> collaborativePostIds = posts.stream()
+                .filter(PostEntity::isCollaborative)
+                .map(PostEntity::getId)
+                .collect(Collectors.toSet());
+        batch.collaborators = loadByPostIds(collaborativePostIds, postCollaboratorRepository::findByPostIdIn, PostCollaboratorEntity::getPostId);
+
+        loadAccounts(posts, batch);
+        loadCommerce(batch);
+        loadPolls(posts, batch);
+        loadUserInteractions(postIds, batch);
+
+        return batch;
+    }
+
+    private void loadAccounts(List<PostEntity> posts, PostBatch batch) {
+        Set<UUID> accountIds = new HashSet<>();
+        posts.forEach(post -> accountIds.add(post.getAuthorId()));
+        batch.quotedPosts.values().forEach(quoted -> accountIds.add(quoted.getAuthorId()));
+        batch.userMentions.values().forEach(mentions ->
+                mentions.forEach(mention -> accountIds.add(mention.getMentionedUserId())));
+        batch.collaborators.values().forEach(collaborators ->
+                collaborators.forEach(collab -> accountIds.add(collab.getUserId())));
+
+        if (!accountIds.isEmpty()) {
+            accountRepo.findAllWithRolesByIdIn(accountIds)
+                    .forEach(account -> batch.accounts.put(account.getId(), account));
+        }
+    }
+
+    private void loadCommerce(PostBatch batch) {
+        Set<UUID> groupIds = collectIds(batch.postGroups, PostBuyTogetherGroupEntity::getGroupId);
+        if (!groupIds.isEmpty()) {
+            groupPurchaseInstanceRepo.findAllById(groupIds)
+                    .forEach(group -> batch.groups.put(group.getGroupInstanceId(), group));
+        }
+
+        // Products attached directly and products behind buy-together groups
+        Set<UUID> productIds = collectIds(batch.postProducts, PostProductEntity::getProductId);
+        batch.groups.values().stream()
+                .filter(group -> group.getProduct() != null && group.getProduct().getProductId() != null)
+                .forEach(group -> productIds.add(group.getProduct().getProductId()));
+        if (!productIds.isEmpty()) {
+            productRepo.findAllById(productIds)
+                    .forEach(product -> batch.products.put(product.getProductId(), product));
+        }
+
+        // Active shops: attached shops, $shop mentions and the shops of attached products
+        Set<UUID> shopIds = collectIds(batch.postShops, PostShopEntity::getShopId);
+        shopIds.addAll(collectIds(batch.shopMentions, PostShopMentionEntity::getMentionedShopId));
+        batch.products.values().stream()
+                .filter(product -> product.getShop() != null && product.getShop().getShopId() != null)
+                .forEach(product -> shopIds.add(product.getShop().getShopId()));
+        if (!shopIds.isEmpty()) {
+            shopRepo.findByShopIdInAndIsDeletedFalseAndStatus(shopIds, ShopStatus.ACTIVE)
+                    .forEach(shop -> batch.activeShops.put(shop.getShopId(), shop));
+        }
+
+        Set<UUID> eventIds = collectIds(batch.postEvents, PostEventEntity::getEventId);
+        if (!eventIds.isEmpty()) {
+            eventsRepo.findAllById(eventIds)
+                    .forEach(event -> batch.events.put(event.getId(), event));
+        }
+
+        Set<UUID> planIds = collectIds(batch.postPlans, PostInstallmentPlanEntity::getPlanId);
+        if (!planIds.isEmpty()) {
+            installmentPlanRepo.findAllWithProductAndShopByPlanIdIn(planIds)
+                    .forEach(plan -> batch.plans.put(plan.getPlanId(), plan));
+        }
+    }
+
+    private void loadPolls(List<PostEntity> posts, PostBatch batch) {
+        Set<UUID> pollPostIds = new HashSet<>();
+        posts.stream()
+                .filter(post -> post.getPostType() == PostType.POLL)
+                .forEach(post -> pollPostIds.add(post.getId()));
+        batch.quotedPosts.values().stream()
+                .filter(quoted -> quoted.getPostType() == PostType.POLL)
+                .forEach(quoted -> pollPostIds.add(quoted.getId()));
+
+        if (pollPostIds.isEmpty()) {
+            return;
+        }
+
+        pollRepository.findByPostIdIn(pollPostIds)
+                .forEach(poll -> batch.polls.putIfAbsent(poll.getPostId(), poll));
+
+        Set<UUID> pollIds = batch.polls.values().stream().map(PollEntity::getId).collect(Collectors.toSet());
+        if (pollIds.isEmpty()) {
+            return;
+        }
+
+        // Options come back ordered by optionOrder, grouping keeps that order per poll
+        batch.pollOptions = pollOptionRepository.findByPollIdInOrderByOptionOrder(pollIds).stream()
+                .collect(Collectors.groupingBy(PollOptionEntity::getPollId));
+
+        if (batch.viewerId != null) {
+            pollVoteRepository.findByPollIdInAndVoterId(pollIds, batch.viewerId).forEach(vote ->
+                    batch.viewerVotes.computeIfAbsent(vote.getPollId(), k -> new ArrayList<>()).add(vote.getOptionId()));
+        }
+    }
+
+    private void loadUserInteractions(Set<UUID> postIds, PostBatch batch) {
+        if (batch.viewerId == null || postIds.isEmpty()) {
+            return;
+        }
+
+        UUID viewerId = batch.viewerId;
+        batch.likedPostIds.addAll(postLikeRepository.findPostIdsByUserIdAndPostIdIn(viewerId, postIds));
+        batch.bookmarkedPostIds.addAll(postBookmarkRepository.findPostIdsByUserIdAndPostIdIn(viewerId, postIds));
+        batch.repostedPostIds.addAll(postRepostRepository.findPostIdsByUserIdAndPostIdIn(viewerId, postIds));
+        batch.commentedPostIds.addAll(commentRepository.findCommentedPostIdsByUserIdAndPostIdIn(viewerId, postIds));
+        batch.viewedPostIds.addAll(postViewRepository.findPostIdsByUserIdAndPostIdIn(viewerId, postIds));
+    }
+
+    private <T> Map<UUID, List<T>> loadByPostIds(Set<UUID> postIds,
+                                                 Function<Collection<UUID>, List<T>> loader,
+                                                 Function<T, UUID> postIdGetter) {
+        if (postIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return loader.apply(postIds).stream().collect(Collectors.groupingBy(postIdGetter));
+    }
+
+    private <T> Set<UUID> collectIds(Map<UUID, List<T>> rowsByPost, Function<T, UUID> idGetter) {
+        Set<UUID> ids = new HashSet<>();
+        rowsByPost.values().forEach(rows -> rows.forEach(row -> ids.add(idGetter.apply(row))));
+        return ids;
+    }
+
+    // ========================================
+    // MAPPING
+    // ========================================
+
+    private PostResponse.Author mapAuthor(PostEntity post, PostBatch batch) {
         PostResponse.Author author = new PostResponse.Author();
         author.setId(post.getAuthorId());
 
-        accountRepo.findById(post.getAuthorId()).ifPresent(account -> {
+        AccountEntity account = batch.accounts.get(post.getAuthorId());
+        if (account != null) {
             author.setUserName(account.getUserName());
             author.setFirstName(account.getFirstName());
             author.setLastName(account.getLastName());
@@ -121,39 +312,33 @@ public class PostResponseMapper {
                     ? account.getProfilePictureUrls().getFirst()
                     : null);
             author.setVerified(account.getIsVerified());
-        });
+        }
 
         return author;
     }
 
-    private PostResponse.ContentParsed mapContentParsed(PostEntity post) {
+    private PostResponse.ContentParsed mapContentParsed(PostEntity post, PostBatch batch) {
         PostResponse.ContentParsed parsed = new PostResponse.ContentParsed();
         parsed.setText(post.getContent());
         List<PostResponse.ContentEntity> entities = new ArrayList<>();
 
-        postUserMentionRepository.findByPostId(post.getId()).forEach(mention -> {
-            accountRepo.findById(mention.getMentionedUserId()).ifPresent(user -> {
-                PostResponse.ContentEntity entity = new PostResponse.ContentEntity();
-                entity.setType(ContentEntityType.MENTION);
-                entity.setText("@" + user.getUserName());
-                entity.setStartIndex(mention.getStartIndex());
-                entity.setEndIndex(mention.getEndIndex());
-
-                PostResponse.User mentionedUser = new PostResponse.User();
-                mentionedUser.setId(user.getId());
-                mentionedUser.setUserName(user.getUserName());
-                mentionedUser.setFirstName(user.getFirstName());
-                mentionedUser.setLastName(user.getLastName());
-                mentionedUser.setProfilePictureUrl(user.getProfilePictureUrls() != null && !user.getProfilePictureUrls().isEmpty()
-                        ? user.getProfilePictureUrls().getFirst()
-                        : null);
-                entity.setUser(mentionedUser);
-
-                entities.add(entity);
-            });
+        batch.userMentions.getOrDefault(post.getId(), List.of()).forEach(mention -> {
+            AccountEntity user = batch.accounts.get(mention.getMentionedUserId());
+            if (user == null) {
+                return;
+            }
+
+            PostResponse.ContentEntity entity = new PostResponse.ContentEntity();
+            entity.setType(ContentEntityType.MENTION);
+            entity.setText("@" + user.getUserName());
+            entity.setStartIndex(mention.getStartIndex());
+            entity.setEndIndex(mention.getEndIndex());
+            entity.setUser(mapUser(user));
+
+            entities.add(entity);
         });
 
-        postHashtagRepository.findByPostId(post.getId()).forEach(hashtag -> {
+        batch.hashtags.getOrDefault(post.getId(), List.of()).forEach(hashtag -> {
             PostResponse.ContentEntity entity = new PostResponse.ContentEntity();
             entity.setType(ContentEntityType.HASHTAG);
             entity.setText("#" + hashtag.getHashtag());
@@ -163,29 +348,44 @@ public class PostResponseMapper {
             entities.add(entity);
         });
 
-        postShopMentionRepository.findByPostId(post.getId()).forEach(shopMention -> {
-            shopRepo.findByShopIdAndIsDeletedFalseAndStatus(shopMention.getMentionedShopId(), ShopStatus.ACTIVE).ifPresent(shop -> {
-                PostResponse.ContentEntity entity = new PostResponse.ContentEntity();
-                entity.setType(ContentEntityType.SHOP_MENTION);
-                entity.setText("$" + shop.getShopSlug());
-                entity.setStartIndex(shopMention.getStartIndex());
-                entity.setEndIndex(shopMention.getEndIndex());
-
-                PostResponse.Shop mentionedShop = new PostResponse.Shop();
-                mentionedShop.setId(shop.getShopId());
-                mentionedShop.setShopName(shop.getShopName());
-                mentionedShop.setShopSlug(shop.getShopSlug());
-                mentionedShop.setLogoUrl(shop.getLogoUrl());
-                entity.setShop(mentionedShop);
-
-                entities.add(entity);
-            });
+        batch.shopMentions.getOrDefault(post.getId(), List.of()).forEach(shopMention -> {
+            ShopEntity shop = batch.activeShops.get(shopMention.getMentionedShopId());
+            if (shop == null) {
+                return;
+            }
+
+            PostResponse.ContentEntity entity = new PostResponse.ContentEntity();
+            entity.setType(ContentEntityType.SHOP_MENTION);
+            entity.setText("$" + shop.getShopSlug());
+            entity.setStartIndex(shopMention.getStartIndex());
+            entity.setEndIndex(shopMention.getEndIndex());
+
+            PostResponse.Shop mentionedShop = new PostResponse.Shop();
+            mentionedShop.setId(shop.getShopId());
+            mentionedShop.setShopName(shop.getShopName());
+            mentionedShop.setShopSlug(shop.getShopSlug());
+            mentionedShop.setLogoUrl(shop.getLogoUrl());
+            entity.setShop(mentionedShop);
+
+            entities.add(entity);
         });
 
         parsed.setEntities(entities);
         return parsed;
     }
 
+    private PostResponse.User mapUser(AccountEntity user) {
+        PostResponse.User mapped = new PostResponse.User();
+        mapped.setId(user.getId());
+        mapped.setUserName(user.getUserName());
+        mapped.setFirstName(user.getFirstName());
+        mapped.setLastName(user.getLastName());
+        mapped.setProfilePictureUrl(user.getProfilePictureUrls() != null && !user.getProfilePictureUrls().isEmpty()
+                ? user.getProfilePictureUrls().getFirst()
+                : null);
+        return mapped;
+    }
+
     private List<PostResponse.Media> mapMedia(PostEntity post) {
         List<PostResponse.Media> mediaList = new ArrayList<>();
 
@@ -220,247 +420,221 @@ public class PostResponseMapper {
         return mediaList;
     }
 
-    private PostResponse.Poll mapPoll(PostEntity post) {
+    private PostResponse.Poll mapPoll(PostEntity post, PostBatch batch) {
         if (post.getPostType() != PostType.POLL) {
             return null;
         }
 
-        return pollRepository.findByPostId(post.getId()).map(poll -> {
-            PostResponse.Poll pollResponse = new PostResponse.Poll();
-            pollResponse.setId(poll.getId());
-            pollResponse.setTitle(poll.getTitle());
-            pollResponse.setDescription(poll.getDescription());
-            pollResponse.setTotalVotes(poll.getTotalVotes());
-            pollResponse.setAllowMultipleVotes(poll.isAllowMultipleVotes());
-            pollResponse.setAnonymous(poll.isAnonymous());
-            pollResponse.setExpiresAt(poll.getExpiresAt());
-            pollResponse.setHasExpired(poll.getExpiresAt() != null && LocalDateTime.now().isAfter(poll.getExpiresAt()));
-
-            List<PollOptionEntity> options = pollOptionRepository.findByPollIdOrderByOptionOrder(poll.getId());
+        PollEntity poll = batch.polls.get(post.getId());
+        if (poll == null) {
+            return null;
+        }
 
-            AccountEntity currentUser = getAuthenticatedAccountOrNull();
-            UUID currentUserId = currentUser != null ? currentUser.getId() : null;
+        PostResponse.Poll pollResponse = mapPollBase(poll);
 
-            boolean userHasVoted = currentUserId != null && pollVoteRepository.existsByPollIdAndVoterId(poll.getId(), currentUserId);
-            pollResponse.setUserHasVoted(userHasVoted);
+        List<UUID> userVotedOptions = batch.viewerVotes.getOrDefault(poll.getId(), new ArrayList<>());
+        pollResponse.setUserHasVoted(!userVotedOptions.isEmpty());
+        pollResponse.setUserVotedOptions(userVotedOptions);
 
-            List<UUID> userVotedOptions = currentUserId != null
-                    ? pollVoteRepository.findByPollIdAndVoterId(poll.getId(), currentUserId)
-                    .stream()
-                    .map(PollVoteEntity::getOptionId)
-                    .collect(Collectors.toList())
-                    : new ArrayList<>();
-            pollResponse.setUserVotedOptions(userVotedOptions);
+        pollResponse.setOptions(mapPollOptions(poll, batch, userVotedOptions));
+        return pollResponse;
+    }
 
-            List<PostResponse.PollOption> pollOptions = options.stream()
-                    .map(option -> {
-                        PostResponse.PollOption pollOption = new PostResponse.PollOption();
-                        pollOption.setId(option.getId());
-                        pollOption.setOptionText(option.getOptionText());
-                        pollOption.setOptionImageUrl(option.getOptionImageUrl());
-                        pollOption.setOptionOrder(option.getOptionOrder());
-                        pollOption.setVotesCount(option.getVotesCount());
+    private PostResponse.Poll mapQuotedPoll(PostEntity post, PostBatch batch) {
+        if (post.getPostType() != PostType.POLL) {
+            return null;
+        }
 
-                        double percentage = poll.getTotalVotes() > 0
-                                ? (option.getVotesCount() * 100.0) / poll.getTotalVotes()
-                                : 0.0;
-                        pollOption.setPercentage(Math.round(percentage * 10.0) / 10.0);
+        PollEntity poll = batch.polls.get(post.getId());
+        if (poll == null) {
+            return null;
+        }
 
-                        pollOption.setHasVoted(userVotedOptions.contains(option.getId()));
+        PostResponse.Poll pollResponse = mapPollBase(poll);
 
-                        return pollOption;
-                    })
-                    .collect(Collectors.toList());
+        // IMPORTANT: In quoted polls → NEVER reveal current user's votes
+        pollResponse.setUserHasVoted(false);
+        pollResponse.setUserVotedOptions(Collections.emptyList());
 
-            pollResponse.setOptions(pollOptions);
+        pollResponse.setOptions(mapPollOptions(poll, batch, Collections.emptyList()));
+        return pollResponse;
+    }
 
-            return pollResponse;
-        }).orElse(null);
+    private PostResponse.Poll mapPollBase(PollEntity poll) {
+        PostResponse.Poll pollResponse = new PostResponse.Poll();
+        pollResponse.setId(poll.getId());
+        pollResponse.setTitle(poll.getTitle());
+        pollResponse.setDescription(poll.getDescription());
+        pollResponse.setTotalVotes(poll.getTotalVotes());
+        pollResponse.setAllowMultipleVotes(poll.isAllowMultipleVotes());
+        pollResponse.setAnonymous(poll.isAnonymous());
+        pollResponse.setExpiresAt(poll.getExpiresAt());
+        pollResponse.setHasExpired(poll.getExpiresAt() != null && LocalDateTime.now().isAfter(poll.getExpiresAt()));
+        return pollResponse;
     }
 
-    private PostResponse.Poll mapQuotedPoll(PostEntity post) {
-        if (post.getPostType() != PostType.POLL) {
-            return null;
-        }
+    private List<PostResponse.PollOption> mapPollOptions(PollEntity poll, PostBatch batch, List<UUID> userVotedOptions) {
+        return batch.pollOptions.getOrDefault(poll.getId(), List.of()).stream()
+                .map(option -> {
+                    PostResponse.PollOption pollOption = new PostResponse.PollOption();
+                    pollOption.setId(option.getId());
+                    pollOption.setOptionText(option.getOptionText());
+                    pollOption.setOptionImageUrl(option.getOptionImageUrl());
+                    pollOption.setOptionOrder(option.getOptionOrder());
+                    pollOption.setVotesCount(option.getVotesCount());
+
+                    double percentage = poll.getTotalVotes() > 0
+                            ? (option.getVotesCount() * 100.0) / poll.getTotalVotes()
+                            : 0.0;
+                    pollOption.setPercentage(Math.round(percentage * 10.0) / 10.0);
+
+                    pollOption.setHasVoted(userVotedOptions.contains(option.getId()));
+
+                    return pollOption;
+                })
+                .collect(Collectors.toList());
+    }
 
-        return pollRepository.findByPostId(post.getId()).map(poll -> {
-            PostResponse.Poll pollResponse = new PostResponse.Poll();
-            pollResponse.setId(poll.getId());
-            pollResponse.setTitle(poll.getTitle());
-            pollResponse.setDescription(poll.getDescription());
-            pollResponse.setTotalVotes(poll.getTotalVotes());
-            pollResponse.setAllowMultipleVotes(poll.isAllowMultipleVotes());
-            pollResponse.setAnonymous(poll.isAnonymous());
-            pollResponse.setExpiresAt(poll.getExpiresAt());
-            pollResponse.setHasExpired(poll.getExpiresAt() != null &&
-                    LocalDateTime.now().isAfter(poll.getExpiresAt()));
-
-            // IMPORTANT: In quoted polls → NEVER reveal current user's votes
-            pollResponse.setUserHasVoted(false);
-            pollResponse.setUserVotedOptions(Collections.emptyList());
-
-            List<PollOptionEntity> options = pollOptionRepository
-                    .findByPollIdOrderByOptionOrder(poll.getId());
-
-            List<PostResponse.PollOption> pollOptions = options.stream()
-                    .map(option -> {
-                        PostResponse.PollOption opt = new PostResponse.PollOption();
-                        opt.setId(option.getId());
-                        opt.setOptionText(option.getOptionText());
-                        opt.setOptionImageUrl(option.getOptionImageUrl());
-                        opt.setOptionOrder(option.getOptionOrder());
-                        opt.setVotesCount(option.getVotesCount());
-
-                        double percentage = poll.getTotalVotes() > 0
-                                ? (option.getVotesCount() * 100.0) / poll.getTotalVotes()
-                                : 0.0;
-                        opt.setPercentage(Math.round(percentage * 10.0) / 10.0);
-
-                        // Never highlight user's vote in quoted poll
-                        opt.setHasVoted(false);
-
-                        return opt;
-                    })
-                    .collect(Collectors.toList());
-
-            pollResponse.setOptions(pollOptions);
-            return pollResponse;
-        }).orElse(null);
-    }
-
-    private PostResponse.Attachments mapAttachments(PostEntity post) {
+    private PostResponse.Attachments mapAttachments(PostEntity post, PostBatch batch) {
         PostResponse.Attachments attachments = new PostResponse.Attachments();
 
-        attachments.setProducts(mapAttachedProducts(post));
-        attachments.setShops(mapAttachedShops(post));
-        attachments.setEvents(mapAttachedEvents(post));
-        attachments.setBuyTogetherGroups(mapAttachedBuyTogetherGroups(post));
-        attachments.setInstallmentPlans(mapAttachedInstallmentPlans(post));
-        attachments.setExternalLink(mapExternalLink(post));
+        attachments.setProducts(mapAttachedProducts(post, batch));
+        attachments.setShops(mapAttachedShops(post, batch));
+        attachments.setEvents(mapAttachedEvents(post, batch));
+        attachments.setBuyTogetherGroups(mapAttachedBuyTogetherGroups(post, batch));
+        attachments.setInstallmentPlans(mapAttachedInstallmentPlans(post, batch));
+        attachments.setExternalLink(mapExternalLink(post, batch));
 
         return attachments;
     }
 
-    private List<PostResponse.AttachedProduct> mapAttachedProducts(PostEntity post) {
+    private List<PostResponse.AttachedProduct> mapAttachedProducts(PostEntity post, PostBatch batch) {
         List<PostResponse.AttachedProduct> products = new ArrayList<>();
 
-        postProductRepository.findByPostId(post.getId()).forEach(postProduct -> {
-            productRepo.findById(postProduct.getProductId()).ifPresent(product -> {
-                PostResponse.AttachedProduct attachedProduct = new PostResponse.AttachedProduct();
-                attachedProduct.setId(product.getProductId());
-                attachedProduct.setName(product.getProductName());
-                attachedProduct.setPrice(product.getPrice());
-                attachedProduct.setImageUrl(product.getProductImages() != null && !product.getProductImages().isEmpty()
-                        ? product.getProductImages().getFirst()
-                        : null);
-                attachedProduct.setInStock(product.getStockQuantity() > 0);
-
-                if (product.getShop() != null && product.getShop().getShopId() != null) {
-                    shopRepo.findByShopIdAndIsDeletedFalseAndStatus(product.getShop().getShopId(), ShopStatus.ACTIVE).ifPresent(shop -> {
-                        attachedProduct.setShopName(shop.getShopName());
-                        attachedProduct.setShopId(shop.getShopId());
-                    });
+        batch.postProducts.getOrDefault(post.getId(), List.of()).forEach(postProduct -> {
+            ProductEntity product = batch.products.get(postProduct.getProductId());
+            if (product == null) {
+                return;
+            }
+
+            PostResponse.AttachedProduct attachedProduct = new PostResponse.AttachedProduct();
+            attachedProduct.setId(product.getProductId());
+            attachedProduct.setName(product.getProductName());
+            attachedProduct.setPrice(product.getPrice());
+            attachedProduct.setImageUrl(getFirstProductImage(product));
+            attachedProduct.setInStock(product.getStockQuantity() > 0);
+
+            if (product.getShop() != null && product.getShop().getShopId() != null) {
+                ShopEntity shop = batch.activeShops.get(product.getShop().getShopId());
+                if (shop != null) {
+                    attachedProduct.setShopName(shop.getShopName());
+                    attachedProduct.setShopId(shop.getShopId());
                 }
+            }
 
-                attachedProduct.setSocialContext(null);
-                products.add(attachedProduct);
-            });
+            attachedProduct.setSocialContext(null);
+            products.add(attachedProduct);
         });
 
         return products;
     }
 
-    private List<PostResponse.AttachedShop> mapAttachedShops(PostEntity post) {
+    private List<PostResponse.AttachedShop> mapAttachedShops(PostEntity post, PostBatch batch) {
         List<PostResponse.AttachedShop> shops = new ArrayList<>();
 
-        postShopRepository.findByPostId(post.getId()).forEach(postShop -> {
-            shopRepo.findByShopIdAndIsDeletedFalseAndStatus(postShop.getShopId(), ShopStatus.ACTIVE).ifPresent(shop -> {
-                PostResponse.AttachedShop attachedShop = new PostResponse.AttachedShop();
-                attachedShop.setId(shop.getShopId());
-                attachedShop.setName(shop.getShopName());
-                attachedShop.setLogoUrl(shop.getLogoUrl());
-                attachedShop.setDescription(shop.getShopDescription());
-                attachedShop.setVerified(shop.getIsVerified());
-                shops.add(attachedShop);
-            });
+        batch.postShops.getOrDefault(post.getId(), List.of()).forEach(postShop -> {
+            ShopEntity shop = batch.activeShops.get(postShop.getShopId());
+            if (shop == null) {
+                return;
+            }
+
+            PostResponse.AttachedShop attachedShop = new PostResponse.AttachedShop();
+            attachedShop.setId(shop.getShopId());
+            attachedShop.setName(shop.getShopName());
+            attachedShop.setLogoUrl(shop.getLogoUrl());
+            attachedShop.setDescription(shop.getShopDescription());
+            attachedShop.setVerified(shop.getIsVerified());
+            shops.add(attachedShop);
         });
 
         return shops;
     }
 
-    private List<PostResponse.AttachedEvent> mapAttachedEvents(PostEntity post) {
+    private List<PostResponse.AttachedEvent> mapAttachedEvents(PostEntity post, PostBatch batch) {
         List<PostResponse.AttachedEvent> events = new ArrayList<>();
 
-        postEventRepository.findByPostId(post.getId()).forEach(postEvent -> {
-            eventsRepo.findById(postEvent.getEventId()).ifPresent(event -> {
-                PostResponse.AttachedEvent attachedEvent = new PostResponse.AttachedEvent();
-                attachedEvent.setId(event.getId());
-                attachedEvent.setTitle(event.getTitle());
-                attachedEvent.setDescription(event.getDescription());
-                attachedEvent.setImageUrl(event.getMedia() != null ? event.getMedia().getBanner() : null);
-                attachedEvent.setDate(event.getStartDateTime() != null ? event.getStartDateTime().toLocalDateTime() : null);
-                attachedEvent.setEndDate(event.getEndDateTime() != null ? event.getEndDateTime().toLocalDateTime() : null);
-                attachedEvent.setLocation(event.getVenue() != null ? event.getVenue().getName() : null);
-                attachedEvent.setAddress(event.getVenue() != null ? event.getVenue().getAddress() : null);
-                attachedEvent.setSocialContext(null);
-                events.add(attachedEvent);
-            });
+        batch.postEvents.getOrDefault(post.getId(), List.of()).forEach(postEvent -> {
+            EventEntity event = batch.events.get(postEvent.getEventId());
+            if (event == null) {
+                return;
+            }
+
+            PostResponse.AttachedEvent attachedEvent = new PostResponse.AttachedEvent();
+            attachedEvent.setId(event.getId());
+            attachedEvent.setTitle(event.getTitle());
+            attachedEvent.setDescription(event.getDescription());
+            attachedEvent.setImageUrl(event.getMedia() != null ? event.getMedia().getBanner() : null);
+            attachedEvent.setDate(event.getStartDateTime() != null ? event.getStartDateTime().toLocalDateTime() : null);
+            attachedEvent.setEndDate(event.getEndDateTime() != null ? event.getEndDateTime().toLocalDateTime() : null);
+            attachedEvent.setLocation(event.getVenue() != null ? event.getVenue().getName() : null);
+            attachedEvent.setAddress(event.getVenue() != null ? event.getVenue().getAddress() : null);
+            attachedEvent.setSocialContext(null);
+            events.add(attachedEvent);
         });
 
         return events;
     }
 
-    private List<PostResponse.AttachedBuyTogetherGroup> mapAttachedBuyTogetherGroups(PostEntity post) {
+    private List<PostResponse.AttachedBuyTogetherGroup> mapAttachedBuyTogetherGroups(PostEntity post, PostBatch batch) {
         List<PostResponse.AttachedBuyTogetherGroup> groups = new ArrayList<>();
 
-        postBuyTogetherGroupRepository.findByPostId(post.getId()).forEach(postGroup -> {
-            groupPurchaseInstanceRepo.findById(postGroup.getGroupId()).ifPresent(group -> {
-                PostResponse.AttachedBuyTogetherGroup attachedGroup = new PostResponse.AttachedBuyTogetherGroup();
-                attachedGroup.setId(group.getGroupInstanceId());
-                attachedGroup.setCurrentCount(group.getSeatsOccupied());
-                attachedGroup.setTotalSlots(group.getTotalSeats());
-                attachedGroup.setOriginalPrice(group.getRegularPrice());
-                attachedGroup.setDiscountPrice(group.getGroupPrice());
-                attachedGroup.setRemainingSlots(group.getSeatsRemaining());
-
-                if (group.getRegularPrice() != null && group.getGroupPrice() != null) {
-                    BigDecimal savings = group.getRegularPrice().subtract(group.getGroupPrice());
-                    attachedGroup.setSavingsAmount(savings);
-                    attachedGroup.setSavingsPercentage(
-                            savings.multiply(new BigDecimal("100")).divide(group.getRegularPrice(), 2, BigDecimal.ROUND_HALF_UP)
-                    );
-                }
-                attachedGroup.setExpiresAt(group.getExpiresAt());
-                attachedGroup.setStatus(group.getStatus().name());
-
-                if (group.getProduct() != null && group.getProduct().getProductId() != null) {
-                    productRepo.findById(group.getProduct().getProductId()).ifPresent(product -> {
-                        attachedGroup.setProductName(product.getProductName());
-                        attachedGroup.setProductImageUrl(product.getProductImages() != null && !product.getProductImages().isEmpty()
-                                ? product.getProductImages().getFirst()
-                                : null);
-                    });
+        batch.postGroups.getOrDefault(post.getId(), List.of()).forEach(postGroup -> {
+            GroupPurchaseInstanceEntity group = batch.groups.get(postGroup.getGroupId());
+            if (group == null) {
+                return;
+            }
+
+            PostResponse.AttachedBuyTogetherGroup attachedGroup = new PostResponse.AttachedBuyTogetherGroup();
+            attachedGroup.setId(group.getGroupInstanceId());
+            attachedGroup.setCurrentCount(group.getSeatsOccupied());
+            attachedGroup.setTotalSlots(group.getTotalSeats());
+            attachedGroup.setOriginalPrice(group.getRegularPrice());
+            attachedGroup.setDiscountPrice(group.getGroupPrice());
+            attachedGroup.setRemainingSlots(group.getSeatsRemaining());
+
+            if (group.getRegularPrice() != null && group.getGroupPrice() != null) {
+                BigDecimal savings = group.getRegularPrice().subtract(group.getGroupPrice());
+                attachedGroup.setSavingsAmount(savings);
+                attachedGroup.setSavingsPercentage(
+                        savings.multiply(new BigDecimal("100")).divide(group.getRegularPrice(), 2, BigDecimal.ROUND_HALF_UP)
+                );
+            }
+            attachedGroup.setExpiresAt(group.getExpiresAt());
+            attachedGroup.setStatus(group.getStatus().name());
+
+            if (group.getProduct() != null && group.getProduct().getProductId() != null) {
+                ProductEntity product = batch.products.get(group.getProduct().getProductId());
+                if (product != null) {
+                    attachedGroup.setProductName(product.getProductName());
+                    attachedGroup.setProductImageUrl(getFirstProductImage(product));
                 }
+            }
 
-                attachedGroup.setSocialContext(null);
-                groups.add(attachedGroup);
-            });
+            attachedGroup.setSocialContext(null);
+            groups.add(attachedGroup);
         });
 
         return groups;
     }
 
-
-
-    private List<PostResponse.AttachedInstallmentPlan> mapAttachedInstallmentPlans(PostEntity post) {
+    private List<PostResponse.AttachedInstallmentPlan> mapAttachedInstallmentPlans(PostEntity post, PostBatch batch) {
         List<PostResponse.AttachedInstallmentPlan> plans = new ArrayList<>();
 
-        postInstallmentPlanRepository.findByPostId(post.getId()).forEach(postPlan -> {
-            installmentPlanRepo.findById(postPlan.getPlanId()).ifPresent(plan -> {
-                if (plan.getIsActive() && plan.getProduct() != null) {
-                    plans.add(mapInstallmentPlan(plan));
-                }
-            });
+        batch.postPlans.getOrDefault(post.getId(), List.of()).forEach(postPlan -> {
+            InstallmentPlanEntity plan = batch.plans.get(postPlan.getPlanId());
+            if (plan != null && plan.getIsActive() && plan.getProduct() != null) {
+                plans.add(mapInstallmentPlan(plan));
+            }
         });
 
         return plans;
@@ -602,31 +776,34 @@ public class PostResponseMapper {
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
-    private PostResponse.ExternalLink mapExternalLink(PostEntity post) {
-        return postLinkRepository.findByPostId(post.getId()).map(link -> {
-            PostResponse.ExternalLink externalLink = new PostResponse.ExternalLink();
-            externalLink.setId(link.getId());
-            externalLink.setOriginalUrl(link.getOriginalUrl());
-            externalLink.setShortUrl("https://nexgate.link/" + link.getShortCode());
-            externalLink.setShortCode(link.getShortCode());
-            externalLink.setValidated(link.getStatus() == LinkStatus.VALIDATED);
-            externalLink.setSafe(link.isSafe());
-            externalLink.setClickCount(link.getClickCount());
-            externalLink.setCreatedAt(link.getCreatedAt());
-
-            PostResponse.LinkPreview preview = new PostResponse.LinkPreview();
-            preview.setDomain(link.getDomain());
-            preview.setTitle(null);
-            preview.setDescription(null);
-            preview.setImageUrl(null);
-            preview.setFavicon(null);
-            externalLink.setPreview(preview);
+    private PostResponse.ExternalLink mapExternalLink(PostEntity post, PostBatch batch) {
+        PostLinkEntity link = batch.links.get(post.getId());
+        if (link == null) {
+            return null;
+        }
 
-            return externalLink;
-        }).orElse(null);
+        PostResponse.ExternalLink externalLink = new PostResponse.ExternalLink();
+        externalLink.setId(link.getId());
+        externalLink.setOriginalUrl(link.getOriginalUrl());
+        externalLink.setShortUrl("https://nexgate.link/" + link.getShortCode());
+        externalLink.setShortCode(link.getShortCode());
+        externalLink.setValidated(link.getStatus() == LinkStatus.VALIDATED);
+        externalLink.setSafe(link.isSafe());
+        externalLink.setClickCount(link.getClickCount());
+        externalLink.setCreatedAt(link.getCreatedAt());
+
+        PostResponse.LinkPreview preview = new PostResponse.LinkPreview();
+        preview.setDomain(link.getDomain());
+        preview.setTitle(null);
+        preview.setDescription(null);
+        preview.setImageUrl(null);
+        preview.setFavicon(null);
+        externalLink.setPreview(preview);
+
+        return externalLink;
     }
 
-    private PostResponse.Collaboration mapCollaboration(PostEntity post) {
+    private PostResponse.Collaboration mapCollaboration(PostEntity post, PostBatch batch) {
         PostResponse.Collaboration collaboration = new PostResponse.Collaboration();
         collaboration.setCollaborative(post.isCollaborative());
 
@@ -637,40 +814,34 @@ public class PostResponseMapper {
         }
 
         List<PostResponse.Collaborator> collaborators = new ArrayList<>();
-        postCollaboratorRepository.findByPostId(post.getId()).forEach(collab -> {
+        batch.collaborators.getOrDefault(post.getId(), List.of()).forEach(collab -> {
             PostResponse.Collaborator collaborator = new PostResponse.Collaborator();
             collaborator.setId(collab.getId());
             collaborator.setStatus(collab.getStatus());
             collaborator.setInvitedAt(collab.getInvitedAt());
             collaborator.setRespondedAt(collab.getRespondedAt());
 
-            accountRepo.findById(collab.getUserId()).ifPresent(user -> {
-                PostResponse.User collabUser = new PostResponse.User();
-                collabUser.setId(user.getId());
-                collabUser.setUserName(user.getUserName());
-                collabUser.setFirstName(user.getFirstName());
-                collabUser.setLastName(user.getLastName());
-                collabUser.setProfilePictureUrl(user.getProfilePictureUrls() != null && !user.getProfilePictureUrls().isEmpty()
-                        ? user.getProfilePictureUrls().getFirst()
-                        : null);
-                collaborator.setUser(collabUser);
-            });
+            AccountEntity user = batch.accounts.get(collab.getUserId());
+            if (user != null) {
+                collaborator.setUser(mapUser(user));
+            }
 
             collaborators.add(collaborator);
         });
 
         collaboration.setCollaborators(collaborators);
-        collaboration.setByline(buildByline(post, collaborators));
+        collaboration.setByline(buildByline(post, collaborators, batch));
 
         return collaboration;
     }
 
-    private String buildByline(PostEntity post, List<PostResponse.Collaborator> collaborators) {
+    private String buildByline(PostEntity post, List<PostResponse.Collaborator> collaborators, PostBatch batch) {
         StringBuilder byline = new StringBuilder("By ");
 
-        accountRepo.findById(post.getAuthorId()).ifPresent(author -> {
+        AccountEntity author = batch.accounts.get(post.getAuthorId());
+        if (author != null) {
             byline.append(author.getFirstName()).append(" ").append(author.getLastName());
-        });
+        }
 
         long acceptedCount = collaborators.stream()
                 .filter(c -> c.getStatus() == CollaboratorStatus.ACCEPTED)
@@ -724,7 +895,7 @@ public class PostResponseMapper {
         return engagement;
     }
 
-    private PostResponse.QuotedPost mapQuotedPost(PostEntity post) {
+    private PostResponse.QuotedPost mapQuotedPost(PostEntity post, PostBatch batch) {
         // 1. No quote at all → genuinely nothing to show
         if (post.getQuotedPostId() == null) {
             return null;
@@ -732,35 +903,11 @@ public class PostResponseMapper {
 
         UUID quotedPostId = post.getQuotedPostId();
 
-        // 2. Try to fetch the quoted post (respecting soft-delete)
-        PostEntity quotedPost = postRepository.findByIdAndIsDeletedFalse(quotedPostId)
-                .orElse(null);
-
-        //Todo: Here we will fetch curret or null user if needed for privacy checks
-   //AccountEntity currentUser = getAuthenticatedAccountOrNull();
-
-        // 3. PRIVACY + VISIBILITY CHECKS
-        // TODO: extend this block for more privacy rules (suspended account, muted, etc.)
-        if (quotedPost != null) {
-            if (quotedPost.getStatus() != PostStatus.PUBLISHED) {
-                quotedPost = null;
-            }
+        // 2. Quoted posts were batch-loaded (not deleted + PUBLISHED only)
+        // TODO: extend with more privacy rules (blocked by author, private account, muted, etc.)
+        PostEntity quotedPost = batch.quotedPosts.get(quotedPostId);
 
-            // — Current user is blocked by quoted post author → hide entirely
-//            else if (currentUser != null && blockRepository.existsByBlockerIdAndBlockedId(
-//                    quotedPost.getAuthorId(), currentUser.getId())) {
-//                quotedPost = null;
-//
-//            — Quoted post is from private account + current user doesn't follow → hide
-//            else if (quotedPost.getAuthor().isPrivate() && currentUser != null &&
-//                    !followRepository.existsByFollowerIdAndFollowingId(currentUser.getId(), quotedPost.getAuthorId())) {
-//                quotedPost = null;
-//            }
-            // — Current user blocked the author? Still show (personal choice), or hide if you prefer
-            // else if (currentUser != null && blockRepository.existsByBlockerIdAndBlockedId(currentUser.getId(), quotedPost.getAuthorId())) { quotedPost = null; }
-        }
-
-        // 4. If quoted post is unavailable for ANY reason → tombstone
+        // 3. If quoted post is unavailable for ANY reason → tombstone
         if (quotedPost == null) {
             return PostResponse.QuotedPost.builder()
                     .id(quotedPostId)
@@ -772,12 +919,12 @@ public class PostResponseMapper {
                     .build();
         }
 
-        // 5. Fully visible & published → return rich quoted post
+        // 4. Fully visible & published → return rich quoted post
         PostResponse.QuotedPost response = new PostResponse.QuotedPost();
         response.setId(quotedPost.getId());
-        response.setAuthor(mapAuthor(quotedPost));
+        response.setAuthor(mapAuthor(quotedPost, batch));
         response.setContent(quotedPost.getContent());
-        response.setContentParsed(mapContentParsed(quotedPost));
+        response.setContentParsed(mapContentParsed(quotedPost, batch));
         response.setPostType(quotedPost.getPostType());
         response.setStatus(quotedPost.getStatus());
         response.setMedia(mapMedia(quotedPost));
@@ -787,17 +934,17 @@ public class PostResponseMapper {
         response.setEngagement(mapEngagement(quotedPost));
 
         if (quotedPost.getPostType() == PostType.POLL) {
-            response.setPoll(mapQuotedPoll(quotedPost));
+            response.setPoll(mapQuotedPoll(quotedPost, batch));
         }
 
         return response;
     }
 
 
-    private PostResponse.UserInteraction mapUserInteraction(PostEntity post, UUID currentUserId) {
+    private PostResponse.UserInteraction mapUserInteraction(PostEntity post, PostBatch batch) {
         PostResponse.UserInteraction interaction = new PostResponse.UserInteraction();
 
-        if (currentUserId == null) {
+        if (batch.viewerId == null) {
             interaction.setHasLiked(false);
             interaction.setHasBookmarked(false);
             interaction.setHasReposted(false);
@@ -806,39 +953,65 @@ public class PostResponseMapper {
             return interaction;
         }
 
-        // ✅ Query actual interaction tables
-        interaction.setHasLiked(postLikeRepository.existsByPostIdAndUserId(post.getId(), currentUserId));
-        interaction.setHasBookmarked(postBookmarkRepository.existsByPostIdAndUserId(post.getId(), currentUserId));
-        interaction.setHasReposted(postRepostRepository.existsByPostIdAndUserId(post.getId(), currentUserId));
-        interaction.setHasCommented(commentRepository.existsByPostIdAndUserIdAndIsDeletedFalse(post.getId(), currentUserId));        interaction.setHasViewed(postViewRepository.existsByPostIdAndUserId(post.getId(), currentUserId));
+        interaction.setHasLiked(batch.likedPostIds.contains(post.getId()));
+        interaction.setHasBookmarked(batch.bookmarkedPostIds.contains(post.getId()));
+        interaction.setHasReposted(batch.repostedPostIds.contains(post.getId()));
+        interaction.setHasCommented(batch.commentedPostIds.contains(post.getId()));
+        interaction.setHasViewed(batch.viewedPostIds.contains(post.getId()));
 
         return interaction;
     }
 
-    public List<PostResponse> toPostResponseList(List<PostEntity> posts) {
-        List<PostResponse> responses = new ArrayList<>();
-        for (PostEntity post : posts) {
-            responses.add(toPostResponse(post));
+    private AccountEntity getAuthenticatedAccountOrNull() {
+        try {
+            return currentAccountProvider.getCurrentAccount();
+        } catch (ItemNotFoundException e) {
+            return null;
         }
-        return responses;
     }
 
-    private AccountEntity getAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        }
-        throw new IllegalArgumentException("User not authenticated");
+    private UUID getCurrentUserIdOrNull() {
+        AccountEntity currentUser = getAuthenticatedAccountOrNull();
+        return currentUser != null ? currentUser.getId() : null;
     }
 
-    private AccountEntity getAuthenticatedAccountOrNull() {
-        try {
-            return getAuthenticatedAccount();
-        } catch (Exception e) {
-            return null;
+    // Everything a page of posts needs, keyed for in-memory assembly
+    private static class PostBatch {
+        private final UUID viewerId;
+
+        private final Map<UUID, PostEntity> quotedPosts = new HashMap<>();
+        private final Map<UUID, AccountEntity> accounts = new HashMap<>();
+
+        private Map<UUID, List<PostUserMentionEntity>> userMentions = new HashMap<>();
+        private Map<UUID, List<PostHashtagEntity>> hashtags = new HashMap<>();
+        private Map<UUID, List<PostShopMentionEntity>> shopMentions = new HashMap<>();
+        private Map<UUID, List<PostCollaboratorEntity>> collaborators = new HashMap<>();
+
+        private Map<UUID, List<PostProductEntity>> postProducts = new HashMap<>();
+        private Map<UUID, List<PostShopEntity>> postShops = new HashMap<>();
+        private Map<UUID, List<PostEventEntity>> postEvents = new HashMap<>();
+        private Map<UUID, List<PostBuyTogetherGroupEntity>> postGroups = new HashMap<>();
+        private Map<UUID, List<PostInstallmentPlanEntity>> postPlans = new HashMap<>();
+        private final Map<UUID, PostLinkEntity> links = new HashMap<>();
+
+        private final Map<UUID, ProductEntity> products = new HashMap<>();
+        private final Map<UUID, ShopEntity> activeShops = new HashMap<>();
+        private final Map<UUID, EventEntity> events = new HashMap<>();
+        private final Map<UUID, GroupPurchaseInstanceEntity> groups = new HashMap<>();
+        private final Map<UUID, InstallmentPlanEntity> plans = new HashMap<>();
+
+        private final Map<UUID, PollEntity> polls = new HashMap<>();
+        private Map<UUID, List<PollOptionEntity>> pollOptions = new HashMap<>();
+        private final Map<UUID, List<UUID>> viewerVotes = new HashMap<>();
+
+        private final Set<UUID> likedPostIds = new HashSet<>();
+        private final Set<UUID> bookmarkedPostIds = new HashSet<>();
+        private final Set<UUID> repostedPostIds = new HashSet<>();
+        private final Set<UUID> commentedPostIds = new HashSet<>();
+        private final Set<UUID> viewedPostIds = new HashSet<>();
+
+        private PostBatch(UUID viewerId) {
+            this.viewerId = viewerId;
         }
     }
-}
\ No newline at end of file
+}
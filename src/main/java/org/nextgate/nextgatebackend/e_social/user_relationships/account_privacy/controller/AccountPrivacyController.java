@@ -6,6 +6,7 @@ import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.
 import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.entity.UserPrivacySettings;
 import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.service.AccountPrivacyService;
 import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.utils.PrivacyMapper;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,7 +20,7 @@ public class AccountPrivacyController {
     private final PrivacyMapper privacyMapper;
 
     @GetMapping("/account")
-    public ResponseEntity<GlobeSuccessResponseBuilder> getPrivacySettings() {
+    public ResponseEntity<GlobeSuccessResponseBuilder> getPrivacySettings() throws ItemNotFoundException {
         UserPrivacySettings settings = privacyService.getOrCreatePrivacySettings();
         PrivacySettingsResponse response = privacyMapper.toResponse(settings);
 
@@ -33,7 +34,7 @@ public class AccountPrivacyController {
 
     @PutMapping("/account")
     public ResponseEntity<GlobeSuccessResponseBuilder> updatePrivacySettings(
-            @Valid @RequestBody UpdatePrivacyRequest request) {
+            @Valid @RequestBody UpdatePrivacyRequest request) throws ItemNotFoundException {
 
         UserPrivacySettings settings = privacyService.updatePrivacySettings(request.getIsPrivate());
         PrivacySettingsResponse response = privacyMapper.toResponse(settings);
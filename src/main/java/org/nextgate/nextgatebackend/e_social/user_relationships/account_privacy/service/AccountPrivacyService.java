@@ -1,14 +1,15 @@
 package org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.service;
 
 import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.entity.UserPrivacySettings;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 
 import java.util.UUID;
 
 public interface AccountPrivacyService {
 
-    UserPrivacySettings getOrCreatePrivacySettings();
+    UserPrivacySettings getOrCreatePrivacySettings() throws ItemNotFoundException;
 
-    UserPrivacySettings updatePrivacySettings(boolean isPrivate);
+    UserPrivacySettings updatePrivacySettings(boolean isPrivate) throws ItemNotFoundException;
 
     boolean isAccountPrivate(UUID userId);
 
@@ -6,9 +6,8 @@ import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.entity.UserPrivacySettings;
 import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.repo.UserPrivacyRepository;
 import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.service.AccountPrivacyService;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,11 +20,12 @@ public class AccountPrivacyServiceImpl implements AccountPrivacyService {
 
     private final UserPrivacyRepository privacyRepository;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     @Transactional
-    public UserPrivacySettings getOrCreatePrivacySettings() {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public UserPrivacySettings getOrCreatePrivacySettings() throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         UUID userId = authenticatedUser.getId();
 
         return privacyRepository.findByUserId(userId)
@@ -34,8 +34,8 @@ public class AccountPrivacyServiceImpl implements AccountPrivacyService {
 
     @Override
     @Transactional
-    public UserPrivacySettings updatePrivacySettings(boolean isPrivate) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public UserPrivacySettings updatePrivacySettings(boolean isPrivate) throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         UUID userId = authenticatedUser.getId();
 
         UserPrivacySettings settings = privacyRepository.findByUserId(userId)
@@ -72,15 +72,4 @@ public class AccountPrivacyServiceImpl implements AccountPrivacyService {
 
         return privacyRepository.save(settings);
     }
-
-    private AccountEntity getAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        }
-        throw new IllegalArgumentException("User not authenticated");
-    }
 }
\ No newline at end of file
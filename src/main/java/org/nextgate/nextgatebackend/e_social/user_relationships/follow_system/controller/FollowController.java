@@ -5,6 +5,7 @@ import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.pa
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.entity.FollowEntity;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.service.FollowService;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.utils.FollowMapper;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -24,7 +25,7 @@ public class FollowController {
     private final FollowMapper followMapper;
 
     @PostMapping("/{userId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> followUser(@PathVariable UUID userId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> followUser(@PathVariable UUID userId) throws ItemNotFoundException {
         FollowEntity follow = followService.followUser(userId);
         FollowResponse response = followMapper.toResponse(follow);
 
@@ -37,7 +38,7 @@ public class FollowController {
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> unfollowUser(@PathVariable UUID userId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> unfollowUser(@PathVariable UUID userId) throws ItemNotFoundException {
         followService.unfollowUser(userId);
 
         GlobeSuccessResponseBuilder successResponse = GlobeSuccessResponseBuilder.success(
@@ -136,7 +137,7 @@ public class FollowController {
     }
 
     @GetMapping("/requests/pending")
-    public ResponseEntity<GlobeSuccessResponseBuilder> getPendingRequests() {
+    public ResponseEntity<GlobeSuccessResponseBuilder> getPendingRequests() throws ItemNotFoundException {
         List<FollowEntity> pendingRequests = followService.getPendingRequests();
         List<FollowerResponse> response = followMapper.toFollowerResponseList(pendingRequests);
 
@@ -161,7 +162,7 @@ public class FollowController {
     }
 
     @GetMapping("/check/{userId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> checkFollowStatus(@PathVariable UUID userId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> checkFollowStatus(@PathVariable UUID userId) throws ItemNotFoundException {
         FollowCheckResponse status = followService.checkFollowStatus(userId);
 
         GlobeSuccessResponseBuilder successResponse = GlobeSuccessResponseBuilder.success(
@@ -188,7 +189,7 @@ public class FollowController {
     @GetMapping("/featured/paged")
     public ResponseEntity<GlobeSuccessResponseBuilder> getFeaturedUsersPaged(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException {
 
         Pageable pageable = PageRequest.of(page - 1, size);
         Page<FeaturedUserResponse> featured = followService.getFeaturedUsersPaged(pageable);
@@ -200,4 +201,19 @@ public class FollowController {
 
         return ResponseEntity.ok(successResponse);
     }
+
+    @GetMapping("/featured/cursor")
+    public ResponseEntity<GlobeSuccessResponseBuilder> getFeaturedUsersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException {
+
+        FeaturedUsersPageResponse featured = followService.getFeaturedUsersPage(cursor, size);
+
+        GlobeSuccessResponseBuilder successResponse = GlobeSuccessResponseBuilder.success(
+                "Featured users retrieved successfully",
+                featured
+        );
+
+        return ResponseEntity.ok(successResponse);
+    }
 }
\ No newline at end of file
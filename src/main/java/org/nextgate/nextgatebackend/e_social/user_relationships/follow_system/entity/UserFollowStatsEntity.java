@@ -0,0 +1,37 @@
+package org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Denormalized follow counters per user, maintained by FollowCounterUtil on every follow change
+// and reconciled nightly against the follows table.
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Table(name = "user_follow_stats", indexes = {
+        @Index(name = "idx_user_follow_stats_followers", columnList = "followersCount")
+})
+public class UserFollowStatsEntity {
+
+    @Id
+    private UUID userId;
+
+    @Column(nullable = false)
+    private long followersCount = 0;
+
+    @Column(nullable = false)
+    private long followingCount = 0;
+
+    @Column(nullable = false)
+    private long pendingCount = 0;
+
+    private LocalDateTime updatedAt;
+}
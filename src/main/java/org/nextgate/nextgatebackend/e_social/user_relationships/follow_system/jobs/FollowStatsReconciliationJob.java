@@ -0,0 +1,40 @@
+package org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.UserFollowStatsRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Safety net for the denormalized follow counters in user_follow_stats.
+ * Recomputes them from the follows table and fixes any drift; the first run also
+ * backfills users who had follows before the counters existed.
+ * Runs every night at 02:30.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowStatsReconciliationJob {
+
+    private final UserFollowStatsRepository followStatsRepository;
+
+    /**
+     * Cron: "0 30 2 * * *" = At 02:30:00 every day
+     */
+    @Recurring(id = "reconcile-follow-stats", cron = "0 30 2 * * *")
+    @Job(name = "Reconcile Follow Stats - Nightly", retries = 2)
+    @Transactional
+    public void reconcileFollowStats() {
+        int fixed = followStatsRepository.reconcileAll();
+
+        if (fixed == 0) {
+            log.info("Follow stats in sync");
+            return;
+        }
+
+        log.warn("Follow stats reconciled: {} users corrected or backfilled", fixed);
+    }
+}
@@ -0,0 +1,18 @@
+package org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeaturedUsersPageResponse {
+    private List<FeaturedUserResponse> users;
+    private String nextCursor; // null on the last page
+    private boolean hasMore;
+}
@@ -5,8 +5,11 @@ import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.en
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,4 +39,11 @@ public interface FollowRepository extends JpaRepository<FollowEntity, UUID> {
 
     boolean existsByFollowerIdAndFollowingIdAndStatus(UUID followerId, UUID followingId, FollowStatus status);
 
-}
\ No newline at end of file
+    @Query("SELECT f.followingId FROM FollowEntity f WHERE f.followerId = :followerId AND f.status = :status")
+    List<UUID> findFollowingIds(@Param("followerId") UUID followerId, @Param("status") FollowStatus status);
+
+    @Query("SELECT f.followerId FROM FollowEntity f WHERE f.followingId = :followingId AND f.status = :status AND f.followerId IN :userIds")
+    List<UUID> findFollowerIdsAmong(@Param("followingId") UUID followingId,
+                                    @Param("status") FollowStatus status,
+                                    @Param("userIds") Collection<UUID> userIds);
+}
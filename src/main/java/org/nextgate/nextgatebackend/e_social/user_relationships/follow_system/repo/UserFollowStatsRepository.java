@@ -0,0 +1,94 @@
+package org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo;
+
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.entity.UserFollowStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserFollowStatsRepository extends JpaRepository<UserFollowStatsEntity, UUID> {
+
+    // Applies counter deltas in place. The first change for a user seeds the row from the
+    // follows table (which already holds this change), later changes only add the deltas.
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_follow_stats (user_id, followers_count, following_count, pending_count, updated_at)
+        SELECT :userId,
+               (SELECT COUNT(*) FROM follows f WHERE f.following_id = :userId AND f.status = 'ACCEPTED'),
+               (SELECT COUNT(*) FROM follows f WHERE f.follower_id = :userId AND f.status = 'ACCEPTED'),
+               (SELECT COUNT(*) FROM follows f WHERE f.following_id = :userId AND f.status = 'PENDING'),
+               now()
+        ON CONFLICT (user_id) DO UPDATE SET
+            followers_count = GREATEST(0, user_follow_stats.followers_count + :followersDelta),
+            following_count = GREATEST(0, user_follow_stats.following_count + :followingDelta),
+            pending_count = GREATEST(0, user_follow_stats.pending_count + :pendingDelta),
+            updated_at = now()
+        """, nativeQuery = true)
+    void applyDelta(@Param("userId") UUID userId,
+                    @Param("followersDelta") int followersDelta,
+                    @Param("followingDelta") int followingDelta,
+                    @Param("pendingDelta") int pendingDelta);
+
+    // Recomputes every user's counters from the follows table, rewriting only drifted rows
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_follow_stats (user_id, followers_count, following_count, pending_count, updated_at)
+        SELECT c.user_id, SUM(c.followers), SUM(c.following), SUM(c.pending), now()
+        FROM (
+            SELECT f.following_id AS user_id,
+                   COUNT(*) FILTER (WHERE f.status = 'ACCEPTED') AS followers,
+                   0 AS following,
+                   COUNT(*) FILTER (WHERE f.status = 'PENDING') AS pending
+            FROM follows f GROUP BY f.following_id
+            UNION ALL
+            SELECT f.follower_id, 0, COUNT(*) FILTER (WHERE f.status = 'ACCEPTED'), 0
+            FROM follows f GROUP BY f.follower_id
+            UNION ALL
+            SELECT s.user_id, 0, 0, 0 FROM user_follow_stats s
+        ) c
+        GROUP BY c.user_id
+        ON CONFLICT (user_id) DO UPDATE SET
+            followers_count = EXCLUDED.followers_count,
+            following_count = EXCLUDED.following_count,
+            pending_count = EXCLUDED.pending_count,
+            updated_at = now()
+        WHERE (user_follow_stats.followers_count, user_follow_stats.following_count, user_follow_stats.pending_count)
+            IS DISTINCT FROM (EXCLUDED.followers_count, EXCLUDED.following_count, EXCLUDED.pending_count)
+        """, nativeQuery = true)
+    int reconcileAll();
+
+    // Featured-user candidates: the top users by follower count plus the fastest growers since the given time
+    @Query(value = """
+        WITH growth AS (
+            SELECT f.following_id AS user_id, COUNT(*) AS recent_followers
+            FROM follows f
+            WHERE f.status = 'ACCEPTED' AND f.created_at >= :since
+            GROUP BY f.following_id
+        ), candidates AS (
+            (SELECT s.user_id FROM user_follow_stats s ORDER BY s.followers_count DESC LIMIT :limit)
+            UNION
+            (SELECT g.user_id FROM growth g ORDER BY g.recent_followers DESC LIMIT :limit)
+        )
+        SELECT c.user_id AS userId,
+               COALESCE(s.followers_count, 0) AS followersCount,
+               COALESCE(g.recent_followers, 0) AS recentFollowers
+        FROM candidates c
+        LEFT JOIN user_follow_stats s ON s.user_id = c.user_id
+        LEFT JOIN growth g ON g.user_id = c.user_id
+        """, nativeQuery = true)
+    List<FeaturedCandidate> findFeaturedCandidates(@Param("since") LocalDateTime since, @Param("limit") int limit);
+
+    interface FeaturedCandidate {
+        UUID getUserId();
+
+        long getFollowersCount();
+
+        long getRecentFollowers();
+    }
+}
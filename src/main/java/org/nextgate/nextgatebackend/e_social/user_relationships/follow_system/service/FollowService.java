@@ -3,8 +3,10 @@ package org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.s
 
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.entity.FollowEntity;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.payload.FeaturedUserResponse;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.payload.FeaturedUsersPageResponse;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.payload.FollowCheckResponse;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.payload.UserStatsResponse;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,9 +15,9 @@ import java.util.UUID;
 
 public interface FollowService {
 
-    FollowEntity followUser(UUID followingId);
+    FollowEntity followUser(UUID followingId) throws ItemNotFoundException;
 
-    void unfollowUser(UUID followingId);
+    void unfollowUser(UUID followingId) throws ItemNotFoundException;
 
     FollowEntity acceptFollowRequest(UUID followId);
 
@@ -29,13 +31,15 @@ public interface FollowService {
 
     Page<FollowEntity> getFollowingPaged(UUID userId, Pageable pageable);
 
-    List<FollowEntity> getPendingRequests();
+    List<FollowEntity> getPendingRequests() throws ItemNotFoundException;
 
     UserStatsResponse getUserStats(UUID userId);
 
-    FollowCheckResponse checkFollowStatus(UUID userId);
+    FollowCheckResponse checkFollowStatus(UUID userId) throws ItemNotFoundException;
 
     List<FeaturedUserResponse> getFeaturedUsers(int limit);
 
-    Page<FeaturedUserResponse> getFeaturedUsersPaged(Pageable pageable);
+    Page<FeaturedUserResponse> getFeaturedUsersPaged(Pageable pageable) throws ItemNotFoundException;
+
+    FeaturedUsersPageResponse getFeaturedUsersPage(String cursor, int size) throws ItemNotFoundException;
 }
\ No newline at end of file
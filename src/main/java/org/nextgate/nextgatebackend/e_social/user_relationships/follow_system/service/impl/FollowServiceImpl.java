@@ -3,21 +3,27 @@ package org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.s
 import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
+import org.nextgate.nextgatebackend.e_social.posts_mng.service.FeedService;
 import org.nextgate.nextgatebackend.e_social.user_relationships.account_privacy.service.AccountPrivacyService;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.payload.*;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.entity.FollowEntity;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.UserFollowStatsRepository;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.service.FollowService;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.utils.FeaturedUsersSnapshot;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.utils.FeaturedUsersSnapshot.FeaturedEntry;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.utils.FollowCounterUtil;
+import org.nextgate.nextgatebackend.e_social.user_relationships.graph.SocialGraphCache;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,14 +32,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FollowServiceImpl implements FollowService {
 
+    private static final int MAX_FEATURED_PAGE_SIZE = 50;
+
     private final FollowRepository followRepository;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final AccountPrivacyService accountPrivacyService;
+    private final FeedService feedService;
+    private final SocialGraphCache socialGraphCache;
+    private final UserFollowStatsRepository followStatsRepository;
+    private final FollowCounterUtil followCounterUtil;
+    private final FeaturedUsersSnapshot featuredUsersSnapshot;
 
     @Override
     @Transactional
-    public FollowEntity followUser(UUID followingId) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public FollowEntity followUser(UUID followingId) throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         UUID followerId = authenticatedUser.getId();
 
         if (followerId.equals(followingId)) {
@@ -55,19 +69,34 @@ public class FollowServiceImpl implements FollowService {
         follow.setStatus(isPrivate ? FollowStatus.PENDING : FollowStatus.ACCEPTED);
         follow.setCreatedAt(LocalDateTime.now());
 
-        return followRepository.save(follow);
+        FollowEntity savedFollow = followRepository.save(follow);
+        followCounterUtil.onFollowCreated(savedFollow);
+
+        if (savedFollow.getStatus() == FollowStatus.ACCEPTED) {
+            socialGraphCache.evictFollowing(followerId);
+            feedService.onFollowAccepted(followerId, followingId);
+        }
+
+        return savedFollow;
     }
 
     @Override
     @Transactional
-    public void unfollowUser(UUID followingId) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public void unfollowUser(UUID followingId) throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         UUID followerId = authenticatedUser.getId();
 
         accountRepo.findById(followingId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        followRepository.deleteByFollowerIdAndFollowingId(followerId, followingId);
+        followRepository.findByFollowerIdAndFollowingId(followerId, followingId)
+                .ifPresent(follow -> {
+                    followRepository.delete(follow);
+                    followCounterUtil.onFollowRemoved(follow);
+                });
+
+        socialGraphCache.evictFollowing(followerId);
+        feedService.onUnfollow(followerId, followingId);
     }
 
     @Override
@@ -81,7 +110,13 @@ public class FollowServiceImpl implements FollowService {
         }
 
         follow.setStatus(FollowStatus.ACCEPTED);
-        return followRepository.save(follow);
+        FollowEntity savedFollow = followRepository.save(follow);
+        followCounterUtil.onFollowAccepted(savedFollow);
+
+        socialGraphCache.evictFollowing(follow.getFollowerId());
+        feedService.onFollowAccepted(follow.getFollowerId(), follow.getFollowingId());
+
+        return savedFollow;
     }
 
     @Override
@@ -95,6 +130,7 @@ public class FollowServiceImpl implements FollowService {
         }
 
         followRepository.delete(follow);
+        followCounterUtil.onFollowRemoved(follow);
     }
 
     @Override
@@ -114,8 +150,8 @@ public class FollowServiceImpl implements FollowService {
     }
 
     @Override
-    public List<FollowEntity> getPendingRequests() {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public List<FollowEntity> getPendingRequests() throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         return followRepository.findByFollowingIdAndStatusOrderByCreatedAtDesc(authenticatedUser.getId(), FollowStatus.PENDING);
     }
 
@@ -137,19 +173,29 @@ public class FollowServiceImpl implements FollowService {
 
     @Override
     public UserStatsResponse getUserStats(UUID userId) {
-        accountRepo.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        long followersCount = followRepository.countByFollowingIdAndStatus(userId, FollowStatus.ACCEPTED);
-        long followingCount = followRepository.countByFollowerIdAndStatus(userId, FollowStatus.ACCEPTED);
-        long pendingCount = followRepository.countByFollowingIdAndStatus(userId, FollowStatus.PENDING);
+        if (!accountRepo.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
 
-        return new UserStatsResponse(userId, followersCount, followingCount, pendingCount);
+        return followStatsRepository.findById(userId)
+                .map(stats -> new UserStatsResponse(
+                        userId,
+                        stats.getFollowersCount(),
+                        stats.getFollowingCount(),
+                        stats.getPendingCount()
+                ))
+                // No follow activity since the counters were introduced - count directly
+                .orElseGet(() -> new UserStatsResponse(
+                        userId,
+                        followRepository.countByFollowingIdAndStatus(userId, FollowStatus.ACCEPTED),
+                        followRepository.countByFollowerIdAndStatus(userId, FollowStatus.ACCEPTED),
+                        followRepository.countByFollowingIdAndStatus(userId, FollowStatus.PENDING)
+                ));
     }
 
     @Override
-    public FollowCheckResponse checkFollowStatus(UUID userId) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public FollowCheckResponse checkFollowStatus(UUID userId) throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
 
         accountRepo.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
@@ -161,105 +207,100 @@ public class FollowServiceImpl implements FollowService {
 
     @Override
     public List<FeaturedUserResponse> getFeaturedUsers(int limit) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
-        UUID currentUserId = authenticatedUser.getId();
+        return getFeaturedUsersPage(null, limit).getUsers();
+    }
 
-        List<UUID> usersIFollow = followRepository.findByFollowerIdAndStatus(currentUserId, FollowStatus.ACCEPTED)
-                .stream()
-                .map(FollowEntity::getFollowingId)
-                .toList();
+    @Override
+    public Page<FeaturedUserResponse> getFeaturedUsersPaged(Pageable pageable) throws ItemNotFoundException {
+        UUID currentUserId = currentAccountProvider.getCurrentAccountId();
 
-        List<AccountEntity> allUsers = accountRepo.findAll();
+        List<FeaturedEntry> candidates = featuredCandidatesFor(currentUserId);
 
-        Map<UUID, Long> followerCounts = allUsers.stream()
-                .collect(Collectors.toMap(
-                        AccountEntity::getId,
-                        user -> followRepository.countByFollowingIdAndStatus(user.getId(), FollowStatus.ACCEPTED)
-                ));
+        int start = (int) Math.min(pageable.getOffset(), candidates.size());
+        int end = Math.min(start + pageable.getPageSize(), candidates.size());
 
-        Set<UUID> usersWhoFollowMe = followRepository.findByFollowingIdAndStatus(currentUserId, FollowStatus.ACCEPTED)
-                .stream()
-                .map(FollowEntity::getFollowerId)
-                .collect(Collectors.toSet());
-
-        return allUsers.stream()
-                .filter(user -> !user.getId().equals(currentUserId))
-                .filter(user -> !usersIFollow.contains(user.getId()))
-                .sorted((u1, u2) -> Long.compare(
-                        followerCounts.getOrDefault(u2.getId(), 0L),
-                        followerCounts.getOrDefault(u1.getId(), 0L)
-                ))
-                .limit(limit)
-                .map(user -> new FeaturedUserResponse(
-                        user.getId(),
-                        user.getUserName(),
-                        user.getFirstName(),
-                        user.getLastName(),
-                        user.getProfilePictureUrls(),
-                        user.getIsVerified(),
-                        followerCounts.getOrDefault(user.getId(), 0L),
-                        usersWhoFollowMe.contains(user.getId())
-                ))
-                .collect(Collectors.toList());
+        List<FeaturedUserResponse> pageContent = toFeaturedResponses(candidates.subList(start, end), currentUserId);
+
+        return new PageImpl<>(pageContent, pageable, candidates.size());
     }
 
     @Override
-    public Page<FeaturedUserResponse> getFeaturedUsersPaged(Pageable pageable) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
-        UUID currentUserId = authenticatedUser.getId();
+    public FeaturedUsersPageResponse getFeaturedUsersPage(String cursor, int size) throws ItemNotFoundException {
+        UUID currentUserId = currentAccountProvider.getCurrentAccountId();
+        int pageSize = Math.max(1, Math.min(size, MAX_FEATURED_PAGE_SIZE));
+
+        List<FeaturedEntry> candidates = featuredCandidatesFor(currentUserId);
+        if (cursor != null && !cursor.isBlank()) {
+            FeaturedCursor after = decodeFeaturedCursor(cursor);
+            candidates = candidates.stream()
+                    .filter(entry -> FeaturedUsersSnapshot.isAfter(entry, after.score(), after.userId()))
+                    .toList();
+        }
 
-        List<UUID> usersIFollow = followRepository.findByFollowerIdAndStatus(currentUserId, FollowStatus.ACCEPTED)
-                .stream()
-                .map(FollowEntity::getFollowingId)
-                .toList();
+        boolean hasMore = candidates.size() > pageSize;
+        List<FeaturedEntry> page = hasMore ? candidates.subList(0, pageSize) : candidates;
 
-        List<AccountEntity> allUsers = accountRepo.findAll();
+        String nextCursor = hasMore ? encodeFeaturedCursor(page.getLast()) : null;
 
-        Map<UUID, Long> followerCounts = allUsers.stream()
-                .collect(Collectors.toMap(
-                        AccountEntity::getId,
-                        user -> followRepository.countByFollowingIdAndStatus(user.getId(), FollowStatus.ACCEPTED)
-                ));
+        return new FeaturedUsersPageResponse(toFeaturedResponses(page, currentUserId), nextCursor, hasMore);
+    }
 
-        Set<UUID> usersWhoFollowMe = followRepository.findByFollowingIdAndStatus(currentUserId, FollowStatus.ACCEPTED)
-                .stream()
-                .map(FollowEntity::getFollowerId)
-                .collect(Collectors.toSet());
-
-        List<FeaturedUserResponse> featured = allUsers.stream()
-                .filter(user -> !user.getId().equals(currentUserId))
-                .filter(user -> !usersIFollow.contains(user.getId()))
-                .sorted((u1, u2) -> Long.compare(
-                        followerCounts.getOrDefault(u2.getId(), 0L),
-                        followerCounts.getOrDefault(u1.getId(), 0L)
-                ))
-                .map(user -> new FeaturedUserResponse(
-                        user.getId(),
-                        user.getUserName(),
-                        user.getFirstName(),
-                        user.getLastName(),
-                        user.getProfilePictureUrls(),
-                        user.getIsVerified(),
-                        followerCounts.getOrDefault(user.getId(), 0L),
-                        usersWhoFollowMe.contains(user.getId())
-                ))
-                .collect(Collectors.toList());
+    // Ranked snapshot minus the current user and the people they already follow
+    private List<FeaturedEntry> featuredCandidatesFor(UUID currentUserId) {
+        Set<UUID> usersIFollow = socialGraphCache.getFollowingIds(currentUserId);
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), featured.size());
-        List<FeaturedUserResponse> pageContent = featured.subList(start, end);
+        return featuredUsersSnapshot.getRanking().stream()
+                .filter(entry -> !entry.userId().equals(currentUserId))
+                .filter(entry -> !usersIFollow.contains(entry.userId()))
+                .toList();
+    }
 
-        return new PageImpl<>(pageContent, pageable, featured.size());
+    // One account query and one follow query for the whole page
+    private List<FeaturedUserResponse> toFeaturedResponses(List<FeaturedEntry> entries, UUID currentUserId) {
+        if (entries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<UUID> userIds = entries.stream().map(FeaturedEntry::userId).toList();
+
+        Map<UUID, AccountEntity> accounts = accountRepo.findAllWithRolesByIdIn(userIds).stream()
+                .collect(Collectors.toMap(AccountEntity::getId, account -> account));
+        Set<UUID> usersWhoFollowMe = new HashSet<>(
+                followRepository.findFollowerIdsAmong(currentUserId, FollowStatus.ACCEPTED, userIds));
+
+        return entries.stream()
+                .filter(entry -> accounts.containsKey(entry.userId()))
+                .map(entry -> {
+                    AccountEntity user = accounts.get(entry.userId());
+                    return new FeaturedUserResponse(
+                            user.getId(),
+                            user.getUserName(),
+                            user.getFirstName(),
+                            user.getLastName(),
+                            user.getProfilePictureUrls(),
+                            user.getIsVerified(),
+                            entry.followersCount(),
+                            usersWhoFollowMe.contains(user.getId())
+                    );
+                })
+                .collect(Collectors.toList());
     }
 
-    private AccountEntity getAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    private String encodeFeaturedCursor(FeaturedEntry entry) {
+        String raw = entry.score() + "|" + entry.userId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private FeaturedCursor decodeFeaturedCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new FeaturedCursor(Long.parseLong(parts[0]), UUID.fromString(parts[1]));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid featured users cursor");
         }
-        throw new IllegalArgumentException("User not authenticated");
     }
-}
\ No newline at end of file
+
+    private record FeaturedCursor(long score, UUID userId) {
+    }
+}
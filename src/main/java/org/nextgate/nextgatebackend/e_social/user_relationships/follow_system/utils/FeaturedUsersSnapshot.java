@@ -0,0 +1,111 @@
+package org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.utils;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.UserFollowStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// In-memory ranking of featured users: top users by follower count and by recent growth,
+// refreshed in the background every few minutes. Requests only filter and page this list.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeaturedUsersSnapshot {
+
+    // Highest score first, ties by userId so keyset cursors stay stable
+    private static final Comparator<FeaturedEntry> RANKING = Comparator
+            .comparingLong(FeaturedEntry::score).reversed()
+            .thenComparing(FeaturedEntry::userId);
+
+    private final UserFollowStatsRepository followStatsRepository;
+
+    private volatile List<FeaturedEntry> ranking;
+    private ScheduledExecutorService refresher;
+
+    @Value("${app.social.featured.size:500}")
+    private int snapshotSize;
+
+    @Value("${app.social.featured.refresh-minutes:10}")
+    private long refreshMinutes;
+
+    @Value("${app.social.featured.growth-window-days:7}")
+    private int growthWindowDays;
+
+    // Weight of one recent follower against one existing follower
+    @Value("${app.social.featured.growth-weight:5}")
+    private long growthWeight;
+
+    @PostConstruct
+    void start() {
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "featured-users-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshMinutes, refreshMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    public List<FeaturedEntry> getRanking() {
+        List<FeaturedEntry> current = ranking;
+        if (current == null) {
+            // First request on this instance builds the snapshot
+            synchronized (this) {
+                if (ranking == null) {
+                    refresh();
+                }
+                current = ranking;
+            }
+        }
+        return current;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Featured users refresh failed, keeping previous snapshot", e);
+        }
+    }
+
+    private void refresh() {
+        LocalDateTime since = LocalDateTime.now().minusDays(growthWindowDays);
+
+        List<FeaturedEntry> entries = followStatsRepository.findFeaturedCandidates(since, snapshotSize).stream()
+                .map(candidate -> new FeaturedEntry(
+                        candidate.getUserId(),
+                        candidate.getFollowersCount(),
+                        candidate.getRecentFollowers(),
+                        candidate.getFollowersCount() + growthWeight * candidate.getRecentFollowers()
+                ))
+                .sorted(RANKING)
+                .limit(snapshotSize)
+                .toList();
+
+        ranking = entries;
+        log.debug("Featured users snapshot refreshed with {} entries", entries.size());
+    }
+
+    // Position in the ranking: true when the entry comes after the given (score, userId) cursor
+    public static boolean isAfter(FeaturedEntry entry, long score, UUID userId) {
+        return entry.score() < score || (entry.score() == score && entry.userId().compareTo(userId) > 0);
+    }
+
+    public record FeaturedEntry(UUID userId, long followersCount, long recentFollowers, long score) {
+    }
+}
@@ -0,0 +1,41 @@
+package org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.utils;
+
+import lombok.RequiredArgsConstructor;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.entity.FollowEntity;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.UserFollowStatsRepository;
+import org.springframework.stereotype.Component;
+
+// Keeps user_follow_stats in step with follow writes. Call after the follows row change,
+// inside the same transaction.
+@Component
+@RequiredArgsConstructor
+public class FollowCounterUtil {
+
+    private final UserFollowStatsRepository followStatsRepository;
+
+    public void onFollowCreated(FollowEntity follow) {
+        if (follow.getStatus() == FollowStatus.ACCEPTED) {
+            followStatsRepository.applyDelta(follow.getFollowingId(), 1, 0, 0);
+            followStatsRepository.applyDelta(follow.getFollowerId(), 0, 1, 0);
+        } else {
+            followStatsRepository.applyDelta(follow.getFollowingId(), 0, 0, 1);
+        }
+    }
+
+    // PENDING -> ACCEPTED
+    public void onFollowAccepted(FollowEntity follow) {
+        followStatsRepository.applyDelta(follow.getFollowingId(), 1, 0, -1);
+        followStatsRepository.applyDelta(follow.getFollowerId(), 0, 1, 0);
+    }
+
+    // Unfollow, declined request or follow removed by a block
+    public void onFollowRemoved(FollowEntity follow) {
+        if (follow.getStatus() == FollowStatus.ACCEPTED) {
+            followStatsRepository.applyDelta(follow.getFollowingId(), -1, 0, 0);
+            followStatsRepository.applyDelta(follow.getFollowerId(), 0, -1, 0);
+        } else {
+            followStatsRepository.applyDelta(follow.getFollowingId(), 0, 0, -1);
+        }
+    }
+}
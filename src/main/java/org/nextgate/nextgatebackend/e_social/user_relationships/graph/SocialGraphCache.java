@@ -0,0 +1,139 @@
+package org.nextgate.nextgatebackend.e_social.user_relationships.graph;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.BlockRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.MuteRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Per-user adjacency sets of the social graph, for read-path checks (visibility, feed filtering).
+// Each set is loaded lazily with one query, kept in a size-bounded LRU with a TTL, and evicted
+// after commit by the services that write follows, blocks and mutes.
+// The TTL bounds staleness when another instance did the write.
+@Component
+@Slf4j
+public class SocialGraphCache {
+
+    private final AdjacencyCache following;
+    private final AdjacencyCache blocked;
+    private final AdjacencyCache muted;
+
+    public SocialGraphCache(FollowRepository followRepository,
+                            BlockRepository blockRepository,
+                            MuteRepository muteRepository,
+                            @Value("${app.social.graph-cache.max-users:10000}") int maxUsers,
+                            @Value("${app.social.graph-cache.ttl-seconds:300}") long ttlSeconds) {
+        long ttlMillis = ttlSeconds * 1000;
+        this.following = new AdjacencyCache(maxUsers, ttlMillis,
+                userId -> followRepository.findFollowingIds(userId, FollowStatus.ACCEPTED));
+        this.blocked = new AdjacencyCache(maxUsers, ttlMillis, blockRepository::findBlockRelatedIds);
+        this.muted = new AdjacencyCache(maxUsers, ttlMillis, muteRepository::findMutedIds);
+    }
+
+    // Users the given user follows (ACCEPTED only)
+    public Set<UUID> getFollowingIds(UUID userId) {
+        return following.get(userId);
+    }
+
+    // Users the given user blocked or was blocked by
+    public Set<UUID> getBlockedIds(UUID userId) {
+        return blocked.get(userId);
+    }
+
+    public Set<UUID> getMutedIds(UUID userId) {
+        return muted.get(userId);
+    }
+
+    public boolean isFollowing(UUID followerId, UUID followingId) {
+        return following.get(followerId).contains(followingId);
+    }
+
+    public boolean isBlockedEitherWay(UUID userId, UUID otherId) {
+        return blocked.get(userId).contains(otherId);
+    }
+
+    public void evictFollowing(UUID... userIds) {
+        evictAfterCommit(following, userIds);
+    }
+
+    public void evictBlocks(UUID... userIds) {
+        evictAfterCommit(blocked, userIds);
+    }
+
+    public void evictMutes(UUID... userIds) {
+        evictAfterCommit(muted, userIds);
+    }
+
+    // Evict now and again after commit, so a reader that loaded the old rows mid-transaction
+    // cannot leave them cached once the write is visible
+    private void evictAfterCommit(AdjacencyCache cache, UUID... userIds) {
+        cache.evict(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(userIds);
+                }
+            });
+        }
+    }
+
+    private static final class AdjacencyCache {
+
+        private final long ttlMillis;
+        private final Function<UUID, Collection<UUID>> loader;
+        private final Map<UUID, Entry> entries;
+
+        // Bumped on every eviction; a load that raced an eviction is returned but not cached
+        private final AtomicLong generation = new AtomicLong();
+
+        AdjacencyCache(int maxUsers, long ttlMillis, Function<UUID, Collection<UUID>> loader) {
+            this.ttlMillis = ttlMillis;
+            this.loader = loader;
+            this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                    return size() > maxUsers;
+                }
+            });
+        }
+
+        Set<UUID> get(UUID userId) {
+            if (userId == null) {
+                return Set.of();
+            }
+
+            Entry entry = entries.get(userId);
+            long now = System.currentTimeMillis();
+            if (entry != null && entry.expiresAt() > now) {
+                return entry.ids();
+            }
+
+            long loadGeneration = generation.get();
+            // Set.copyOf keeps the ids in a compact immutable open-addressing set
+            Set<UUID> ids = Set.copyOf(loader.apply(userId));
+            if (generation.get() == loadGeneration) {
+                entries.put(userId, new Entry(ids, now + ttlMillis));
+            }
+            return ids;
+        }
+
+        void evict(UUID... userIds) {
+            generation.incrementAndGet();
+            for (UUID userId : userIds) {
+                entries.remove(userId);
+            }
+        }
+    }
+
+    private record Entry(Set<UUID> ids, long expiresAt) {
+    }
+}
@@ -6,6 +6,7 @@ import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.payload.*;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.service.PrivacyControlService;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.utils.PrivacyControlMapper;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,7 +23,7 @@ public class PrivacyControlController {
     private final PrivacyControlMapper privacyControlMapper;
 
     @PostMapping("/block/{userId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> blockUser(@PathVariable UUID userId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> blockUser(@PathVariable UUID userId) throws ItemNotFoundException {
         BlockEntity block = privacyControlService.blockUser(userId);
         BlockedUserResponse response = privacyControlMapper.toBlockedUserResponse(block);
 
@@ -35,7 +36,7 @@ public class PrivacyControlController {
     }
 
     @DeleteMapping("/unblock/{userId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> unblockUser(@PathVariable UUID userId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> unblockUser(@PathVariable UUID userId) throws ItemNotFoundException {
         privacyControlService.unblockUser(userId);
 
         GlobeSuccessResponseBuilder successResponse = GlobeSuccessResponseBuilder.success(
@@ -47,7 +48,7 @@ public class PrivacyControlController {
     }
 
     @PostMapping("/mute/{userId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> muteUser(@PathVariable UUID userId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> muteUser(@PathVariable UUID userId) throws ItemNotFoundException {
         MuteEntity mute = privacyControlService.muteUser(userId);
         MutedUserResponse response = privacyControlMapper.toMutedUserResponse(mute);
 
@@ -60,7 +61,7 @@ public class PrivacyControlController {
     }
 
     @DeleteMapping("/unmute/{userId}")
-    public ResponseEntity<GlobeSuccessResponseBuilder> unmuteUser(@PathVariable UUID userId) {
+    public ResponseEntity<GlobeSuccessResponseBuilder> unmuteUser(@PathVariable UUID userId) throws ItemNotFoundException {
         privacyControlService.unmuteUser(userId);
 
         GlobeSuccessResponseBuilder successResponse = GlobeSuccessResponseBuilder.success(
@@ -72,7 +73,7 @@ public class PrivacyControlController {
     }
 
     @GetMapping("/blocked")
-    public ResponseEntity<GlobeSuccessResponseBuilder> getBlockedUsers() {
+    public ResponseEntity<GlobeSuccessResponseBuilder> getBlockedUsers() throws ItemNotFoundException {
         List<BlockEntity> blockedUsers = privacyControlService.getBlockedUsers();
         List<BlockedUserResponse> response = privacyControlMapper.toBlockedUserResponseList(blockedUsers);
 
@@ -85,7 +86,7 @@ public class PrivacyControlController {
     }
 
     @GetMapping("/muted")
-    public ResponseEntity<GlobeSuccessResponseBuilder> getMutedUsers() {
+    public ResponseEntity<GlobeSuccessResponseBuilder> getMutedUsers() throws ItemNotFoundException {
         List<MuteEntity> mutedUsers = privacyControlService.getMutedUsers();
         List<MutedUserResponse> response = privacyControlMapper.toMutedUserResponseList(mutedUsers);
 
@@ -2,6 +2,8 @@ package org.nextgate.nextgatebackend.e_social.user_relationships.privacy_control
 
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.entity.BlockEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +21,12 @@ public interface BlockRepository extends JpaRepository<BlockEntity, UUID> {
     List<BlockEntity> findByBlockerIdOrderByCreatedAtDesc(UUID blockerId);
 
     List<BlockEntity> findByBlockedId(UUID blockedId);
-}
\ No newline at end of file
+
+    // Everyone the user blocked or was blocked by
+    @Query("""
+        SELECT CASE WHEN b.blockerId = :userId THEN b.blockedId ELSE b.blockerId END
+        FROM BlockEntity b
+        WHERE b.blockerId = :userId OR b.blockedId = :userId
+    """)
+    List<UUID> findBlockRelatedIds(@Param("userId") UUID userId);
+}
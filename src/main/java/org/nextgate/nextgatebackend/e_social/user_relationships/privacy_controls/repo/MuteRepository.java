@@ -2,6 +2,8 @@ package org.nextgate.nextgatebackend.e_social.user_relationships.privacy_control
 
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.entity.MuteEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +20,7 @@ public interface MuteRepository extends JpaRepository<MuteEntity, UUID> {
     void deleteByMuterIdAndMutedId(UUID muterId, UUID mutedId);
 
     List<MuteEntity> findByMuterIdOrderByCreatedAtDesc(UUID muterId);
-}
\ No newline at end of file
+
+    @Query("SELECT m.mutedId FROM MuteEntity m WHERE m.muterId = :muterId")
+    List<UUID> findMutedIds(@Param("muterId") UUID muterId);
+}
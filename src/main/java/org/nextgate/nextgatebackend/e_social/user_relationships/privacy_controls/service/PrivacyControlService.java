@@ -3,23 +3,24 @@ package org.nextgate.nextgatebackend.e_social.user_relationships.privacy_control
 
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.entity.BlockEntity;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.entity.MuteEntity;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface PrivacyControlService {
 
-    BlockEntity blockUser(UUID userId);
+    BlockEntity blockUser(UUID userId) throws ItemNotFoundException;
 
-    void unblockUser(UUID userId);
+    void unblockUser(UUID userId) throws ItemNotFoundException;
 
-    MuteEntity muteUser(UUID userId);
+    MuteEntity muteUser(UUID userId) throws ItemNotFoundException;
 
-    void unmuteUser(UUID userId);
+    void unmuteUser(UUID userId) throws ItemNotFoundException;
 
-    List<BlockEntity> getBlockedUsers();
+    List<BlockEntity> getBlockedUsers() throws ItemNotFoundException;
 
-    List<MuteEntity> getMutedUsers();
+    List<MuteEntity> getMutedUsers() throws ItemNotFoundException;
 
     boolean isBlocked(UUID blockerId, UUID blockedId);
 
@@ -4,14 +4,15 @@ import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.utils.FollowCounterUtil;
+import org.nextgate.nextgatebackend.e_social.user_relationships.graph.SocialGraphCache;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.entity.BlockEntity;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.entity.MuteEntity;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.BlockRepository;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.MuteRepository;
 import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.service.PrivacyControlService;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,11 +28,14 @@ public class PrivacyControlServiceImpl implements PrivacyControlService {
     private final MuteRepository muteRepository;
     private final FollowRepository followRepository;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
+    private final SocialGraphCache socialGraphCache;
+    private final FollowCounterUtil followCounterUtil;
 
     @Override
     @Transactional
-    public BlockEntity blockUser(UUID userId) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public BlockEntity blockUser(UUID userId) throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         UUID blockerId = authenticatedUser.getId();
 
         if (blockerId.equals(userId)) {
@@ -45,33 +49,41 @@ public class PrivacyControlServiceImpl implements PrivacyControlService {
             throw new IllegalStateException("User already blocked");
         }
 
-        followRepository.deleteByFollowerIdAndFollowingId(blockerId, userId);
-        followRepository.deleteByFollowerIdAndFollowingId(userId, blockerId);
+        removeFollow(blockerId, userId);
+        removeFollow(userId, blockerId);
 
         BlockEntity block = new BlockEntity();
         block.setBlockerId(blockerId);
         block.setBlockedId(userId);
         block.setCreatedAt(LocalDateTime.now());
 
-        return blockRepository.save(block);
+        BlockEntity savedBlock = blockRepository.save(block);
+
+        // Blocking also removed follows in both directions
+        socialGraphCache.evictBlocks(blockerId, userId);
+        socialGraphCache.evictFollowing(blockerId, userId);
+
+        return savedBlock;
     }
 
     @Override
     @Transactional
-    public void unblockUser(UUID userId) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public void unblockUser(UUID userId) throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         UUID blockerId = authenticatedUser.getId();
 
         accountRepo.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         blockRepository.deleteByBlockerIdAndBlockedId(blockerId, userId);
+
+        socialGraphCache.evictBlocks(blockerId, userId);
     }
 
     @Override
     @Transactional
-    public MuteEntity muteUser(UUID userId) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public MuteEntity muteUser(UUID userId) throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         UUID muterId = authenticatedUser.getId();
 
         if (muterId.equals(userId)) {
@@ -90,30 +102,36 @@ public class PrivacyControlServiceImpl implements PrivacyControlService {
         mute.setMutedId(userId);
         mute.setCreatedAt(LocalDateTime.now());
 
-        return muteRepository.save(mute);
+        MuteEntity savedMute = muteRepository.save(mute);
+
+        socialGraphCache.evictMutes(muterId);
+
+        return savedMute;
     }
 
     @Override
     @Transactional
-    public void unmuteUser(UUID userId) {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public void unmuteUser(UUID userId) throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         UUID muterId = authenticatedUser.getId();
 
         accountRepo.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         muteRepository.deleteByMuterIdAndMutedId(muterId, userId);
+
+        socialGraphCache.evictMutes(muterId);
     }
 
     @Override
-    public List<BlockEntity> getBlockedUsers() {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public List<BlockEntity> getBlockedUsers() throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         return blockRepository.findByBlockerIdOrderByCreatedAtDesc(authenticatedUser.getId());
     }
 
     @Override
-    public List<MuteEntity> getMutedUsers() {
-        AccountEntity authenticatedUser = getAuthenticatedAccount();
+    public List<MuteEntity> getMutedUsers() throws ItemNotFoundException {
+        AccountEntity authenticatedUser = currentAccountProvider.getCurrentAccount();
         return muteRepository.findByMuterIdOrderByCreatedAtDesc(authenticatedUser.getId());
     }
 
@@ -127,14 +145,11 @@ public class PrivacyControlServiceImpl implements PrivacyControlService {
         return muteRepository.existsByMuterIdAndMutedId(muterId, mutedId);
     }
 
-    private AccountEntity getAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        }
-        throw new IllegalArgumentException("User not authenticated");
+    private void removeFollow(UUID followerId, UUID followingId) {
+        followRepository.findByFollowerIdAndFollowingId(followerId, followingId)
+                .ifPresent(follow -> {
+                    followRepository.delete(follow);
+                    followCounterUtil.onFollowRemoved(follow);
+                });
     }
 }
\ No newline at end of file
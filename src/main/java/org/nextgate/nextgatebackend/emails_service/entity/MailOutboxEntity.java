@@ -0,0 +1,76 @@
+package org.nextgate.nextgatebackend.emails_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.nextgate.nextgatebackend.emails_service.enums.MailOutboxStatus;
+import org.nextgate.nextgatebackend.globe_outbox.OutboxRow;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One outbound email, already rendered.
+ *
+ * Written by the request (in its transaction, when there is one) and sent later by
+ * MailOutboxDispatcher, so no request waits on the mail server. DEAD rows are the
+ * dead-letter queue: they stopped being retried after app.mail.outbox.max-attempts.
+ *
+ * The body can hold secrets such as OTP codes, so it is cleared once the row is SENT or DEAD.
+ */
+@Entity
+@Table(name = "mail_outbox",
+        indexes = {
+                @Index(name = "idx_mail_outbox_due", columnList = "status, next_attempt_at")
+        }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutboxEntity implements OutboxRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false, length = 500)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String htmlBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private MailOutboxStatus status = MailOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Not sent after this time (e.g. the OTP it carries has expired); null = no limit
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime lockedUntil;
+
+    // Which worker claim the row belongs to while SENDING
+    private UUID claimId;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime sentAt;
+}
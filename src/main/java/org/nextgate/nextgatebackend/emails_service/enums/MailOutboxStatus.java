@@ -0,0 +1,8 @@
+package org.nextgate.nextgatebackend.emails_service.enums;
+
+public enum MailOutboxStatus {
+    PENDING,    // Waiting for a worker (first attempt or a retry after backoff)
+    SENDING,    // Claimed by a worker until lockedUntil
+    SENT,       // Accepted by the mail server
+    DEAD        // Out of attempts - kept for inspection and manual requeue
+}
@@ -4,7 +4,10 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.emails_service.outbox.MailOutbox;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.mail.SimpleMailMessage;
@@ -17,6 +20,7 @@ import org.thymeleaf.context.Context;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +31,7 @@ public class EmailsHelperMethodsImpl {
 
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
+    private final MailOutbox mailOutbox;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -34,6 +39,10 @@ public class EmailsHelperMethodsImpl {
     @Value("${app.name:NexGate}")
     private String appName;
 
+    // Parsed at startup so the first email of each kind does not pay for it
+    @Value("${app.mail.templates:verification_email,password_reset_email}")
+    private List<String> mailTemplates;
+
     // ==================== BASIC EMAIL METHODS ====================
 
     /**
@@ -343,6 +352,44 @@ public class EmailsHelperMethodsImpl {
 
     // ==================== TEMPLATE-BASED EMAIL METHODS ====================
 
+    /**
+     * Render a template and queue it in the mail outbox; returns without waiting on the mail server
+     */
+    public void queueTemplateEmail(String email, String subject, String templateName, Map<String, Object> variables) {
+        queueTemplateEmail(email, subject, templateName, variables, null);
+    }
+
+    /**
+     * Same, for mail that is useless after expiresAt (not sent or retried past it)
+     */
+    public void queueTemplateEmail(String email, String subject, String templateName, Map<String, Object> variables,
+                                   LocalDateTime expiresAt) {
+        String htmlContent = renderTemplate(templateName, variables);
+        mailOutbox.enqueue(email, subject, htmlContent, expiresAt);
+        log.info("Template email queued for: {} using template: {}", email, templateName);
+    }
+
+    /**
+     * Render a Thymeleaf template; parsed templates are cached by the engine
+     */
+    public String renderTemplate(String templateName, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        return templateEngine.process(templateName, context);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpTemplates() {
+        for (String templateName : mailTemplates) {
+            try {
+                renderTemplate(templateName, Map.of());
+            } catch (Exception e) {
+                log.warn("Could not pre-parse mail template {}: {}", templateName, e.getMessage());
+            }
+        }
+        log.info("Pre-parsed {} mail template(s)", mailTemplates.size());
+    }
+
     /**
      * Send email using Thymeleaf template
      */
@@ -351,9 +398,7 @@ public class EmailsHelperMethodsImpl {
             log.info("Sending template email to: {} using template: {}", email, templateName);
 
             // Process the template with variables
-            Context context = new Context();
-            context.setVariables(variables);
-            String htmlContent = templateEngine.process(templateName, context);
+            String htmlContent = renderTemplate(templateName, variables);
 
             // Send the processed template as an HTML email
             emilWithHtmlTemplate(email, subject, htmlContent);
@@ -374,9 +419,7 @@ public class EmailsHelperMethodsImpl {
             log.info("Sending template email to {} recipients using template: {}", emails.size(), templateName);
 
             // Process the template with variables
-            Context context = new Context();
-            context.setVariables(variables);
-            String htmlContent = templateEngine.process(templateName, context);
+            String htmlContent = renderTemplate(templateName, variables);
 
             // Send the processed template as HTML email to multiple recipients
             sendHtmlEmailToMultiple(emails, subject, htmlContent);
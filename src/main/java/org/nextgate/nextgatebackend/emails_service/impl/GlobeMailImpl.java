@@ -5,8 +5,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.emails_service.GlobeMailService;
 import org.nextgate.nextgatebackend.user_profile_service.utils.SecurityInfoUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,10 +21,13 @@ public class GlobeMailImpl implements GlobeMailService {
     private final EmailsHelperMethodsImpl emailsHelperMethodsIMPL;
     private final SecurityInfoUtils securityInfoUtils;
 
+    @Value("${temp.token.expiry.minutes:10}")
+    private long otpExpiryMinutes;
+
     @Override
     public void sendOTPEmail(String email, String otp, String userName, String textHeader, String instructions) throws Exception {
         try {
-            log.info("Sending OTP email to: {} for user: {}", email, userName);
+            log.info("Queueing OTP email to: {} for user: {}", email, userName);
 
             Map<String, Object> templateVariables = new HashMap<>();
             templateVariables.put("emailHeader", textHeader);
@@ -30,19 +35,18 @@ public class GlobeMailImpl implements GlobeMailService {
             templateVariables.put("instructionText", instructions);
             templateVariables.put("otpCode", otp);
 
-            // Send email using template
+            // Queue email using template; the mail outbox sends it while the OTP is still valid
             String subject = "Account Verification - Your OTP Code";
-            emailsHelperMethodsIMPL.sendTemplateEmail(
+            emailsHelperMethodsIMPL.queueTemplateEmail(
                     email,
                     subject,
                     "verification_email",
-                    templateVariables
+                    templateVariables,
+                    LocalDateTime.now().plusMinutes(otpExpiryMinutes)
             );
 
-            log.info("OTP email sent successfully to: {}", email);
-
         } catch (Exception e) {
-            log.error("Failed to send OTP email to: {}", email, e);
+            log.error("Failed to queue OTP email to: {}", email, e);
             throw new Exception("Failed to send OTP email: " + e.getMessage(), e);
         }
     }
@@ -68,16 +72,16 @@ public class GlobeMailImpl implements GlobeMailService {
             templateVariables.put("deviceInfo", securityInfo.getDeviceInfo());
             templateVariables.put("location", securityInfo.getLocation());
 
-            // Send email using template
+            // Queue email using template; the mail outbox sends it
             String subject = "Password Changed Successfully - Nexgate";
-            emailsHelperMethodsIMPL.sendTemplateEmail(
+            emailsHelperMethodsIMPL.queueTemplateEmail(
                     email,
                     subject,
                     "password_reset_email",
                     templateVariables
             );
 
-            log.info("Password change notification email sent successfully to: {} from IP: {}",
+            log.info("Password change notification email queued for: {} from IP: {}",
                     email, securityInfo.getMaskedIpAddress()); // Use masked IP for logging
 
         } catch (Exception e) {
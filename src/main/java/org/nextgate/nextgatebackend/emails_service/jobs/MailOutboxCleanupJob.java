@@ -0,0 +1,47 @@
+package org.nextgate.nextgatebackend.emails_service.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.emails_service.repo.MailOutboxRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes sent mail from the outbox after app.mail.outbox.retention-days.
+ * DEAD rows are kept until someone looks at them, without their bodies: any body
+ * left on a SENT or DEAD row (queued before bodies were cleared on settling) is cleared.
+ * Runs daily.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxCleanupJob {
+
+    private final MailOutboxRepo mailOutboxRepo;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private long retentionDays;
+
+    /**
+     * Cron: "0 30 3 * * *" = Every day at 03:30
+     */
+    @Recurring(id = "purge-sent-mail-outbox", cron = "0 30 3 * * *")
+    @Job(name = "Purge Sent Mail Outbox", retries = 2)
+    @Transactional
+    public void purgeSentMail() {
+        int cleared = mailOutboxRepo.clearSettledBodies();
+        if (cleared > 0) {
+            log.info("Cleared the body of {} settled mail(s)", cleared);
+        }
+
+        int removed = mailOutboxRepo.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (removed > 0) {
+            log.info("Removed {} sent mail(s) from the outbox", removed);
+        }
+    }
+}
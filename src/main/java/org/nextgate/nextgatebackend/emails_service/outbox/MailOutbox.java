@@ -0,0 +1,58 @@
+package org.nextgate.nextgatebackend.emails_service.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.emails_service.entity.MailOutboxEntity;
+import org.nextgate.nextgatebackend.emails_service.repo.MailOutboxRepo;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Queues outbound email instead of sending it on the caller's thread.
+ *
+ * The row joins the caller's transaction when there is one, so mail for work that
+ * rolls back is never sent. MailOutboxDispatcher is woken once the row is committed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutbox {
+
+    private final MailOutboxRepo mailOutboxRepo;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+
+    public UUID enqueue(String recipient, String subject, String htmlBody) {
+        return enqueue(recipient, subject, htmlBody, null);
+    }
+
+    /**
+     * Queue mail that is dropped instead of sent once expiresAt has passed
+     */
+    public UUID enqueue(String recipient, String subject, String htmlBody, LocalDateTime expiresAt) {
+        MailOutboxEntity mail = mailOutboxRepo.save(MailOutboxEntity.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .htmlBody(htmlBody)
+                .nextAttemptAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailOutboxDispatcher.wakeUp();
+                }
+            });
+        } else {
+            mailOutboxDispatcher.wakeUp();
+        }
+
+        log.debug("Queued mail {} to {}", mail.getId(), recipient);
+        return mail.getId();
+    }
+}
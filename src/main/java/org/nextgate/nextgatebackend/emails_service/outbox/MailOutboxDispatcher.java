@@ -0,0 +1,214 @@
+package org.nextgate.nextgatebackend.emails_service.outbox;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.emails_service.entity.MailOutboxEntity;
+import org.nextgate.nextgatebackend.emails_service.repo.MailOutboxRepo;
+import org.nextgate.nextgatebackend.globe_outbox.OutboxWorker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends queued mail_outbox rows.
+ *
+ * The claim and retry loop is OutboxWorker's: a few worker threads each claim a batch of
+ * due rows, send them over the worker's own SMTP connection, and record the outcome.
+ * The connection stays open between batches and is closed after
+ * app.mail.outbox.connection-idle-seconds without mail, so a busy outbox pays for one
+ * SMTPS handshake per worker instead of one per message.
+ *
+ * Failed messages are retried with exponential backoff and marked DEAD after
+ * app.mail.outbox.max-attempts, or once their expiresAt has passed (an OTP nobody can
+ * use any more). Workers are woken right after a message is committed and otherwise
+ * poll every app.mail.outbox.poll-interval-ms.
+ */
+@Component
+@Slf4j
+public class MailOutboxDispatcher extends OutboxWorker<MailOutboxEntity, MailOutboxDispatcher.SmtpConnection> {
+
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final MailOutboxRepo mailOutboxRepo;
+    private final JavaMailSender mailSender;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${app.name:NexGate}")
+    private String appName;
+
+    @Value("${app.mail.outbox.connection-idle-seconds:60}")
+    private long connectionIdleSeconds;
+
+    public MailOutboxDispatcher(MailOutboxRepo mailOutboxRepo,
+                                JavaMailSender mailSender,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.mail.outbox.workers:2}") int workers,
+                                @Value("${app.mail.outbox.batch-size:20}") int batchSize,
+                                @Value("${app.mail.outbox.poll-interval-ms:2000}") long pollIntervalMs,
+                                @Value("${app.mail.outbox.lease-seconds:120}") long leaseSeconds,
+                                @Value("${app.mail.outbox.max-attempts:6}") int maxAttempts,
+                                @Value("${app.mail.outbox.base-backoff-seconds:30}") long baseBackoffSeconds) {
+        // A rejected recipient fails only its own message, so failed batches do not pause the workers
+        super(new Settings("mail-outbox", workers, batchSize, pollIntervalMs, leaseSeconds, maxAttempts,
+                        TimeUnit.SECONDS.toMillis(baseBackoffSeconds), TimeUnit.SECONDS.toMillis(MAX_BACKOFF_SECONDS), 0),
+                transactionManager);
+        this.mailOutboxRepo = mailOutboxRepo;
+        this.mailSender = mailSender;
+    }
+
+    @Override
+    protected int claimDue(UUID claimId, LocalDateTime now, LocalDateTime lockedUntil, int limit) {
+        return mailOutboxRepo.claimDue(claimId, now, lockedUntil, limit);
+    }
+
+    @Override
+    protected List<MailOutboxEntity> findClaimed(UUID claimId) {
+        return mailOutboxRepo.findClaimed(claimId);
+    }
+
+    @Override
+    protected void markDone(List<UUID> ids, LocalDateTime now) {
+        mailOutboxRepo.markSent(ids, now);
+    }
+
+    @Override
+    protected void reschedule(UUID id, LocalDateTime nextAttemptAt, String error) {
+        mailOutboxRepo.reschedule(id, nextAttemptAt, error);
+    }
+
+    @Override
+    protected void markDead(UUID id, String error) {
+        mailOutboxRepo.markDead(id, error);
+    }
+
+    // ========================================
+    // SENDING
+    // ========================================
+
+    @Override
+    protected SmtpConnection openSession() {
+        return new SmtpConnection();
+    }
+
+    @Override
+    protected Map<MailOutboxEntity, String> deliver(SmtpConnection connection, List<MailOutboxEntity> batch) {
+        Map<MailOutboxEntity, String> failed = new LinkedHashMap<>();
+
+        connection.checkBeforeBatch();
+        for (MailOutboxEntity mail : batch) {
+            try {
+                connection.send(toMimeMessage(mail));
+            } catch (SendFailedException e) {
+                // Rejected recipient: the connection itself is fine
+                failed.put(mail, describe(e));
+            } catch (Exception e) {
+                failed.put(mail, describe(e));
+                connection.reset();
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    protected boolean isExpired(MailOutboxEntity mail, LocalDateTime now) {
+        return mail.getExpiresAt() != null && !now.isBefore(mail.getExpiresAt());
+    }
+
+    @Override
+    protected String describe(MailOutboxEntity mail) {
+        return "Mail " + mail.getId() + " to " + mail.getRecipient();
+    }
+
+    private MimeMessage toMimeMessage(MailOutboxEntity mail) throws Exception {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+        helper.setFrom(fromEmail, appName);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getHtmlBody(), true);
+
+        return mimeMessage;
+    }
+
+    private static String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    // ========================================
+    // SMTP CONNECTION
+    // ========================================
+
+    /**
+     * One worker's SMTP transport, opened on first use and kept between batches
+     */
+    final class SmtpConnection implements Session {
+
+        private Transport transport;
+        private long lastUsedAt;
+
+        void send(MimeMessage message) throws MessagingException {
+            if (!(mailSender instanceof JavaMailSenderImpl sender)) {
+                // Not the SMTP sender Boot configures (e.g. a test double): no connection to keep
+                mailSender.send(message);
+                return;
+            }
+
+            if (transport == null) {
+                transport = sender.getSession().getTransport(
+                        sender.getProtocol() != null ? sender.getProtocol() : "smtp");
+                transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+                log.debug("Opened SMTP connection to {}", sender.getHost());
+            }
+
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            lastUsedAt = System.nanoTime();
+        }
+
+        /**
+         * The server may have dropped the connection while it was idle
+         */
+        void checkBeforeBatch() {
+            if (transport != null && !transport.isConnected()) {
+                reset();
+            }
+        }
+
+        @Override
+        public void idle() {
+            if (transport != null
+                    && System.nanoTime() - lastUsedAt >= TimeUnit.SECONDS.toNanos(connectionIdleSeconds)) {
+                reset();
+            }
+        }
+
+        /**
+         * Close the connection; the next send opens a new one
+         */
+        @Override
+        public void reset() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Closing SMTP connection failed", e);
+            }
+            transport = null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.nextgate.nextgatebackend.emails_service.repo;
+
+import org.nextgate.nextgatebackend.emails_service.entity.MailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface MailOutboxRepo extends JpaRepository<MailOutboxEntity, UUID> {
+
+    /**
+     * Claim due messages for one worker: pending ones whose backoff has passed, and ones
+     * a crashed worker left in SENDING past their lease.
+     * Rows claimed by other workers are skipped instead of waited on.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE mail_outbox m
+        SET status = 'SENDING', claim_id = :claimId, locked_until = :lockedUntil, attempts = m.attempts + 1
+        WHERE m.id IN (
+            SELECT id FROM mail_outbox
+            WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+               OR (status = 'SENDING' AND locked_until < :now)
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """, nativeQuery = true)
+    int claimDue(@Param("claimId") UUID claimId,
+                 @Param("now") LocalDateTime now,
+                 @Param("lockedUntil") LocalDateTime lockedUntil,
+                 @Param("limit") int limit);
+
+    @Query("SELECT m FROM MailOutboxEntity m " +
+            "WHERE m.status = org.nextgate.nextgatebackend.emails_service.enums.MailOutboxStatus.SENDING " +
+            "AND m.claimId = :claimId")
+    List<MailOutboxEntity> findClaimed(@Param("claimId") UUID claimId);
+
+    @Modifying
+    @Query("UPDATE MailOutboxEntity m " +
+            "SET m.status = org.nextgate.nextgatebackend.emails_service.enums.MailOutboxStatus.SENT, " +
+            "m.sentAt = :now, m.htmlBody = '', m.lockedUntil = null, m.claimId = null, m.lastError = null " +
+            "WHERE m.id IN :ids")
+    int markSent(@Param("ids") List<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE MailOutboxEntity m " +
+            "SET m.status = org.nextgate.nextgatebackend.emails_service.enums.MailOutboxStatus.PENDING, " +
+            "m.nextAttemptAt = :nextAttemptAt, m.lockedUntil = null, m.claimId = null, m.lastError = :error " +
+            "WHERE m.id = :id")
+    int reschedule(@Param("id") UUID id,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE MailOutboxEntity m " +
+            "SET m.status = org.nextgate.nextgatebackend.emails_service.enums.MailOutboxStatus.DEAD, " +
+            "m.htmlBody = '', m.lockedUntil = null, m.claimId = null, m.lastError = :error " +
+            "WHERE m.id = :id")
+    int markDead(@Param("id") UUID id, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE MailOutboxEntity m SET m.htmlBody = '' " +
+            "WHERE m.status IN (org.nextgate.nextgatebackend.emails_service.enums.MailOutboxStatus.SENT, " +
+            "org.nextgate.nextgatebackend.emails_service.enums.MailOutboxStatus.DEAD) " +
+            "AND m.htmlBody <> ''")
+    int clearSettledBodies();
+
+    @Modifying
+    @Query("DELETE FROM MailOutboxEntity m " +
+            "WHERE m.status = org.nextgate.nextgatebackend.emails_service.enums.MailOutboxStatus.SENT " +
+            "AND m.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
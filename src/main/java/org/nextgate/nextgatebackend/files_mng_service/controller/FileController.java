@@ -2,17 +2,14 @@ package org.nextgate.nextgatebackend.files_mng_service.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.files_mng_service.enums.FileDirectory;
 import org.nextgate.nextgatebackend.files_mng_service.payload.FileResponse;
 import org.nextgate.nextgatebackend.files_mng_service.payload.FileUploadResponse;
 import org.nextgate.nextgatebackend.files_mng_service.service.FileService;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -25,14 +22,14 @@ import java.util.UUID;
 public class FileController {
 
     private final FileService fileService;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @PostMapping("/upload")
     public ResponseEntity<GlobeSuccessResponseBuilder> uploadFiles(
             @RequestParam("files") MultipartFile[] files,
             @RequestParam("directory") FileDirectory directory) throws ItemNotFoundException {
 
-        UUID accountId = getAuthenticatedAccount().getId();
+        UUID accountId = currentAccountProvider.getCurrentAccount().getId();
 
         FileUploadResponse response = fileService.uploadFiles(accountId, directory, files);
 
@@ -48,7 +45,7 @@ public class FileController {
             @RequestParam("directory") FileDirectory directory) throws ItemNotFoundException {
 
 
-        UUID accountId = getAuthenticatedAccount().getId();
+        UUID accountId = currentAccountProvider.getCurrentAccount().getId();
 
         FileResponse response = fileService.uploadSingleFile(accountId, directory, file);
 
@@ -62,7 +59,7 @@ public class FileController {
     public ResponseEntity<GlobeSuccessResponseBuilder> getUserFiles(
             @PathVariable FileDirectory directory) throws ItemNotFoundException {
 
-        UUID accountId = getAuthenticatedAccount().getId();
+        UUID accountId = currentAccountProvider.getCurrentAccount().getId();
 
         List<FileResponse> files = fileService.getUserFiles(accountId, directory);
 
@@ -76,7 +73,7 @@ public class FileController {
     public ResponseEntity<GlobeSuccessResponseBuilder> deleteFile(
             @PathVariable String objectKey) throws ItemNotFoundException {
 
-        UUID accountId = getAuthenticatedAccount().getId();
+        UUID accountId = currentAccountProvider.getCurrentAccount().getId();
 
         fileService.deleteFile(accountId, objectKey);
 
@@ -84,15 +81,4 @@ public class FileController {
                 "File deleted successfully"
         ));
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
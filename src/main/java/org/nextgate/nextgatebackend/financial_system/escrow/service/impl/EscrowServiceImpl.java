@@ -12,6 +12,8 @@ import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerAccount
 import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerEntryEntity;
 import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerEntryType;
 import org.nextgate.nextgatebackend.financial_system.ledger.service.LedgerService;
+import org.nextgate.nextgatebackend.financial_system.numbering.ReferenceNumberAllocator;
+import org.nextgate.nextgatebackend.financial_system.numbering.enums.ReferenceSeries;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.enums.TransactionDirection;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.enums.TransactionType;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.service.TransactionHistoryService;
@@ -25,7 +27,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.Year;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,7 @@ public class EscrowServiceImpl implements EscrowService {
     private final LedgerService ledgerService;
     private final WalletService walletService;
     private final TransactionHistoryService transactionHistoryService;
+    private final ReferenceNumberAllocator referenceNumberAllocator;
 
     @Value("${app.platform.fee-percentage}")
     private BigDecimal platformFeePercentage;
@@ -311,15 +313,6 @@ public class EscrowServiceImpl implements EscrowService {
 
     @Override
     public String generateEscrowNumber() {
-        int year = Year.now().getValue();
-        long count = escrowAccountRepo.count() + 1;
-        String escrowNumber = String.format("ESC-%d-%06d", year, count);
-
-        while (escrowAccountRepo.existsByEscrowNumber(escrowNumber)) {
-            count++;
-            escrowNumber = String.format("ESC-%d-%06d", year, count);
-        }
-
-        return escrowNumber;
+        return referenceNumberAllocator.next(ReferenceSeries.ESCROW);
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Running debit/credit totals per ledger account up to the latest LedgerCheckpointEntity,
+// rolled forward one day at a time by LedgerCheckpointJob.
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Table(name = "ledger_account_checkpoints")
+public class LedgerAccountCheckpointEntity {
+
+    @Id
+    private UUID accountId;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDebits = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalCredits = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private long entryCount = 0;
+
+    private LocalDateTime updatedAt;
+}
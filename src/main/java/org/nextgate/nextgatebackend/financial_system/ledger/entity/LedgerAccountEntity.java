@@ -60,6 +60,11 @@ public class LedgerAccountEntity {
     @Builder.Default
     private Boolean isActive = true;
 
+    // Bumped by every balance update, so a stale copy of the account can never be saved over it
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @Column(columnDefinition = "TEXT")
     private String notes;
 
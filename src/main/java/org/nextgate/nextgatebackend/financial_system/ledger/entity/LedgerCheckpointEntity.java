@@ -0,0 +1,44 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One closed ledger day. Account totals in ledger_account_checkpoints include every
+ * entry created before the end of the latest checkpoint date.
+ */
+@Entity
+@Table(name = "ledger_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerCheckpointEntity {
+
+    @Id
+    private LocalDate checkpointDate;
+
+    @Column(nullable = false)
+    private long entryCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private int accountsTouched;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public LocalDateTime coveredUntil() {
+        return checkpointDate.plusDays(1).atStartOfDay();
+    }
+}
@@ -22,7 +22,9 @@ import java.util.UUID;
                 @Index(name = "idx_ledger_entry_credit", columnList = "credit_account_id"),
                 @Index(name = "idx_ledger_entry_type", columnList = "entryType"),
                 @Index(name = "idx_ledger_entry_reference", columnList = "referenceType, referenceId"),
-                @Index(name = "idx_ledger_entry_created", columnList = "createdAt")
+                @Index(name = "idx_ledger_entry_created", columnList = "createdAt"),
+                @Index(name = "idx_ledger_entry_debit_statement", columnList = "debit_account_id, createdAt, id"),
+                @Index(name = "idx_ledger_entry_credit_statement", columnList = "credit_account_id, createdAt, id")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_entry_number", columnNames = "entryNumber")
@@ -0,0 +1,57 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.financial_system.ledger.payload.LedgerReconciliationReport;
+import org.nextgate.nextgatebackend.financial_system.ledger.service.LedgerReconciliationService;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Closes every finished ledger day into the checkpoint tables, then reconciles
+ * account balances against checkpoint totals plus today's entries.
+ * The first run closes the whole history one day at a time; after that it is one day per run.
+ * Runs every night at 00:45, leaving late commits of the previous day time to land.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerCheckpointJob {
+
+    private final LedgerReconciliationService reconciliationService;
+
+    /**
+     * Cron: "0 45 0 * * *" = At 00:45:00 every day
+     */
+    @Recurring(id = "ledger-daily-checkpoint", cron = "0 45 0 * * *")
+    @Job(name = "Ledger Daily Checkpoint & Reconciliation", retries = 2)
+    public void closeDaysAndReconcile() {
+        int closed = 0;
+        Optional<LocalDate> day = reconciliationService.nextDayToClose();
+        while (day.isPresent()) {
+            // One transaction per day, so a long first run keeps the days it finished
+            reconciliationService.closeDay(day.get());
+            closed++;
+            day = reconciliationService.nextDayToClose();
+        }
+
+        LedgerReconciliationReport report = reconciliationService.reconcile();
+
+        if (report.getDriftedAccounts() == 0) {
+            log.info("Ledger reconciled: {} day(s) closed, {} entries scanned since {}, no drift",
+                    closed, report.getEntriesScanned(), report.getScannedFrom());
+            return;
+        }
+
+        log.error("CRITICAL: {} ledger account(s) drift from their entries, total {}",
+                report.getDriftedAccounts(), report.getTotalDrift());
+        report.getDrifts().stream().limit(50).forEach(drift ->
+                log.error("  {} ({}): balance {} vs entries {} - drift {}",
+                        drift.getAccountNumber(), drift.getAccountType(),
+                        drift.getCurrentBalance(), drift.getEntryBalance(), drift.getDrift()));
+    }
+}
@@ -0,0 +1,42 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LedgerReconciliationReport {
+
+    private LocalDate checkpointDate;
+    private LocalDateTime scannedFrom;
+    private long entriesScanned;
+    private int driftedAccounts;
+    private BigDecimal totalDrift;
+    private List<AccountDrift> drifts;
+    private LocalDateTime generatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountDrift {
+        private UUID accountId;
+        private String accountNumber;
+        private String accountType;
+        private BigDecimal currentBalance;
+        private BigDecimal entryBalance;
+        private BigDecimal drift;
+    }
+}
@@ -0,0 +1,48 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerEntryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LedgerStatementPage {
+
+    private String accountNumber;
+    private String currency;
+    private BigDecimal currentBalance;
+    private List<StatementLine> entries;
+    private boolean hasMore;
+
+    // Pass back as "cursor" to get the next (older) page
+    private String nextCursor;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class StatementLine {
+        private UUID entryId;
+        private String entryNumber;
+        private LedgerEntryType entryType;
+        private String direction;
+        private BigDecimal amount;
+        private BigDecimal balanceAfter;
+        private String description;
+        private String referenceType;
+        private UUID referenceId;
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,80 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.repo;
+
+import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerAccountCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface LedgerAccountCheckpointRepo extends JpaRepository<LedgerAccountCheckpointEntity, UUID> {
+
+    // Adds the entries created in [from, to) to each touched account's running totals
+    @Modifying
+    @Query(value = """
+        INSERT INTO ledger_account_checkpoints (account_id, total_debits, total_credits, entry_count, updated_at)
+        SELECT m.account_id, SUM(m.debits), SUM(m.credits), COUNT(*), now()
+        FROM (
+            SELECT e.debit_account_id AS account_id, e.amount AS debits, 0 AS credits
+            FROM ledger_entries e WHERE e.created_at >= :from AND e.created_at < :to
+            UNION ALL
+            SELECT e.credit_account_id, 0, e.amount
+            FROM ledger_entries e WHERE e.created_at >= :from AND e.created_at < :to
+        ) m
+        GROUP BY m.account_id
+        ON CONFLICT (account_id) DO UPDATE SET
+            total_debits = ledger_account_checkpoints.total_debits + EXCLUDED.total_debits,
+            total_credits = ledger_account_checkpoints.total_credits + EXCLUDED.total_credits,
+            entry_count = ledger_account_checkpoints.entry_count + EXCLUDED.entry_count,
+            updated_at = now()
+        """, nativeQuery = true)
+    int rollForward(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Accounts whose current balance differs from checkpoint totals plus the entries created since
+    @Query(value = """
+        WITH recent AS (
+            SELECT m.account_id, SUM(m.credits) - SUM(m.debits) AS net
+            FROM (
+                SELECT e.debit_account_id AS account_id, e.amount AS debits, 0 AS credits
+                FROM ledger_entries e WHERE e.created_at >= :since
+                UNION ALL
+                SELECT e.credit_account_id, 0, e.amount
+                FROM ledger_entries e WHERE e.created_at >= :since
+            ) m
+            GROUP BY m.account_id
+        ), expected AS (
+            SELECT a.id, a.account_number, a.account_type, a.current_balance,
+                   COALESCE(c.total_credits, 0) - COALESCE(c.total_debits, 0) + COALESCE(r.net, 0) AS entry_balance
+            FROM ledger_accounts a
+            LEFT JOIN ledger_account_checkpoints c ON c.account_id = a.id
+            LEFT JOIN recent r ON r.account_id = a.id
+        )
+        SELECT x.id AS accountId,
+               x.account_number AS accountNumber,
+               x.account_type AS accountType,
+               x.current_balance AS currentBalance,
+               x.entry_balance AS entryBalance
+        FROM expected x
+        WHERE x.current_balance <> x.entry_balance
+        ORDER BY abs(x.current_balance - x.entry_balance) DESC
+        """, nativeQuery = true)
+    List<AccountDrift> findDriftSince(@Param("since") LocalDateTime since);
+
+    interface AccountDrift {
+        UUID getAccountId();
+
+        String getAccountNumber();
+
+        String getAccountType();
+
+        BigDecimal getCurrentBalance();
+
+        BigDecimal getEntryBalance();
+    }
+}
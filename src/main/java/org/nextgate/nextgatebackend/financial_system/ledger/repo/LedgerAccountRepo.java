@@ -4,9 +4,13 @@ import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
 import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerAccountEntity;
 import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerAccountType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,9 +24,6 @@ public interface LedgerAccountRepo extends JpaRepository<LedgerAccountEntity, UU
     // Find by owner and account type (for user wallets)
     Optional<LedgerAccountEntity> findByOwnerAndAccountType(AccountEntity owner, LedgerAccountType accountType);
 
-    // Find by account type (for platform accounts)
-    Optional<LedgerAccountEntity> findByAccountType(LedgerAccountType accountType);
-
     // Find by escrow reference
     Optional<LedgerAccountEntity> findByEscrowReferenceId(UUID escrowReferenceId);
 
@@ -40,4 +41,20 @@ public interface LedgerAccountRepo extends JpaRepository<LedgerAccountEntity, UU
 
     // Check if account number exists
     boolean existsByAccountNumber(String accountNumber);
+
+    // Atomic balance change (credits, and debits of external accounts)
+    @Modifying
+    @Query("UPDATE LedgerAccountEntity a SET a.currentBalance = a.currentBalance + :delta, " +
+            "a.version = a.version + 1, a.updatedAt = :now WHERE a.id = :accountId")
+    int adjustBalance(@Param("accountId") UUID accountId, @Param("delta") BigDecimal delta, @Param("now") LocalDateTime now);
+
+    // Guarded debit: 0 rows updated when the balance does not cover the amount
+    @Modifying
+    @Query("UPDATE LedgerAccountEntity a SET a.currentBalance = a.currentBalance - :amount, " +
+            "a.version = a.version + 1, a.updatedAt = :now " +
+            "WHERE a.id = :accountId AND a.currentBalance >= :amount AND a.isActive = true")
+    int debitIfCovered(@Param("accountId") UUID accountId, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.currentBalance FROM LedgerAccountEntity a WHERE a.id = :accountId")
+    BigDecimal findCurrentBalance(@Param("accountId") UUID accountId);
 }
\ No newline at end of file
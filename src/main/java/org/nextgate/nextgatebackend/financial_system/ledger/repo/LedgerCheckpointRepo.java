@@ -0,0 +1,15 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.repo;
+
+import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface LedgerCheckpointRepo extends JpaRepository<LedgerCheckpointEntity, LocalDate> {
+
+    // Latest closed day
+    Optional<LedgerCheckpointEntity> findTopByOrderByCheckpointDateDesc();
+}
@@ -6,8 +6,11 @@ import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerEntryTyp
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -43,6 +46,94 @@ public interface LedgerEntryRepo extends JpaRepository<LedgerEntryEntity, UUID>
     // Find latest entries
     List<LedgerEntryEntity> findTop10ByOrderByCreatedAtDesc();
 
+    List<LedgerEntryEntity> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    // All entries of an account, newest first, sorted by the database
+    @Query("SELECT e FROM LedgerEntryEntity e WHERE e.debitAccount = :account OR e.creditAccount = :account " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<LedgerEntryEntity> findAccountEntries(@Param("account") LedgerAccountEntity account);
+
+    // Statement page: entries older than the (createdAt, id) cursor, newest first.
+    // Each side is a range scan on its (account, created_at, id) index, merged and cut to the limit.
+    @Query(value = """
+        SELECT s.id AS id, s.entry_number AS entryNumber, s.entry_type AS entryType, s.direction AS direction,
+               s.amount AS amount, s.description AS description, s.reference_type AS referenceType,
+               s.reference_id AS referenceId, s.created_at AS createdAt
+        FROM (
+            (SELECT e.id, e.entry_number, e.entry_type, 'DEBIT' AS direction, e.amount, e.description,
+                    e.reference_type, e.reference_id, e.created_at
+             FROM ledger_entries e
+             WHERE e.debit_account_id = :accountId AND (e.created_at, e.id) < (:cursorAt, :cursorId)
+             ORDER BY e.created_at DESC, e.id DESC
+             LIMIT :limit)
+            UNION ALL
+            (SELECT e.id, e.entry_number, e.entry_type, 'CREDIT' AS direction, e.amount, e.description,
+                    e.reference_type, e.reference_id, e.created_at
+             FROM ledger_entries e
+             WHERE e.credit_account_id = :accountId AND (e.created_at, e.id) < (:cursorAt, :cursorId)
+             ORDER BY e.created_at DESC, e.id DESC
+             LIMIT :limit)
+        ) s
+        ORDER BY s.created_at DESC, s.id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<StatementRow> findStatementPage(@Param("accountId") UUID accountId,
+                                         @Param("cursorAt") LocalDateTime cursorAt,
+                                         @Param("cursorId") UUID cursorId,
+                                         @Param("limit") int limit);
+
     // Count entries by account (debit or credit)
     long countByDebitAccountOrCreditAccount(LedgerAccountEntity debitAccount, LedgerAccountEntity creditAccount);
+
+    // ========================================
+    // AGGREGATES (computed in the database)
+    // ========================================
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntryEntity e WHERE e.debitAccount = :account")
+    BigDecimal sumDebits(@Param("account") LedgerAccountEntity account);
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntryEntity e WHERE e.creditAccount = :account")
+    BigDecimal sumCredits(@Param("account") LedgerAccountEntity account);
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntryEntity e WHERE e.debitAccount IS NOT NULL")
+    BigDecimal sumDebitSide();
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntryEntity e WHERE e.creditAccount IS NOT NULL")
+    BigDecimal sumCreditSide();
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntryEntity e WHERE e.createdAt BETWEEN :startDate AND :endDate")
+    BigDecimal sumAmountBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // Half-open range [from, to), used for daily checkpoints
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntryEntity e WHERE e.createdAt >= :from AND e.createdAt < :to")
+    BigDecimal sumAmountInRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(e) FROM LedgerEntryEntity e WHERE e.createdAt >= :from AND e.createdAt < :to")
+    long countInRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(e) FROM LedgerEntryEntity e WHERE e.createdAt >= :since")
+    long countSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT MIN(e.createdAt) FROM LedgerEntryEntity e")
+    LocalDateTime findEarliestCreatedAt();
+
+    interface StatementRow {
+        UUID getId();
+
+        String getEntryNumber();
+
+        String getEntryType();
+
+        String getDirection();
+
+        BigDecimal getAmount();
+
+        String getDescription();
+
+        String getReferenceType();
+
+        UUID getReferenceId();
+
+        LocalDateTime getCreatedAt();
+    }
 }
\ No newline at end of file
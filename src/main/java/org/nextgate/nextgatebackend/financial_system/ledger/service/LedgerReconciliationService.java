@@ -0,0 +1,23 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.service;
+
+import org.nextgate.nextgatebackend.financial_system.ledger.payload.LedgerReconciliationReport;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Ledger verification from daily checkpoints
+ * Closed days are summed once into per-account totals, so a reconciliation
+ * only aggregates the entries created since the last closed day.
+ */
+public interface LedgerReconciliationService {
+
+    // Next day to close: the day after the latest checkpoint, empty when everything before today is closed
+    Optional<LocalDate> nextDayToClose();
+
+    // Adds one day's entries to the account checkpoints and records the day's checkpoint
+    void closeDay(LocalDate day);
+
+    // Compares every account's current balance with its checkpoint totals plus the entries since
+    LedgerReconciliationReport reconcile();
+}
@@ -5,9 +5,12 @@ import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerAccount
 import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerEntryEntity;
 import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerAccountType;
 import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerEntryType;
+import org.nextgate.nextgatebackend.financial_system.ledger.payload.LedgerStatementPage;
 import org.nextgate.nextgatebackend.financial_system.wallet.entity.WalletEntity;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -95,9 +98,15 @@ public interface LedgerService {
     // Sums up balances of all accounts of a specific type (for reporting)
     BigDecimal getTotalBalanceByType(LedgerAccountType accountType);
 
-    // Gets all ledger entries where this account was debited or credited
+    // Gets all ledger entries where this account was debited or credited (use getAccountStatement for large accounts)
     List<LedgerEntryEntity> getAccountEntries(LedgerAccountEntity account);
 
+    // One page of the account statement, newest first, with the balance after each entry
+    LedgerStatementPage getAccountStatement(UUID accountId, String cursor, int size) throws ItemNotFoundException;
+
+    // Writes the whole account statement as CSV, page by page
+    void writeStatementCsv(UUID accountId, OutputStream outputStream) throws ItemNotFoundException, IOException;
+
     // Gets all ledger entries related to a specific entity (e.g., all entries for an order)
     List<LedgerEntryEntity> getEntriesByReference(String referenceType, UUID referenceId);
 
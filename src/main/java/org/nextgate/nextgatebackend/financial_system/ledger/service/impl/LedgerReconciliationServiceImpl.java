@@ -0,0 +1,103 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerCheckpointEntity;
+import org.nextgate.nextgatebackend.financial_system.ledger.payload.LedgerReconciliationReport;
+import org.nextgate.nextgatebackend.financial_system.ledger.repo.LedgerAccountCheckpointRepo;
+import org.nextgate.nextgatebackend.financial_system.ledger.repo.LedgerCheckpointRepo;
+import org.nextgate.nextgatebackend.financial_system.ledger.repo.LedgerEntryRepo;
+import org.nextgate.nextgatebackend.financial_system.ledger.service.LedgerReconciliationService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerReconciliationServiceImpl implements LedgerReconciliationService {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LedgerEntryRepo ledgerEntryRepo;
+    private final LedgerCheckpointRepo ledgerCheckpointRepo;
+    private final LedgerAccountCheckpointRepo ledgerAccountCheckpointRepo;
+
+    @Override
+    public Optional<LocalDate> nextDayToClose() {
+        LocalDate next = ledgerCheckpointRepo.findTopByOrderByCheckpointDateDesc()
+                .map(checkpoint -> checkpoint.getCheckpointDate().plusDays(1))
+                .orElseGet(() -> {
+                    LocalDateTime earliest = ledgerEntryRepo.findEarliestCreatedAt();
+                    return earliest != null ? earliest.toLocalDate() : null;
+                });
+
+        if (next == null || !next.isBefore(LocalDate.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(next);
+    }
+
+    @Override
+    @Transactional
+    public void closeDay(LocalDate day) {
+        Optional<LocalDate> expected = nextDayToClose();
+        if (expected.isEmpty() || !expected.get().equals(day)) {
+            throw new IllegalStateException("Ledger day " + day + " cannot be closed, next open day is "
+                    + expected.map(LocalDate::toString).orElse("today"));
+        }
+
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+
+        int accountsTouched = ledgerAccountCheckpointRepo.rollForward(from, to);
+
+        LedgerCheckpointEntity checkpoint = LedgerCheckpointEntity.builder()
+                .checkpointDate(day)
+                .entryCount(ledgerEntryRepo.countInRange(from, to))
+                .totalAmount(ledgerEntryRepo.sumAmountInRange(from, to))
+                .accountsTouched(accountsTouched)
+                .build();
+        ledgerCheckpointRepo.save(checkpoint);
+
+        log.info("Ledger day {} closed: {} entries, {} accounts, {} total",
+                day, checkpoint.getEntryCount(), accountsTouched, checkpoint.getTotalAmount());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LedgerReconciliationReport reconcile() {
+        Optional<LedgerCheckpointEntity> checkpoint = ledgerCheckpointRepo.findTopByOrderByCheckpointDateDesc();
+        LocalDateTime since = checkpoint.map(LedgerCheckpointEntity::coveredUntil).orElse(BEGINNING);
+
+        List<LedgerReconciliationReport.AccountDrift> drifts = ledgerAccountCheckpointRepo.findDriftSince(since).stream()
+                .map(row -> LedgerReconciliationReport.AccountDrift.builder()
+                        .accountId(row.getAccountId())
+                        .accountNumber(row.getAccountNumber())
+                        .accountType(row.getAccountType())
+                        .currentBalance(row.getCurrentBalance())
+                        .entryBalance(row.getEntryBalance())
+                        .drift(row.getCurrentBalance().subtract(row.getEntryBalance()))
+                        .build())
+                .toList();
+
+        BigDecimal totalDrift = drifts.stream()
+                .map(drift -> drift.getDrift().abs())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return LedgerReconciliationReport.builder()
+                .checkpointDate(checkpoint.map(LedgerCheckpointEntity::getCheckpointDate).orElse(null))
+                .scannedFrom(since)
+                .entriesScanned(ledgerEntryRepo.countSince(since))
+                .driftedAccounts(drifts.size())
+                .totalDrift(totalDrift)
+                .drifts(drifts)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package org.nextgate.nextgatebackend.financial_system.ledger.service.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
@@ -7,24 +9,46 @@ import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerAccount
 import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerEntryEntity;
 import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerAccountType;
 import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerEntryType;
+import org.nextgate.nextgatebackend.financial_system.ledger.payload.LedgerStatementPage;
 import org.nextgate.nextgatebackend.financial_system.ledger.repo.LedgerAccountRepo;
 import org.nextgate.nextgatebackend.financial_system.ledger.repo.LedgerEntryRepo;
 import org.nextgate.nextgatebackend.financial_system.ledger.service.LedgerService;
+import org.nextgate.nextgatebackend.financial_system.ledger.utils.StatementCursor;
+import org.nextgate.nextgatebackend.financial_system.numbering.ReferenceNumberAllocator;
+import org.nextgate.nextgatebackend.financial_system.numbering.enums.ReferenceSeries;
 import org.nextgate.nextgatebackend.financial_system.wallet.entity.WalletEntity;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.InsufficientBalanceException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.LedgerException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
@@ -33,10 +57,29 @@ public class LedgerServiceImpl implements LedgerService {
 
     private final LedgerAccountRepo ledgerAccountRepo;
     private final LedgerEntryRepo ledgerEntryRepo;
+    private final ReferenceNumberAllocator referenceNumberAllocator;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_STATEMENT_PAGE_SIZE = 200;
+    private static final int CSV_PAGE_SIZE = 1000;
 
     @Value("${app.platform.currency:TZS}")
     private String currency;
 
+    @Value("${app.ledger.hot-account-shards:8}")
+    private int hotAccountShards;
+
+    @Value("${app.ledger.balance-update.max-attempts:3}")
+    private int balanceUpdateMaxAttempts;
+
+    @Value("${app.ledger.balance-update.backoff-ms:50}")
+    private long balanceUpdateBackoffMs;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<LedgerAccountType, AtomicInteger> shardCursors = new ConcurrentHashMap<>();
+
     @Override
     @Transactional
     public LedgerEntryEntity createEntry(
@@ -236,81 +279,25 @@ public class LedgerServiceImpl implements LedgerService {
     @Override
     @Transactional
     public LedgerAccountEntity getPlatformRevenueAccount() {
-        return ledgerAccountRepo.findByAccountType(LedgerAccountType.PLATFORM_REVENUE)
-                .orElseGet(() -> {
-                    LedgerAccountEntity account = LedgerAccountEntity.builder()
-                            .accountNumber("PLATFORM-REVENUE")
-                            .accountType(LedgerAccountType.PLATFORM_REVENUE)
-                            .currentBalance(BigDecimal.ZERO)
-                            .currency(currency)
-                            .isActive(true)
-                            .notes("Platform fee collection account")
-                            .build();
-
-                    LedgerAccountEntity saved = ledgerAccountRepo.save(account);
-                    log.info("Created platform revenue account");
-                    return saved;
-                });
+        return getHotAccount(LedgerAccountType.PLATFORM_REVENUE, "PLATFORM-REVENUE", "Platform fee collection account");
     }
 
     @Override
     @Transactional
     public LedgerAccountEntity getPlatformReserveAccount() {
-        return ledgerAccountRepo.findByAccountType(LedgerAccountType.PLATFORM_RESERVE)
-                .orElseGet(() -> {
-                    LedgerAccountEntity account = LedgerAccountEntity.builder()
-                            .accountNumber("PLATFORM-RESERVE")
-                            .accountType(LedgerAccountType.PLATFORM_RESERVE)
-                            .currentBalance(BigDecimal.ZERO)
-                            .currency(currency)
-                            .isActive(true)
-                            .notes("Platform reserve fund")
-                            .build();
-
-                    LedgerAccountEntity saved = ledgerAccountRepo.save(account);
-                    log.info("Created platform reserve account");
-                    return saved;
-                });
+        return getHotAccount(LedgerAccountType.PLATFORM_RESERVE, "PLATFORM-RESERVE", "Platform reserve fund");
     }
 
     @Override
     @Transactional
     public LedgerAccountEntity getExternalMoneyInAccount() {
-        return ledgerAccountRepo.findByAccountType(LedgerAccountType.EXTERNAL_MONEY_IN)
-                .orElseGet(() -> {
-                    LedgerAccountEntity account = LedgerAccountEntity.builder()
-                            .accountNumber("EXTERNAL-MONEY-IN")
-                            .accountType(LedgerAccountType.EXTERNAL_MONEY_IN)
-                            .currentBalance(BigDecimal.ZERO)
-                            .currency(currency)
-                            .isActive(true)
-                            .notes("Virtual account for external payments")
-                            .build();
-
-                    LedgerAccountEntity saved = ledgerAccountRepo.save(account);
-                    log.info("Created external money in account");
-                    return saved;
-                });
+        return getHotAccount(LedgerAccountType.EXTERNAL_MONEY_IN, "EXTERNAL-MONEY-IN", "Virtual account for external payments");
     }
 
     @Override
     @Transactional
     public LedgerAccountEntity getExternalMoneyOutAccount() {
-        return ledgerAccountRepo.findByAccountType(LedgerAccountType.EXTERNAL_MONEY_OUT)
-                .orElseGet(() -> {
-                    LedgerAccountEntity account = LedgerAccountEntity.builder()
-                            .accountNumber("EXTERNAL-MONEY-OUT")
-                            .accountType(LedgerAccountType.EXTERNAL_MONEY_OUT)
-                            .currentBalance(BigDecimal.ZERO)
-                            .currency(currency)
-                            .isActive(true)
-                            .notes("Virtual account for withdrawals")
-                            .build();
-
-                    LedgerAccountEntity saved = ledgerAccountRepo.save(account);
-                    log.info("Created external money out account");
-                    return saved;
-                });
+        return getHotAccount(LedgerAccountType.EXTERNAL_MONEY_OUT, "EXTERNAL-MONEY-OUT", "Virtual account for withdrawals");
     }
 
     @Override
@@ -341,18 +328,7 @@ public class LedgerServiceImpl implements LedgerService {
 
     @Override
     public BigDecimal calculateBalanceFromEntries(LedgerAccountEntity account) {
-        List<LedgerEntryEntity> debits = ledgerEntryRepo.findByDebitAccountOrderByCreatedAtDesc(account);
-        List<LedgerEntryEntity> credits = ledgerEntryRepo.findByCreditAccountOrderByCreatedAtDesc(account);
-
-        BigDecimal totalCredits = credits.stream()
-                .map(LedgerEntryEntity::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalDebits = debits.stream()
-                .map(LedgerEntryEntity::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return totalCredits.subtract(totalDebits);
+        return ledgerEntryRepo.sumCredits(account).subtract(ledgerEntryRepo.sumDebits(account));
     }
 
     @Override
@@ -372,15 +348,115 @@ public class LedgerServiceImpl implements LedgerService {
 
     @Override
     public List<LedgerEntryEntity> getAccountEntries(LedgerAccountEntity account) {
-        List<LedgerEntryEntity> debits = ledgerEntryRepo.findByDebitAccountOrderByCreatedAtDesc(account);
-        List<LedgerEntryEntity> credits = ledgerEntryRepo.findByCreditAccountOrderByCreatedAtDesc(account);
+        return ledgerEntryRepo.findAccountEntries(account);
+    }
 
-        List<LedgerEntryEntity> allEntries = new ArrayList<>(debits);
-        allEntries.addAll(credits);
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public LedgerStatementPage getAccountStatement(UUID accountId, String cursor, int size) throws ItemNotFoundException {
+        LedgerAccountEntity account = getAccountById(accountId);
 
-        allEntries.sort((e1, e2) -> e2.getCreatedAt().compareTo(e1.getCreatedAt()));
+        StatementCursor position = cursor != null && !cursor.isBlank()
+                ? StatementCursor.decode(cursor)
+                : StatementCursor.start(account.getCurrentBalance());
 
-        return allEntries;
+        return statementPage(account, position, Math.max(1, Math.min(size, MAX_STATEMENT_PAGE_SIZE)));
+    }
+
+    @Override
+    public void writeStatementCsv(UUID accountId, OutputStream outputStream) throws ItemNotFoundException, IOException {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        LedgerAccountEntity account = getAccountById(accountId);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write("created_at,entry_number,entry_type,direction,amount,balance_after,reference_type,reference_id,description\n");
+
+        StatementCursor position = null;
+        LedgerStatementPage page;
+        do {
+            StatementCursor from = position;
+            // First page reads the balance and the newest entries from one snapshot
+            page = snapshot.execute(status -> statementPage(account,
+                    from != null ? from : StatementCursor.start(ledgerAccountRepo.findCurrentBalance(accountId)),
+                    CSV_PAGE_SIZE));
+
+            for (LedgerStatementPage.StatementLine line : page.getEntries()) {
+                writer.write(String.join(",",
+                        line.getCreatedAt().toString(),
+                        line.getEntryNumber(),
+                        String.valueOf(line.getEntryType()),
+                        line.getDirection(),
+                        line.getAmount().toPlainString(),
+                        line.getBalanceAfter().toPlainString(),
+                        csvField(line.getReferenceType()),
+                        line.getReferenceId() != null ? line.getReferenceId().toString() : "",
+                        csvField(line.getDescription())));
+                writer.write('\n');
+            }
+            writer.flush();
+
+            position = page.isHasMore() ? StatementCursor.decode(page.getNextCursor()) : null;
+        } while (position != null);
+    }
+
+    private LedgerStatementPage statementPage(LedgerAccountEntity account, StatementCursor position, int size) {
+        // One extra row tells whether an older page exists
+        List<LedgerEntryRepo.StatementRow> rows = ledgerEntryRepo.findStatementPage(
+                account.getId(), position.createdAt(), position.entryId(), size + 1);
+
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        // Newest first: each entry's balance-after is the running balance, then step back over it
+        BigDecimal running = position.balance();
+        List<LedgerStatementPage.StatementLine> lines = new ArrayList<>(rows.size());
+        for (LedgerEntryRepo.StatementRow row : rows) {
+            boolean credit = "CREDIT".equals(row.getDirection());
+
+            lines.add(LedgerStatementPage.StatementLine.builder()
+                    .entryId(row.getId())
+                    .entryNumber(row.getEntryNumber())
+                    .entryType(LedgerEntryType.valueOf(row.getEntryType()))
+                    .direction(row.getDirection())
+                    .amount(row.getAmount())
+                    .balanceAfter(running)
+                    .description(row.getDescription())
+                    .referenceType(row.getReferenceType())
+                    .referenceId(row.getReferenceId())
+                    .createdAt(row.getCreatedAt())
+                    .build());
+
+            running = credit ? running.subtract(row.getAmount()) : running.add(row.getAmount());
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            LedgerEntryRepo.StatementRow last = rows.getLast();
+            nextCursor = new StatementCursor(last.getCreatedAt(), last.getId(), running).encode();
+        }
+
+        return LedgerStatementPage.builder()
+                .accountNumber(account.getAccountNumber())
+                .currency(account.getCurrency())
+                .currentBalance(account.getCurrentBalance())
+                .entries(lines)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
     }
 
     @Override
@@ -425,16 +501,7 @@ public class LedgerServiceImpl implements LedgerService {
 
     @Override
     public String generateEntryNumber() {
-        int year = Year.now().getValue();
-        long count = ledgerEntryRepo.count() + 1;
-        String entryNumber = String.format("LE-%d-%06d", year, count);
-
-        while (ledgerEntryRepo.existsByEntryNumber(entryNumber)) {
-            count++;
-            entryNumber = String.format("LE-%d-%06d", year, count);
-        }
-
-        return entryNumber;
+        return referenceNumberAllocator.next(ReferenceSeries.LEDGER_ENTRY);
     }
 
     @Override
@@ -461,15 +528,8 @@ public class LedgerServiceImpl implements LedgerService {
 
     @Override
     public boolean verifyLedgerBalance() {
-        List<LedgerEntryEntity> allEntries = ledgerEntryRepo.findAll();
-
-        BigDecimal totalDebits = allEntries.stream()
-                .map(LedgerEntryEntity::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalCredits = allEntries.stream()
-                .map(LedgerEntryEntity::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalDebits = ledgerEntryRepo.sumDebitSide();
+        BigDecimal totalCredits = ledgerEntryRepo.sumCreditSide();
 
         boolean isBalanced = totalDebits.compareTo(totalCredits) == 0;
 
@@ -483,12 +543,7 @@ public class LedgerServiceImpl implements LedgerService {
 
     @Override
     public BigDecimal getTransactionVolume(LocalDateTime startDate, LocalDateTime endDate) {
-        List<LedgerEntryEntity> entries = ledgerEntryRepo
-                .findByCreatedAtBetweenOrderByCreatedAtDesc(startDate, endDate);
-
-        return entries.stream()
-                .map(LedgerEntryEntity::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return ledgerEntryRepo.sumAmountBetween(startDate, endDate);
     }
 
     @Override
@@ -498,21 +553,176 @@ public class LedgerServiceImpl implements LedgerService {
 
     @Override
     public List<LedgerEntryEntity> getRecentEntries(int limit) {
-        return ledgerEntryRepo.findTop10ByOrderByCreatedAtDesc();
+        return ledgerEntryRepo.findAllByOrderByCreatedAtDesc(PageRequest.of(0, Math.max(1, limit)));
     }
 
 
+    /**
+     * Apply an entry to both balances in the database. The debit is a guarded update that only
+     * succeeds while the balance covers the amount (external accounts may go negative), so
+     * parallel payments from one wallet can never spend the same money twice.
+     *
+     * Rows are updated in id order so opposite transfers cannot deadlock each other. Lock
+     * failures (deadlock, lock timeout) roll back to a savepoint and are retried with backoff.
+     */
     private void updateAccountBalances(
             LedgerAccountEntity debitAccount,
             LedgerAccountEntity creditAccount,
             BigDecimal amount) {
 
-        debitAccount.setCurrentBalance(debitAccount.getCurrentBalance().subtract(amount));
-        debitAccount.setUpdatedAt(LocalDateTime.now());
-        ledgerAccountRepo.save(debitAccount);
+        // The entry insert must not sit inside the savepoint a retry rolls back
+        entityManager.flush();
+
+        TransactionTemplate savepoint = new TransactionTemplate(transactionManager);
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                savepoint.executeWithoutResult(status -> applyBalanceChanges(debitAccount, creditAccount, amount));
+                break;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= balanceUpdateMaxAttempts) {
+                    throw new LedgerException("Balance update failed after " + attempt + " attempts: "
+                            + debitAccount.getAccountNumber() + " -> " + creditAccount.getAccountNumber(), e);
+                }
+                log.warn("Balance update attempt {} hit a lock conflict ({} -> {}), retrying",
+                        attempt, debitAccount.getAccountNumber(), creditAccount.getAccountNumber());
+                backoff(attempt);
+            }
+        }
+
+        // Loaded copies still hold the old balance and version
+        refreshIfManaged(debitAccount);
+        refreshIfManaged(creditAccount);
+    }
+
+    private void applyBalanceChanges(
+            LedgerAccountEntity debitAccount,
+            LedgerAccountEntity creditAccount,
+            BigDecimal amount) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if (debitAccount.getId().compareTo(creditAccount.getId()) < 0) {
+            debitBalance(debitAccount, amount, now);
+            ledgerAccountRepo.adjustBalance(creditAccount.getId(), amount, now);
+        } else {
+            ledgerAccountRepo.adjustBalance(creditAccount.getId(), amount, now);
+            debitBalance(debitAccount, amount, now);
+        }
+    }
+
+    private void debitBalance(LedgerAccountEntity account, BigDecimal amount, LocalDateTime now) {
+        if (account.isExternalAccount() || amount.signum() == 0) {
+            ledgerAccountRepo.adjustBalance(account.getId(), amount.negate(), now);
+            return;
+        }
+
+        if (ledgerAccountRepo.debitIfCovered(account.getId(), amount, now) == 0) {
+            throw new InsufficientBalanceException(
+                    account.getAccountNumber(),
+                    amount,
+                    ledgerAccountRepo.findCurrentBalance(account.getId())
+            );
+        }
+    }
+
+    private void refreshIfManaged(LedgerAccountEntity account) {
+        if (entityManager.contains(account)) {
+            entityManager.refresh(account);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long delay = balanceUpdateBackoffMs * attempt
+                + ThreadLocalRandom.current().nextLong(balanceUpdateBackoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LedgerException("Interrupted while retrying balance update", e);
+        }
+    }
+
+    // ========================================
+    // HOT ACCOUNT SHARDS
+    // ========================================
+
+    /**
+     * Platform and external accounts take part in almost every payment. Each one is split
+     * into shards (PLATFORM-REVENUE, PLATFORM-REVENUE-1 ... PLATFORM-REVENUE-N-1) that are
+     * picked round-robin, so concurrent payments lock different rows. Shard 0 is the original
+     * account. Totals roll up by account type, see getTotalBalanceByType.
+     */
+    private LedgerAccountEntity getHotAccount(LedgerAccountType accountType, String accountNumber, String notes) {
+        int shard = nextShard(accountType);
+
+        if (shard > 0) {
+            Optional<LedgerAccountEntity> shardAccount =
+                    ledgerAccountRepo.findByAccountNumber(shardAccountNumber(accountNumber, shard));
+            if (shardAccount.isPresent()) {
+                return shardAccount.get();
+            }
+            // Shard not provisioned yet: use the primary account
+        }
+
+        return ledgerAccountRepo.findByAccountNumber(accountNumber)
+                .orElseGet(() -> createHotAccount(accountType, accountNumber, notes));
+    }
+
+    private LedgerAccountEntity createHotAccount(LedgerAccountType accountType, String accountNumber, String notes) {
+        LedgerAccountEntity account = LedgerAccountEntity.builder()
+                .accountNumber(accountNumber)
+                .accountType(accountType)
+                .currentBalance(BigDecimal.ZERO)
+                .currency(currency)
+                .isActive(true)
+                .notes(notes)
+                .build();
+
+        LedgerAccountEntity saved = ledgerAccountRepo.save(account);
+        log.info("Created {} account {}", accountType, accountNumber);
+        return saved;
+    }
+
+    /**
+     * Create missing shards once the application is up. Not transactional on purpose:
+     * each shard is saved on its own, so a shard created concurrently by another node
+     * only skips that shard.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void provisionHotAccountShards() {
+        Map<LedgerAccountType, String[]> hotAccounts = Map.of(
+                LedgerAccountType.PLATFORM_REVENUE, new String[]{"PLATFORM-REVENUE", "Platform fee collection account"},
+                LedgerAccountType.PLATFORM_RESERVE, new String[]{"PLATFORM-RESERVE", "Platform reserve fund"},
+                LedgerAccountType.EXTERNAL_MONEY_IN, new String[]{"EXTERNAL-MONEY-IN", "Virtual account for external payments"},
+                LedgerAccountType.EXTERNAL_MONEY_OUT, new String[]{"EXTERNAL-MONEY-OUT", "Virtual account for withdrawals"}
+        );
+
+        hotAccounts.forEach((accountType, account) -> {
+            for (int shard = 0; shard < hotAccountShards; shard++) {
+                String accountNumber = shard == 0 ? account[0] : shardAccountNumber(account[0], shard);
+                if (ledgerAccountRepo.existsByAccountNumber(accountNumber)) {
+                    continue;
+                }
+                try {
+                    createHotAccount(accountType, accountNumber, account[1] + (shard == 0 ? "" : " (shard " + shard + ")"));
+                } catch (DataIntegrityViolationException e) {
+                    log.debug("Ledger account {} created concurrently", accountNumber);
+                }
+            }
+        });
+    }
+
+    private int nextShard(LedgerAccountType accountType) {
+        if (hotAccountShards <= 1) {
+            return 0;
+        }
+        int cursor = shardCursors.computeIfAbsent(accountType, type -> new AtomicInteger()).getAndIncrement();
+        return Math.floorMod(cursor, hotAccountShards);
+    }
 
-        creditAccount.setCurrentBalance(creditAccount.getCurrentBalance().add(amount));
-        creditAccount.setUpdatedAt(LocalDateTime.now());
-        ledgerAccountRepo.save(creditAccount);
+    private String shardAccountNumber(String accountNumber, int shard) {
+        return accountNumber + "-" + shard;
     }
 }
\ No newline at end of file
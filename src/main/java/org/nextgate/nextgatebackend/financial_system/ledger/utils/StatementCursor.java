@@ -0,0 +1,44 @@
+package org.nextgate.nextgatebackend.financial_system.ledger.utils;
+
+import org.nextgate.nextgatebackend.globeadvice.exceptions.LedgerException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in an account statement: the last (oldest) entry returned and the
+ * account balance just before it, so the next page continues the running balance
+ * without summing the entries in between.
+ */
+public record StatementCursor(LocalDateTime createdAt, UUID entryId, BigDecimal balance) {
+
+    // Sorts after every real entry, for the first page
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    public static StatementCursor start(BigDecimal currentBalance) {
+        return new StatementCursor(END_OF_TIME, MAX_ID, currentBalance);
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + entryId + "|" + balance.toPlainString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static StatementCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new StatementCursor(
+                    LocalDateTime.parse(parts[0]),
+                    UUID.fromString(parts[1]),
+                    new BigDecimal(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new LedgerException("Invalid statement cursor");
+        }
+    }
+}
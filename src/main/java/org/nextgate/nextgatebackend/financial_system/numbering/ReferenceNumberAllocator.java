@@ -0,0 +1,182 @@
+package org.nextgate.nextgatebackend.financial_system.numbering;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.financial_system.numbering.enums.ReferenceSeries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allocates yearly reference numbers (LE-2025-000123, ESC-2025-000123, #2025T000123)
+ * from one Postgres sequence per series and year.
+ *
+ * Hi/lo: each sequence increments by a block size, so one nextval leases a whole block
+ * to this node and the numbers inside it are handed out from memory. Numbers are unique
+ * across nodes and increasing per node; a restart leaves the rest of a block unused.
+ *
+ * nextval runs on the caller's own connection: sequences are not transactional, so it
+ * needs no transaction of its own and never waits for a second pooled connection.
+ * The sequences are created ahead of time, at startup and by ReferenceSequencePreparationJob,
+ * so no DDL runs inside a payment.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class ReferenceNumberAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+
+    private final Map<ReferenceSeries, Lease> leases = new EnumMap<>(ReferenceSeries.class);
+    private final ConcurrentHashMap<String, Long> increments = new ConcurrentHashMap<>();
+
+    public ReferenceNumberAllocator(JdbcTemplate jdbcTemplate,
+                                    @Value("${app.sequences.block-size:50}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = blockSize;
+        for (ReferenceSeries series : ReferenceSeries.values()) {
+            leases.put(series, new Lease());
+        }
+    }
+
+    @PostConstruct
+    void prepareSequences() {
+        int year = Year.now().getValue();
+        prepareYear(year);
+        prepareYear(year + 1);
+    }
+
+    public String next(ReferenceSeries series) {
+        int year = Year.now().getValue();
+        Lease lease = leases.get(series);
+
+        while (true) {
+            // Fast path: a number from the current block, no lock
+            Block block = lease.block;
+            if (block != null && block.year == year) {
+                long number = block.next.getAndIncrement();
+                if (number < block.limit) {
+                    return series.format(year, number);
+                }
+            }
+
+            // Block used up: one caller leases the next one, the others wait for it
+            lease.lock.lock();
+            try {
+                if (lease.block == block) {
+                    lease.block = leaseBlock(series, year);
+                }
+            } finally {
+                lease.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Create the year's sequences that do not exist yet
+     */
+    public void prepareYear(int year) {
+        for (ReferenceSeries series : ReferenceSeries.values()) {
+            ensureSequence(series, year, series.sequenceName(year));
+        }
+    }
+
+    // ========================================
+    // BLOCK LEASING
+    // ========================================
+
+    private Block leaseBlock(ReferenceSeries series, int year) {
+        String sequence = series.sequenceName(year);
+
+        Long increment = increments.computeIfAbsent(sequence, this::findIncrement);
+        if (increment == null) {
+            throw new IllegalStateException("Reference sequence " + sequence + " has not been created yet");
+        }
+
+        Long start = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+        Block block = new Block(year, start, start + increment);
+
+        log.debug("Leased {} numbers [{}, {}) from {}", increment, start, block.limit, sequence);
+        return block;
+    }
+
+    /**
+     * Create the sequence if needed (the block size is its increment)
+     */
+    private void ensureSequence(ReferenceSeries series, int year, String sequence) {
+        if (findIncrement(sequence) != null) {
+            return;
+        }
+
+        // Continue after numbers issued before the sequence existed (count-based numbering)
+        long start = highestIssued(series, year) + 1;
+        try {
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence
+                    + " START WITH " + start + " INCREMENT BY " + blockSize + " MINVALUE 1");
+            log.info("Created reference sequence {} starting at {}", sequence, start);
+        } catch (DataAccessException e) {
+            // Another node created it at the same moment
+            log.debug("Sequence {} created concurrently: {}", sequence, e.getMessage());
+        }
+
+        if (findIncrement(sequence) == null) {
+            throw new IllegalStateException("Reference sequence could not be created: " + sequence);
+        }
+    }
+
+    private Long findIncrement(String sequence) {
+        List<Long> increments = jdbcTemplate.queryForList(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = ?", Long.class, sequence);
+        return increments.isEmpty() ? null : increments.getFirst();
+    }
+
+    private long highestIssued(ReferenceSeries series, int year) {
+        String prefix = series.yearPrefix(year);
+
+        // Longest first: %06d grows past six digits after 999999
+        List<String> latest = jdbcTemplate.queryForList(
+                "SELECT " + series.column() + " FROM " + series.table()
+                        + " WHERE " + series.column() + " LIKE ?"
+                        + " ORDER BY length(" + series.column() + ") DESC, " + series.column() + " DESC LIMIT 1",
+                String.class, prefix + "%");
+
+        if (latest.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(latest.getFirst().substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            log.warn("Unparseable reference number {} - starting {} at 1", latest.getFirst(), series);
+            return 0;
+        }
+    }
+
+    private static final class Lease {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Block block;
+    }
+
+    private static final class Block {
+        private final int year;
+        private final AtomicLong next;
+        private final long limit;
+
+        private Block(int year, long start, long limit) {
+            this.year = year;
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.nextgate.nextgatebackend.financial_system.numbering.enums;
+
+/**
+ * Yearly numbered reference series and where their numbers are stored
+ * Numbers restart at 1 every year; the stored column seeds a new year's sequence
+ */
+public enum ReferenceSeries {
+
+    LEDGER_ENTRY("ledger_entry", "LE-%d-", "%06d", "ledger_entries", "entry_number"),     // LE-2025-000123
+    ESCROW("escrow", "ESC-%d-", "%06d", "escrow_accounts", "escrow_number"),              // ESC-2025-000123
+    TRANSACTION("transaction", "#%dT", "%06d", "transaction_history", "transaction_ref");  // #2025T000123
+
+    private final String sequencePrefix;
+    private final String yearPrefixFormat;
+    private final String numberFormat;
+    private final String table;
+    private final String column;
+
+    ReferenceSeries(String sequencePrefix, String yearPrefixFormat, String numberFormat, String table, String column) {
+        this.sequencePrefix = sequencePrefix;
+        this.yearPrefixFormat = yearPrefixFormat;
+        this.numberFormat = numberFormat;
+        this.table = table;
+        this.column = column;
+    }
+
+    public String sequenceName(int year) {
+        return sequencePrefix + "_seq_" + year;
+    }
+
+    public String yearPrefix(int year) {
+        return String.format(yearPrefixFormat, year);
+    }
+
+    public String format(int year, long number) {
+        return yearPrefix(year) + String.format(numberFormat, number);
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public String column() {
+        return column;
+    }
+}
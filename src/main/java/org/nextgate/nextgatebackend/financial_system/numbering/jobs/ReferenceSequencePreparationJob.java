@@ -0,0 +1,34 @@
+package org.nextgate.nextgatebackend.financial_system.numbering.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.financial_system.numbering.ReferenceNumberAllocator;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+
+/**
+ * Creates next year's reference number sequences ahead of time, so the first payment
+ * of the year never waits on DDL. Runs daily; a no-op once the sequences exist.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceSequencePreparationJob {
+
+    private final ReferenceNumberAllocator referenceNumberAllocator;
+
+    /**
+     * Cron: "0 50 1 * * *" = Every day at 01:50
+     */
+    @Recurring(id = "prepare-reference-sequences", cron = "0 50 1 * * *")
+    @Job(name = "Prepare Reference Sequences", retries = 2)
+    public void prepareReferenceSequences() {
+        int year = Year.now().getValue();
+        referenceNumberAllocator.prepareYear(year);
+        referenceNumberAllocator.prepareYear(year + 1);
+        log.debug("Reference sequences ready for {} and {}", year, year + 1);
+    }
+}
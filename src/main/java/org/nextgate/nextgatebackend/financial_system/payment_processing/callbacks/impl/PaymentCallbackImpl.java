@@ -3,11 +3,13 @@ package org.nextgate.nextgatebackend.financial_system.payment_processing.callbac
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.service.InventoryReservationService;
 import org.nextgate.nextgatebackend.financial_system.payment_processing.contract.PayableCheckoutSession;
 import org.nextgate.nextgatebackend.financial_system.escrow.entity.EscrowAccountEntity;
 import org.nextgate.nextgatebackend.financial_system.payment_processing.callbacks.PaymentCallback;
 import org.nextgate.nextgatebackend.financial_system.payment_processing.payloads.PaymentResult;
 import org.nextgate.nextgatebackend.financial_system.payment_processing.strategy.PostPaymentHandlerRegistry;
+import org.nextgate.nextgatebackend.globe_enums.CheckoutSessionsDomains;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentCallbackImpl implements PaymentCallback {
 
     private final PostPaymentHandlerRegistry postPaymentHandlerRegistry;
+    private final InventoryReservationService inventoryReservationService;
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -59,7 +62,13 @@ public class PaymentCallbackImpl implements PaymentCallback {
         log.warn("Status: {} | Code: {}", result.getStatus(), result.getErrorCode());
         log.warn("Attempt #: {}", session.getPaymentAttemptCount());
 
-        log.warn("[TODO] Release held inventory/tickets");
+        if (session.getSessionDomain() == CheckoutSessionsDomains.PRODUCT) {
+            int released = inventoryReservationService.release(session.getSessionId());
+            log.warn("Released {} stock hold(s) - retry holds again", released);
+        } else {
+            // The session row is still being saved by the caller; the expiry sweep frees its tickets
+            log.warn("Held tickets are released when the session expires");
+        }
         log.warn("[TODO] Send failure notification to customer");
 
         int attemptCount = session.getPaymentAttemptCount();
@@ -0,0 +1,63 @@
+package org.nextgate.nextgatebackend.financial_system.payment_processing.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.e_commerce.checkout_session.service.ProductsCheckoutSessionService;
+import org.nextgate.nextgatebackend.e_events.events_mng.checkout_session.service.EventCheckoutService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * Expires abandoned product and event checkout sessions and releases what they hold
+ * (product stock, ticket quantity). Without it, sessions only expire when their owner
+ * opens them again.
+ * Sessions are taken oldest first in batches, one transaction per batch.
+ * Runs every 5 minutes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CheckoutSessionExpiryJob {
+
+    private final ProductsCheckoutSessionService productsCheckoutSessionService;
+    private final EventCheckoutService eventCheckoutService;
+
+    @Value("${app.checkout.expiry-sweep.batch-size:100}")
+    private int batchSize;
+
+    // Leaves payments that started just before expiry time to finish
+    @Value("${app.checkout.expiry-sweep.grace-minutes:2}")
+    private long graceMinutes;
+
+    /**
+     * Cron: "0 0/5 * * * *" = Every 5 minutes
+     */
+    @Recurring(id = "expire-abandoned-checkout-sessions", cron = "0 0/5 * * * *")
+    @Job(name = "Expire Abandoned Checkout Sessions", retries = 2)
+    public void expireAbandonedSessions() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(graceMinutes);
+
+        int products = sweep(productsCheckoutSessionService::expireAbandonedSessions, before);
+        int events = sweep(eventCheckoutService::expireAbandonedSessions, before);
+
+        if (products + events > 0) {
+            log.info("Expired {} product and {} event checkout session(s) that expired before {}",
+                    products, events, before);
+        }
+    }
+
+    private int sweep(BiFunction<LocalDateTime, Integer, Integer> expireBatch, LocalDateTime before) {
+        int total = 0;
+        int expired;
+        do {
+            expired = expireBatch.apply(before, batchSize);
+            total += expired;
+        } while (expired == batchSize);
+        return total;
+    }
+}
@@ -3,25 +3,23 @@ package org.nextgate.nextgatebackend.financial_system.transaction_history.servic
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.entity.TransactionHistory;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.enums.TransactionDirection;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.enums.TransactionStatus;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.enums.TransactionType;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.repo.TransactionHistoryRepo;
 import org.nextgate.nextgatebackend.financial_system.transaction_history.service.TransactionHistoryService;
+import org.nextgate.nextgatebackend.financial_system.numbering.ReferenceNumberAllocator;
+import org.nextgate.nextgatebackend.financial_system.numbering.enums.ReferenceSeries;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.Year;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,7 +29,8 @@ import java.util.UUID;
 public class TransactionHistoryServiceImpl implements TransactionHistoryService {
 
     private final TransactionHistoryRepo transactionHistoryRepo;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
+    private final ReferenceNumberAllocator referenceNumberAllocator;
 
     @Override
     @Transactional
@@ -84,21 +83,21 @@ public class TransactionHistoryServiceImpl implements TransactionHistoryService
 
     @Override
     public Page<TransactionHistory> getMyTransactions(Pageable pageable) throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         return transactionHistoryRepo.findByAccountOrderByCreatedAtDesc(account, pageable);
     }
 
     @Override
     public Page<TransactionHistory> getMyTransactionsByType(TransactionType type, Pageable pageable)
             throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         return transactionHistoryRepo.findByAccountAndTypeOrderByCreatedAtDesc(account, type, pageable);
     }
 
     @Override
     public Page<TransactionHistory> getMyTransactionsByDirection(TransactionDirection direction, Pageable pageable)
             throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         return transactionHistoryRepo.findByAccountAndDirectionOrderByCreatedAtDesc(account, direction, pageable);
     }
 
@@ -108,7 +107,7 @@ public class TransactionHistoryServiceImpl implements TransactionHistoryService
             LocalDateTime endDate,
             Pageable pageable) throws ItemNotFoundException {
 
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         return transactionHistoryRepo.findByAccountAndCreatedAtBetweenOrderByCreatedAtDesc(
                 account, startDate, endDate, pageable);
     }
@@ -120,32 +119,12 @@ public class TransactionHistoryServiceImpl implements TransactionHistoryService
 
     @Override
     public long getMyTransactionCount() throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         return transactionHistoryRepo.countByAccount(account);
     }
 
     @Override
     public String generateTransactionRef() {
-        int year = Year.now().getValue();
-        long count = transactionHistoryRepo.count() + 1;
-        String ref = String.format("#%dT%06d", year, count);
-
-        while (transactionHistoryRepo.existsByTransactionRef(ref)) {
-            count++;
-            ref = String.format("#%dT%06d", year, count);
-        }
-
-        return ref;
-    }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
+        return referenceNumberAllocator.next(ReferenceSeries.TRANSACTION);
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package org.nextgate.nextgatebackend.financial_system.wallet.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerAccountEntity;
+import org.nextgate.nextgatebackend.financial_system.ledger.payload.LedgerStatementPage;
+import org.nextgate.nextgatebackend.financial_system.ledger.service.LedgerService;
 import org.nextgate.nextgatebackend.financial_system.wallet.entity.WalletEntity;
 import org.nextgate.nextgatebackend.financial_system.wallet.payload.BalanceResponse;
 import org.nextgate.nextgatebackend.financial_system.wallet.payload.TopupRequest;
@@ -11,8 +14,11 @@ import org.nextgate.nextgatebackend.financial_system.wallet.service.WalletServic
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -23,6 +29,7 @@ import java.util.UUID;
 public class WalletController {
 
     private final WalletService walletService;
+    private final LedgerService ledgerService;
 
     @GetMapping("/my-wallet")
     public ResponseEntity<GlobeSuccessResponseBuilder> getMyWallet()
@@ -114,6 +121,53 @@ public class WalletController {
         ));
     }
 
+    /**
+     * Account statement, newest first, with the balance after each entry
+     *
+     * GET /api/v1/wallet/statement?size=50
+     * GET /api/v1/wallet/statement?size=50&cursor={nextCursor from the previous page}
+     */
+    @GetMapping("/statement")
+    public ResponseEntity<GlobeSuccessResponseBuilder> getMyStatement(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size)
+            throws ItemNotFoundException {
+
+        LedgerAccountEntity ledgerAccount = walletService.getLedgerAccount(walletService.getMyWallet());
+        LedgerStatementPage statement = ledgerService.getAccountStatement(ledgerAccount.getId(), cursor, size);
+
+        return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
+                "Statement retrieved successfully",
+                statement
+        ));
+    }
+
+    /**
+     * Whole statement as CSV, streamed page by page
+     *
+     * GET /api/v1/wallet/statement/export
+     */
+    @GetMapping("/statement/export")
+    public ResponseEntity<StreamingResponseBody> exportMyStatement()
+            throws ItemNotFoundException {
+
+        // Resolved on the request thread, the body is written on an async thread
+        LedgerAccountEntity ledgerAccount = walletService.getLedgerAccount(walletService.getMyWallet());
+        UUID ledgerAccountId = ledgerAccount.getId();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"statement-" + ledgerAccount.getAccountNumber() + ".csv\"")
+                .body(outputStream -> {
+                    try {
+                        ledgerService.writeStatementCsv(ledgerAccountId, outputStream);
+                    } catch (ItemNotFoundException e) {
+                        throw new IllegalStateException(e.getMessage(), e);
+                    }
+                });
+    }
+
     @GetMapping("/{walletId}")
     public ResponseEntity<GlobeSuccessResponseBuilder> getWalletById(
             @PathVariable UUID walletId)
@@ -92,8 +92,12 @@ public class WalletTopUpListener {
                 .data(data)
                 .build();
 
-        // 4. Publish notification
-        notificationPublisher.publish(event);
+        // 4. Publish notification (once per top-up transaction)
+        if (transactionId != null) {
+            notificationPublisher.publish(event, NotificationType.WALLET_BALANCE_UPDATE + ":" + transactionId);
+        } else {
+            notificationPublisher.publish(event);
+        }
 
         log.info("📤 Wallet top-up notification sent: user={}, amount={}, txn={}",
                 customer.getUserName(), topUpAmount, transactionId);
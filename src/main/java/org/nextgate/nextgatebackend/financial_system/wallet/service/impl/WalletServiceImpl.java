@@ -25,10 +25,8 @@ import org.nextgate.nextgatebackend.notification_system.publisher.enums.Notifica
 import org.nextgate.nextgatebackend.notification_system.publisher.enums.NotificationPriority;
 import org.nextgate.nextgatebackend.notification_system.publisher.enums.NotificationType;
 import org.nextgate.nextgatebackend.notification_system.publisher.mapper.WalletNotificationMapper;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +42,7 @@ public class WalletServiceImpl implements WalletService {
 
     private final WalletRepository walletRepository;
     private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final LedgerService ledgerService;
     private final TransactionHistoryService transactionHistoryService;
     private final ApplicationEventPublisher eventPublisher;
@@ -51,13 +50,13 @@ public class WalletServiceImpl implements WalletService {
     @Override
     @Transactional
     public WalletEntity getMyWallet() throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         return initializeWallet(account);
     }
 
     @Override
     public WalletEntity getWalletById(UUID walletId) throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         WalletEntity wallet = walletRepository.findById(walletId)
                 .orElseThrow(() -> new ItemNotFoundException("Wallet not found"));
 
@@ -76,7 +75,7 @@ public class WalletServiceImpl implements WalletService {
 
         WalletEntity wallet = initializeWallet(account);
 
-        AccountEntity authAccount = getAuthenticatedAccount();
+        AccountEntity authAccount = currentAccountProvider.getCurrentAccount();
         if (!validateSystemRolesOrOwner(List.of("ROLE_SUPER_ADMIN", "ROLE_STAFF_ADMIN"), authAccount, wallet)) {
             throw new ItemNotFoundException("You do not have permission to access this wallet");
         }
@@ -98,7 +97,7 @@ public class WalletServiceImpl implements WalletService {
 
     @Override
     public BigDecimal getMyWalletBalance() throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         WalletEntity wallet = initializeWallet(account);
         return getWalletBalance(wallet);
     }
@@ -117,7 +116,7 @@ public class WalletServiceImpl implements WalletService {
     @Override
     @Transactional
     public void activateWallet(UUID walletId) throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         WalletEntity wallet = walletRepository.findById(walletId)
                 .orElseThrow(() -> new ItemNotFoundException("Wallet not found"));
 
@@ -134,7 +133,7 @@ public class WalletServiceImpl implements WalletService {
     @Override
     @Transactional
     public void deactivateWallet(UUID walletId, String reason) throws ItemNotFoundException {
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         WalletEntity wallet = walletRepository.findById(walletId)
                 .orElseThrow(() -> new ItemNotFoundException("Wallet not found"));
 
@@ -154,7 +153,7 @@ public class WalletServiceImpl implements WalletService {
             throws ItemNotFoundException, RandomExceptions {
 
         // 1. Get account and validate wallet
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         WalletEntity wallet = initializeWallet(account);
 
         validateWalletAndAmount(wallet, amount);
@@ -218,7 +217,7 @@ public class WalletServiceImpl implements WalletService {
     public WalletEntity withdrawFromWallet(BigDecimal amount, String description)
             throws ItemNotFoundException, RandomExceptions {
 
-        AccountEntity account = getAuthenticatedAccount();
+        AccountEntity account = currentAccountProvider.getCurrentAccount();
         WalletEntity wallet = initializeWallet(account);
 
         if (!wallet.getIsActive()) {
@@ -301,17 +300,6 @@ public class WalletServiceImpl implements WalletService {
                 });
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     private boolean validateSystemRolesOrOwner(List<String> customRoles, AccountEntity account, WalletEntity wallet) {
         boolean hasCustomRole = account.getRoles().stream()
                 .anyMatch(role -> customRoles.contains(role.getRoleName()));
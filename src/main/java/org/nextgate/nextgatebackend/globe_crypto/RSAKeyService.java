@@ -1,15 +1,20 @@
 package org.nextgate.nextgatebackend.globe_crypto;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nextgate.nextgatebackend.globe_crypto.enums.KeyStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Service for generating and managing RSA key pairs for JWT signing.
@@ -17,18 +22,42 @@ import java.util.Base64;
  * Each event gets its own RSA key pair:
  * - Private key: Used to sign tickets (encrypted before storage)
  * - Public key: Distributed to scanners for signature verification
+ *
+ * Decrypted and parsed keys are cached (bounded LRU) keyed by their stored form,
+ * so a rotated key pair is simply a new cache entry and the old one ages out.
+ * Signature objects are reused per thread.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RSAKeyService {
 
     private static final int KEY_SIZE = 2048;
     private static final String ALGORITHM = "RSA";
     private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
 
+    private static final ThreadLocal<Signature> SIGNATURES = ThreadLocal.withInitial(() -> {
+        try {
+            return Signature.getInstance(SIGNATURE_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(SIGNATURE_ALGORITHM + " not available", e);
+        }
+    });
+
     private final KeyEncryptionService encryptionService;
 
+    // Encrypted private key (Base64) -> decrypted PrivateKey
+    private final Map<String, PrivateKey> privateKeys;
+
+    // Public key (Base64) -> parsed PublicKey
+    private final Map<String, PublicKey> publicKeys;
+
+    public RSAKeyService(KeyEncryptionService encryptionService,
+                         @Value("${events.rsa.key-cache.max-keys:1000}") int maxKeys) {
+        this.encryptionService = encryptionService;
+        this.privateKeys = lruCache(maxKeys);
+        this.publicKeys = lruCache(maxKeys);
+    }
+
     /**
      * Generate a new RSA key pair for an event
      * Returns RSAKeys object with encrypted private key
@@ -132,9 +161,9 @@ public class RSAKeyService {
      */
     public String sign(String data, PrivateKey privateKey) {
         try {
-            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+            Signature signature = SIGNATURES.get();
             signature.initSign(privateKey);
-            signature.update(data.getBytes());
+            signature.update(data.getBytes(StandardCharsets.UTF_8));
 
             byte[] signatureBytes = signature.sign();
             return Base64.getEncoder().encodeToString(signatureBytes);
@@ -155,9 +184,9 @@ public class RSAKeyService {
      */
     public boolean verify(String data, String signatureBase64, PublicKey publicKey) {
         try {
-            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+            Signature signature = SIGNATURES.get();
             signature.initVerify(publicKey);
-            signature.update(data.getBytes());
+            signature.update(data.getBytes(StandardCharsets.UTF_8));
 
             byte[] signatureBytes = Base64.getDecoder().decode(signatureBase64);
             return signature.verify(signatureBytes);
@@ -180,11 +209,12 @@ public class RSAKeyService {
             throw new IllegalArgumentException("RSA keys not found");
         }
 
-        if (!"ACTIVE".equals(rsaKeys.getStatus())) {
+        // Checked on every call, so revoking a key takes effect even while it is cached
+        if (!rsaKeys.isActive()) {
             throw new IllegalStateException("RSA keys are not active");
         }
 
-        return loadPrivateKey(rsaKeys.getPrivateKey());
+        return cached(privateKeys, rsaKeys.getPrivateKey(), this::loadPrivateKey);
     }
 
     /**
@@ -199,7 +229,25 @@ public class RSAKeyService {
             throw new IllegalArgumentException("RSA keys not found");
         }
 
-        return loadPublicKey(rsaKeys.getPublicKey());
+        return cached(publicKeys, rsaKeys.getPublicKey(), this::loadPublicKey);
+    }
+
+    /**
+     * Drop cached key objects of a key pair
+     * Call when an event's keys are rotated or revoked
+     *
+     * @param rsaKeys RSAKeys object being replaced
+     */
+    public void evict(RSAKeys rsaKeys) {
+        if (rsaKeys == null) {
+            return;
+        }
+        if (rsaKeys.getPrivateKey() != null) {
+            privateKeys.remove(rsaKeys.getPrivateKey());
+        }
+        if (rsaKeys.getPublicKey() != null) {
+            publicKeys.remove(rsaKeys.getPublicKey());
+        }
     }
 
     /**
@@ -216,4 +264,27 @@ public class RSAKeyService {
 
         return rsaKeys.getPublicKey();
     }
-}
\ No newline at end of file
+
+    // ========================================
+    // KEY CACHE
+    // ========================================
+
+    private static <K> K cached(Map<String, K> cache, String storedKey, Function<String, K> loader) {
+        K key = cache.get(storedKey);
+        if (key == null) {
+            // Racing loads parse the same key twice at worst; key objects are immutable
+            key = loader.apply(storedKey);
+            cache.put(storedKey, key);
+        }
+        return key;
+    }
+
+    private static <K> Map<String, K> lruCache(int maxKeys) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, K> eldest) {
+                return size() > maxKeys;
+            }
+        });
+    }
+}
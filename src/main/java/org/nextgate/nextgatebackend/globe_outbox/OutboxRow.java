@@ -0,0 +1,16 @@
+package org.nextgate.nextgatebackend.globe_outbox;
+
+import java.util.UUID;
+
+/**
+ * A row of an outbox table, as OutboxWorker sees it
+ */
+public interface OutboxRow {
+
+    UUID getId();
+
+    /**
+     * Attempts so far, including the one the current claim counted
+     */
+    int getAttempts();
+}
@@ -0,0 +1,328 @@
+package org.nextgate.nextgatebackend.globe_outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains an outbox table: the claim, deliver, settle loop shared by MailOutboxDispatcher
+ * and NotificationOutboxRelay.
+ *
+ * Each worker thread claims a batch of due rows (SKIP LOCKED with a lease, so workers and
+ * nodes never wait on each other and a crashed worker's rows are taken over), hands it to
+ * deliver, and records the outcome in one transaction. Failed rows are retried with
+ * exponential backoff and marked DEAD after maxAttempts, or once they have expired.
+ *
+ * Workers are woken by wakeUp after a row is committed and otherwise poll every
+ * pollIntervalMs. With maxPauseMs set, a worker pauses after a batch with failures
+ * (doubling up to that limit) instead of pushing more at a struggling downstream.
+ * With no workers configured, this node leaves the table to other nodes.
+ *
+ * @param <T> the outbox entity
+ * @param <S> what one worker keeps between batches, e.g. an open connection
+ */
+@Slf4j
+public abstract class OutboxWorker<T extends OutboxRow, S extends OutboxWorker.Session> {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final Settings settings;
+    private final TransactionTemplate tx;
+
+    private final Object signal = new Object();
+    private boolean signalled;
+    private volatile boolean running;
+    private ExecutorService pool;
+
+    protected OutboxWorker(Settings settings, PlatformTransactionManager transactionManager) {
+        this.settings = settings;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    // ========================================
+    // OUTBOX TABLE
+    // ========================================
+
+    /**
+     * Mark up to limit due rows (and rows whose lease ran out) as claimed by claimId,
+     * counting an attempt on each
+     */
+    protected abstract int claimDue(UUID claimId, LocalDateTime now, LocalDateTime lockedUntil, int limit);
+
+    protected abstract List<T> findClaimed(UUID claimId);
+
+    protected abstract void markDone(List<UUID> ids, LocalDateTime now);
+
+    protected abstract void reschedule(UUID id, LocalDateTime nextAttemptAt, String error);
+
+    protected abstract void markDead(UUID id, String error);
+
+    // ========================================
+    // DELIVERY
+    // ========================================
+
+    protected abstract S openSession();
+
+    /**
+     * Deliver a claimed batch and return the failed rows with their errors; every other row is done
+     */
+    protected abstract Map<T, String> deliver(S session, List<T> batch);
+
+    /**
+     * Rows that are no longer worth delivering go DEAD without being delivered
+     */
+    protected boolean isExpired(T row, LocalDateTime now) {
+        return false;
+    }
+
+    /**
+     * How a row is named in the logs
+     */
+    protected abstract String describe(T row);
+
+    // ========================================
+    // LIFECYCLE
+    // ========================================
+
+    @PostConstruct
+    void start() {
+        if (settings.workers() <= 0) {
+            log.info("{}: no workers on this node", settings.name());
+            return;
+        }
+
+        running = true;
+        AtomicInteger threadNumber = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(settings.workers(), runnable -> {
+            Thread thread = new Thread(runnable, settings.name() + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < settings.workers(); i++) {
+            pool.execute(this::work);
+        }
+        log.info("{} started with {} worker(s), batches of {}", settings.name(), settings.workers(), settings.batchSize());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (pool == null) {
+            return;
+        }
+
+        running = false;
+        wakeUp();
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Let the workers look for due rows now instead of at their next poll
+     */
+    public void wakeUp() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    // ========================================
+    // WORKERS
+    // ========================================
+
+    private void work() {
+        S session = openSession();
+        int failedBatchesInARow = 0;
+        try {
+            while (running) {
+                int claimed = 0;
+                boolean clean;
+                try {
+                    Batch batch = processBatch(session);
+                    claimed = batch.claimed();
+                    clean = batch.failed() == 0;
+                } catch (Exception e) {
+                    log.error("{} batch failed", settings.name(), e);
+                    session.reset();
+                    clean = false;
+                }
+
+                failedBatchesInARow = clean ? 0 : failedBatchesInARow + 1;
+                if (failedBatchesInARow > 0 && settings.maxPauseMs() > 0) {
+                    long pause = Math.min(settings.maxPauseMs(),
+                            settings.pollIntervalMs() << Math.min(failedBatchesInARow - 1, 16));
+                    session.idle();
+                    if (!pause(pause)) {
+                        return;
+                    }
+                } else if (claimed < settings.batchSize()) {
+                    // A full batch means there is probably more waiting
+                    session.idle();
+                    if (!awaitWork()) {
+                        return;
+                    }
+                }
+            }
+        } finally {
+            session.reset();
+        }
+    }
+
+    private boolean awaitWork() {
+        synchronized (signal) {
+            try {
+                if (!signalled) {
+                    signal.wait(settings.pollIntervalMs());
+                }
+                signalled = false;
+                return running;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Claim, deliver and settle one batch
+     */
+    private Batch processBatch(S session) {
+        UUID claimId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<T> batch = tx.execute(status -> {
+            int claimed = claimDue(claimId, now, now.plusSeconds(settings.leaseSeconds()), settings.batchSize());
+            return claimed == 0 ? List.<T>of() : findClaimed(claimId);
+        });
+        if (batch == null || batch.isEmpty()) {
+            return new Batch(0, 0);
+        }
+
+        List<T> deliverable = new ArrayList<>(batch.size());
+        Map<T, String> failed = new LinkedHashMap<>();
+        for (T row : batch) {
+            if (isExpired(row, now)) {
+                failed.put(row, "Expired before it could be delivered");
+            } else {
+                deliverable.add(row);
+            }
+        }
+        if (!deliverable.isEmpty()) {
+            failed.putAll(deliver(session, deliverable));
+        }
+
+        List<UUID> done = batch.stream()
+                .filter(row -> !failed.containsKey(row))
+                .map(OutboxRow::getId)
+                .toList();
+
+        tx.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                markDone(done, LocalDateTime.now());
+            }
+            failed.forEach(this::recordFailure);
+        });
+
+        if (!failed.isEmpty()) {
+            log.warn("{}: {} delivered, {} failed in batch {}", settings.name(), done.size(), failed.size(), claimId);
+        } else {
+            log.debug("{}: {} delivered in batch {}", settings.name(), done.size(), claimId);
+        }
+        return new Batch(batch.size(), failed.size());
+    }
+
+    private void recordFailure(T row, String error) {
+        String truncated = truncate(error);
+
+        if (isExpired(row, LocalDateTime.now())) {
+            markDead(row.getId(), truncated);
+            log.warn("{} expired after {} attempts: {}", describe(row), row.getAttempts(), truncated);
+            return;
+        }
+
+        if (row.getAttempts() >= settings.maxAttempts()) {
+            markDead(row.getId(), truncated);
+            log.error("{} moved to dead letters after {} attempts: {}", describe(row), row.getAttempts(), truncated);
+            return;
+        }
+
+        long backoffMs = Math.min(settings.maxBackoffMs(),
+                settings.baseBackoffMs() << Math.min(row.getAttempts() - 1, 16));
+        reschedule(row.getId(), LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs)), truncated);
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private record Batch(int claimed, int failed) {
+    }
+
+    // ========================================
+    // SETTINGS AND SESSIONS
+    // ========================================
+
+    /**
+     * @param name        thread name prefix and log label
+     * @param workers     worker threads on this node; 0 leaves the table to other nodes
+     * @param leaseSeconds a claimed row is taken over by another worker if not settled within this time
+     * @param maxPauseMs  longest pause after failed batches; 0 never pauses
+     */
+    public record Settings(String name,
+                           int workers,
+                           int batchSize,
+                           long pollIntervalMs,
+                           long leaseSeconds,
+                           int maxAttempts,
+                           long baseBackoffMs,
+                           long maxBackoffMs,
+                           long maxPauseMs) {
+    }
+
+    /**
+     * State one worker keeps between batches
+     */
+    public interface Session {
+
+        Session NONE = new Session() {
+        };
+
+        /**
+         * The worker has nothing to do for now
+         */
+        default void idle() {
+        }
+
+        /**
+         * A batch failed, or the worker is stopping: drop anything that may be broken
+         */
+        default void reset() {
+        }
+    }
+}
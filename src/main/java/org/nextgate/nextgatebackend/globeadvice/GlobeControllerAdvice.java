@@ -4,6 +4,7 @@ package org.nextgate.nextgatebackend.globeadvice;
 import org.nextgate.nextgatebackend.e_events.events_mng.events_core.enums.EventCreationStage;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.*;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeFailureResponseBuilder;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -127,6 +128,18 @@ public class GlobeControllerAdvice {
         return ResponseEntity.status(response.getHttpStatus()).body(response);
     }
 
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<GlobeFailureResponseBuilder> handleInsufficientStock(InsufficientStockException ex) {
+        GlobeFailureResponseBuilder response = GlobeFailureResponseBuilder.badRequest(ex.getMessage());
+        return ResponseEntity.status(response.getHttpStatus()).body(response);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<GlobeFailureResponseBuilder> handleTooManyRequests(TooManyRequestsException ex) {
+        GlobeFailureResponseBuilder response = GlobeFailureResponseBuilder.error(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(response.getHttpStatus()).body(response);
+    }
+
     @ExceptionHandler(LedgerException.class)
     public ResponseEntity<GlobeFailureResponseBuilder> handleLedgerException(LedgerException ex) {
         GlobeFailureResponseBuilder response = GlobeFailureResponseBuilder.badRequest(ex.getMessage());
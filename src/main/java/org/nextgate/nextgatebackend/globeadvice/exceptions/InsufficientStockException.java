@@ -0,0 +1,23 @@
+package org.nextgate.nextgatebackend.globeadvice.exceptions;
+
+import java.util.UUID;
+
+public class InsufficientStockException extends RuntimeException {
+
+    private final UUID productId;
+    private final int requested;
+
+    public InsufficientStockException(UUID productId, int requested) {
+        super(String.format("Insufficient stock for product %s. Requested: %d", productId, requested));
+        this.productId = productId;
+        this.requested = requested;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+}
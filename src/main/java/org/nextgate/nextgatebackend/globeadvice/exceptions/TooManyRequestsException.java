@@ -0,0 +1,8 @@
+package org.nextgate.nextgatebackend.globeadvice.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+package org.nextgate.nextgatebackend.globesecurity;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Authenticated user as carried in the access token: username, account id and roles.
+ * Still a UserDetails, so code reading the principal's username keeps working.
+ */
+@Getter
+public class AccountPrincipal extends User {
+
+    private final UUID accountId;
+
+    public AccountPrincipal(UUID accountId, String userName, Collection<? extends GrantedAuthority> authorities) {
+        this(accountId, userName, "", authorities);
+    }
+
+    /**
+     * With the password hash, for password login through the authentication manager
+     */
+    public AccountPrincipal(UUID accountId, String userName, String password,
+                            Collection<? extends GrantedAuthority> authorities) {
+        super(userName, password, authorities);
+        this.accountId = accountId;
+    }
+}
@@ -0,0 +1,171 @@
+package org.nextgate.nextgatebackend.globesecurity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The authenticated account, loaded at most once per request.
+ *
+ * Accounts are also kept for a short TTL across requests (app.security.account-cache.ttl-seconds),
+ * so most authenticated reads do no account query at all. Entries are evicted on profile and
+ * verification changes on this node; other nodes see the change when the TTL runs out.
+ *
+ * The account is loaded outside the request's persistence context and is detached:
+ * use it to read fields or as a reference on other entities. Code that modifies the
+ * account should load it through AccountRepo.
+ */
+@Component
+@Slf4j
+public class CurrentAccountProvider {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentAccountProvider.class.getName() + ".account";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<String, CachedAccount> accounts = new ConcurrentHashMap<>();
+
+    public CurrentAccountProvider(EntityManagerFactory entityManagerFactory,
+                                  @Value("${app.security.account-cache.ttl-seconds:30}") long ttlSeconds,
+                                  @Value("${app.security.account-cache.max-size:10000}") int maxSize) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxSize = maxSize;
+    }
+
+    public AccountEntity getCurrentAccount() throws ItemNotFoundException {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null
+                && request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof AccountEntity account) {
+            return account;
+        }
+
+        AccountEntity account = findAccount(getCurrentUserName());
+
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE, account, RequestAttributes.SCOPE_REQUEST);
+        }
+        return account;
+    }
+
+    /**
+     * Account id from the access token, without loading the account
+     */
+    public UUID getCurrentAccountId() throws ItemNotFoundException {
+        if (currentPrincipal() instanceof AccountPrincipal principal && principal.getAccountId() != null) {
+            return principal.getAccountId();
+        }
+        return getCurrentAccount().getId();
+    }
+
+    public String getCurrentUserName() throws ItemNotFoundException {
+        Object principal = currentPrincipal();
+        if (principal instanceof UserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        if (principal instanceof String userName) {
+            return userName;
+        }
+        throw new ItemNotFoundException("User not authenticated");
+    }
+
+    /**
+     * Drop the cached account after it changes.
+     * Inside a transaction it is dropped again after commit, so a concurrent request
+     * cannot re-cache the old state in between.
+     */
+    public void evict(String userName) {
+        if (userName == null) {
+            return;
+        }
+        accounts.remove(userName);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accounts.remove(userName);
+                }
+            });
+        }
+    }
+
+    // ========================================
+    // CROSS-REQUEST CACHE
+    // ========================================
+
+    private AccountEntity findAccount(String userName) throws ItemNotFoundException {
+        long now = System.nanoTime();
+
+        CachedAccount cached = accounts.get(userName);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached.account();
+        }
+
+        AccountEntity account = loadDetached(userName);
+        if (account == null) {
+            accounts.remove(userName);
+            throw new ItemNotFoundException("User not found");
+        }
+
+        if (accounts.size() >= maxSize) {
+            accounts.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+            if (accounts.size() >= maxSize) {
+                accounts.clear();
+            }
+        }
+        accounts.put(userName, new CachedAccount(account, now));
+
+        return account;
+    }
+
+    /**
+     * Own entity manager, so the cached instance is never managed by (or flushed from) a request's session
+     */
+    private AccountEntity loadDetached(String userName) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            List<AccountEntity> found = entityManager.createQuery(
+                            "SELECT a FROM AccountEntity a WHERE a.userName = :userName", AccountEntity.class)
+                    .setParameter("userName", userName)
+                    .setMaxResults(1)
+                    .getResultList();
+
+            log.debug("Loaded account {} for the current user cache", userName);
+            return found.isEmpty() ? null : found.getFirst();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private Object currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getPrincipal();
+    }
+
+    private record CachedAccount(AccountEntity account, long loadedAt) {
+    }
+}
@@ -9,7 +9,6 @@ import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemReadyExistException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -37,7 +36,8 @@ public class CustomUserDetailsService implements UserDetailsService {
                         .map(role -> new SimpleGrantedAuthority(role.getRoleName()))
                         .collect(Collectors.toSet());
 
-        return new User(user.getUserName(),
+        return new AccountPrincipal(user.getId(),
+                user.getUserName(),
                 user.getPassword(),
                 authorities);
     }
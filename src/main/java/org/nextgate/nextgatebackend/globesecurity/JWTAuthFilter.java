@@ -39,8 +39,11 @@ public class JWTAuthFilter extends OncePerRequestFilter {
             String token = getTokenFromHeader(request);
             // Validate specifically as an access token
             if (StringUtils.hasText(token) && jwtProvider.validToken(token, "ACCESS")) {
-                String userName = jwtProvider.getUserName(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userName);
+                // Signed claims are trusted; only tokens issued without them need the account lookup
+                UserDetails userDetails = jwtProvider.getAccessPrincipal(token);
+                if (userDetails == null) {
+                    userDetails = userDetailsService.loadUserByUsername(jwtProvider.getUserName(token));
+                }
 
                 UsernamePasswordAuthenticationToken authenticationToken =
                         new UsernamePasswordAuthenticationToken(
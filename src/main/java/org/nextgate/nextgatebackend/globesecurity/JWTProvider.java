@@ -5,14 +5,24 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JWTProvider {
@@ -27,6 +37,24 @@ public class JWTProvider {
     @Value("${jwt.temp.token.expiration:600000}")
     private int tempTokenExpirationMs;
 
+    @Value("${app.jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
+    // Built once: the key and parser are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser parser;
+
+    // SHA-256 of the token -> claims already verified, kept until the token's exp
+    private final ConcurrentHashMap<String, VerifiedClaims> verifiedClaims = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret_key));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     public String generateRefreshToken(Authentication authentication) {
         String userName = authentication.getName();
 
@@ -39,47 +67,69 @@ public class JWTProvider {
                 .setIssuedAt(new Date())
                 .setExpiration(expirationDate)
                 .claim("tokenType", "REFRESH")
-                .signWith(the_key())
+                .signWith(signingKey)
                 .compact();
     }
 
 
 
     public String getUserName(String token) {
-
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(the_key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = verifiedClaims(token);
 
         return claims.getSubject();
     }
 
-    public String generateAccessToken(Authentication authentication) {
+    /**
+     * Access token carrying the account id and roles as signed claims,
+     * so authenticated requests need no account lookup to build the principal.
+     * Role changes take effect when the token is refreshed.
+     */
+    public String generateAccessToken(Authentication authentication, UUID accountId) {
         String userName = authentication.getName();
 
         Date currentDate = new Date();
         Date expirationDate = new Date(currentDate.getTime() + accessTokenExpirationMillis);
 
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
         return Jwts.builder()
                 .setSubject(userName)
                 .setIssuedAt(currentDate)
                 .setExpiration(expirationDate)
-                .signWith(the_key())
+                .signWith(signingKey)
                 .claim("tokenType", "ACCESS")
+                .claim("accountId", accountId.toString())
+                .claim("roles", roles)
                 .compact();
     }
 
+    /**
+     * Principal from a validated access token's claims.
+     * Returns null for tokens issued before the claims existed - callers fall back to loading the account.
+     */
+    public AccountPrincipal getAccessPrincipal(String token) {
+        Claims claims = verifiedClaims(token);
+
+        String accountId = claims.get("accountId", String.class);
+        List<?> roles = claims.get("roles", List.class);
+        if (accountId == null || roles == null) {
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+
+        return new AccountPrincipal(UUID.fromString(accountId), claims.getSubject(), authorities);
+    }
+
 
     public boolean validToken(String token, String expectedTokenType) throws Exception {
 
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(the_key())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = verifiedClaims(token);
 
             String tokenType = claims.get("tokenType", String.class);
             if (!expectedTokenType.equals(tokenType)) {
@@ -110,17 +160,13 @@ public class JWTProvider {
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .claim("tokenType", "TEMP")
-                .signWith(the_key())
+                .signWith(signingKey)
                 .compact();
     }
 
     public boolean validateTempToken(String token, String expectedPurpose) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(the_key())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parser.parseClaimsJws(token).getBody();
 
             // Check if this is a temp token
             String tokenType = claims.get("tokenType", String.class);
@@ -145,11 +191,7 @@ public class JWTProvider {
     }
 
     public Claims getTempTokenClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(the_key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String getUserIdentifierFromTempToken(String token) {
@@ -157,14 +199,60 @@ public class JWTProvider {
         return claims.get("userIdentifier", String.class);
     }
 
-    private Key the_key() {
-        return Keys.hmacShaKeyFor(
-                Decoders.BASE64.decode(secret_key)
-        );
-    }
-
     public String getPurposeFromTempToken(String token) {
         Claims claims = getTempTokenClaims(token);
         return claims.get("purpose", String.class);
     }
+
+    // ========================================
+    // VERIFIED CLAIMS CACHE
+    // ========================================
+
+    /**
+     * Claims of a signed token, verified once per token lifetime instead of on every call.
+     * Parsing failures (bad signature, expired, malformed) are thrown as before and never cached.
+     */
+    private Claims verifiedClaims(String token) {
+        if (token == null || token.isBlank()) {
+            // Let the parser reject it as an empty token
+            return parser.parseClaimsJws(token).getBody();
+        }
+
+        String key = tokenHash(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedClaims cached = verifiedClaims.get(key);
+        if (cached != null) {
+            if (now < cached.expiresAtMillis()) {
+                return cached.claims();
+            }
+            verifiedClaims.remove(key);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+
+        // Only tokens that expire are cached, and only until they do
+        if (claims.getExpiration() != null) {
+            if (verifiedClaims.size() >= claimsCacheMaxSize) {
+                verifiedClaims.values().removeIf(entry -> now >= entry.expiresAtMillis());
+                if (verifiedClaims.size() >= claimsCacheMaxSize) {
+                    verifiedClaims.clear();
+                }
+            }
+            verifiedClaims.put(key, new VerifiedClaims(claims, claims.getExpiration().getTime()));
+        }
+        return claims;
+    }
+
+    private static String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedClaims(Claims claims, long expiresAtMillis) {
+    }
 }
@@ -0,0 +1,231 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limit state in this node's memory. No I/O: a check is one map update.
+ *
+ * Limits apply per node, so behind N nodes a key can get up to N times its limit.
+ * Use app.rate-limit.store=jdbc when that matters.
+ *
+ * Keys idle for longer than their window are dropped once app.rate-limit.memory.max-keys
+ * is reached; by then a bucket is full again and a window count has run out, so nothing is lost.
+ * If that is not enough (a flood of distinct keys), the least recently used keys are evicted
+ * down to 90% of max-keys. New keys are never refused: a full store must not turn into an
+ * outage for everyone without a key yet. Eviction runs at most once per second, so the maps
+ * can overshoot max-keys by the keys of that second.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final long PURGE_INTERVAL_MS = 1000;
+    private static final double EVICT_TO_FRACTION = 0.9;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private volatile long nextPurgeAt = Long.MIN_VALUE;
+
+    @Autowired
+    public InMemoryRateLimitStore(@Value("${app.rate-limit.memory.max-keys:100000}") int maxKeys) {
+        this(maxKeys, System::currentTimeMillis);
+    }
+
+    InMemoryRateLimitStore(int maxKeys, LongSupplier clock) {
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimitPolicy policy) {
+        long now = clock.getAsLong();
+        boolean[] allowed = new boolean[1];
+
+        if (policy.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET) {
+            String bucketKey = bucketKey(key, policy);
+            makeRoomFor(buckets, bucketKey, now);
+            buckets.compute(bucketKey, (k, bucket) -> {
+                if (bucket == null) {
+                    bucket = new Bucket(policy.limit(), now, policy.windowMillis());
+                }
+                bucket.refill(policy, now);
+                if (bucket.tokens >= 1) {
+                    bucket.tokens -= 1;
+                    allowed[0] = true;
+                }
+                return bucket;
+            });
+        } else {
+            String windowKey = windowKey(key, policy);
+            makeRoomFor(windows, windowKey, now);
+            windows.compute(windowKey, (k, window) -> {
+                if (window == null) {
+                    window = new Window(policy.windowMillis());
+                }
+                window.roll(now);
+                if (window.estimate(now) + 1 <= policy.limit()) {
+                    window.current++;
+                    allowed[0] = true;
+                }
+                return window;
+            });
+        }
+
+        return allowed[0];
+    }
+
+    @Override
+    public int available(String key, RateLimitPolicy policy) {
+        long now = clock.getAsLong();
+        int[] left = {policy.limit()};
+
+        if (policy.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET) {
+            buckets.computeIfPresent(bucketKey(key, policy), (k, bucket) -> {
+                bucket.refill(policy, now);
+                left[0] = (int) Math.floor(bucket.tokens);
+                return bucket;
+            });
+            return left[0];
+        }
+
+        windows.computeIfPresent(windowKey(key, policy), (k, window) -> {
+            window.roll(now);
+            left[0] = (int) Math.max(0, Math.floor(policy.limit() - window.estimate(now)));
+            return window;
+        });
+        return left[0];
+    }
+
+    private static String bucketKey(String key, RateLimitPolicy policy) {
+        return policy.name() + ":" + key;
+    }
+
+    private static String windowKey(String key, RateLimitPolicy policy) {
+        return key + "|" + policy.windowMillis();
+    }
+
+    /**
+     * Drop idle keys, then the least recently used ones, when a new key arrives at a full store.
+     * Both maps are trimmed together so neither waits on the other's purge interval.
+     */
+    private void makeRoomFor(ConcurrentHashMap<String, ? extends Entry> entries, String key, long now) {
+        if (entries.size() < maxKeys || entries.containsKey(key) || now < nextPurgeAt) {
+            return;
+        }
+        nextPurgeAt = now + PURGE_INTERVAL_MS;
+        trim(buckets, now);
+        trim(windows, now);
+    }
+
+    private void trim(ConcurrentHashMap<String, ? extends Entry> entries, long now) {
+        entries.values().removeIf(entry -> entry.idleSince(now));
+
+        int excess = entries.size() - (int) (maxKeys * EVICT_TO_FRACTION);
+        if (excess > 0) {
+            evictLeastRecentlyUsed(entries, excess);
+            log.warn("Rate limit store full ({} keys) - evicted the {} least recently used", maxKeys, excess);
+        }
+    }
+
+    private static void evictLeastRecentlyUsed(ConcurrentHashMap<String, ? extends Entry> entries, int count) {
+        // Snapshot the times first: entries keep changing while the snapshot is sorted
+        List<Map.Entry<String, Long>> usedAt = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> usedAt.add(Map.entry(key, entry.usedAt())));
+
+        usedAt.sort(Map.Entry.comparingByValue());
+        usedAt.subList(0, Math.min(count, usedAt.size())).forEach(entry -> entries.remove(entry.getKey()));
+    }
+
+    // ========================================
+    // STATE
+    // ========================================
+
+    private interface Entry {
+        boolean idleSince(long now);
+
+        long usedAt();
+    }
+
+    private static final class Bucket implements Entry {
+        private final long windowMillis;
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long now, long windowMillis) {
+            this.tokens = tokens;
+            this.updatedAt = now;
+            this.windowMillis = windowMillis;
+        }
+
+        private void refill(RateLimitPolicy policy, long now) {
+            long elapsed = Math.max(0, now - updatedAt);
+            tokens = Math.min(policy.limit(), tokens + elapsed * policy.refillPerMilli());
+            updatedAt = now;
+        }
+
+        @Override
+        public boolean idleSince(long now) {
+            return now - updatedAt >= windowMillis;
+        }
+
+        @Override
+        public long usedAt() {
+            return updatedAt;
+        }
+    }
+
+    private static final class Window implements Entry {
+        private final long windowMillis;
+        private long start;
+        private int current;
+        private int previous;
+        private long usedAt;
+
+        private Window(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        private void roll(long now) {
+            usedAt = now;
+            long nowStart = now - now % windowMillis;
+            if (nowStart == start) {
+                return;
+            }
+            previous = nowStart - start == windowMillis ? current : 0;
+            current = 0;
+            start = nowStart;
+        }
+
+        /**
+         * Hits in the last window length, counting the previous window by how much of it still overlaps
+         */
+        private double estimate(long now) {
+            double previousWeight = 1.0 - (double) (now - start) / windowMillis;
+            return previous * previousWeight + current;
+        }
+
+        @Override
+        public boolean idleSince(long now) {
+            return now - start >= 2 * windowMillis;
+        }
+
+        @Override
+        public long usedAt() {
+            return usedAt;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Rate limit state shared by every node, in rate_limit_buckets and rate_limit_windows.
+ *
+ * Each hit is one conditional upsert that only goes through while the limit allows it,
+ * in its own short transaction, so the caller's transaction never holds the row.
+ * Token buckets refill on the database clock; window starts come from the node clock.
+ * Stale rows are removed by RateLimitStoreCleanupJob.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    private static final String DB_NOW_MILLIS = "(EXTRACT(EPOCH FROM clock_timestamp()) * 1000)::bigint";
+
+    private static final String TAKE_TOKEN =
+            "INSERT INTO rate_limit_buckets AS b (limit_key, tokens, updated_at) " +
+            "VALUES (?, ? - 1, " + DB_NOW_MILLIS + ") " +
+            "ON CONFLICT (limit_key) DO UPDATE " +
+            "SET tokens = LEAST(?, b.tokens + GREATEST(EXCLUDED.updated_at - b.updated_at, 0) * ?) - 1, " +
+            "    updated_at = EXCLUDED.updated_at " +
+            "WHERE LEAST(?, b.tokens + GREATEST(EXCLUDED.updated_at - b.updated_at, 0) * ?) >= 1 " +
+            "RETURNING tokens";
+
+    private static final String PEEK_TOKENS =
+            "SELECT LEAST(?, tokens + GREATEST(" + DB_NOW_MILLIS + " - updated_at, 0) * ?) " +
+            "FROM rate_limit_buckets WHERE limit_key = ?";
+
+    private static final String TAKE_HIT =
+            "INSERT INTO rate_limit_windows AS w (limit_key, window_start, hits) " +
+            "SELECT ?, ?, 1 WHERE ? + 1 <= ? " +
+            "ON CONFLICT (limit_key, window_start) DO UPDATE " +
+            "SET hits = w.hits + 1 " +
+            "WHERE ? + w.hits + 1 <= ? " +
+            "RETURNING hits";
+
+    private static final String WINDOW_HITS =
+            "SELECT hits FROM rate_limit_windows WHERE limit_key = ? AND window_start = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+
+    public JdbcRateLimitStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void createTables() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS rate_limit_buckets (" +
+                "limit_key VARCHAR(512) PRIMARY KEY, " +
+                "tokens DOUBLE PRECISION NOT NULL, " +
+                "updated_at BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS rate_limit_windows (" +
+                "limit_key VARCHAR(512) NOT NULL, " +
+                "window_start BIGINT NOT NULL, " +
+                "hits INTEGER NOT NULL, " +
+                "PRIMARY KEY (limit_key, window_start))");
+        log.info("Rate limits are shared through the database");
+    }
+
+    @Override
+    public boolean tryAcquire(String key, RateLimitPolicy policy) {
+        if (policy.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET) {
+            String bucketKey = policy.name() + ":" + key;
+            double rate = policy.refillPerMilli();
+            List<Double> left = newTransaction.execute(status -> jdbcTemplate.queryForList(TAKE_TOKEN, Double.class,
+                    bucketKey, (double) policy.limit(), (double) policy.limit(), rate, (double) policy.limit(), rate));
+            return left != null && !left.isEmpty();
+        }
+
+        String windowKey = windowKey(key, policy);
+        long now = System.currentTimeMillis();
+        long start = now - now % policy.windowMillis();
+        double previous = previousHits(windowKey, policy, now, start);
+
+        List<Integer> hits = newTransaction.execute(status -> jdbcTemplate.queryForList(TAKE_HIT, Integer.class,
+                windowKey, start, previous, policy.limit(), previous, policy.limit()));
+        return hits != null && !hits.isEmpty();
+    }
+
+    @Override
+    public int available(String key, RateLimitPolicy policy) {
+        if (policy.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET) {
+            List<Double> tokens = jdbcTemplate.queryForList(PEEK_TOKENS, Double.class,
+                    (double) policy.limit(), policy.refillPerMilli(), policy.name() + ":" + key);
+            return tokens.isEmpty() ? policy.limit() : (int) Math.floor(tokens.getFirst());
+        }
+
+        String windowKey = windowKey(key, policy);
+        long now = System.currentTimeMillis();
+        long start = now - now % policy.windowMillis();
+        List<Integer> current = jdbcTemplate.queryForList(WINDOW_HITS, Integer.class, windowKey, start);
+        double used = previousHits(windowKey, policy, now, start) + (current.isEmpty() ? 0 : current.getFirst());
+        return (int) Math.max(0, Math.floor(policy.limit() - used));
+    }
+
+    /**
+     * Rows no longer needed: full buckets and windows that have run out
+     */
+    public int purgeIdle(long idleMillis) {
+        long before = System.currentTimeMillis() - idleMillis;
+        int removed = jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE updated_at < ?", before);
+        removed += jdbcTemplate.update("DELETE FROM rate_limit_windows WHERE window_start < ?", before);
+        return removed;
+    }
+
+    // Same keys as InMemoryRateLimitStore: windows are shared by policies with the same window
+    private static String windowKey(String key, RateLimitPolicy policy) {
+        return key + "|" + policy.windowMillis();
+    }
+
+    /**
+     * Previous window's hits, weighted by how much of it the sliding window still covers
+     */
+    private double previousHits(String windowKey, RateLimitPolicy policy, long now, long start) {
+        List<Integer> previous = jdbcTemplate.queryForList(WINDOW_HITS, Integer.class,
+                windowKey, start - policy.windowMillis());
+        if (previous.isEmpty()) {
+            return 0;
+        }
+        return previous.getFirst() * (1.0 - (double) (now - start) / policy.windowMillis());
+    }
+}
@@ -0,0 +1,14 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit;
+
+public enum RateLimitAlgorithm {
+
+    /**
+     * Allows bursts up to the limit, then refills evenly over the window
+     */
+    TOKEN_BUCKET,
+
+    /**
+     * At most limit hits in any window, estimated from the current and previous fixed windows
+     */
+    SLIDING_WINDOW
+}
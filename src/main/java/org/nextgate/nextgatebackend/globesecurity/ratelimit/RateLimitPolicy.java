@@ -0,0 +1,33 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * How many hits a key may make per window.
+ *
+ * Sliding-window policies with the same key and window share their counts, so one event
+ * can be checked against several limits (e.g. OTP requests and OTP resends).
+ * Token buckets are kept per policy name.
+ */
+public record RateLimitPolicy(String name, RateLimitAlgorithm algorithm, int limit, Duration window) {
+
+    public RateLimitPolicy {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Rate limit " + name + " must allow at least one hit");
+        }
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Rate limit " + name + " needs a positive window");
+        }
+    }
+
+    public long windowMillis() {
+        return window.toMillis();
+    }
+
+    /**
+     * Tokens a bucket gets back per millisecond
+     */
+    public double refillPerMilli() {
+        return (double) limit / windowMillis();
+    }
+}
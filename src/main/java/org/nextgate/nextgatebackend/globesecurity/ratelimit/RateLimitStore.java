@@ -0,0 +1,18 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit;
+
+/**
+ * Where rate limit state lives. Chosen with app.rate-limit.store:
+ * memory (default, per node) or jdbc (shared by every node through the database).
+ */
+public interface RateLimitStore {
+
+    /**
+     * Take one hit for the key if the policy allows it
+     */
+    boolean tryAcquire(String key, RateLimitPolicy policy);
+
+    /**
+     * Hits the key has left right now, without taking any
+     */
+    int available(String key, RateLimitPolicy policy);
+}
@@ -0,0 +1,107 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.authentication_service.enums.TempTokenPurpose;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Rate limits for authentication: OTP issuing and password login.
+ *
+ * OTP requests and resends count the same events (OTPs issued per identifier and purpose)
+ * against two limits over one sliding window. Every login attempt takes a token from a
+ * bucket per client IP, before the account is looked up or the password hashed, so bursts
+ * are turned away without database or BCrypt work. Only failed passwords count against the
+ * sliding window per identifier: a user who keeps logging in successfully is never locked out,
+ * and identifiers with no account are limited by IP only, so guessing names cannot fill the
+ * store or lock out the account someone may register under that name later.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private final RateLimitStore store;
+
+    private final RateLimitPolicy otpRequests;
+    private final RateLimitPolicy otpResends;
+    private final RateLimitPolicy loginPerIp;
+    private final RateLimitPolicy loginPerIdentifier;
+
+    public RateLimiter(RateLimitStore store,
+                       @Value("${temp.token.rate.limit.count:5}") int otpLimit,
+                       @Value("${temp.token.rate.limit.window.minutes:10}") long otpWindowMinutes,
+                       @Value("${temp.token.resend.limit.count:5}") int resendLimit,
+                       @Value("${app.rate-limit.login.per-ip.limit:20}") int loginPerIpLimit,
+                       @Value("${app.rate-limit.login.per-ip.window-seconds:60}") long loginPerIpWindowSeconds,
+                       @Value("${app.rate-limit.login.per-identifier.limit:10}") int loginPerIdentifierLimit,
+                       @Value("${app.rate-limit.login.per-identifier.window-seconds:900}") long loginPerIdentifierWindowSeconds) {
+        this.store = store;
+        Duration otpWindow = Duration.ofMinutes(otpWindowMinutes);
+        this.otpRequests = new RateLimitPolicy("otp-requests", RateLimitAlgorithm.SLIDING_WINDOW, otpLimit, otpWindow);
+        this.otpResends = new RateLimitPolicy("otp-resends", RateLimitAlgorithm.SLIDING_WINDOW, resendLimit, otpWindow);
+        this.loginPerIp = new RateLimitPolicy("login-ip", RateLimitAlgorithm.TOKEN_BUCKET,
+                loginPerIpLimit, Duration.ofSeconds(loginPerIpWindowSeconds));
+        this.loginPerIdentifier = new RateLimitPolicy("login-identifier", RateLimitAlgorithm.SLIDING_WINDOW,
+                loginPerIdentifierLimit, Duration.ofSeconds(loginPerIdentifierWindowSeconds));
+    }
+
+    // ========================================
+    // OTP
+    // ========================================
+
+    /**
+     * Count one OTP issued for the identifier, if it is still within the limit
+     */
+    public boolean tryIssueOtp(String userIdentifier, TempTokenPurpose purpose) {
+        return store.tryAcquire(otpKey(userIdentifier, purpose), otpRequests);
+    }
+
+    public int otpRequestsLeft(String userIdentifier, TempTokenPurpose purpose) {
+        return store.available(otpKey(userIdentifier, purpose), otpRequests);
+    }
+
+    public int otpResendsLeft(String userIdentifier, TempTokenPurpose purpose) {
+        return store.available(otpKey(userIdentifier, purpose), otpResends);
+    }
+
+    // ========================================
+    // LOGIN
+    // ========================================
+
+    /**
+     * Take one login attempt for the client IP, and refuse identifiers that ran out of failed attempts
+     */
+    public void checkLoginAttempt(String identifier, String clientIp) {
+        if (clientIp != null && !store.tryAcquire("login:ip:" + clientIp, loginPerIp)) {
+            log.warn("Login attempts from {} are being rate limited", clientIp);
+            throw new TooManyRequestsException("Too many login attempts. Please wait before trying again.");
+        }
+        if (store.available(loginKey(identifier), loginPerIdentifier) <= 0) {
+            log.warn("Login attempts for one identifier are being rate limited");
+            throw new TooManyRequestsException("Too many login attempts. Please wait before trying again.");
+        }
+    }
+
+    /**
+     * Count a wrong password for an existing account's identifier
+     */
+    public void recordFailedLogin(String identifier) {
+        store.tryAcquire(loginKey(identifier), loginPerIdentifier);
+    }
+
+    private static String loginKey(String identifier) {
+        return "login:id:" + normalize(identifier);
+    }
+
+    private static String otpKey(String userIdentifier, TempTokenPurpose purpose) {
+        return "otp:" + purpose.name() + ":" + normalize(userIdentifier);
+    }
+
+    private static String normalize(String identifier) {
+        return identifier == null ? "" : identifier.trim().toLowerCase(Locale.ROOT);
+    }
+}
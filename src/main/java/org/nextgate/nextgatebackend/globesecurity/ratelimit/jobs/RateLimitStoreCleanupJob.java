@@ -0,0 +1,41 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.globesecurity.ratelimit.JdbcRateLimitStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Removes rate limit rows that no longer limit anything, when limits are kept in the database.
+ * Rows are kept for app.rate-limit.jdbc.retention-hours, which must be at least twice the longest window.
+ * Runs every hour.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitStoreCleanupJob {
+
+    private final JdbcRateLimitStore jdbcRateLimitStore;
+
+    @Value("${app.rate-limit.jdbc.retention-hours:24}")
+    private long retentionHours;
+
+    /**
+     * Cron: "0 45 * * * *" = Every hour at minute 45
+     */
+    @Recurring(id = "purge-idle-rate-limits", cron = "0 45 * * * *")
+    @Job(name = "Purge Idle Rate Limits", retries = 2)
+    public void purgeIdleRateLimits() {
+        int removed = jdbcRateLimitStore.purgeIdle(Duration.ofHours(retentionHours).toMillis());
+        if (removed > 0) {
+            log.info("Removed {} idle rate limit row(s)", removed);
+        }
+    }
+}
@@ -5,7 +5,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
 import org.nextgate.nextgatebackend.globeresponsebody.GlobeSuccessResponseBuilder;
@@ -13,13 +12,11 @@ import org.nextgate.nextgatebackend.notification_system.incoming.entity.InAppNot
 import org.nextgate.nextgatebackend.notification_system.incoming.payloads.MarkAsReadRequest;
 import org.nextgate.nextgatebackend.notification_system.incoming.service.InAppNotificationService;
 import org.nextgate.nextgatebackend.notification_system.incoming.utils.NotificationMapper;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
@@ -32,14 +29,14 @@ public class NotificationController {
 
     private final InAppNotificationService notificationService;
     private final NotificationMapper notificationMapper;
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @GetMapping("/me")
     public ResponseEntity<GlobeSuccessResponseBuilder> getMyNotifications(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         Pageable pageable = PageRequest.of(page - 1, size);
 
         Page<InAppNotificationEntity> notifications = notificationService.getMyNotifications(userId, pageable);
@@ -51,7 +48,7 @@ public class NotificationController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         Pageable pageable = PageRequest.of(page - 1, size);
 
         Page<InAppNotificationEntity> notifications = notificationService.getUnreadNotifications(userId, pageable);
@@ -61,7 +58,7 @@ public class NotificationController {
     @GetMapping("/unread-count")
     public ResponseEntity<GlobeSuccessResponseBuilder> getUnreadCount() throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         Long count = notificationService.getUnreadCount(userId);
 
         return ResponseEntity.ok(notificationMapper.toUnreadCountResponse(count));
@@ -70,7 +67,7 @@ public class NotificationController {
     @GetMapping("/summary")
     public ResponseEntity<GlobeSuccessResponseBuilder> getNotificationSummary() throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         var summary = notificationService.getNotificationSummary(userId);
 
         return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
@@ -83,7 +80,7 @@ public class NotificationController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         Pageable pageable = PageRequest.of(page - 1, size);
 
         Page<InAppNotificationEntity> notifications = notificationService.getNotificationsByShop(shopId, userId, pageable);
@@ -96,7 +93,7 @@ public class NotificationController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "20") int size) throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         Pageable pageable = PageRequest.of(page - 1, size);
 
         Page<InAppNotificationEntity> notifications = notificationService.getNotificationsByServiceType(userId, serviceType, pageable);
@@ -107,7 +104,7 @@ public class NotificationController {
     public ResponseEntity<GlobeSuccessResponseBuilder> getNotificationById(
             @PathVariable UUID notificationId) throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         InAppNotificationEntity notification = notificationService.getNotificationById(notificationId, userId);
 
         return ResponseEntity.ok(notificationMapper.toNotificationResponse(notification));
@@ -117,7 +114,7 @@ public class NotificationController {
     public ResponseEntity<GlobeSuccessResponseBuilder> markAsRead(
             @PathVariable UUID notificationId) throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         notificationService.markAsRead(notificationId, userId);
 
         return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
@@ -128,7 +125,7 @@ public class NotificationController {
     public ResponseEntity<GlobeSuccessResponseBuilder> markMultipleAsRead(
             @Valid @RequestBody MarkAsReadRequest request) throws ItemNotFoundException, BadRequestException, RandomExceptions {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         notificationService.markMultipleAsRead(request, userId);
 
         return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
@@ -138,7 +135,7 @@ public class NotificationController {
     @PutMapping("/read-all")
     public ResponseEntity<GlobeSuccessResponseBuilder> markAllAsRead() throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         notificationService.markAllAsRead(userId);
 
         return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
@@ -149,7 +146,7 @@ public class NotificationController {
     public ResponseEntity<GlobeSuccessResponseBuilder> deleteNotification(
             @PathVariable UUID notificationId) throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         notificationService.deleteNotification(notificationId, userId);
 
         return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
@@ -160,7 +157,7 @@ public class NotificationController {
     public ResponseEntity<GlobeSuccessResponseBuilder> batchDeleteNotifications(
             @Valid @RequestBody MarkAsReadRequest request) throws ItemNotFoundException, BadRequestException, RandomExceptions {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         notificationService.batchDeleteNotifications(request.getNotificationIds(), userId);
 
         return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
@@ -170,21 +167,10 @@ public class NotificationController {
     @DeleteMapping("/read")
     public ResponseEntity<GlobeSuccessResponseBuilder> deleteAllReadNotifications() throws ItemNotFoundException, BadRequestException {
 
-        UUID userId = getAuthenticatedAccount().getAccountId();
+        UUID userId = currentAccountProvider.getCurrentAccount().getAccountId();
         int deletedCount = notificationService.deleteAllReadNotifications(userId);
 
         return ResponseEntity.ok(GlobeSuccessResponseBuilder.success(
                 String.format("%d read notification(s) deleted successfully", deletedCount), deletedCount));
     }
-
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
 }
\ No newline at end of file
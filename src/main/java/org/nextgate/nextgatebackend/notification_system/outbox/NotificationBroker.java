@@ -0,0 +1,20 @@
+package org.nextgate.nextgatebackend.notification_system.outbox;
+
+import org.nextgate.nextgatebackend.notification_system.outbox.entity.NotificationOutboxEntity;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Where NotificationOutboxRelay sends notifications: RabbitNotificationBroker in production,
+ * a stand-in when the outbox is exercised without a broker.
+ */
+public interface NotificationBroker {
+
+    /**
+     * Send a batch and wait until the broker has taken it.
+     * Returns the ids of the rows the broker confirmed; the rest are retried later.
+     */
+    Set<UUID> publishConfirmed(List<NotificationOutboxEntity> batch);
+}
@@ -0,0 +1,110 @@
+package org.nextgate.nextgatebackend.notification_system.outbox;
+
+import org.nextgate.nextgatebackend.globe_outbox.OutboxWorker;
+import org.nextgate.nextgatebackend.notification_system.outbox.entity.NotificationOutboxEntity;
+import org.nextgate.nextgatebackend.notification_system.outbox.repo.NotificationOutboxRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moves notification_outbox rows to the broker.
+ *
+ * The claim and retry loop is OutboxWorker's: by default one thread claims a batch of due
+ * rows, hands it to the NotificationBroker, and marks the confirmed rows PUBLISHED.
+ * Unconfirmed rows are retried with exponential backoff and marked DEAD after
+ * app.notifications.outbox.max-attempts.
+ *
+ * Back-pressure: each worker has at most one batch unconfirmed at a time, and after a batch
+ * with failures it pauses (doubling up to a minute) instead of pushing more at a struggling
+ * broker. Notifications keep queueing in the table meanwhile; nothing is dropped.
+ */
+@Component
+public class NotificationOutboxRelay extends OutboxWorker<NotificationOutboxEntity, OutboxWorker.Session> {
+
+    private static final long MAX_PAUSE_MS = 60_000;
+    private static final long MAX_BACKOFF_MS = 300_000;
+
+    private final NotificationOutboxRepo notificationOutboxRepo;
+    private final NotificationBroker notificationBroker;
+
+    @Autowired
+    public NotificationOutboxRelay(NotificationOutboxRepo notificationOutboxRepo,
+                                   NotificationBroker notificationBroker,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.notifications.outbox.workers:1}") int workers,
+                                   @Value("${app.notifications.outbox.batch-size:100}") int batchSize,
+                                   @Value("${app.notifications.outbox.poll-interval-ms:1000}") long pollIntervalMs,
+                                   @Value("${app.notifications.outbox.lease-seconds:60}") long leaseSeconds,
+                                   @Value("${app.notifications.outbox.max-attempts:10}") int maxAttempts,
+                                   @Value("${app.notifications.outbox.base-backoff-ms:1000}") long baseBackoffMs) {
+        this(notificationOutboxRepo, notificationBroker, transactionManager,
+                new Settings("notification-outbox", workers, batchSize, pollIntervalMs, leaseSeconds,
+                        maxAttempts, baseBackoffMs, MAX_BACKOFF_MS, MAX_PAUSE_MS));
+    }
+
+    protected NotificationOutboxRelay(NotificationOutboxRepo notificationOutboxRepo,
+                                      NotificationBroker notificationBroker,
+                                      PlatformTransactionManager transactionManager,
+                                      Settings settings) {
+        super(settings, transactionManager);
+        this.notificationOutboxRepo = notificationOutboxRepo;
+        this.notificationBroker = notificationBroker;
+    }
+
+    @Override
+    protected int claimDue(UUID claimId, LocalDateTime now, LocalDateTime lockedUntil, int limit) {
+        return notificationOutboxRepo.claimDue(claimId, now, lockedUntil, limit);
+    }
+
+    @Override
+    protected List<NotificationOutboxEntity> findClaimed(UUID claimId) {
+        return notificationOutboxRepo.findClaimed(claimId);
+    }
+
+    @Override
+    protected void markDone(List<UUID> ids, LocalDateTime now) {
+        notificationOutboxRepo.markPublished(ids, now);
+    }
+
+    @Override
+    protected void reschedule(UUID id, LocalDateTime nextAttemptAt, String error) {
+        notificationOutboxRepo.reschedule(id, nextAttemptAt, error);
+    }
+
+    @Override
+    protected void markDead(UUID id, String error) {
+        notificationOutboxRepo.markDead(id, error);
+    }
+
+    @Override
+    protected Session openSession() {
+        return Session.NONE;
+    }
+
+    @Override
+    protected Map<NotificationOutboxEntity, String> deliver(Session session, List<NotificationOutboxEntity> batch) {
+        Set<UUID> confirmed = notificationBroker.publishConfirmed(batch);
+
+        Map<NotificationOutboxEntity, String> failed = new LinkedHashMap<>();
+        for (NotificationOutboxEntity notification : batch) {
+            if (!confirmed.contains(notification.getId())) {
+                failed.put(notification, "Not confirmed by the broker (attempt " + notification.getAttempts() + ")");
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    protected String describe(NotificationOutboxEntity notification) {
+        return "Notification " + notification.getId() + " (" + notification.getNotificationType() + ")";
+    }
+}
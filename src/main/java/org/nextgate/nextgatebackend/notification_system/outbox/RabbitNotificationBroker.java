@@ -0,0 +1,105 @@
+package org.nextgate.nextgatebackend.notification_system.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.notification_system.outbox.entity.NotificationOutboxEntity;
+import org.nextgate.nextgatebackend.notification_system.publisher.dto.NotificationEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes outbox batches to RabbitMQ with publisher confirms.
+ *
+ * The whole batch is sent first and the confirms are awaited afterwards, so a batch costs
+ * about one broker round trip instead of one per message. Messages carry the idempotency
+ * key as their message id, for consumers that de-duplicate redeliveries.
+ *
+ * Needs spring.rabbitmq.publisher-confirm-type=correlated. Without it a message counts as
+ * confirmed once it is written to the channel.
+ */
+@Component
+@Slf4j
+public class RabbitNotificationBroker implements NotificationBroker {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMs;
+    private final boolean confirmsEnabled;
+
+    public RabbitNotificationBroker(RabbitTemplate rabbitTemplate,
+                                    @Value("${app.notifications.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.confirmsEnabled = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        if (!confirmsEnabled) {
+            log.warn("Publisher confirms are off; notifications are marked published once sent");
+        }
+    }
+
+    @Override
+    public Set<UUID> publishConfirmed(List<NotificationOutboxEntity> batch) {
+        Set<UUID> confirmed = new HashSet<>();
+        Map<UUID, CorrelationData> awaiting = new LinkedHashMap<>();
+
+        for (NotificationOutboxEntity notification : batch) {
+            CorrelationData correlation = new CorrelationData(notification.getId().toString());
+            try {
+                rabbitTemplate.send(notification.getExchange(), notification.getRoutingKey(),
+                        toMessage(notification), correlation);
+            } catch (Exception e) {
+                log.warn("Sending notification {} failed: {}", notification.getId(), e.getMessage());
+                continue;
+            }
+
+            if (confirmsEnabled) {
+                awaiting.put(notification.getId(), correlation);
+            } else {
+                confirmed.add(notification.getId());
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+        for (Map.Entry<UUID, CorrelationData> entry : awaiting.entrySet()) {
+            try {
+                long waitNanos = Math.max(0, deadline - System.nanoTime());
+                CorrelationData.Confirm confirm = entry.getValue().getFuture().get(waitNanos, TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    confirmed.add(entry.getKey());
+                } else {
+                    log.warn("Broker refused notification {}: {}", entry.getKey(), confirm.getReason());
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                log.warn("No confirm for notification {} within {} ms", entry.getKey(), confirmTimeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return confirmed;
+    }
+
+    /**
+     * Same message the JSON converter builds for a NotificationEvent, from the stored body
+     */
+    private Message toMessage(NotificationOutboxEntity notification) {
+        return MessageBuilder.withBody(notification.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, NotificationEvent.class.getName())
+                .setMessageId(notification.getIdempotencyKey())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
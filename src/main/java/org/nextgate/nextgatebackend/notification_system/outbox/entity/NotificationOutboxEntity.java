@@ -0,0 +1,82 @@
+package org.nextgate.nextgatebackend.notification_system.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.nextgate.nextgatebackend.globe_outbox.OutboxRow;
+import org.nextgate.nextgatebackend.notification_system.outbox.enums.NotificationOutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One notification waiting to reach RabbitMQ, already serialized.
+ *
+ * Written by NotificationPublisher in the caller's transaction, so a notification exists
+ * exactly when the business change that caused it was committed. NotificationOutboxRelay
+ * publishes it and marks it PUBLISHED once the broker confirms.
+ * The idempotency key is unique: publishing the same key twice keeps the first row.
+ */
+@Entity
+@Table(name = "notification_outbox",
+        indexes = {
+                @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_notification_outbox_idempotency_key", columnNames = {"idempotency_key"})
+        }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutboxEntity implements OutboxRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 200)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 100)
+    private String exchange;
+
+    @Column(nullable = false, length = 100)
+    private String routingKey;
+
+    @Column(nullable = false, length = 100)
+    private String notificationType;
+
+    // JSON body exactly as the consumers receive it
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime lockedUntil;
+
+    // Which relay claim the row belongs to while PUBLISHING
+    private UUID claimId;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,8 @@
+package org.nextgate.nextgatebackend.notification_system.outbox.enums;
+
+public enum NotificationOutboxStatus {
+    PENDING,    // Waiting for the relay (first attempt or a retry after backoff)
+    PUBLISHING, // Claimed by the relay until lockedUntil
+    PUBLISHED,  // Confirmed by the broker
+    DEAD        // Out of attempts - kept for inspection and manual requeue
+}
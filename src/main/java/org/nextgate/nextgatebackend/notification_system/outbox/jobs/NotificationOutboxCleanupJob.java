@@ -0,0 +1,41 @@
+package org.nextgate.nextgatebackend.notification_system.outbox.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.annotations.Recurring;
+import org.nextgate.nextgatebackend.notification_system.outbox.repo.NotificationOutboxRepo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes published notifications from the outbox after app.notifications.outbox.retention-days.
+ * Keys stay de-duplicated for that long. DEAD rows are kept until someone looks at them.
+ * Runs daily.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxCleanupJob {
+
+    private final NotificationOutboxRepo notificationOutboxRepo;
+
+    @Value("${app.notifications.outbox.retention-days:7}")
+    private long retentionDays;
+
+    /**
+     * Cron: "0 0 4 * * *" = Every day at 04:00
+     */
+    @Recurring(id = "purge-published-notification-outbox", cron = "0 0 4 * * *")
+    @Job(name = "Purge Published Notification Outbox", retries = 2)
+    @Transactional
+    public void purgePublishedNotifications() {
+        int removed = notificationOutboxRepo.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (removed > 0) {
+            log.info("Removed {} published notification(s) from the outbox", removed);
+        }
+    }
+}
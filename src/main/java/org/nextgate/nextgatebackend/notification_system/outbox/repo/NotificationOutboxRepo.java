@@ -0,0 +1,90 @@
+package org.nextgate.nextgatebackend.notification_system.outbox.repo;
+
+import org.nextgate.nextgatebackend.notification_system.outbox.entity.NotificationOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationOutboxRepo extends JpaRepository<NotificationOutboxEntity, UUID> {
+
+    /**
+     * Returns 0 when a notification with the same idempotency key was already queued
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO notification_outbox (id, idempotency_key, exchange, routing_key, notification_type,
+                                         payload, status, attempts, next_attempt_at, created_at)
+        VALUES (gen_random_uuid(), :idempotencyKey, :exchange, :routingKey, :notificationType,
+                :payload, 'PENDING', 0, :now, :now)
+        ON CONFLICT (idempotency_key) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("idempotencyKey") String idempotencyKey,
+                       @Param("exchange") String exchange,
+                       @Param("routingKey") String routingKey,
+                       @Param("notificationType") String notificationType,
+                       @Param("payload") String payload,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Claim due notifications for the relay: pending ones whose backoff has passed, and ones
+     * a crashed relay left in PUBLISHING past their lease.
+     * Rows claimed by a relay on another node are skipped instead of waited on.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE notification_outbox n
+        SET status = 'PUBLISHING', claim_id = :claimId, locked_until = :lockedUntil, attempts = n.attempts + 1
+        WHERE n.id IN (
+            SELECT id FROM notification_outbox
+            WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+               OR (status = 'PUBLISHING' AND locked_until < :now)
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """, nativeQuery = true)
+    int claimDue(@Param("claimId") UUID claimId,
+                 @Param("now") LocalDateTime now,
+                 @Param("lockedUntil") LocalDateTime lockedUntil,
+                 @Param("limit") int limit);
+
+    @Query("SELECT n FROM NotificationOutboxEntity n " +
+            "WHERE n.status = org.nextgate.nextgatebackend.notification_system.outbox.enums.NotificationOutboxStatus.PUBLISHING " +
+            "AND n.claimId = :claimId " +
+            "ORDER BY n.createdAt")
+    List<NotificationOutboxEntity> findClaimed(@Param("claimId") UUID claimId);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxEntity n " +
+            "SET n.status = org.nextgate.nextgatebackend.notification_system.outbox.enums.NotificationOutboxStatus.PUBLISHED, " +
+            "n.publishedAt = :now, n.lockedUntil = null, n.claimId = null, n.lastError = null " +
+            "WHERE n.id IN :ids")
+    int markPublished(@Param("ids") List<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxEntity n " +
+            "SET n.status = org.nextgate.nextgatebackend.notification_system.outbox.enums.NotificationOutboxStatus.PENDING, " +
+            "n.nextAttemptAt = :nextAttemptAt, n.lockedUntil = null, n.claimId = null, n.lastError = :error " +
+            "WHERE n.id = :id")
+    int reschedule(@Param("id") UUID id,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxEntity n " +
+            "SET n.status = org.nextgate.nextgatebackend.notification_system.outbox.enums.NotificationOutboxStatus.DEAD, " +
+            "n.lockedUntil = null, n.claimId = null, n.lastError = :error " +
+            "WHERE n.id = :id")
+    int markDead(@Param("id") UUID id, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEntity n " +
+            "WHERE n.status = org.nextgate.nextgatebackend.notification_system.outbox.enums.NotificationOutboxStatus.PUBLISHED " +
+            "AND n.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,16 +1,28 @@
 package org.nextgate.nextgatebackend.notification_system.publisher;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.nextgate.nextgatebackend.notification_system.outbox.NotificationOutboxRelay;
+import org.nextgate.nextgatebackend.notification_system.outbox.repo.NotificationOutboxRepo;
 import org.nextgate.nextgatebackend.notification_system.publisher.dto.NotificationEvent;
 import org.nextgate.nextgatebackend.notification_system.publisher.enums.NotificationDomain;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
- * Simple notification publisher - sends notification events to RabbitMQ
+ * Simple notification publisher - queues notification events for RabbitMQ
  * Uses NotificationDomain enum to automatically route to correct queue
  *
+ * Events are written to the notification outbox in the caller's transaction and
+ * NotificationOutboxRelay publishes them with publisher confirms after commit, so
+ * callers never wait on the broker and a rolled-back change sends nothing.
+ *
  * Usage Example:
  * <pre>
  * NotificationEvent event = NotificationEvent.builder()
@@ -21,21 +33,45 @@ import org.springframework.stereotype.Component;
  *     .build();
  *
  * notificationPublisher.publish(event);
+ *
+ * // Queued at most once per key, e.g. when a listener may run twice for the same payment
+ * notificationPublisher.publish(event, "PAYMENT_RECEIVED:" + sessionId);
  * </pre>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class NotificationPublisher {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final NotificationOutboxRepo notificationOutboxRepo;
+    private final NotificationOutboxRelay notificationOutboxRelay;
+    private final ObjectMapper notificationObjectMapper;
+    private final TransactionTemplate tx;
     private static final String EXCHANGE_NAME = "notification.exchange";
 
+    public NotificationPublisher(NotificationOutboxRepo notificationOutboxRepo,
+                                 NotificationOutboxRelay notificationOutboxRelay,
+                                 ObjectMapper notificationObjectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.notificationOutboxRepo = notificationOutboxRepo;
+        this.notificationOutboxRelay = notificationOutboxRelay;
+        this.notificationObjectMapper = notificationObjectMapper;
+        // Joins the caller's transaction when there is one
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
     /**
      * Publish a notification event to RabbitMQ
      * Routing key is automatically determined from notification type using NotificationDomain enum
      */
     public void publish(NotificationEvent event) {
+        publish(event, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Publish a notification event once per idempotency key
+     * A second event with the same key is ignored
+     */
+    public void publish(NotificationEvent event, String idempotencyKey) {
         try {
             validateEvent(event);
 
@@ -43,12 +79,31 @@ public class NotificationPublisher {
             String routingKey = NotificationDomain.fromNotificationType(event.getType())
                     .getRoutingKey();
 
-            log.info("📤 Publishing notification: type={}, domain={}, recipients={}",
+            String payload = notificationObjectMapper.writeValueAsString(event);
+
+            log.info("📤 Queueing notification: type={}, domain={}, recipients={}",
                     event.getType(), routingKey, event.getRecipients().size());
 
-            rabbitTemplate.convertAndSend(EXCHANGE_NAME, routingKey, event);
+            Boolean queued = tx.execute(status -> {
+                int inserted = notificationOutboxRepo.insertIfAbsent(
+                        idempotencyKey,
+                        EXCHANGE_NAME,
+                        routingKey,
+                        event.getType().name(),
+                        payload,
+                        LocalDateTime.now()
+                );
+                if (inserted > 0) {
+                    wakeRelayAfterCommit();
+                }
+                return inserted > 0;
+            });
 
-            log.info("✅ Published successfully: {}", routingKey);
+            if (Boolean.TRUE.equals(queued)) {
+                log.info("✅ Queued successfully: {}", routingKey);
+            } else {
+                log.info("Notification already queued for key {}", idempotencyKey);
+            }
 
         } catch (Exception e) {
             log.error("❌ Failed to publish notification: type={}, error={}",
@@ -57,6 +112,15 @@ public class NotificationPublisher {
         }
     }
 
+    private void wakeRelayAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationOutboxRelay.wakeUp();
+            }
+        });
+    }
+
     /**
      * Validate notification event before publishing
      */
@@ -4,7 +4,6 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.BadRequestException;
 import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
-import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.payment_methods.entity.PaymentMethodsEntity;
 import org.nextgate.nextgatebackend.payment_methods.payload.CreatePaymentMethodRequest;
@@ -16,9 +15,7 @@ import org.nextgate.nextgatebackend.payment_methods.service.PaymentMethodService
 import org.nextgate.nextgatebackend.payment_methods.utils.validators.PaymentMethodHelper;
 import org.nextgate.nextgatebackend.payment_methods.utils.validators.PaymentMethodMapper;
 import org.nextgate.nextgatebackend.payment_methods.utils.validators.PaymentMethodValidator;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,7 +26,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PaymentMethodServiceImpl implements PaymentMethodService {
 
-    private final AccountRepo accountRepo;
+    private final CurrentAccountProvider currentAccountProvider;
     private final PaymentMethodRepository paymentMethodRepository;
     private final PaymentMethodValidator paymentMethodValidator;
     private final PaymentMethodHelper paymentMethodHelper;
@@ -41,7 +38,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     public PaymentMethodDetailResponse createPaymentMethod(CreatePaymentMethodRequest request) throws ItemNotFoundException, BadRequestException {
 
         // Get authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         // Validate payment method details based on type
         paymentMethodValidator.validatePaymentMethodDetails(request);
@@ -65,7 +62,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     @Override
     public PaymentMethodDetailResponse getPaymentMethodById(UUID paymentMethodId) throws ItemNotFoundException {
         // Get authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         // Find payment method and verify ownership
         PaymentMethodsEntity paymentMethod = paymentMethodRepository
@@ -79,7 +76,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     @Override
     public PaymentMethodListResponse getMyPaymentMethods() throws ItemNotFoundException {
         // Get authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         // Get all payment methods for the user
         List<PaymentMethodsEntity> paymentMethods = paymentMethodRepository.findByOwner(authenticatedAccount);
@@ -111,7 +108,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     @Transactional
     public PaymentMethodDetailResponse updatePaymentMethod(UUID paymentMethodId, CreatePaymentMethodRequest request) throws ItemNotFoundException, BadRequestException {
         // Get authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         // Find payment method and verify ownership
         PaymentMethodsEntity existingPaymentMethod = paymentMethodRepository
@@ -143,7 +140,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     @Transactional
     public void deletePaymentMethod(UUID paymentMethodId) throws ItemNotFoundException {
         // Get authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         // Find payment method and verify ownership
         PaymentMethodsEntity paymentMethod = paymentMethodRepository
@@ -158,7 +155,7 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
     @Transactional
     public PaymentMethodDetailResponse setAsDefault(UUID paymentMethodId) throws ItemNotFoundException, BadRequestException {
         // Get authenticated user
-        AccountEntity authenticatedAccount = getAuthenticatedAccount();
+        AccountEntity authenticatedAccount = currentAccountProvider.getCurrentAccount();
 
         // Find payment method and verify ownership
         PaymentMethodsEntity paymentMethod = paymentMethodRepository
@@ -181,17 +178,6 @@ public class PaymentMethodServiceImpl implements PaymentMethodService {
         return paymentMethodMapper.toDetailResponse(savedEntity);
     }
 
-    private AccountEntity getAuthenticatedAccount() throws ItemNotFoundException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String userName = userDetails.getUsername();
-            return accountRepo.findByUserName(userName)
-                    .orElseThrow(() -> new ItemNotFoundException("User not found"));
-        }
-        throw new ItemNotFoundException("User not authenticated");
-    }
-
     private boolean validateSystemRolesOrOwner(List<String> customRoles, AccountEntity account, PaymentMethodsEntity paymentMethodsEntity) {
         // Check if the user has any of the custom roles
         boolean hasCustomRole = account.getRoles().stream()
@@ -12,6 +12,7 @@ import org.nextgate.nextgatebackend.emails_service.GlobeMailService;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.RandomExceptions;
 import org.nextgate.nextgatebackend.globeadvice.exceptions.VerificationException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
 import org.nextgate.nextgatebackend.user_profile_service.payload.*;
 import org.nextgate.nextgatebackend.user_profile_service.service.UserProfileService;
 import org.nextgate.nextgatebackend.user_profile_service.utils.ProfileValidationUtils;
@@ -38,6 +39,7 @@ public class UserProfileServiceImpl implements UserProfileService {
     private final GlobeMailService globeMailService;
     private final ProfileValidationUtils validationUtils;
     private final UsernameHelper usernameHelper;
+    private final CurrentAccountProvider currentAccountProvider;
 
     @Override
     public UserProfileResponse getCurrentUserProfile(AccountEntity account) throws ItemNotFoundException {
@@ -51,6 +53,9 @@ public class UserProfileServiceImpl implements UserProfileService {
 
         boolean hasChanges = false;
 
+        // Username changes re-key the account; drop the entry under the old name too
+        currentAccountProvider.evict(account.getUserName());
+
         // Update username if provided and different
         if (request.getUserName() != null && !request.getUserName().equals(account.getUserName())) {
             validateAndUpdateUsername(account, request.getUserName());
@@ -96,7 +101,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 
         if (hasChanges) {
             account.setEditedAt(LocalDateTime.now());
-            AccountEntity savedAccount = accountRepo.save(account);
+            AccountEntity savedAccount = saveAccount(account);
             return buildUserProfileResponse(savedAccount);
         }
 
@@ -130,7 +135,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         // Update password
         account.setPassword(passwordEncoder.encode(request.getNewPassword()));
         account.setEditedAt(LocalDateTime.now());
-        accountRepo.save(account);
+        saveAccount(account);
 
 
         // Send password change notification email
@@ -180,7 +185,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         // Update the phone number temporarily (will be confirmed after verification)
         account.setPhoneNumber(request.getPhoneNumber());
         account.setIsPhoneVerified(false);
-        accountRepo.save(account);
+        saveAccount(account);
 
         // Generate OTP and create temp token
         String otpCode = generateOtpCode();
@@ -219,7 +224,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 
         account.setIsPhoneVerified(true);
         account.setEditedAt(LocalDateTime.now());
-        AccountEntity savedAccount = accountRepo.save(account);
+        AccountEntity savedAccount = saveAccount(account);
 
 
         return buildUserProfileResponse(savedAccount);
@@ -283,7 +288,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 
         account.setIsEmailVerified(true);
         account.setEditedAt(LocalDateTime.now());
-        AccountEntity savedAccount = accountRepo.save(account);
+        AccountEntity savedAccount = saveAccount(account);
 
         log.info("Email {} verified successfully for user: {}",
                 validationUtils.maskEmail(account.getEmail()), accountId);
@@ -331,7 +336,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         // Simply enable 2FA flag
         account.setTwoFactorEnabled(true);
         account.setEditedAt(LocalDateTime.now());
-        accountRepo.save(account);
+        saveAccount(account);
 
         log.info("Two-factor authentication enabled for user: {}", accountId);
     }
@@ -356,7 +361,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         account.setTwoFactorEnabled(false);
         account.setTwoFactorSecret(null); // Clear any existing secret
         account.setEditedAt(LocalDateTime.now());
-        accountRepo.save(account);
+        saveAccount(account);
 
         log.info("Two-factor authentication disabled for user: {}", accountId);
     }
@@ -377,7 +382,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         account.setLocked(true);
         account.setLockedReason(request.getReason() != null ? request.getReason() : "Account deactivated by user");
         account.setEditedAt(LocalDateTime.now());
-        accountRepo.save(account);
+        saveAccount(account);
 
         log.info("Account deactivated for user: {}", accountId);
 
@@ -681,4 +686,10 @@ public class UserProfileServiceImpl implements UserProfileService {
             log.warn("Failed to send deactivation confirmation email to user: {}", account.getId(), e);
         }
     }
-}
\ No newline at end of file
+
+    private AccountEntity saveAccount(AccountEntity account) {
+        AccountEntity savedAccount = accountRepo.save(account);
+        currentAccountProvider.evict(savedAccount.getUserName());
+        return savedAccount;
+    }
+}
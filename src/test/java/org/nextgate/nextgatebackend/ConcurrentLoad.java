@@ -0,0 +1,60 @@
+package org.nextgate.nextgatebackend;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Runs many tasks on a fixed thread pool, all released at the same moment, for concurrency tests
+ */
+public final class ConcurrentLoad {
+
+    private static final long TIMEOUT_MINUTES = 2;
+
+    private ConcurrentLoad() {
+    }
+
+    @FunctionalInterface
+    public interface Task {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * Run task(0) .. task(tasks - 1) on the given number of threads and wait for all of them
+     *
+     * @return time from the release of the tasks until the last one finished
+     */
+    public static Duration run(int threads, int tasks, Task task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            }
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Tasks per second for a run
+     */
+    public static double perSecond(int tasks, Duration elapsed) {
+        return tasks / (elapsed.toNanos() / 1_000_000_000.0);
+    }
+}
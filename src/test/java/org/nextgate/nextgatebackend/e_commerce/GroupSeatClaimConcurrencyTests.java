@@ -0,0 +1,332 @@
+package org.nextgate.nextgatebackend.e_commerce;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.ConcurrentLoad;
+import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
+import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
+import org.nextgate.nextgatebackend.e_commerce.checkout_session.entity.ProductCheckoutSessionEntity;
+import org.nextgate.nextgatebackend.e_commerce.checkout_session.enums.CheckoutSessionStatus;
+import org.nextgate.nextgatebackend.e_commerce.checkout_session.enums.CheckoutSessionType;
+import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.entity.GroupPurchaseInstanceEntity;
+import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.enums.GroupStatus;
+import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.events.GroupCompletedEvent;
+import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.listeners.GroupCompletionHandler;
+import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.repo.GroupParticipantRepo;
+import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.repo.GroupPurchaseInstanceRepo;
+import org.nextgate.nextgatebackend.e_commerce.group_purchase_mng.service.GroupPurchaseService;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.entity.ProductCategoryEntity;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.repo.ProductCategoryRepo;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
+import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
+import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
+import org.nextgate.nextgatebackend.notification_system.publisher.NotificationPublisher;
+import org.nextgate.nextgatebackend.notification_system.publisher.dto.NotificationEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(properties = {
+        // Lets the test swap out GroupCompletionHandler, which would try to create orders
+        "spring.main.allow-bean-definition-overriding=true"
+})
+@Slf4j
+class GroupSeatClaimConcurrencyTests {
+
+    private static final int USERS = 500;
+    private static final int THREADS = 64;
+    private static final int TOTAL_SEATS = 50;
+    private static final int SEATS_LEFT = 10;
+    private static final BigDecimal GROUP_PRICE = new BigDecimal("8.00");
+
+    @Autowired
+    private GroupPurchaseService groupPurchaseService;
+
+    @Autowired
+    private GroupPurchaseInstanceRepo groupPurchaseInstanceRepo;
+
+    @Autowired
+    private GroupParticipantRepo groupParticipantRepo;
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @Autowired
+    private ShopRepo shopRepo;
+
+    @Autowired
+    private ProductCategoryRepo productCategoryRepo;
+
+    @Autowired
+    private AccountRepo accountRepo;
+
+    @Autowired
+    private CompletionCounter completionCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private UUID categoryId;
+    private UUID shopId;
+    private UUID productId;
+    private UUID groupId;
+    private final List<AccountEntity> users = new ArrayList<>();
+
+    @BeforeEach
+    void openAlmostFullGroup() {
+        tx = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        // A group of its own, so no real group is ever filled
+        ProductCategoryEntity category = new ProductCategoryEntity();
+        category.setCategoryName("Stress Test Category " + suffix);
+        category = productCategoryRepo.save(category);
+        categoryId = category.getCategoryId();
+
+        ShopEntity shop = new ShopEntity();
+        shop.setShopName("Stress Test Shop " + suffix);
+        shop.setShopSlug("stress-test-shop-" + suffix);
+        shop = shopRepo.save(shop);
+        shopId = shop.getShopId();
+
+        ProductEntity product = new ProductEntity();
+        product.setProductName("Stress Test Product " + suffix);
+        product.setProductSlug("stress-test-product-" + suffix);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStockQuantity(TOTAL_SEATS);
+        product.setShop(shop);
+        product.setCategory(category);
+        product.setGroupBuyingEnabled(true);
+        product.setGroupPrice(GROUP_PRICE);
+        product.setGroupMaxSize(TOTAL_SEATS);
+        product.setGroupTimeLimitHours(24);
+        product = productRepo.save(product);
+        productId = product.getProductId();
+
+        for (int i = 0; i <= USERS; i++) {
+            AccountEntity user = new AccountEntity();
+            user.setUserName("stress-test-buyer-" + suffix + "-" + i);
+            user.setEmail("stress-test-buyer-" + suffix + "-" + i + "@example.com");
+            users.add(user);
+        }
+        users.replaceAll(accountRepo::save);
+
+        // The first account started the group; the others race for the last seats
+        GroupPurchaseInstanceEntity group = GroupPurchaseInstanceEntity.builder()
+                .product(product)
+                .shop(shop)
+                .initiator(users.getFirst())
+                .productName(product.getProductName())
+                .regularPrice(product.getPrice())
+                .groupPrice(GROUP_PRICE)
+                .totalSeats(TOTAL_SEATS)
+                .durationHours(1)
+                .seatsOccupied(TOTAL_SEATS - SEATS_LEFT)
+                .totalParticipants(1)
+                .status(GroupStatus.OPEN)
+                .isDeleted(false)
+                .metadata(new HashMap<>())
+                .priority(0)
+                .build();
+        groupId = groupPurchaseInstanceRepo.save(group).getGroupInstanceId();
+
+        completionCounter.reset(groupId);
+    }
+
+    @AfterEach
+    void removeFixtures() {
+        tx.executeWithoutResult(status -> {
+            if (groupId != null) {
+                GroupPurchaseInstanceEntity group = groupPurchaseInstanceRepo.findById(groupId).orElseThrow();
+                groupParticipantRepo.deleteAll(groupParticipantRepo.findByGroupInstanceOrderByJoinedAtAsc(group));
+                groupPurchaseInstanceRepo.delete(group);
+            }
+            accountRepo.deleteAll(users);
+            if (productId != null) {
+                productRepo.deleteById(productId);
+            }
+            if (shopId != null) {
+                shopRepo.deleteById(shopId);
+            }
+            if (categoryId != null) {
+                productCategoryRepo.deleteById(categoryId);
+            }
+        });
+    }
+
+    @Test
+    void fiveHundredUsersForTheLastSeatsFillTheGroupExactlyOnce() throws Exception {
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger turnedAway = new AtomicInteger();
+
+        Duration elapsed = ConcurrentLoad.run(THREADS, USERS, user -> {
+            AccountEntity buyer = users.get(user + 1);
+            StandInAccountProvider.CURRENT.set(buyer);
+            try {
+                // Same call the payment-completed listener makes for a paid group checkout
+                groupPurchaseService.joinGroup(paidCheckout(buyer));
+                joined.incrementAndGet();
+            } catch (BadRequestException e) {
+                turnedAway.incrementAndGet();
+            } finally {
+                StandInAccountProvider.CURRENT.remove();
+            }
+        });
+
+        assertEquals(SEATS_LEFT, joined.get());
+        assertEquals(USERS - SEATS_LEFT, turnedAway.get());
+        assertEquals(1, completionCounter.published.get());
+
+        GroupPurchaseInstanceEntity group = groupPurchaseInstanceRepo.findById(groupId).orElseThrow();
+        assertEquals(TOTAL_SEATS, group.getSeatsOccupied());
+        assertEquals(1 + SEATS_LEFT, group.getTotalParticipants());
+        assertEquals(GroupStatus.COMPLETED, group.getStatus());
+        assertNotNull(group.getCompletedAt());
+        assertEquals(SEATS_LEFT, groupParticipantRepo.findByGroupInstanceOrderByJoinedAtAsc(group).size());
+
+        log.info("{} users for the last {} seats on {} threads: {} ms, {} joins attempted/sec",
+                USERS, SEATS_LEFT, THREADS, elapsed.toMillis(), Math.round(ConcurrentLoad.perSecond(USERS, elapsed)));
+    }
+
+    /**
+     * A paid GROUP_PURCHASE session for one seat; joinGroup only reads it
+     */
+    private ProductCheckoutSessionEntity paidCheckout(AccountEntity buyer) {
+        return ProductCheckoutSessionEntity.builder()
+                .sessionId(UUID.randomUUID())
+                .customer(buyer)
+                .sessionType(CheckoutSessionType.GROUP_PURCHASE)
+                .status(CheckoutSessionStatus.PAYMENT_COMPLETED)
+                .paymentIntent(ProductCheckoutSessionEntity.PaymentIntent.builder().status("COMPLETED").build())
+                .items(List.of(ProductCheckoutSessionEntity.CheckoutItem.builder()
+                        .productId(productId)
+                        .shopId(shopId)
+                        .quantity(1)
+                        .unitPrice(GROUP_PRICE)
+                        .total(GROUP_PRICE)
+                        .build()))
+                .pricing(ProductCheckoutSessionEntity.PricingSummary.builder().total(GROUP_PRICE).build())
+                .groupIdToBeJoined(groupId)
+                .build();
+    }
+
+    /**
+     * Counts GroupCompletedEvents as they are published, inside the completing transaction
+     */
+    static class CompletionCounter {
+
+        private final AtomicInteger published = new AtomicInteger();
+        private volatile UUID groupId;
+
+        void reset(UUID groupId) {
+            this.groupId = groupId;
+            published.set(0);
+        }
+
+        @EventListener
+        public void onGroupCompleted(GroupCompletedEvent event) {
+            if (event.getGroupInstanceId().equals(groupId)) {
+                published.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * The real handler would try to create orders for checkout sessions that only exist in this test
+     */
+    static class IdleCompletionHandler extends GroupCompletionHandler {
+
+        IdleCompletionHandler() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public void onGroupCompleted(GroupCompletedEvent event) {
+        }
+    }
+
+    /**
+     * Notifications about the test group are not sent anywhere
+     */
+    static class StandInPublisher extends NotificationPublisher {
+
+        StandInPublisher(PlatformTransactionManager transactionManager) {
+            super(null, null, null, transactionManager);
+        }
+
+        @Override
+        public void publish(NotificationEvent event, String idempotencyKey) {
+        }
+    }
+
+    /**
+     * Current account per test thread, so each join comes from its own buyer
+     */
+    static class StandInAccountProvider extends CurrentAccountProvider {
+
+        private static final ThreadLocal<AccountEntity> CURRENT = new ThreadLocal<>();
+
+        StandInAccountProvider(EntityManagerFactory entityManagerFactory) {
+            super(entityManagerFactory, 30, 10_000);
+        }
+
+        @Override
+        public AccountEntity getCurrentAccount() throws ItemNotFoundException {
+            AccountEntity account = CURRENT.get();
+            if (account == null) {
+                throw new ItemNotFoundException("User not authenticated");
+            }
+            return account;
+        }
+    }
+
+    @TestConfiguration
+    static class StandInConfig {
+
+        @Bean
+        CompletionCounter completionCounter() {
+            return new CompletionCounter();
+        }
+
+        @Bean
+        GroupCompletionHandler groupCompletionHandler() {
+            return new IdleCompletionHandler();
+        }
+
+        @Bean
+        @Primary
+        StandInPublisher standInPublisher(PlatformTransactionManager transactionManager) {
+            return new StandInPublisher(transactionManager);
+        }
+
+        @Bean
+        @Primary
+        StandInAccountProvider standInAccountProvider(EntityManagerFactory entityManagerFactory) {
+            return new StandInAccountProvider(entityManagerFactory);
+        }
+    }
+}
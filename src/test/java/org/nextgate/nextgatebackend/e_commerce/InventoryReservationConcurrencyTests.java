@@ -0,0 +1,183 @@
+package org.nextgate.nextgatebackend.e_commerce;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.ConcurrentLoad;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.entity.StockReservationEntity;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.enums.ReservationStatus;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.repo.StockReservationRepo;
+import org.nextgate.nextgatebackend.e_commerce.inventory_reservation.service.InventoryReservationService;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.entity.ProductCategoryEntity;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.categories.repo.ProductCategoryRepo;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.entity.ProductEntity;
+import org.nextgate.nextgatebackend.e_commerce.products_mng_service.products.repo.ProductRepo;
+import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.entity.ShopEntity;
+import org.nextgate.nextgatebackend.e_commerce.shops_mng_service.shops.shops_mng.repo.ShopRepo;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.InsufficientStockException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class InventoryReservationConcurrencyTests {
+
+    private static final int BUYERS = 500;
+    private static final int THREADS = 64;
+    private static final int STOCK = 100;
+
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+
+    @Autowired
+    private StockReservationRepo stockReservationRepo;
+
+    @Autowired
+    private ProductRepo productRepo;
+
+    @Autowired
+    private ShopRepo shopRepo;
+
+    @Autowired
+    private ProductCategoryRepo productCategoryRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private UUID categoryId;
+    private UUID shopId;
+    private UUID productId;
+    private final List<UUID> sessionIds = new ArrayList<>();
+
+    @BeforeEach
+    void putHotProductOnSale() {
+        tx = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        // A product of its own, so no real product's stock is ever touched
+        ProductCategoryEntity category = new ProductCategoryEntity();
+        category.setCategoryName("Stress Test Category " + suffix);
+        category = productCategoryRepo.save(category);
+        categoryId = category.getCategoryId();
+
+        ShopEntity shop = new ShopEntity();
+        shop.setShopName("Stress Test Shop " + suffix);
+        shop.setShopSlug("stress-test-shop-" + suffix);
+        shop = shopRepo.save(shop);
+        shopId = shop.getShopId();
+
+        ProductEntity product = new ProductEntity();
+        product.setProductName("Stress Test Product " + suffix);
+        product.setProductSlug("stress-test-product-" + suffix);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStockQuantity(STOCK);
+        product.setTrackInventory(true);
+        product.setShop(shop);
+        product.setCategory(category);
+        productId = productRepo.save(product).getProductId();
+
+        for (int i = 0; i < BUYERS; i++) {
+            sessionIds.add(UUID.randomUUID());
+        }
+    }
+
+    @AfterEach
+    void removeFixtures() {
+        tx.executeWithoutResult(status -> {
+            sessionIds.forEach(sessionId ->
+                    stockReservationRepo.deleteAll(stockReservationRepo.findBySessionId(sessionId)));
+            if (productId != null) {
+                productRepo.deleteById(productId);
+            }
+            if (shopId != null) {
+                shopRepo.deleteById(shopId);
+            }
+            if (categoryId != null) {
+                productCategoryRepo.deleteById(categoryId);
+            }
+        });
+    }
+
+    @Test
+    void flashSaleBuyersNeverHoldMoreThanTheStock() throws Exception {
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        ConcurrentLoad.run(THREADS, BUYERS, buyer -> {
+            try {
+                // Same call a checkout session makes after it is saved
+                inventoryReservationService.hold(sessionIds.get(buyer), Map.of(productId, 1),
+                        LocalDateTime.now().plusMinutes(15));
+                held.incrementAndGet();
+            } catch (InsufficientStockException e) {
+                soldOut.incrementAndGet();
+            }
+        });
+
+        assertEquals(STOCK, held.get());
+        assertEquals(BUYERS - STOCK, soldOut.get());
+        assertEquals(0, productRepo.findById(productId).orElseThrow().getStockQuantity());
+
+        List<UUID> holders = sessionIds.stream()
+                .filter(sessionId -> !stockReservationRepo
+                        .findBySessionIdAndStatus(sessionId, ReservationStatus.HELD).isEmpty())
+                .toList();
+        assertEquals(STOCK, holders.size());
+
+        // Half pay, half abandon: the abandoned half goes back on sale, the paid half stays sold
+        List<UUID> paid = holders.subList(0, STOCK / 2);
+        List<UUID> abandoned = holders.subList(STOCK / 2, STOCK);
+        paid.forEach(inventoryReservationService::commit);
+        abandoned.forEach(inventoryReservationService::release);
+        // A second release (cancel after expiry) must not return the stock twice
+        abandoned.forEach(inventoryReservationService::release);
+
+        assertEquals(STOCK - paid.size(), productRepo.findById(productId).orElseThrow().getStockQuantity());
+        assertEquals(paid.size(), paid.stream()
+                .map(stockReservationRepo::findBySessionId)
+                .flatMap(List::stream)
+                .map(StockReservationEntity::getStatus)
+                .filter(ReservationStatus.COMMITTED::equals)
+                .count());
+    }
+
+    @Test
+    void payingAfterTheHoldExpiredFailsWhenTheStockIsGone() {
+        UUID late = sessionIds.get(0);
+        UUID punctual = sessionIds.get(1);
+        UUID sellOut = sessionIds.get(2);
+
+        // Both holds expire and their stock goes back on sale
+        inventoryReservationService.hold(late, Map.of(productId, 1), LocalDateTime.now().plusMinutes(15));
+        inventoryReservationService.hold(punctual, Map.of(productId, 1), LocalDateTime.now().plusMinutes(15));
+        inventoryReservationService.release(late);
+        inventoryReservationService.release(punctual);
+
+        // Paying while the stock is still there takes it again
+        inventoryReservationService.commit(punctual);
+        assertEquals(STOCK - 1, productRepo.findById(productId).orElseThrow().getStockQuantity());
+
+        // Someone else buys everything that is left
+        inventoryReservationService.hold(sellOut, Map.of(productId, STOCK - 1), LocalDateTime.now().plusMinutes(15));
+
+        assertThrows(InsufficientStockException.class, () -> inventoryReservationService.commit(late));
+
+        // The failed commit rolled back: nothing oversold, the late session's hold is still released
+        assertEquals(0, productRepo.findById(productId).orElseThrow().getStockQuantity());
+        assertEquals(ReservationStatus.RELEASED,
+                stockReservationRepo.findBySessionId(late).getFirst().getStatus());
+    }
+}
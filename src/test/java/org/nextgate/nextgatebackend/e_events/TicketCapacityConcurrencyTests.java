@@ -0,0 +1,162 @@
+package org.nextgate.nextgatebackend.e_events;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.ConcurrentLoad;
+import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
+import org.nextgate.nextgatebackend.authentication_service.repo.AccountRepo;
+import org.nextgate.nextgatebackend.e_events.category.entity.EventsCategoryEntity;
+import org.nextgate.nextgatebackend.e_events.category.repo.EventsCategoryRepository;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.entity.EventEntity;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.enums.EventFormat;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.enums.EventStatus;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.enums.EventVisibility;
+import org.nextgate.nextgatebackend.e_events.events_mng.events_core.repo.EventsRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.entity.TicketEntity;
+import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.enums.TicketStatus;
+import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.repo.TicketRepo;
+import org.nextgate.nextgatebackend.e_events.events_mng.ticket_mng.service.TicketCapacityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Slf4j
+class TicketCapacityConcurrencyTests {
+
+    private static final int BUYERS = 1000;
+    private static final int THREADS = 64;
+    private static final int SEATS = 100;
+
+    @Autowired
+    private TicketCapacityService ticketCapacityService;
+
+    @Autowired
+    private TicketRepo ticketRepo;
+
+    @Autowired
+    private EventsRepo eventsRepo;
+
+    @Autowired
+    private EventsCategoryRepository eventsCategoryRepository;
+
+    @Autowired
+    private AccountRepo accountRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private UUID organizerId;
+    private UUID categoryId;
+    private UUID eventId;
+    private UUID ticketId;
+
+    @BeforeEach
+    void putTicketOnSale() {
+        tx = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        // An event of its own, so no real ticket's sales are ever touched
+        AccountEntity organizer = new AccountEntity();
+        organizer.setUserName("stress-test-organizer-" + suffix);
+        organizer.setEmail("stress-test-organizer-" + suffix + "@example.com");
+        organizer = accountRepo.save(organizer);
+        organizerId = organizer.getId();
+
+        EventsCategoryEntity category = new EventsCategoryEntity();
+        category.setName("Stress Test Category " + suffix);
+        category.setSlug("stress-test-category-" + suffix);
+        category.setIsActive(true);
+        category.setIsFeatured(false);
+        category.setEventCount(0L);
+        category.setCreatedBy(organizer);
+        category.setCreatedAt(LocalDateTime.now());
+        category = eventsCategoryRepository.save(category);
+        categoryId = category.getCategoryId();
+
+        EventEntity event = EventEntity.builder()
+                .title("Stress Test Event " + suffix)
+                .slug("stress-test-event-" + suffix)
+                .category(category)
+                .eventVisibility(EventVisibility.PUBLIC)
+                .eventFormat(EventFormat.IN_PERSON)
+                .status(EventStatus.PUBLISHED)
+                .startDateTime(ZonedDateTime.now().plusDays(7))
+                .endDateTime(ZonedDateTime.now().plusDays(7).plusHours(4))
+                .organizer(organizer)
+                .createdBy(organizer)
+                .build();
+        event = eventsRepo.save(event);
+        eventId = event.getId();
+
+        TicketEntity ticket = TicketEntity.builder()
+                .event(event)
+                .name("Stress Test Ticket")
+                .price(new BigDecimal("10.00"))
+                .totalQuantity(SEATS)
+                .salesEndDateTime(ZonedDateTime.now().plusDays(1))
+                .createdBy(organizer)
+                .build();
+        ticketId = ticketRepo.save(ticket).getId();
+    }
+
+    @AfterEach
+    void removeFixtures() {
+        tx.executeWithoutResult(status -> {
+            if (ticketId != null) {
+                ticketRepo.deleteById(ticketId);
+            }
+            if (eventId != null) {
+                eventsRepo.deleteById(eventId);
+            }
+            if (categoryId != null) {
+                eventsCategoryRepository.deleteById(categoryId);
+            }
+            if (organizerId != null) {
+                accountRepo.deleteById(organizerId);
+            }
+        });
+    }
+
+    @Test
+    void thousandBuyersForHundredSeatsSellExactlyHundred() throws Exception {
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger turnedAway = new AtomicInteger();
+
+        Duration elapsed = ConcurrentLoad.run(THREADS, BUYERS, buyer -> {
+            if (ticketCapacityService.reserve(ticketId, 1)) {
+                sold.incrementAndGet();
+            } else {
+                turnedAway.incrementAndGet();
+            }
+        });
+
+        assertEquals(SEATS, sold.get());
+        assertEquals(BUYERS - SEATS, turnedAway.get());
+
+        TicketEntity ticket = ticketRepo.findById(ticketId).orElseThrow();
+        assertEquals(SEATS, ticket.getQuantitySold());
+        assertEquals(TicketStatus.SOLD_OUT, ticket.getStatus());
+
+        // Abandoned checkouts put the ticket back on sale
+        ticketCapacityService.release(ticketId, 10);
+        ticket = ticketRepo.findById(ticketId).orElseThrow();
+        assertEquals(SEATS - 10, ticket.getQuantitySold());
+        assertEquals(TicketStatus.ACTIVE, ticket.getStatus());
+
+        log.info("{} buyers for {} seats on {} threads: {} ms", BUYERS, SEATS, THREADS, elapsed.toMillis());
+    }
+}
@@ -0,0 +1,251 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostStatus;
+import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostType;
+import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.FeedPageResponse;
+import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.PostResponse;
+import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.TimelineItemResponse;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.HighFanoutAuthorRepository;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.PostRepository;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.TimelineEntryRepository;
+import org.nextgate.nextgatebackend.e_social.posts_mng.service.FeedService;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.entity.FollowEntity;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.enums.FollowStatus;
+import org.nextgate.nextgatebackend.e_social.user_relationships.follow_system.repo.FollowRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.graph.SocialGraphCache;
+import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.BlockRepository;
+import org.nextgate.nextgatebackend.e_social.user_relationships.privacy_controls.repo.MuteRepository;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Two followers are enough to make an author high-fanout, so one feed mixes both sources
+@SpringBootTest(properties = "app.feed.fan-out-threshold=2")
+@Slf4j
+class HomeFeedPagingTests {
+
+    private static final int POSTS = 48;
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TimelineEntryRepository timelineEntryRepository;
+
+    @Autowired
+    private HighFanoutAuthorRepository highFanoutAuthorRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private AccountEntity viewer;
+
+    private final UUID friendId = UUID.randomUUID();
+    private final UUID starId = UUID.randomUUID();
+    private final UUID mutedId = UUID.randomUUID();
+    private final UUID blockedId = UUID.randomUUID();
+
+    private final List<PostEntity> posts = new ArrayList<>();
+    private final List<UUID> followIds = new ArrayList<>();
+
+    @BeforeEach
+    void createFeed() {
+        tx = new TransactionTemplate(transactionManager);
+
+        viewer = new AccountEntity();
+        viewer.setId(UUID.randomUUID());
+        StandInAccountProvider.CURRENT.set(viewer);
+
+        // The viewer follows all four; the star and the blocked author have one more follower each
+        follow(viewer.getId(), friendId);
+        follow(viewer.getId(), starId);
+        follow(viewer.getId(), mutedId);
+        follow(viewer.getId(), blockedId);
+        follow(UUID.randomUUID(), starId);
+        follow(UUID.randomUUID(), blockedId);
+
+        StandInGraphCache.MUTED.put(viewer.getId(), Set.of(mutedId));
+        StandInGraphCache.BLOCKED.put(viewer.getId(), Set.of(blockedId));
+
+        // Pairs share a timestamp, so page boundaries fall between posts tied on publishedAt
+        // and between a fanned-out post and a pulled one
+        UUID[] authors = {friendId, starId, mutedId, blockedId};
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusDays(1);
+        for (int i = 0; i < POSTS; i++) {
+            PostEntity post = new PostEntity();
+            post.setAuthorId(authors[i % authors.length]);
+            post.setContent("feed paging post " + i);
+            post.setPostType(PostType.REGULAR);
+            post.setStatus(PostStatus.PUBLISHED);
+            post.setPublishedAt(base.minusMinutes(i / 2));
+            posts.add(postRepository.save(post));
+
+            feedService.fanOutPost(post.getId(), post.getAuthorId(), post.getPublishedAt());
+        }
+
+        // Some of the star's posts were fanned out before it crossed the threshold,
+        // so they reach the viewer from both sources
+        tx.executeWithoutResult(status -> posts.stream()
+                .filter(post -> post.getAuthorId().equals(starId))
+                .limit(4)
+                .forEach(post -> timelineEntryRepository.insertIgnoringDuplicate(
+                        viewer.getId(), post.getId(), starId, post.getPublishedAt())));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        StandInAccountProvider.CURRENT.remove();
+        StandInGraphCache.MUTED.remove(viewer.getId());
+        StandInGraphCache.BLOCKED.remove(viewer.getId());
+
+        tx.executeWithoutResult(status -> {
+            posts.forEach(post -> timelineEntryRepository.deleteByPostId(post.getId()));
+            postRepository.deleteAll(posts);
+            followRepository.deleteAllById(followIds);
+            highFanoutAuthorRepository.deleteAllById(List.of(friendId, starId, mutedId, blockedId));
+        });
+    }
+
+    @Test
+    void pagesCoverBothSourcesWithoutGapsOrDuplicates() throws Exception {
+        assertTrue(highFanoutAuthorRepository.existsById(starId), "The star is served on read");
+        assertFalse(highFanoutAuthorRepository.existsById(friendId), "The friend is fanned out on write");
+
+        List<UUID> expected = posts.stream()
+                .filter(post -> post.getAuthorId().equals(friendId) || post.getAuthorId().equals(starId))
+                .sorted(Comparator.comparing(PostEntity::getPublishedAt)
+                        .thenComparing(PostEntity::getId, HomeFeedPagingTests::compareUuidUnsigned)
+                        .reversed())
+                .map(PostEntity::getId)
+                .toList();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            FeedPageResponse page = feedService.getHomeFeed(cursor, PAGE_SIZE);
+            page.getItems().stream()
+                    .map(TimelineItemResponse::getPost)
+                    .map(PostResponse::getId)
+                    .forEach(seen::add);
+
+            assertTrue(page.getItems().size() <= PAGE_SIZE, "Page " + pages + " is over size");
+            assertEquals(page.getNextCursor() != null, page.isHasMore());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages <= POSTS);
+
+        // Equal lists rule out gaps, repeats and out-of-order pages at once
+        assertEquals(expected, seen);
+        assertEquals(seen.size(), new HashSet<>(seen).size(), "No post is served twice");
+
+        log.info("Home feed: {} posts in {} pages of {}, muted and blocked authors hidden", seen.size(), pages, PAGE_SIZE);
+    }
+
+    private void follow(UUID followerId, UUID followingId) {
+        FollowEntity follow = new FollowEntity();
+        follow.setFollowerId(followerId);
+        follow.setFollowingId(followingId);
+        follow.setStatus(FollowStatus.ACCEPTED);
+        followIds.add(followRepository.save(follow).getId());
+    }
+
+    private static int compareUuidUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    static class StandInAccountProvider extends CurrentAccountProvider {
+
+        private static final ThreadLocal<AccountEntity> CURRENT = new ThreadLocal<>();
+
+        StandInAccountProvider(EntityManagerFactory entityManagerFactory) {
+            super(entityManagerFactory, 30, 10_000);
+        }
+
+        @Override
+        public AccountEntity getCurrentAccount() throws ItemNotFoundException {
+            AccountEntity account = CURRENT.get();
+            if (account == null) {
+                throw new ItemNotFoundException("User not authenticated");
+            }
+            return account;
+        }
+    }
+
+    /**
+     * Serves the viewer's mutes and blocks from the test's own sets; follows still come from the database
+     */
+    static class StandInGraphCache extends SocialGraphCache {
+
+        private static final Map<UUID, Set<UUID>> MUTED = new ConcurrentHashMap<>();
+        private static final Map<UUID, Set<UUID>> BLOCKED = new ConcurrentHashMap<>();
+
+        StandInGraphCache(FollowRepository followRepository, BlockRepository blockRepository, MuteRepository muteRepository) {
+            super(followRepository, blockRepository, muteRepository, 10_000, 300);
+        }
+
+        @Override
+        public Set<UUID> getBlockedIds(UUID userId) {
+            return BLOCKED.getOrDefault(userId, Set.of());
+        }
+
+        @Override
+        public Set<UUID> getMutedIds(UUID userId) {
+            return MUTED.getOrDefault(userId, Set.of());
+        }
+
+        @Override
+        public boolean isBlockedEitherWay(UUID userId, UUID otherId) {
+            return getBlockedIds(userId).contains(otherId);
+        }
+    }
+
+    @TestConfiguration
+    static class StandInConfig {
+
+        @Bean
+        @Primary
+        StandInAccountProvider standInAccountProvider(EntityManagerFactory entityManagerFactory) {
+            return new StandInAccountProvider(entityManagerFactory);
+        }
+
+        @Bean
+        @Primary
+        StandInGraphCache standInGraphCache(FollowRepository followRepository,
+                                            BlockRepository blockRepository,
+                                            MuteRepository muteRepository) {
+            return new StandInGraphCache(followRepository, blockRepository, muteRepository);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.ConcurrentLoad;
+import org.nextgate.nextgatebackend.authentication_service.entity.AccountEntity;
+import org.nextgate.nextgatebackend.e_social.interactions.entity.PostLikeEntity;
+import org.nextgate.nextgatebackend.e_social.interactions.repo.PostLikeRepository;
+import org.nextgate.nextgatebackend.e_social.interactions.service.PostInteractionService;
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostStatus;
+import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostType;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.PostRepository;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.ItemNotFoundException;
+import org.nextgate.nextgatebackend.globesecurity.CurrentAccountProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Slf4j
+class PostEngagementCounterConcurrencyTests {
+
+    private static final int LIKES = 2000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private PostInteractionService postInteractionService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private UUID postId;
+
+    @BeforeEach
+    void createViralPost() {
+        tx = new TransactionTemplate(transactionManager);
+
+        PostEntity post = new PostEntity();
+        post.setAuthorId(UUID.randomUUID());
+        post.setPostType(PostType.REGULAR);
+        post.setStatus(PostStatus.PUBLISHED);
+        post.setPublishedAt(LocalDateTime.now());
+        postId = postRepository.save(post).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tx.executeWithoutResult(status -> {
+            postLikeRepository.deleteByPostId(postId);
+            postRepository.deleteById(postId);
+        });
+    }
+
+    @Test
+    void parallelLikesOnOnePostAreAllCounted() throws Exception {
+        Duration elapsed = ConcurrentLoad.run(THREADS, LIKES, like ->
+                asUser(UUID.randomUUID(), () -> postInteractionService.likePost(postId)));
+
+        assertEquals(LIKES, postLikeRepository.countByPostId(postId));
+        assertEquals(LIKES, postRepository.findById(postId).orElseThrow().getLikesCount());
+
+        log.info("{} likes on one post on {} threads: {} likes/sec",
+                LIKES, THREADS, Math.round(ConcurrentLoad.perSecond(LIKES, elapsed)));
+    }
+
+    @Test
+    void parallelUnlikesAndNewLikesKeepTheCounterExact() throws Exception {
+        List<UUID> likers = new ArrayList<>();
+        for (int i = 0; i < LIKES; i++) {
+            likers.add(UUID.randomUUID());
+        }
+        ConcurrentLoad.run(THREADS, LIKES, like ->
+                asUser(likers.get(like), () -> postInteractionService.likePost(postId)));
+
+        // Every second liker takes the like back while as many new users like the post
+        ConcurrentLoad.run(THREADS, LIKES, task -> {
+            if (task % 2 == 0) {
+                asUser(likers.get(task), () -> postInteractionService.unlikePost(postId));
+            } else {
+                asUser(UUID.randomUUID(), () -> postInteractionService.likePost(postId));
+            }
+        });
+
+        assertEquals(LIKES, postLikeRepository.countByPostId(postId));
+        assertEquals(LIKES, postRepository.findById(postId).orElseThrow().getLikesCount());
+    }
+
+    @Test
+    void decrementNeverGoesBelowZero() {
+        tx.executeWithoutResult(status -> postRepository.decrementLikesCount(postId));
+
+        assertEquals(0, postRepository.findById(postId).orElseThrow().getLikesCount());
+    }
+
+    @Test
+    void recountRepairsDriftedCounters() {
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                PostLikeEntity like = new PostLikeEntity();
+                like.setPostId(postId);
+                like.setUserId(UUID.randomUUID());
+                postLikeRepository.save(like);
+            }
+            // Simulate drift: the counter says 10, the table holds 3 likes
+            for (int i = 0; i < 10; i++) {
+                postRepository.incrementLikesCount(postId);
+            }
+        });
+
+        tx.executeWithoutResult(status -> postRepository.recountEngagementSince(LocalDateTime.now().minusMinutes(5)));
+
+        assertEquals(3, postRepository.findById(postId).orElseThrow().getLikesCount());
+    }
+
+    private static void asUser(UUID userId, UserAction action) throws Exception {
+        AccountEntity account = new AccountEntity();
+        account.setId(userId);
+        StandInAccountProvider.CURRENT.set(account);
+        try {
+            action.run();
+        } finally {
+            StandInAccountProvider.CURRENT.remove();
+        }
+    }
+
+    private interface UserAction {
+        void run() throws Exception;
+    }
+
+    /**
+     * Current account per test thread, so each tap comes from its own user without an accounts fixture
+     */
+    static class StandInAccountProvider extends CurrentAccountProvider {
+
+        private static final ThreadLocal<AccountEntity> CURRENT = new ThreadLocal<>();
+
+        StandInAccountProvider(EntityManagerFactory entityManagerFactory) {
+            super(entityManagerFactory, 30, 10_000);
+        }
+
+        @Override
+        public AccountEntity getCurrentAccount() throws ItemNotFoundException {
+            AccountEntity account = CURRENT.get();
+            if (account == null) {
+                throw new ItemNotFoundException("User not authenticated");
+            }
+            return account;
+        }
+    }
+
+    @TestConfiguration
+    static class StandInAccountConfig {
+
+        @Bean
+        @Primary
+        StandInAccountProvider standInAccountProvider(EntityManagerFactory entityManagerFactory) {
+            return new StandInAccountProvider(entityManagerFactory);
+        }
+    }
+}
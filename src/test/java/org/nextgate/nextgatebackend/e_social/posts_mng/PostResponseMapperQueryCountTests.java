@@ -0,0 +1,125 @@
+package org.nextgate.nextgatebackend.e_social.posts_mng;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.entity.PostHashtagEntity;
+import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostStatus;
+import org.nextgate.nextgatebackend.e_social.posts_mng.enums.PostType;
+import org.nextgate.nextgatebackend.e_social.posts_mng.payloads.PostResponse;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.PostHashtagRepository;
+import org.nextgate.nextgatebackend.e_social.posts_mng.repo.PostRepository;
+import org.nextgate.nextgatebackend.e_social.posts_mng.utils.mapper.PostResponseMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Statistics are per session factory: keep the outbox workers from polling while statements are counted
+        "app.mail.outbox.workers=0",
+        "app.notifications.outbox.workers=0"
+})
+@Slf4j
+class PostResponseMapperQueryCountTests {
+
+    private static final int SMALL_PAGE = 2;
+    private static final int FULL_PAGE = 20;
+
+    @Autowired
+    private PostResponseMapper postResponseMapper;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private final List<UUID> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void createPage() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Each post quotes the one before it and carries a hashtag, so the quoted-post
+        // and content lookups run for every page size
+        UUID previous = null;
+        for (int i = 0; i < FULL_PAGE; i++) {
+            PostEntity post = new PostEntity();
+            post.setAuthorId(UUID.randomUUID());
+            post.setContent("#mapper post " + i);
+            post.setPostType(PostType.REGULAR);
+            post.setStatus(PostStatus.PUBLISHED);
+            post.setPublishedAt(LocalDateTime.now());
+            post.setQuotedPostId(previous);
+            previous = postRepository.save(post).getId();
+            postIds.add(previous);
+
+            PostHashtagEntity hashtag = new PostHashtagEntity();
+            hashtag.setPostId(previous);
+            hashtag.setHashtag("mapper");
+            hashtag.setStartIndex(0);
+            hashtag.setEndIndex(7);
+            postHashtagRepository.save(hashtag);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tx.executeWithoutResult(status -> {
+            postIds.forEach(postHashtagRepository::deleteByPostId);
+            postRepository.deleteAllById(postIds);
+        });
+    }
+
+    @Test
+    void aPageCostsTheSameStatementsWhateverItsSize() {
+        UUID viewerId = UUID.randomUUID();
+
+        long smallPage = statementsToMap(postIds.subList(0, SMALL_PAGE), viewerId);
+        long fullPage = statementsToMap(postIds, viewerId);
+
+        assertEquals(smallPage, fullPage, "Statements to map " + SMALL_PAGE + " posts vs " + FULL_PAGE + " posts");
+
+        log.info("Mapping a page of {} posts: {} statements", FULL_PAGE, fullPage);
+    }
+
+    /**
+     * Statements toPostResponses prepares for the given posts, lazy loads included
+     */
+    private long statementsToMap(List<UUID> ids, UUID viewerId) {
+        Long statements = tx.execute(status -> {
+            List<PostEntity> page = postRepository.findAllById(ids);
+
+            statistics.clear();
+            List<PostResponse> responses = postResponseMapper.toPostResponses(page, viewerId);
+            long prepared = statistics.getPrepareStatementCount();
+
+            assertEquals(ids.size(), responses.size());
+            return prepared;
+        });
+        return statements == null ? 0 : statements;
+    }
+}
@@ -0,0 +1,114 @@
+package org.nextgate.nextgatebackend.financial_system;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.ConcurrentLoad;
+import org.nextgate.nextgatebackend.financial_system.ledger.entity.LedgerAccountEntity;
+import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerAccountType;
+import org.nextgate.nextgatebackend.financial_system.ledger.enums.LedgerEntryType;
+import org.nextgate.nextgatebackend.financial_system.ledger.repo.LedgerAccountRepo;
+import org.nextgate.nextgatebackend.financial_system.ledger.repo.LedgerEntryRepo;
+import org.nextgate.nextgatebackend.financial_system.ledger.service.LedgerService;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.InsufficientBalanceException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class LedgerBalanceConcurrencyTests {
+
+    private static final int PAYMENTS = 500;
+    private static final int THREADS = 64;
+    private static final BigDecimal STARTING_BALANCE = new BigDecimal("1000.00");
+    private static final BigDecimal PRICE = new BigDecimal("10.00");
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private LedgerAccountRepo ledgerAccountRepo;
+
+    @Autowired
+    private LedgerEntryRepo ledgerEntryRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private UUID walletId;
+    private UUID escrowId;
+
+    @BeforeEach
+    void createWalletAndEscrow() {
+        tx = new TransactionTemplate(transactionManager);
+
+        LedgerAccountEntity wallet = LedgerAccountEntity.builder()
+                .accountNumber("WALLET-STRESS-" + UUID.randomUUID().toString().substring(0, 8))
+                .accountType(LedgerAccountType.USER_WALLET)
+                .currentBalance(STARTING_BALANCE)
+                .build();
+        walletId = ledgerAccountRepo.save(wallet).getId();
+        escrowId = ledgerService.createEscrowAccount(UUID.randomUUID()).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tx.executeWithoutResult(status -> {
+            LedgerAccountEntity wallet = ledgerAccountRepo.findById(walletId).orElseThrow();
+            ledgerEntryRepo.deleteAll(ledgerEntryRepo.findByDebitAccountOrderByCreatedAtDesc(wallet));
+            ledgerAccountRepo.deleteAllById(List.of(walletId, escrowId));
+        });
+    }
+
+    @Test
+    void parallelCheckoutsFromOneWalletNeverOverdrawIt() throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ConcurrentLinkedQueue<BigDecimal> balancesSeen = new ConcurrentLinkedQueue<>();
+
+        ConcurrentLoad.run(THREADS, PAYMENTS, payment -> {
+            try {
+                // Same shape as a checkout: load both accounts, post one entry, one transaction
+                tx.executeWithoutResult(status -> {
+                    LedgerAccountEntity wallet = ledgerAccountRepo.findById(walletId).orElseThrow();
+                    LedgerAccountEntity escrow = ledgerAccountRepo.findById(escrowId).orElseThrow();
+
+                    ledgerService.createEntry(wallet, escrow, PRICE, LedgerEntryType.PURCHASE,
+                            "STRESS_TEST", UUID.randomUUID(), "Parallel checkout", null);
+
+                    balancesSeen.add(wallet.getCurrentBalance());
+                });
+                accepted.incrementAndGet();
+            } catch (InsufficientBalanceException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        int affordable = STARTING_BALANCE.divide(PRICE).intValue();
+        assertEquals(affordable, accepted.get());
+        assertEquals(PAYMENTS - affordable, rejected.get());
+        assertTrue(balancesSeen.stream().allMatch(balance -> balance.signum() >= 0));
+
+        LedgerAccountEntity wallet = ledgerAccountRepo.findById(walletId).orElseThrow();
+        LedgerAccountEntity escrow = ledgerAccountRepo.findById(escrowId).orElseThrow();
+
+        assertEquals(0, wallet.getCurrentBalance().signum());
+        assertEquals(0, STARTING_BALANCE.compareTo(escrow.getCurrentBalance()));
+
+        // Balances reconcile with the entries posted
+        assertEquals(0, escrow.getCurrentBalance().compareTo(ledgerService.calculateBalanceFromEntries(escrow)));
+        assertEquals(0, wallet.getCurrentBalance().compareTo(
+                STARTING_BALANCE.add(ledgerService.calculateBalanceFromEntries(wallet))));
+    }
+}
@@ -0,0 +1,60 @@
+package org.nextgate.nextgatebackend.financial_system;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.ConcurrentLoad;
+import org.nextgate.nextgatebackend.financial_system.numbering.ReferenceNumberAllocator;
+import org.nextgate.nextgatebackend.financial_system.numbering.enums.ReferenceSeries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Slf4j
+class ReferenceNumberAllocatorConcurrencyTests {
+
+    private static final int PAYMENTS = 5000;
+    private static final int THREADS = 64;
+    private static final int NUMBERS_PER_PAYMENT = 5;
+
+    @Autowired
+    private ReferenceNumberAllocator referenceNumberAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentPayersNeverShareANumber() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+
+        // More payers than pooled connections, each holding its connection like a payment does
+        Duration elapsed = ConcurrentLoad.run(THREADS, PAYMENTS, payment ->
+                tx.executeWithoutResult(status -> {
+                    // Numbers a wallet payment draws: escrow, two ledger entries, two transaction refs
+                    issued.add(referenceNumberAllocator.next(ReferenceSeries.ESCROW));
+                    issued.add(referenceNumberAllocator.next(ReferenceSeries.LEDGER_ENTRY));
+                    issued.add(referenceNumberAllocator.next(ReferenceSeries.LEDGER_ENTRY));
+                    issued.add(referenceNumberAllocator.next(ReferenceSeries.TRANSACTION));
+                    issued.add(referenceNumberAllocator.next(ReferenceSeries.TRANSACTION));
+                }));
+
+        assertEquals(PAYMENTS * NUMBERS_PER_PAYMENT, issued.size());
+
+        String yearPrefix = "LE-" + Year.now().getValue() + "-";
+        assertTrue(issued.stream().anyMatch(number -> number.startsWith(yearPrefix)));
+
+        // Only the allocator runs here, not the rest of a wallet payment, so this is an allocation rate
+        log.info("Reference numbers on {} threads: {} allocations/sec ({} per payment)",
+                THREADS, Math.round(ConcurrentLoad.perSecond(PAYMENTS * NUMBERS_PER_PAYMENT, elapsed)), NUMBERS_PER_PAYMENT);
+    }
+}
@@ -0,0 +1,82 @@
+package org.nextgate.nextgatebackend.globesecurity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@Slf4j
+class JwtFilterOverheadBenchmarkTests {
+
+    private static final int TOKENS = 2000;
+    private static final int REQUESTS_PER_TOKEN = 50;
+    private static final int WARMUP_ROUNDS = 3;
+
+    @Autowired
+    private JWTProvider jwtProvider;
+
+    @Test
+    void verifiedTokensAreParsedOncePerLifetime() throws Exception {
+        List<String> tokens = new ArrayList<>(TOKENS);
+        List<UUID> accountIds = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            UUID accountId = UUID.randomUUID();
+            accountIds.add(accountId);
+            tokens.add(jwtProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(
+                    "bench-user-" + i, null, List.of(new SimpleGrantedAuthority("ROLE_NORMAL_USER"))), accountId));
+        }
+
+        // Let the JIT settle on a separate set of tokens
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int i = 0; i < TOKENS; i++) {
+                filterWork(jwtProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(
+                        "warmup-" + round + "-" + i, null, List.of()), UUID.randomUUID()));
+            }
+        }
+
+        // First request per token: signature verified and claims parsed
+        long startedAt = System.nanoTime();
+        for (String token : tokens) {
+            filterWork(token);
+        }
+        long firstRequestNanos = System.nanoTime() - startedAt;
+
+        // Later requests with the same tokens: served from the verified-claims cache
+        startedAt = System.nanoTime();
+        for (int request = 0; request < REQUESTS_PER_TOKEN; request++) {
+            for (String token : tokens) {
+                filterWork(token);
+            }
+        }
+        long laterRequestsNanos = System.nanoTime() - startedAt;
+
+        for (int i = 0; i < TOKENS; i++) {
+            AccountPrincipal principal = jwtProvider.getAccessPrincipal(tokens.get(i));
+            assertNotNull(principal);
+            assertEquals("bench-user-" + i, principal.getUsername());
+            assertEquals(accountIds.get(i), principal.getAccountId());
+        }
+
+        log.info("JWT filter overhead: first request {} us/request, later requests {} us/request",
+                String.format("%.2f", firstRequestNanos / 1_000.0 / TOKENS),
+                String.format("%.2f", laterRequestsNanos / 1_000.0 / ((long) TOKENS * REQUESTS_PER_TOKEN)));
+    }
+
+    /**
+     * What JWTAuthFilter does with the token on each request
+     */
+    private AccountPrincipal filterWork(String token) throws Exception {
+        jwtProvider.validToken(token, "ACCESS");
+        return jwtProvider.getAccessPrincipal(token);
+    }
+}
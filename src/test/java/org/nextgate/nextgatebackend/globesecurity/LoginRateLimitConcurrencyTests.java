@@ -0,0 +1,66 @@
+package org.nextgate.nextgatebackend.globesecurity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.ConcurrentLoad;
+import org.nextgate.nextgatebackend.globesecurity.ratelimit.RateLimitAlgorithm;
+import org.nextgate.nextgatebackend.globesecurity.ratelimit.RateLimitPolicy;
+import org.nextgate.nextgatebackend.globesecurity.ratelimit.RateLimitStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Slf4j
+class LoginRateLimitConcurrencyTests {
+
+    private static final int ATTEMPTS = 500;
+    private static final int THREADS = 64;
+    private static final int LIMIT = 20;
+
+    // Long windows, so nothing refills or slides while the test runs
+    private static final RateLimitPolicy BURST = new RateLimitPolicy(
+            "test-burst", RateLimitAlgorithm.TOKEN_BUCKET, LIMIT, Duration.ofHours(1));
+    private static final RateLimitPolicy WINDOW = new RateLimitPolicy(
+            "test-window", RateLimitAlgorithm.SLIDING_WINDOW, LIMIT, Duration.ofHours(1));
+
+    @Autowired
+    private RateLimitStore rateLimitStore;
+
+    @Test
+    void credentialStuffingBurstGetsExactlyTheBucket() throws Exception {
+        race(BURST);
+    }
+
+    @Test
+    void credentialStuffingBurstGetsExactlyTheWindow() throws Exception {
+        race(WINDOW);
+    }
+
+    private void race(RateLimitPolicy policy) throws Exception {
+        String key = "test:" + UUID.randomUUID();
+        AtomicInteger allowed = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+
+        Duration elapsed = ConcurrentLoad.run(THREADS, ATTEMPTS, attempt -> {
+            if (rateLimitStore.tryAcquire(key, policy)) {
+                allowed.incrementAndGet();
+            } else {
+                refused.incrementAndGet();
+            }
+        });
+
+        assertEquals(LIMIT, allowed.get());
+        assertEquals(ATTEMPTS - LIMIT, refused.get());
+        assertEquals(0, rateLimitStore.available(key, policy));
+
+        log.info("{}: {} attempts on {} threads against a limit of {}: {} ms, {} checks/sec",
+                policy.algorithm(), ATTEMPTS, THREADS, LIMIT, elapsed.toMillis(),
+                Math.round(ConcurrentLoad.perSecond(ATTEMPTS, elapsed)));
+    }
+}
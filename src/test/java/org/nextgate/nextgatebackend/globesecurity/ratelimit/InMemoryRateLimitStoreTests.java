@@ -0,0 +1,81 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRateLimitStoreTests {
+
+    private static final int MAX_KEYS = 10;
+    private static final int LIMIT = 5;
+
+    // Long windows, so no key goes idle while the test runs
+    private static final RateLimitPolicy BURST = new RateLimitPolicy(
+            "test-burst", RateLimitAlgorithm.TOKEN_BUCKET, LIMIT, Duration.ofHours(1));
+    private static final RateLimitPolicy WINDOW = new RateLimitPolicy(
+            "test-window", RateLimitAlgorithm.SLIDING_WINDOW, LIMIT, Duration.ofHours(1));
+
+    private final AtomicLong clock = new AtomicLong(Duration.ofDays(1).toMillis());
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(MAX_KEYS, clock::get);
+
+    @Test
+    void aFullStoreOfBucketsStillAdmitsNewKeys() {
+        fullStoreAdmitsNewKeys(BURST);
+    }
+
+    @Test
+    void aFullStoreOfWindowsStillAdmitsNewKeys() {
+        fullStoreAdmitsNewKeys(WINDOW);
+    }
+
+    @Test
+    void eachFullStoreEvictsAtMostOncePerSecond() {
+        fill(WINDOW);
+
+        assertTrue(store.tryAcquire("new-1", WINDOW));
+        assertTrue(store.tryAcquire("new-2", WINDOW));
+        assertTrue(store.tryAcquire("new-3", WINDOW));
+
+        // One eviction made room for one key; the others went over the cap until the next second
+        assertEquals(LIMIT, store.available("key-0", WINDOW));
+
+        // 12 keys: trimmed back to 90% of the cap, least recently used first
+        clock.addAndGet(1000);
+        assertTrue(store.tryAcquire("new-4", WINDOW));
+        assertEquals(LIMIT, store.available("key-1", WINDOW));
+        assertEquals(LIMIT, store.available("key-3", WINDOW));
+        assertEquals(LIMIT - 1, store.available("key-4", WINDOW));
+        assertEquals(LIMIT - 1, store.available("new-3", WINDOW));
+    }
+
+    private void fullStoreAdmitsNewKeys(RateLimitPolicy policy) {
+        fill(policy);
+
+        // Key 0 is used again, so key 1 is now the least recently used
+        clock.incrementAndGet();
+        assertTrue(store.tryAcquire("key-0", policy));
+
+        clock.incrementAndGet();
+        assertTrue(store.tryAcquire("new", policy));
+
+        assertEquals(LIMIT - 1, store.available("new", policy));
+        assertEquals(LIMIT - 2, store.available("key-0", policy));
+        // Evicted: the key starts over with its full limit
+        assertEquals(LIMIT, store.available("key-1", policy));
+        assertEquals(LIMIT - 1, store.available("key-2", policy));
+    }
+
+    /**
+     * One hit on each of MAX_KEYS keys, a millisecond apart
+     */
+    private void fill(RateLimitPolicy policy) {
+        for (int i = 0; i < MAX_KEYS; i++) {
+            clock.incrementAndGet();
+            assertTrue(store.tryAcquire("key-" + i, policy));
+        }
+    }
+}
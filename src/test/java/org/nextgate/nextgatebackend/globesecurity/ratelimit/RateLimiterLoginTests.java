@@ -0,0 +1,61 @@
+package org.nextgate.nextgatebackend.globesecurity.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.globeadvice.exceptions.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimiterLoginTests {
+
+    private static final int PER_IP_LIMIT = 20;
+    private static final int PER_IDENTIFIER_LIMIT = 10;
+    private static final long PER_IDENTIFIER_WINDOW_SECONDS = 900;
+
+    private final AtomicLong clock = new AtomicLong(Duration.ofDays(1).toMillis());
+    private final RateLimiter rateLimiter = new RateLimiter(
+            new InMemoryRateLimitStore(100_000, clock::get),
+            5, 10, 5,
+            PER_IP_LIMIT, 60,
+            PER_IDENTIFIER_LIMIT, PER_IDENTIFIER_WINDOW_SECONDS);
+
+    @Test
+    void successfulLoginsDoNotCountAgainstTheIdentifier() {
+        // Logins that never record a failure, from enough IPs to stay under the IP limit
+        for (int i = 0; i < PER_IDENTIFIER_LIMIT * 5; i++) {
+            String ip = "10.0.0." + i;
+            assertDoesNotThrow(() -> rateLimiter.checkLoginAttempt("alice@example.com", ip));
+        }
+    }
+
+    @Test
+    void failedLoginsLockTheIdentifierFromEveryIp() {
+        for (int i = 0; i < PER_IDENTIFIER_LIMIT; i++) {
+            assertDoesNotThrow(() -> rateLimiter.checkLoginAttempt("bob@example.com", "10.0.1.1"));
+            rateLimiter.recordFailedLogin("bob@example.com");
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.checkLoginAttempt(" Bob@Example.com ", "10.0.1.2"));
+
+        // The window slides on after two window lengths without failures
+        clock.addAndGet(Duration.ofSeconds(2 * PER_IDENTIFIER_WINDOW_SECONDS).toMillis());
+        assertDoesNotThrow(() -> rateLimiter.checkLoginAttempt("bob@example.com", "10.0.1.2"));
+    }
+
+    @Test
+    void unknownIdentifiersAreLimitedByIpOnly() {
+        // No account, so the login never reaches the password check and records no failure
+        for (int i = 0; i < PER_IP_LIMIT; i++) {
+            String identifier = "nobody-" + i;
+            assertDoesNotThrow(() -> rateLimiter.checkLoginAttempt(identifier, "10.0.2.1"));
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.checkLoginAttempt("nobody-else", "10.0.2.1"));
+        assertDoesNotThrow(() -> rateLimiter.checkLoginAttempt("nobody-else", "10.0.2.2"));
+    }
+}
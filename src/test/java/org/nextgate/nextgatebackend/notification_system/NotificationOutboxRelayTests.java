@@ -0,0 +1,215 @@
+package org.nextgate.nextgatebackend.notification_system;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.nextgate.nextgatebackend.ConcurrentLoad;
+import org.nextgate.nextgatebackend.globe_outbox.OutboxWorker;
+import org.nextgate.nextgatebackend.notification_system.outbox.NotificationBroker;
+import org.nextgate.nextgatebackend.notification_system.outbox.NotificationOutboxRelay;
+import org.nextgate.nextgatebackend.notification_system.outbox.entity.NotificationOutboxEntity;
+import org.nextgate.nextgatebackend.notification_system.outbox.repo.NotificationOutboxRepo;
+import org.nextgate.nextgatebackend.notification_system.publisher.NotificationPublisher;
+import org.nextgate.nextgatebackend.notification_system.publisher.dto.NotificationEvent;
+import org.nextgate.nextgatebackend.notification_system.publisher.dto.Recipient;
+import org.nextgate.nextgatebackend.notification_system.publisher.enums.NotificationChannel;
+import org.nextgate.nextgatebackend.notification_system.publisher.enums.NotificationType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        // The shared database may hold real notifications: only the scoped relay below runs
+        "app.notifications.outbox.workers=0"
+})
+@Slf4j
+class NotificationOutboxRelayTests {
+
+    private static final int NOTIFICATIONS = 1000;
+    private static final int ROLLED_BACK = 100;
+    private static final int THREADS = 64;
+
+    private static final String KEY_PREFIX = "outbox-test-" + UUID.randomUUID() + "-";
+
+    @Autowired
+    private NotificationPublisher notificationPublisher;
+
+    @Autowired
+    private StandInBroker broker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void removeTestRows() {
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE idempotency_key LIKE ?", KEY_PREFIX + "%");
+    }
+
+    @Test
+    void everyCommittedNotificationReachesTheBrokerExactlyOnce() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int publishes = NOTIFICATIONS * 2 + ROLLED_BACK;
+
+        Duration queued = ConcurrentLoad.run(THREADS, publishes, publish -> {
+            if (publish < NOTIFICATIONS * 2) {
+                // Every notification is published twice, as by a listener that runs again
+                notificationPublisher.publish(event(), KEY_PREFIX + publish / 2);
+                return;
+            }
+            String key = KEY_PREFIX + "rolled-back-" + (publish - NOTIFICATIONS * 2);
+            tx.executeWithoutResult(status -> {
+                notificationPublisher.publish(event(), key);
+                status.setRollbackOnly();
+            });
+        });
+        long waitStartedAt = System.nanoTime();
+
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (broker.deliveredCount(KEY_PREFIX) < NOTIFICATIONS && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        Duration delivered = queued.plusNanos(System.nanoTime() - waitStartedAt);
+
+        assertEquals(NOTIFICATIONS, broker.deliveredCount(KEY_PREFIX));
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            assertEquals(1, broker.deliveries(KEY_PREFIX + i), "Deliveries of notification " + i);
+        }
+        assertEquals(0, broker.deliveredCount(KEY_PREFIX + "rolled-back-"));
+        assertTrue(broker.refusals() > 0, "The stand-in broker should have refused some first attempts");
+
+        Integer unpublished = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification_outbox WHERE idempotency_key LIKE ? AND status <> 'PUBLISHED'",
+                Integer.class, KEY_PREFIX + "%");
+        assertEquals(0, unpublished);
+
+        log.info("{} notifications ({} publishes) on {} threads: queued in {} ms, all confirmed after {} ms",
+                NOTIFICATIONS, publishes, THREADS, queued.toMillis(), delivered.toMillis());
+    }
+
+    private static NotificationEvent event() {
+        return NotificationEvent.builder()
+                .type(NotificationType.ORDER_CONFIRMATION)
+                .recipients(List.of(Recipient.builder()
+                        .userId(UUID.randomUUID().toString())
+                        .email("outbox-test@example.com")
+                        .name("Outbox Test")
+                        .language("en")
+                        .build()))
+                .channels(List.of(NotificationChannel.IN_APP))
+                .data(Map.of("orderNumber", "TEST-ORDER"))
+                .build();
+    }
+
+    /**
+     * Broker stand-in: confirms what it receives, except that it refuses every tenth
+     * notification the first time, like a broker nack
+     */
+    static class StandInBroker implements NotificationBroker {
+
+        private final ConcurrentHashMap<String, AtomicInteger> delivered = new ConcurrentHashMap<>();
+        private final Set<UUID> refusedOnce = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public Set<UUID> publishConfirmed(List<NotificationOutboxEntity> batch) {
+            Set<UUID> confirmed = new HashSet<>();
+            for (NotificationOutboxEntity notification : batch) {
+                if (Math.floorMod(notification.getIdempotencyKey().hashCode(), 10) == 0
+                        && refusedOnce.add(notification.getId())) {
+                    continue;
+                }
+                delivered.computeIfAbsent(notification.getIdempotencyKey(), key -> new AtomicInteger())
+                        .incrementAndGet();
+                confirmed.add(notification.getId());
+            }
+            return confirmed;
+        }
+
+        int deliveredCount(String keyPrefix) {
+            return (int) delivered.keySet().stream().filter(key -> key.startsWith(keyPrefix)).count();
+        }
+
+        int deliveries(String key) {
+            AtomicInteger count = delivered.get(key);
+            return count == null ? 0 : count.get();
+        }
+
+        int refusals() {
+            return refusedOnce.size();
+        }
+    }
+
+    /**
+     * The production relay, except that it only claims this test's rows
+     */
+    static class ScopedRelay extends NotificationOutboxRelay {
+
+        private static final String CLAIM_TEST_ROWS = """
+            UPDATE notification_outbox n
+            SET status = 'PUBLISHING', claim_id = ?, locked_until = ?, attempts = n.attempts + 1
+            WHERE n.id IN (
+                SELECT id FROM notification_outbox
+                WHERE ((status = 'PENDING' AND next_attempt_at <= ?)
+                    OR (status = 'PUBLISHING' AND locked_until < ?))
+                  AND idempotency_key LIKE ?
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+        private final JdbcTemplate jdbcTemplate;
+
+        ScopedRelay(NotificationOutboxRepo notificationOutboxRepo,
+                    NotificationBroker notificationBroker,
+                    PlatformTransactionManager transactionManager,
+                    JdbcTemplate jdbcTemplate) {
+            super(notificationOutboxRepo, notificationBroker, transactionManager,
+                    new OutboxWorker.Settings("notification-outbox-test", 1, 100, 50, 60, 10, 50, 300_000, 60_000));
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        protected int claimDue(UUID claimId, LocalDateTime now, LocalDateTime lockedUntil, int limit) {
+            return jdbcTemplate.update(CLAIM_TEST_ROWS, claimId, Timestamp.valueOf(lockedUntil),
+                    Timestamp.valueOf(now), Timestamp.valueOf(now), KEY_PREFIX + "%", limit);
+        }
+    }
+
+    @TestConfiguration
+    static class StandInBrokerConfig {
+
+        @Bean
+        @Primary
+        StandInBroker standInBroker() {
+            return new StandInBroker();
+        }
+
+        @Bean
+        @Primary
+        ScopedRelay scopedRelay(NotificationOutboxRepo notificationOutboxRepo,
+                                StandInBroker standInBroker,
+                                PlatformTransactionManager transactionManager,
+                                JdbcTemplate jdbcTemplate) {
+            return new ScopedRelay(notificationOutboxRepo, standInBroker, transactionManager, jdbcTemplate);
+        }
+    }
+}